@@ -16,6 +16,10 @@
 
 package org.openjax.xml.api;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
 /**
  * Utility functions for operations pertaining to XML character data.
  */
@@ -44,50 +48,112 @@ public final class CharacterDatas {
       throw new IndexOutOfBoundsException("off (" + off + ") + len (" + len + ") > " + lenError + " (" + length + ")");
   }
 
+  /**
+   * Returns the entity with which the specified char is to be escaped.
+   *
+   * @param ch The char at which {@link #indexOfEscape(CharSequence,char,int,int)} stopped.
+   * @param quote The quote char, or {@code '\0'} if escaping for an element.
+   * @return The entity with which the specified char is to be escaped.
+   * @throws IllegalArgumentException If {@code quote} is not {@code '"'} or {@code '\''}, and is matched by {@code ch}.
+   */
+  private static String entityOf(final char ch, final char quote) {
+    if (ch == '&')
+      return "&amp;";
+
+    if (ch == '>')
+      return "&gt;";
+
+    if (ch == '<')
+      return "&lt;";
+
+    if (ch == '\'')
+      return "&apos;";
+
+    if (ch == '"')
+      return "&quot;";
+
+    throw new IllegalArgumentException("Illegal quote character: '" + quote + "'");
+  }
+
+  static boolean isEscaped(final char ch, final char quote) {
+    return ch <= '>' && (ch == '&' || ch == '<' || ch == '>' || ch == quote);
+  }
+
+  private static int indexOfEscape(final CharSequence str, final char quote, int i, final int end) {
+    for (; i < end; ++i) // [N]
+      if (isEscaped(str.charAt(i), quote))
+        return i;
+
+    return -1;
+  }
+
+  private static int indexOfEscape(final char[] chars, final char quote, int i, final int end) {
+    for (; i < end; ++i) // [A]
+      if (isEscaped(chars[i], quote))
+        return i;
+
+    return -1;
+  }
+
   private static StringBuilder escape(final StringBuilder out, final CharSequence str, final char quote, final int off, final int len) {
-    for (int i = off, length = off + len; i < length; ++i) { // [N]
-      final char ch = str.charAt(i);
-      if (ch == '&')
-        out.append("&amp;");
-      else if (ch == '>')
-        out.append("&gt;");
-      else if (ch == '<')
-        out.append("&lt;");
-      else if (quote != ch)
-        out.append(ch);
-      else if (ch == '\'')
-        out.append("&apos;");
-      else if (ch == '"')
-        out.append("&quot;");
-      else
-        throw new IllegalArgumentException("Illegal quote character: '" + quote + "'");
-    }
+    final int end = off + len;
+    int start = off;
+    for (int i; (i = indexOfEscape(str, quote, start, end)) != -1; start = i + 1) // [N]
+      out.append(str, start, i).append(entityOf(str.charAt(i), quote));
 
-    return out;
+    return out.append(str, start, end);
   }
 
   private static StringBuilder escape(final StringBuilder out, final char[] chars, final char quote, final int off, final int len) {
-    for (int i = off, length = off + len; i < length; ++i) { // [A]
-      final char ch = chars[i];
-      if (ch == '&')
-        out.append("&amp;");
-      else if (ch == '>')
-        out.append("&gt;");
-      else if (ch == '<')
-        out.append("&lt;");
-      else if (quote != ch)
-        out.append(ch);
-      else if (ch == '\'')
-        out.append("&apos;");
-      else if (ch == '"')
-        out.append("&quot;");
-      else
-        throw new IllegalArgumentException("Illegal quote character: '" + quote + "'");
+    final int end = off + len;
+    int start = off;
+    for (int i; (i = indexOfEscape(chars, quote, start, end)) != -1; start = i + 1) // [N]
+      out.append(chars, start, i - start).append(entityOf(chars[i], quote));
+
+    return out.append(chars, start, end - start);
+  }
+
+  /**
+   * Appends the run of {@code str} from {@code start} to {@code end} to the provided {@link Appendable}, without creating an
+   * intermediate {@link String} for {@link Writer} and {@link CharBuffer} sinks of {@link String} runs.
+   */
+  private static void append(final Appendable out, final CharSequence str, final int start, final int end) throws IOException {
+    if (start == end)
+      return;
+
+    if (str instanceof String) {
+      if (out instanceof Writer) {
+        ((Writer)out).write((String)str, start, end - start);
+        return;
+      }
+
+      if (out instanceof CharBuffer) {
+        ((CharBuffer)out).put((String)str, start, end);
+        return;
+      }
     }
 
+    out.append(str, start, end);
+  }
+
+  private static Appendable escape(final Appendable out, final CharSequence str, final char quote, final int off, final int len) throws IOException {
+    final int end = off + len;
+    int start = off;
+    for (int i; (i = indexOfEscape(str, quote, start, end)) != -1; start = i + 1) { // [N]
+      append(out, str, start, i);
+      out.append(entityOf(str.charAt(i), quote));
+    }
+
+    append(out, str, start, end);
     return out;
   }
 
+  private static CharSequence escapeIfNeeded(final CharSequence str, final char quote) {
+    final int len = str.length();
+    final int i = indexOfEscape(str, quote, 0, len);
+    return i == -1 ? str : escape(new StringBuilder(len + 16).append(str, 0, i), str, quote, i, len - i);
+  }
+
   /**
    * Returns the XML-escaped {@code str} to be used in an XML attribute. The specified {@code quote} refers to the character to be
    * used to delimit the attribute's value in the XML document (either {@code '"'} or {@code '\''}). The escaped characters are:
@@ -504,177 +570,265 @@ public final class CharacterDatas {
     return escape(out, chars, '\0', off, len);
   }
 
-  private static int check(final char c5, final char c4, final char c3, final char c2, final char c1, final char c0, final StringBuilder out, final int i) {
-    if (i >= 0)
-      return i;
-
-    if (c5 != '\0')
-      out.append(c5);
-
-    if (c4 != '\0')
-      out.append(c4);
-
-    if (c3 != '\0')
-      out.append(c3);
-
-    if (c2 != '\0')
-      out.append(c2);
-
-    if (c1 != '\0')
-      out.append(c1);
+  /**
+   * Appends the XML-escaped {@code str} to be used in an XML attribute to the provided {@link Appendable}. The specified
+   * {@code quote} refers to the character to be used to delimit the attribute's value in the XML document (either {@code '"'} or
+   * {@code '\''}). The escaped characters are:
+   *
+   * <pre>
+   * {@code From |  To
+   * -------------
+   *   &  | &amp;
+   *   >  | &gt;
+   *   <  | &lt;
+   * -------------
+   *   '  | &apos;
+   *   "  | &quot;}
+   * </pre>
+   *
+   * Runs of characters that need no escaping are appended with a single invocation of
+   * {@link Appendable#append(CharSequence,int,int)}, or of {@link Writer#write(String,int,int)} or
+   * {@link CharBuffer#put(String,int,int)} if {@code str} is a {@link String}.
+   *
+   * @param out The {@link Appendable} to which the escaped contents of {@code str} are to be appended.
+   * @param str The string to escape.
+   * @param quote The quote character to be used to delimit the attribute's value in the XML document (either {@code '"'} or
+   *          {@code '\''}).
+   * @return The provided {@link Appendable}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code out} or {@code str} is null.
+   * @throws IllegalArgumentException If {@code quote} is not {@code '"'} or {@code '\''}.
+   */
+  public static Appendable escapeForAttr(final Appendable out, final CharSequence str, final char quote) throws IOException {
+    assertQuote(quote);
+    return escape(out, str, quote, 0, str.length());
+  }
 
-    if (c0 != '\0')
-      out.append(c0);
+  /**
+   * Appends the XML-escaped {@code str} to be used in an XML element to the provided {@link Appendable}. The escaped characters
+   * are:
+   *
+   * <pre>
+   * {@code From |  To
+   * -------------
+   *   &  | &amp;
+   *   >  | &gt;
+   *   <  | &lt;}
+   * </pre>
+   *
+   * Runs of characters that need no escaping are appended with a single invocation of
+   * {@link Appendable#append(CharSequence,int,int)}, or of {@link Writer#write(String,int,int)} or
+   * {@link CharBuffer#put(String,int,int)} if {@code str} is a {@link String}.
+   *
+   * @param out The {@link Appendable} to which the escaped contents of {@code str} are to be appended.
+   * @param str The string to escape.
+   * @return The provided {@link Appendable}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code out} or {@code str} is null.
+   */
+  public static Appendable escapeForElem(final Appendable out, final CharSequence str) throws IOException {
+    return escape(out, str, '\0', 0, str.length());
+  }
 
-    return -i;
+  /**
+   * Returns the XML-escaped {@code str} to be used in an XML attribute, or {@code str} itself if it contains no characters that
+   * need escaping. The escaped characters are the same as for {@link #escapeForAttr(CharSequence,char)}.
+   *
+   * @param str The string to escape.
+   * @param quote The quote character to be used to delimit the attribute's value in the XML document (either {@code '"'} or
+   *          {@code '\''}).
+   * @return The XML-escaped {@code str}, or {@code str} itself if it contains no characters that need escaping.
+   * @throws NullPointerException If {@code str} is null.
+   * @throws IllegalArgumentException If {@code quote} is not {@code '"'} or {@code '\''}.
+   */
+  public static CharSequence escapeForAttrIfNeeded(final CharSequence str, final char quote) {
+    assertQuote(quote);
+    return escapeIfNeeded(str, quote);
   }
 
-  private static int unescape(final StringBuilder out, final CharSequence str, int i, final char c4, final char c3, final char c2, final char c1, final int depth, final char quote, final int len) {
-    if (i == len)
-      return -i;
+  /**
+   * Returns the XML-escaped {@code str} to be used in an XML element, or {@code str} itself if it contains no characters that need
+   * escaping. The escaped characters are the same as for {@link #escapeForElem(CharSequence)}.
+   *
+   * @param str The string to escape.
+   * @return The XML-escaped {@code str}, or {@code str} itself if it contains no characters that need escaping.
+   * @throws NullPointerException If {@code str} is null.
+   */
+  public static CharSequence escapeForElemIfNeeded(final CharSequence str) {
+    return escapeIfNeeded(str, '\0');
+  }
 
-    final char c0 = str.charAt(i);
-    if (c0 == '&')
-      return check(c4, c3, c2, c1, c0, ++i == len ? '\0' : str.charAt(i), out, unescape(out, str, i, c3, c2, c1, c0, 1, quote, len));
+  /**
+   * The context of {@link #referenceAt(char[],int,int,char)} for the character data and attribute values of a parsed document, in
+   * which {@code &apos;}, {@code &quot;} and the numeric character references are all unescaped.
+   */
+  private static final char PARSED = '\uffff';
+  private static final int CODE_POINT = 0x1fffff;
+  private static final int MAX_REFERENCE_LENGTH = 12;
 
-    if (depth == 1) {
-      if (c0 == 'a' || c0 == 'g' || c0 == 'l' || c0 == 'q')
-        return check(c4, c3, c2, c1, c0, ++i == len ? '\0' : str.charAt(i), out, unescape(out, str, i, c3, c2, c1, c0, 2, quote, len));
+  /**
+   * Returns the code point of the reference that starts with the {@code '&'} at index {@code i}, in the low 21 bits, and the length
+   * of the reference, in the high bits; or {@code 0} if there is no reference to be unescaped at index {@code i}. The
+   * {@code &apos;} and {@code &quot;} entities are only unescaped if {@code quote} is {@code '\''} or {@code '"'}, respectively, and
+   * the numeric character references (i.e. {@code &#60;} or {@code &#x3C;}) are only unescaped if {@code quote} is
+   * {@link #PARSED}, in which case both of these entities are unescaped as well.
+   */
+  private static int referenceAt(final CharSequence str, final int i, final int end, final char quote) {
+    final int rem = Math.min(end - i, MAX_REFERENCE_LENGTH);
+    if (rem < 4)
+      return 0;
+
+    final char c1 = str.charAt(i + 1);
+    final char c2 = str.charAt(i + 2);
+    if (c1 == '#') {
+      if (quote != PARSED)
+        return 0;
+
+      final int radix = c2 == 'x' ? 16 : 10;
+      final int from = radix == 16 ? i + 3 : i + 2;
+      int codePoint = 0;
+      for (int j = from, digit; j < i + rem; ++j) { // [N]
+        final char ch = str.charAt(j);
+        if (ch == ';')
+          return j == from ? 0 : j + 1 - i << 21 | codePoint;
+
+        if ((digit = Character.digit(ch, radix)) == -1 || (codePoint = codePoint * radix + digit) > Character.MAX_CODE_POINT)
+          return 0;
+      }
 
-      return -i;
+      return 0;
     }
-    else if (depth == 2) {
-      if (c0 == 'm' || c0 == 'p' || c0 == 't' || c0 == 'u')
-        return check(c4, c3, c2, c1, c0, ++i == len ? '\0' : str.charAt(i), out, unescape(out, str, i, c3, c2, c1, c0, 3, quote, len));
 
-      return -i;
-    }
-    else if (depth == 3) {
-      if (c0 == 'p' || c0 == 'o')
-        return check(c4, c3, c2, c1, c0, ++i == len ? '\0' : str.charAt(i), out, unescape(out, str, i, c3, c2, c1, c0, 4, quote, len));
+    final char c3 = str.charAt(i + 3);
+    if (c2 == 't' && c3 == ';')
+      return c1 == 'l' ? 4 << 21 | '<' : c1 == 'g' ? 4 << 21 | '>' : 0;
 
-      if (c0 == ';' && c1 == 't') {
-        if (c2 == 'g') {
-          out.append('>');
-          return i;
-        }
+    if (rem < 5)
+      return 0;
 
-        if (c2 == 'l') {
-          out.append('<');
-          return i;
-        }
-      }
+    final char c4 = str.charAt(i + 4);
+    if (c1 == 'a' && c2 == 'm' && c3 == 'p' && c4 == ';')
+      return 5 << 21 | '&';
 
-      return -i;
-    }
-    else if (depth == 4) {
-      if (c0 == 's')
-        return quote != '\'' ? -i : check(c4, c3, c2, c1, c0, ++i == len ? '\0' : str.charAt(i), out, unescape(out, str, i, c3, c2, c1, c0, 5, quote, len));
+    if (rem < 6 || str.charAt(i + 5) != ';')
+      return 0;
 
-      if (c0 == 't')
-        return quote != '"' ? -i : check(c4, c3, c2, c1, c0, ++i == len ? '\0' : str.charAt(i), out, unescape(out, str, i, c3, c2, c1, c0, 5, quote, len));
+    if ((quote == '\'' || quote == PARSED) && c1 == 'a' && c2 == 'p' && c3 == 'o' && c4 == 's')
+      return 6 << 21 | '\'';
 
-      if (c0 == ';' && c1 == 'p') {
-        out.append('&');
-        return i;
-      }
+    if ((quote == '"' || quote == PARSED) && c1 == 'q' && c2 == 'u' && c3 == 'o' && c4 == 't')
+      return 6 << 21 | '"';
 
-      return -i;
-    }
-    else if (depth == 5 && c0 == ';') {
-      if (c1 == 's') {
-        out.append('\'');
-        return i;
-      }
+    return 0;
+  }
 
-      if (c1 == 't') {
-        out.append('"');
-        return i;
+  private static int referenceAt(final char[] chars, final int i, final int end, final char quote) {
+    final int rem = Math.min(end - i, MAX_REFERENCE_LENGTH);
+    if (rem < 4)
+      return 0;
+
+    final char c1 = chars[i + 1];
+    final char c2 = chars[i + 2];
+    if (c1 == '#') {
+      if (quote != PARSED)
+        return 0;
+
+      final int radix = c2 == 'x' ? 16 : 10;
+      final int from = radix == 16 ? i + 3 : i + 2;
+      int codePoint = 0;
+      for (int j = from, digit; j < i + rem; ++j) { // [A]
+        final char ch = chars[j];
+        if (ch == ';')
+          return j == from ? 0 : j + 1 - i << 21 | codePoint;
+
+        if ((digit = Character.digit(ch, radix)) == -1 || (codePoint = codePoint * radix + digit) > Character.MAX_CODE_POINT)
+          return 0;
       }
 
-      return -i;
+      return 0;
     }
 
-    out.append(c0);
-    return i;
-  }
+    final char c3 = chars[i + 3];
+    if (c2 == 't' && c3 == ';')
+      return c1 == 'l' ? 4 << 21 | '<' : c1 == 'g' ? 4 << 21 | '>' : 0;
 
-  private static int unescape(final StringBuilder out, final char[] chars, int i, final char c4, final char c3, final char c2, final char c1, final int depth, final char quote, final int len) {
-    if (i == len)
-      return -i;
+    if (rem < 5)
+      return 0;
 
-    final char c0 = chars[i];
-    if (c0 == '&')
-      return check(c4, c3, c2, c1, c0, ++i == len ? '\0' : chars[i], out, unescape(out, chars, i, c3, c2, c1, c0, 1, quote, len));
+    final char c4 = chars[i + 4];
+    if (c1 == 'a' && c2 == 'm' && c3 == 'p' && c4 == ';')
+      return 5 << 21 | '&';
 
-    if (depth == 1 && (c0 == 'a' || c0 == 'g' || c0 == 'l' || c0 == 'q'))
-      return check(c4, c3, c2, c1, c0, ++i == len ? '\0' : chars[i], out, unescape(out, chars, i, c3, c2, c1, c0, 2, quote, len));
+    if (rem < 6 || chars[i + 5] != ';')
+      return 0;
 
-    if (depth == 2 && (c0 == 'm' || c0 == 'p' || c0 == 't' || c0 == 'u'))
-      return check(c4, c3, c2, c1, c0, ++i == len ? '\0' : chars[i], out, unescape(out, chars, i, c3, c2, c1, c0, 3, quote, len));
+    if ((quote == '\'' || quote == PARSED) && c1 == 'a' && c2 == 'p' && c3 == 'o' && c4 == 's')
+      return 6 << 21 | '\'';
 
-    if (depth == 3) {
-      if (c0 == 'p' || c0 == 'o')
-        return check(c4, c3, c2, c1, c0, ++i == len ? '\0' : chars[i], out, unescape(out, chars, i, c3, c2, c1, c0, 4, quote, len));
+    if ((quote == '"' || quote == PARSED) && c1 == 'q' && c2 == 'u' && c3 == 'o' && c4 == 't')
+      return 6 << 21 | '"';
 
-      if (c0 == ';' && c1 == 't') {
-        if (c2 == 'g') {
-          out.append('>');
-          return i;
-        }
+    return 0;
+  }
 
-        if (c2 == 'l') {
-          out.append('<');
+  private static int indexOfEntity(final CharSequence str, final char quote, int i, final int end) {
+    for (; i < end; ++i) { // [N]
+      if (str.charAt(i) == '&') {
+        if (referenceAt(str, i, end, quote) != 0)
           return i;
-        }
-
-        return -i;
       }
     }
-    else if (depth == 4) {
-      if (c0 == 's')
-        return quote != '\'' ? -i : check(c4, c3, c2, c1, c0, ++i == len ? '\0' : chars[i], out, unescape(out, chars, i, c3, c2, c1, c0, 5, quote, len));
 
-      if (c0 == 't')
-        return quote != '"' ? -i : check(c4, c3, c2, c1, c0, ++i == len ? '\0' : chars[i], out, unescape(out, chars, i, c3, c2, c1, c0, 5, quote, len));
-
-      if (c0 == ';' && c1 == 'p') {
-        out.append('&');
-        return i;
-      }
+    return -1;
+  }
 
-      return -i;
+  private static StringBuilder unescape(final StringBuilder out, final CharSequence str, final char quote, final int off, final int len) {
+    final int end = off + len;
+    int start = off;
+    for (int i; (i = indexOfEntity(str, quote, start, end)) != -1;) { // [N]
+      final int reference = referenceAt(str, i, end, quote);
+      out.append(str, start, i).append((char)reference);
+      start = i + (reference >>> 21);
     }
-    else if (depth == 5 && c0 == ';') {
-      if (c1 == 's') {
-        out.append('\'');
-        return i;
-      }
 
-      if (c1 == 't') {
-        out.append('"');
-        return i;
-      }
+    return out.append(str, start, end);
+  }
 
-      return -i;
+  private static StringBuilder unescape(final StringBuilder out, final char[] chars, final char quote, final int off, final int len) {
+    final int end = off + len;
+    int start = off;
+    for (int i = off; i < end; ++i) { // [A]
+      if (chars[i] == '&') {
+        final int reference = referenceAt(chars, i, end, quote);
+        if (reference != 0) {
+          out.append(chars, start, i - start).append((char)reference);
+          start = i + (reference >>> 21);
+          i = start - 1;
+        }
+      }
     }
 
-    out.append(c0);
-    return i;
+    return out.append(chars, start, end - start);
   }
 
-  private static StringBuilder unescape(final StringBuilder out, final CharSequence str, final char quote, final int off, final int len) {
-    for (int i = off, length = off + len; i < length; ++i) // [N]
-      i = unescape(out, str, i, '\0', '\0', '\0', '\0', 0, quote, length);
+  private static Appendable unescape(final Appendable out, final CharSequence str, final char quote, final int off, final int len) throws IOException {
+    final int end = off + len;
+    int start = off;
+    for (int i; (i = indexOfEntity(str, quote, start, end)) != -1;) { // [N]
+      final int reference = referenceAt(str, i, end, quote);
+      append(out, str, start, i);
+      out.append((char)reference);
+      start = i + (reference >>> 21);
+    }
 
+    append(out, str, start, end);
     return out;
   }
 
-  private static StringBuilder unescape(final StringBuilder out, final char[] chars, final char quote, final int off, final int len) {
-    for (int i = off, length = off + len; i < length; ++i) // [N]
-      i = unescape(out, chars, i, '\0', '\0', '\0', '\0', 0, quote, length);
-
-    return out;
+  private static CharSequence unescapeIfNeeded(final CharSequence str, final char quote) {
+    final int len = str.length();
+    final int i = indexOfEntity(str, quote, 0, len);
+    return i == -1 ? str : unescape(new StringBuilder(len).append(str, 0, i), str, quote, i, len - i);
   }
 
   /**
@@ -1084,6 +1238,138 @@ public final class CharacterDatas {
     return unescape(out, chars, '\0', off, len);
   }
 
+  /**
+   * Appends the XML-unescaped {@code str} as from an XML attribute to the provided {@link Appendable}. The unescaped characters
+   * are:
+   *
+   * <pre>
+   * {@code From   | To
+   * ------------
+   * &amp;  | &
+   * &gt;   | >
+   * &lt;   | <
+   * ------------
+   * &apos; | '
+   * &quot; | "}
+   * </pre>
+   *
+   * Runs of characters that need no unescaping are appended with a single invocation of
+   * {@link Appendable#append(CharSequence,int,int)}, or of {@link Writer#write(String,int,int)} or
+   * {@link CharBuffer#put(String,int,int)} if {@code str} is a {@link String}.
+   *
+   * @param out The {@link Appendable} to which the unescaped contents of {@code str} are to be appended.
+   * @param str The string to unescape.
+   * @param quote The quote character that was used to delimit the attribute's value in the XML document (either {@code '"'} or
+   *          {@code '\''}).
+   * @return The provided {@link Appendable}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code out} or {@code str} is null.
+   * @throws IllegalArgumentException If {@code quote} is not {@code '"'} or {@code '\''}.
+   */
+  public static Appendable unescapeFromAttr(final Appendable out, final CharSequence str, final char quote) throws IOException {
+    assertQuote(quote);
+    return unescape(out, str, quote, 0, str.length());
+  }
+
+  /**
+   * Appends the XML-unescaped {@code str} as from an XML element to the provided {@link Appendable}. The unescaped characters
+   * are:
+   *
+   * <pre>
+   * {@code From   | To
+   * ------------
+   * &amp;  | &
+   * &gt;   | >
+   * &lt;   | <}
+   * </pre>
+   *
+   * Runs of characters that need no unescaping are appended with a single invocation of
+   * {@link Appendable#append(CharSequence,int,int)}, or of {@link Writer#write(String,int,int)} or
+   * {@link CharBuffer#put(String,int,int)} if {@code str} is a {@link String}.
+   *
+   * @param out The {@link Appendable} to which the unescaped contents of {@code str} are to be appended.
+   * @param str The string to unescape.
+   * @return The provided {@link Appendable}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code out} or {@code str} is null.
+   */
+  public static Appendable unescapeFromElem(final Appendable out, final CharSequence str) throws IOException {
+    return unescape(out, str, '\0', 0, str.length());
+  }
+
+  /**
+   * Returns the XML-unescaped {@code str} as from an XML attribute, or {@code str} itself if it contains no entities that need
+   * unescaping. The unescaped characters are the same as for {@link #unescapeFromAttr(CharSequence,char)}.
+   *
+   * @param str The string to unescape.
+   * @param quote The quote character that was used to delimit the attribute's value in the XML document (either {@code '"'} or
+   *          {@code '\''}).
+   * @return The XML-unescaped {@code str}, or {@code str} itself if it contains no entities that need unescaping.
+   * @throws NullPointerException If {@code str} is null.
+   * @throws IllegalArgumentException If {@code quote} is not {@code '"'} or {@code '\''}.
+   */
+  public static CharSequence unescapeFromAttrIfNeeded(final CharSequence str, final char quote) {
+    assertQuote(quote);
+    return unescapeIfNeeded(str, quote);
+  }
+
+  /**
+   * Returns the XML-unescaped {@code str} as from an XML element, or {@code str} itself if it contains no entities that need
+   * unescaping. The unescaped characters are the same as for {@link #unescapeFromElem(CharSequence)}.
+   *
+   * @param str The string to unescape.
+   * @return The XML-unescaped {@code str}, or {@code str} itself if it contains no entities that need unescaping.
+   * @throws NullPointerException If {@code str} is null.
+   */
+  public static CharSequence unescapeFromElemIfNeeded(final CharSequence str) {
+    return unescapeIfNeeded(str, '\0');
+  }
+
+  private static int indexOf(final char[] chars, final int from, final int to, final char ch) {
+    for (int i = from; i < to; ++i) // [A]
+      if (chars[i] == ch)
+        return i;
+
+    return -1;
+  }
+
+  /**
+   * Expands the predefined entity references ({@code &lt;}, {@code &gt;}, {@code &amp;}, {@code &apos;} and {@code &quot;}) and
+   * the numeric character references (i.e. {@code &#60;} or {@code &#x3C;}) in the specified region of {@code chars}, writing the
+   * result over the region itself. This is possible because a reference is never shorter than its expansion. References that are
+   * not recognized are left verbatim.
+   * <p>
+   * Unlike {@link #unescapeFromElem(char[],int,int)} and {@link #unescapeFromAttr(char[],char,int,int)}, this method unescapes
+   * character data regardless of the context from which it was read, and does not allocate.
+   *
+   * @param chars The chars to unescape.
+   * @param off The offset in {@code chars} from which to unescape.
+   * @param len The number of chars to unescape.
+   * @return The length of the unescaped region, starting at {@code off}.
+   * @throws NullPointerException If {@code chars} is null.
+   * @throws IndexOutOfBoundsException If {@code off} or {@code len} is negative, or if {@code off + len > chars.length}.
+   */
+  public static int unescapeInPlace(final char[] chars, final int off, final int len) {
+    assertRange(off, len, chars);
+    final int end = off + len;
+    int i = indexOf(chars, off, end, '&');
+    if (i == -1)
+      return len;
+
+    int w = i;
+    for (int reference; i < end;) { // [A]
+      if (chars[i] != '&' || (reference = referenceAt(chars, i, end, PARSED)) == 0) {
+        chars[w++] = chars[i++];
+      }
+      else {
+        w += Character.toChars(reference & CODE_POINT, chars, w);
+        i += reference >>> 21;
+      }
+    }
+
+    return w - off;
+  }
+
   private CharacterDatas() {
   }
 }
\ No newline at end of file
@@ -0,0 +1,398 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.api;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * An immutable {@link XmlElement}, whose attributes and child elements are shared structurally between copies.
+ * <p>
+ * Since an {@link ImmutableXmlElement} cannot change, {@link #clone()} returns the instance itself, and its hash code is computed
+ * once. Modified copies are created with the {@code with*} methods, which copy only the attributes or child elements of the element
+ * being modified, and share everything else (including the subtrees of all child elements) with the original.
+ * <p>
+ * Child elements that are {@link XmlElement}s are converted to {@link ImmutableXmlElement}s, and attribute values and other content
+ * are captured as their string representations.
+ */
+@SuppressWarnings("rawtypes")
+public final class ImmutableXmlElement extends XmlElement {
+  private static final Object[] EMPTY = {};
+
+  private static final class Attributes extends AbstractMap<String,Object> implements Serializable {
+    private final String[] names;
+    private final Object[] values;
+
+    private Attributes(final String[] names, final Object[] values) {
+      this.names = names;
+      this.values = values;
+    }
+
+    private int indexOf(final Object name) {
+      for (int i = 0, i$ = names.length; i < i$; ++i) // [A]
+        if (names[i].equals(name))
+          return i;
+
+      return -1;
+    }
+
+    @Override
+    public int size() {
+      return names.length;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+      return indexOf(key) != -1;
+    }
+
+    @Override
+    public Object get(final Object key) {
+      final int index = indexOf(key);
+      return index == -1 ? null : values[index];
+    }
+
+    @Override
+    public Set<Map.Entry<String,Object>> entrySet() {
+      return new AbstractSet<Map.Entry<String,Object>>() {
+        @Override
+        public int size() {
+          return names.length;
+        }
+
+        @Override
+        public Iterator<Map.Entry<String,Object>> iterator() {
+          return new Iterator<Map.Entry<String,Object>>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+              return index < names.length;
+            }
+
+            @Override
+            public Map.Entry<String,Object> next() {
+              if (index == names.length)
+                throw new NoSuchElementException();
+
+              final int i = index++;
+              return new AbstractMap.SimpleImmutableEntry<>(names[i], values[i]);
+            }
+          };
+        }
+      };
+    }
+  }
+
+  private static final class Elements extends AbstractList<Object> implements RandomAccess, Serializable {
+    private final Object[] elements;
+
+    private Elements(final Object[] elements) {
+      this.elements = elements;
+    }
+
+    @Override
+    public Object get(final int index) {
+      return elements[index];
+    }
+
+    @Override
+    public int size() {
+      return elements.length;
+    }
+  }
+
+  /**
+   * Returns an {@link ImmutableXmlElement} with the same name, attributes, and child elements as the specified {@link XmlElement}.
+   * If {@code element} is itself an {@link ImmutableXmlElement}, it is returned.
+   *
+   * @param element The {@link XmlElement}.
+   * @return An {@link ImmutableXmlElement} with the same name, attributes, and child elements as the specified {@link XmlElement}.
+   * @throws NullPointerException If {@code element} is null, or if a child element is null, or the name or value of an attribute
+   *           is null.
+   */
+  public static ImmutableXmlElement valueOf(final XmlElement element) {
+    return element instanceof ImmutableXmlElement ? (ImmutableXmlElement)element : new ImmutableXmlElement(element.getName(), toAttributes(element.getAttributes()), toElements(element.getElements()), false);
+  }
+
+  private static Attributes toAttributes(final Map attributes) {
+    if (attributes == null)
+      return null;
+
+    if (attributes instanceof Attributes)
+      return (Attributes)attributes;
+
+    final int size = attributes.size();
+    final String[] names = new String[size];
+    final Object[] values = new Object[size];
+    int i = 0;
+    for (final Object obj : attributes.entrySet()) { // [S]
+      final Map.Entry entry = (Map.Entry)obj;
+      names[i] = entry.getKey().toString();
+      values[i++] = entry.getValue().toString();
+    }
+
+    return new Attributes(names, values);
+  }
+
+  private static Object toElement(final Object element) {
+    return element instanceof XmlElement ? valueOf((XmlElement)element) : element.toString();
+  }
+
+  private static Elements toElements(final Collection elements) {
+    if (elements == null)
+      return null;
+
+    if (elements instanceof Elements)
+      return (Elements)elements;
+
+    final Object[] array = elements.size() == 0 ? EMPTY : new Object[elements.size()];
+    int i = 0;
+    for (final Object element : elements) // [C]
+      array[i++] = toElement(element);
+
+    return new Elements(array);
+  }
+
+  private final Attributes attributes;
+  private final Elements elements;
+  private int hashCode;
+
+  private ImmutableXmlElement(final String name, final Attributes attributes, final Elements elements, final boolean validateName) {
+    super(name, attributes, elements, validateName);
+    this.attributes = attributes;
+    this.elements = elements;
+  }
+
+  /**
+   * Creates a new {@link ImmutableXmlElement} with the specified name, map of attributes, and collection of child elements.
+   *
+   * @param name The name.
+   * @param attributes The attributes.
+   * @param elements The child elements.
+   * @throws NullPointerException If {@code name} is null, or if a child element is null, or the name or value of an attribute is
+   *           null.
+   * @throws IllegalArgumentException If {@code name} is not a valid
+   *           <a href= "https://www.w3.org/TR/1999/REC-xml-names-19990114/#dt-qname">xs:qName</a>.
+   */
+  public ImmutableXmlElement(final String name, final Map attributes, final Collection elements) {
+    this(name, toAttributes(attributes), toElements(elements), true);
+  }
+
+  /**
+   * Creates a new {@link ImmutableXmlElement} with the specified name.
+   *
+   * @param name The name.
+   * @throws NullPointerException If {@code name} is null.
+   * @throws IllegalArgumentException If {@code name} is not a valid
+   *           <a href= "https://www.w3.org/TR/1999/REC-xml-names-19990114/#dt-qname">xs:qName</a>.
+   */
+  public ImmutableXmlElement(final String name) {
+    this(name, null, null, true);
+  }
+
+  /**
+   * Returns a copy of this element with the attribute of the specified name set to the provided value. The child elements of this
+   * element are shared with the copy.
+   *
+   * @param name The name of the attribute.
+   * @param value The value of the attribute.
+   * @return A copy of this element with the attribute of the specified name set to the provided value.
+   * @throws NullPointerException If {@code name} or {@code value} is null.
+   */
+  public ImmutableXmlElement withAttribute(final String name, final Object value) {
+    final String string = value.toString();
+    if (attributes == null)
+      return new ImmutableXmlElement(getName(), new Attributes(new String[] {name}, new Object[] {string}), elements, false);
+
+    final int index = attributes.indexOf(name);
+    if (index != -1) {
+      if (attributes.values[index].equals(string))
+        return this;
+
+      final Object[] values = attributes.values.clone();
+      values[index] = string;
+      return new ImmutableXmlElement(getName(), new Attributes(attributes.names, values), elements, false);
+    }
+
+    final int size = attributes.names.length;
+    final String[] names = Arrays.copyOf(attributes.names, size + 1);
+    final Object[] values = Arrays.copyOf(attributes.values, size + 1);
+    names[size] = name;
+    values[size] = string;
+    return new ImmutableXmlElement(getName(), new Attributes(names, values), elements, false);
+  }
+
+  /**
+   * Returns a copy of this element without the attribute of the specified name, or this element if it does not have such an
+   * attribute. The child elements of this element are shared with the copy.
+   *
+   * @param name The name of the attribute.
+   * @return A copy of this element without the attribute of the specified name.
+   */
+  public ImmutableXmlElement withoutAttribute(final String name) {
+    final int index = attributes == null ? -1 : attributes.indexOf(name);
+    if (index == -1)
+      return this;
+
+    final int size = attributes.names.length - 1;
+    final String[] names = new String[size];
+    final Object[] values = new Object[size];
+    System.arraycopy(attributes.names, 0, names, 0, index);
+    System.arraycopy(attributes.values, 0, values, 0, index);
+    System.arraycopy(attributes.names, index + 1, names, index, size - index);
+    System.arraycopy(attributes.values, index + 1, values, index, size - index);
+    return new ImmutableXmlElement(getName(), new Attributes(names, values), elements, false);
+  }
+
+  /**
+   * Returns a copy of this element with the specified attributes. The child elements of this element are shared with the copy.
+   *
+   * @param attributes The attributes.
+   * @return A copy of this element with the specified attributes.
+   * @throws NullPointerException If the name or value of an attribute is null.
+   */
+  public ImmutableXmlElement withAttributes(final Map attributes) {
+    return new ImmutableXmlElement(getName(), toAttributes(attributes), elements, false);
+  }
+
+  /**
+   * Returns a copy of this element with the child element at the specified index replaced with the provided element. All other
+   * child elements, and the attributes of this element, are shared with the copy.
+   *
+   * @param index The index of the child element to replace.
+   * @param element The element with which to replace the child element.
+   * @return A copy of this element with the child element at the specified index replaced with the provided element.
+   * @throws NullPointerException If {@code element} is null.
+   * @throws IndexOutOfBoundsException If {@code index} is out of range of the child elements of this element.
+   */
+  public ImmutableXmlElement withElement(final int index, final Object element) {
+    final Object[] array = (elements == null ? EMPTY : elements.elements).clone();
+    array[index] = toElement(element);
+    return new ImmutableXmlElement(getName(), attributes, new Elements(array), false);
+  }
+
+  /**
+   * Returns a copy of this element with the provided element appended to its child elements. The existing child elements, and the
+   * attributes of this element, are shared with the copy.
+   *
+   * @param element The element to append.
+   * @return A copy of this element with the provided element appended to its child elements.
+   * @throws NullPointerException If {@code element} is null.
+   */
+  public ImmutableXmlElement withElementAdded(final Object element) {
+    final Object[] source = elements == null ? EMPTY : elements.elements;
+    final Object[] array = Arrays.copyOf(source, source.length + 1);
+    array[source.length] = toElement(element);
+    return new ImmutableXmlElement(getName(), attributes, new Elements(array), false);
+  }
+
+  /**
+   * Returns a copy of this element with the specified child elements. The attributes of this element are shared with the copy.
+   *
+   * @param elements The child elements.
+   * @return A copy of this element with the specified child elements.
+   * @throws NullPointerException If a child element is null.
+   */
+  public ImmutableXmlElement withElements(final Collection elements) {
+    return new ImmutableXmlElement(getName(), attributes, toElements(elements), false);
+  }
+
+  /**
+   * Throws {@link UnsupportedOperationException}, because an {@link ImmutableXmlElement} cannot change.
+   *
+   * @param attributes The attributes.
+   * @throws UnsupportedOperationException Always.
+   * @see #withAttributes(Map)
+   */
+  @Override
+  public void setAttributes(final Map attributes) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Returns an unmodifiable view of the attributes of this element.
+   *
+   * @return An unmodifiable view of the attributes of this element.
+   */
+  @Override
+  public Map<String,Object> getAttributes() {
+    return attributes;
+  }
+
+  /**
+   * Throws {@link UnsupportedOperationException}, because an {@link ImmutableXmlElement} cannot change.
+   *
+   * @param elements The child elements.
+   * @throws UnsupportedOperationException Always.
+   * @see #withElements(Collection)
+   */
+  @Override
+  public void setElements(final Collection elements) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Returns an unmodifiable view of the child elements of this element.
+   *
+   * @return An unmodifiable view of the child elements of this element.
+   */
+  @Override
+  public List<Object> getElements() {
+    return elements;
+  }
+
+  /**
+   * Returns this element, since an {@link ImmutableXmlElement} cannot change.
+   *
+   * @return This element.
+   */
+  @Override
+  public ImmutableXmlElement clone() {
+    return this;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this)
+      return true;
+
+    if (obj instanceof ImmutableXmlElement && hashCode() != obj.hashCode())
+      return false;
+
+    return super.equals(obj);
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = this.hashCode;
+    if (hashCode == 0)
+      this.hashCode = hashCode = super.hashCode();
+
+    return hashCode;
+  }
+}
\ No newline at end of file
@@ -16,16 +16,24 @@
 
 package org.openjax.xml.api;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Serializable;
+import java.io.Writer;
 import java.lang.reflect.Constructor;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.regex.Pattern;
 
 /**
  * Lightweight encapsulation of an XML element, supporting attributes, content, and child elements.
@@ -37,9 +45,6 @@ import java.util.regex.Pattern;
  */
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class XmlElement implements Cloneable, Serializable {
-  // FIXME: Implement more performant alternative.
-  private static final Pattern qName = Pattern.compile("^[a-zA-Z_][\\w.-]*(:[a-zA-Z_][\\w.-]*)?$");
-
   /**
    * Asserts the specified string is a valid <a href= "https://www.w3.org/TR/1999/REC-xml-names-19990114/#dt-qname">xs:qName</a>.
    *
@@ -50,11 +55,7 @@ public class XmlElement implements Cloneable, Serializable {
    *           <a href= "https://www.w3.org/TR/1999/REC-xml-names-19990114/#dt-qname">xs:qName</a>.
    */
   private static String requireQName(final Object name) {
-    final String string = name.toString();
-    if (string.length() == 0 || !qName.matcher(string).matches())
-      throw new IllegalArgumentException(string + " is not a valid xs:QName");
-
-    return string;
+    return XmlNames.requireQName(name.toString());
   }
 
   private final String name;
@@ -72,7 +73,25 @@ public class XmlElement implements Cloneable, Serializable {
    *           <a href= "https://www.w3.org/TR/1999/REC-xml-names-19990114/#dt-qname">xs:qName</a>.
    */
   public XmlElement(final String name, final Map attributes, final Collection elements) {
-    this.name = requireQName(name);
+    this(name, attributes, elements, true);
+  }
+
+  /**
+   * Creates a new {@link XmlElement} with the specified name, map of attributes, and collection of child elements, skipping the
+   * validation of {@code name} if {@code validateName} is {@code false}. This is intended for names that are known to be valid,
+   * such as names reported by a parser, or names of existing {@link XmlElement}s.
+   *
+   * @param name The name.
+   * @param attributes The attributes.
+   * @param elements The child elements.
+   * @param validateName Whether to assert that {@code name} is a valid
+   *          <a href= "https://www.w3.org/TR/1999/REC-xml-names-19990114/#dt-qname">xs:qName</a>.
+   * @throws NullPointerException If {@code name} is null.
+   * @throws IllegalArgumentException If {@code validateName} is {@code true}, and {@code name} is not a valid
+   *           <a href= "https://www.w3.org/TR/1999/REC-xml-names-19990114/#dt-qname">xs:qName</a>.
+   */
+  protected XmlElement(final String name, final Map attributes, final Collection elements, final boolean validateName) {
+    this.name = validateName ? requireQName(name) : Objects.requireNonNull(name, "name is null");
     this.attributes = attributes;
     this.elements = elements;
   }
@@ -161,6 +180,9 @@ public class XmlElement implements Cloneable, Serializable {
   }
 
   private Map cloneAttributes() {
+    if (attributes instanceof HashMap)
+      return (Map)((HashMap)attributes).clone();
+
     if (attributes instanceof Cloneable) {
       try {
         return (Map)attributes.getClass().getMethod("clone").invoke(attributes);
@@ -182,6 +204,9 @@ public class XmlElement implements Cloneable, Serializable {
   }
 
   private Collection cloneElements() {
+    if (elements instanceof ArrayList)
+      return (Collection)((ArrayList)elements).clone();
+
     if (elements instanceof Cloneable) {
       try {
         return (Collection)elements.getClass().getMethod("clone").invoke(elements);
@@ -243,59 +268,201 @@ public class XmlElement implements Cloneable, Serializable {
     return hashCode;
   }
 
+  private static final int MAX_LINEAR_DEPTH = 32;
+
   /**
-   * Returns an XML string representation of this element with the specified number of spaces to indent child elements.
+   * Checks that the provided child element is not one of the first {@code depth} elements of {@code path}. Shallow paths are
+   * searched linearly, and deeper paths are looked up in the identity set of {@code ancestors}, which is created on first use.
+   *
+   * @param element The child element.
+   * @param path The path of ancestors of {@code element}.
+   * @param depth The number of ancestors in {@code path}.
+   * @param ancestors The identity set of the ancestors in {@code path}, or {@code null} if it has not been created.
+   * @return The identity set of the ancestors in {@code path}, or {@code null} if it has not been created.
+   * @throws IllegalStateException If {@code element} is one of its own ancestors.
+   */
+  static Set<XmlElement> checkCycle(final XmlElement element, final XmlElement[] path, final int depth, Set<XmlElement> ancestors) {
+    if (depth < MAX_LINEAR_DEPTH) {
+      for (int i = 0; i < depth; ++i) // [A]
+        if (path[i] == element)
+          throw new IllegalStateException("Cycle in graph of child elements at <" + element.name + ">");
+
+      return ancestors;
+    }
+
+    if (ancestors == null) {
+      ancestors = Collections.newSetFromMap(new IdentityHashMap<>());
+      for (int i = 0; i < depth; ++i) // [A]
+        ancestors.add(path[i]);
+    }
+
+    if (ancestors.contains(element))
+      throw new IllegalStateException("Cycle in graph of child elements at <" + element.name + ">");
+
+    return ancestors;
+  }
+
+  private static String newline(final int indent, final int depth) {
+    final char[] chars = new char[1 + indent * depth];
+    Arrays.fill(chars, 1, chars.length, ' ');
+    chars[0] = '\n';
+    return new String(chars);
+  }
+
+  private static void writeStartTag(final Appendable out, final XmlElement element) throws IOException {
+    out.append('<').append(element.name);
+    final Map attributes = element.attributes;
+    if (attributes != null && attributes.size() > 0) {
+      for (final Map.Entry entry : (Set<Map.Entry>)attributes.entrySet()) { // [S]
+        final String name = requireQName(entry.getKey());
+        final Object value = Objects.requireNonNull(entry.getValue(), "value is null");
+        out.append(' ').append(name).append("=\"");
+        CharacterDatas.escapeForAttr(out, value instanceof CharSequence ? (CharSequence)value : value.toString(), '"');
+        out.append('"');
+      }
+    }
+  }
+
+  private static void writeContent(final Appendable out, final String content, final String newline, final int newlineLength) throws IOException {
+    if (newline == null) {
+      out.append(content);
+      return;
+    }
+
+    int start = 0;
+    for (int i; (i = content.indexOf('\n', start)) != -1; start = i + 1) { // [N]
+      out.append(content, start, i);
+      out.append(newline, 0, newlineLength);
+    }
+
+    out.append(content, start, content.length());
+  }
+
+  /**
+   * Writes an XML representation of this element to the provided {@link Appendable}, with the specified number of spaces to indent
+   * child elements. The output is identical to that of {@link #toString(int)}, but the tree is traversed iteratively in a single
+   * pass, and attribute values are escaped directly into {@code out}, so the depth of the tree is not limited by the size of the
+   * call stack.
    *
+   * @param out The {@link Appendable} to which to write.
    * @param indent Number of spaces to indent child elements. If the specified indent value is greater than {@code 0}, child elements
    *          are indented and placed on a new line. If the indent value is {@code 0}, child elements are not indented, nor placed on
    *          a new line.
-   * @return An XML string representation of this element.
-   * @throws NullPointerException If a child element is null, or the name or value of an attribute is null.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code out} is null, if a child element is null, or the name or value of an attribute is null.
    * @throws IllegalArgumentException If the name of an attribute is not a valid
    *           <a href= "https://www.w3.org/TR/1999/REC-xml-names-19990114/#dt-qname">xs:qName</a>, or if {@code indent} is negative.
-   * @throws StackOverflowError If the graph of child elements has cycles.
+   * @throws IllegalStateException If the graph of child elements has cycles.
    */
-  public String toString(final int indent) {
+  public void writeTo(final Appendable out, final int indent) throws IOException {
     if (indent < 0)
       throw new IllegalArgumentException("indent (" + indent + ") must be non-negative");
 
-    final StringBuilder b = new StringBuilder("<");
-    b.append(name);
-    if (attributes != null && attributes.size() > 0) {
-      final StringBuilder value = new StringBuilder();
-      for (final Map.Entry entry : (Set<Map.Entry>)attributes.entrySet()) { // [S]
-        final String name = requireQName(entry.getKey());
-        value.append(Objects.requireNonNull(entry.getValue(), "name is null"));
-        b.append(' ').append(name).append("=\"");
-        CharacterDatas.escapeForAttr(b, value, '"');
-        value.setLength(0);
-        b.append('"');
+    XmlElement[] path = new XmlElement[8];
+    Iterator[] iterators = new Iterator[path.length];
+    Set<XmlElement> ancestors = null;
+    String newline = indent == 0 ? null : newline(indent, path.length);
+    XmlElement element = this;
+    int depth = 0;
+    do {
+      writeStartTag(out, element);
+      final Collection elements = element.elements;
+      if (elements == null || elements.size() == 0) {
+        out.append("/>");
+      }
+      else {
+        out.append('>');
+        if (depth == path.length) {
+          path = Arrays.copyOf(path, depth * 2);
+          iterators = Arrays.copyOf(iterators, depth * 2);
+          if (newline != null)
+            newline = newline(indent, path.length);
+        }
+
+        path[depth] = element;
+        iterators[depth++] = elements.iterator();
+        if (ancestors != null)
+          ancestors.add(element);
       }
-    }
-
-    if (elements == null || elements.size() == 0)
-      return b.append("/>").toString();
 
-    b.append('>');
-    if (indent == 0) {
-      for (final Object element : elements) { // [C]
-        b.append(element.toString());
+      element = null;
+      while (depth > 0) {
+        final Iterator iterator = iterators[depth - 1];
+        final int newlineLength = 1 + indent * depth;
+        if (iterator.hasNext()) {
+          final Object child = iterator.next();
+          if (newline != null)
+            out.append(newline, 0, newlineLength);
+
+          if (child instanceof XmlElement) {
+            element = (XmlElement)child;
+            ancestors = checkCycle(element, path, depth, ancestors);
+            break;
+          }
+
+          writeContent(out, child.toString(), newline, newlineLength);
+        }
+        else {
+          final XmlElement end = path[--depth];
+          path[depth] = null;
+          iterators[depth] = null;
+          if (ancestors != null)
+            ancestors.remove(end);
+
+          if (newline != null)
+            out.append(newline, 0, newlineLength - indent);
+
+          out.append("</").append(end.name).append('>');
+        }
       }
     }
-    else {
-      final char[] chars = new char[indent + 1];
-      Arrays.fill(chars, 1, chars.length, ' ');
-      chars[0] = '\n';
-      final String delim = new String(chars);
-      for (final Object element : elements) { // [C]
-        final String string = element instanceof XmlElement ? ((XmlElement)element).toString(indent) : element.toString();
-        b.append(chars).append(string.replace("\n", delim));
-      }
+    while (element != null);
+  }
 
-      b.append('\n');
+  /**
+   * Writes an UTF-8 encoded XML representation of this element to the provided {@link OutputStream}, with the specified number of
+   * spaces to indent child elements. The {@link OutputStream} is flushed, but not closed.
+   *
+   * @param out The {@link OutputStream} to which to write.
+   * @param indent Number of spaces to indent child elements. If the specified indent value is greater than {@code 0}, child elements
+   *          are indented and placed on a new line. If the indent value is {@code 0}, child elements are not indented, nor placed on
+   *          a new line.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code out} is null, if a child element is null, or the name or value of an attribute is null.
+   * @throws IllegalArgumentException If the name of an attribute is not a valid
+   *           <a href= "https://www.w3.org/TR/1999/REC-xml-names-19990114/#dt-qname">xs:qName</a>, or if {@code indent} is negative.
+   * @throws IllegalStateException If the graph of child elements has cycles.
+   * @see #writeTo(Appendable,int)
+   */
+  public void writeTo(final OutputStream out, final int indent) throws IOException {
+    final Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    writeTo(writer, indent);
+    writer.flush();
+  }
+
+  /**
+   * Returns an XML string representation of this element with the specified number of spaces to indent child elements.
+   *
+   * @param indent Number of spaces to indent child elements. If the specified indent value is greater than {@code 0}, child elements
+   *          are indented and placed on a new line. If the indent value is {@code 0}, child elements are not indented, nor placed on
+   *          a new line.
+   * @return An XML string representation of this element.
+   * @throws NullPointerException If a child element is null, or the name or value of an attribute is null.
+   * @throws IllegalArgumentException If the name of an attribute is not a valid
+   *           <a href= "https://www.w3.org/TR/1999/REC-xml-names-19990114/#dt-qname">xs:qName</a>, or if {@code indent} is negative.
+   * @throws IllegalStateException If the graph of child elements has cycles.
+   * @see #writeTo(Appendable,int)
+   */
+  public String toString(final int indent) {
+    final StringBuilder b = new StringBuilder();
+    try {
+      writeTo(b, indent);
+    }
+    catch (final IOException e) {
+      throw new RuntimeException(e);
     }
 
-    return b.append("</").append(name).append('>').toString();
+    return b.toString();
   }
 
   /**
@@ -305,7 +472,7 @@ public class XmlElement implements Cloneable, Serializable {
    * @throws NullPointerException If the name of an attribute is null.
    * @throws IllegalArgumentException If the name of an attribute is not a valid
    *           <a href= "https://www.w3.org/TR/1999/REC-xml-names-19990114/#dt-qname">xs:qName</a>.
-   * @throws StackOverflowError If the graph of child elements has cycles.
+   * @throws IllegalStateException If the graph of child elements has cycles.
    */
   @Override
   public String toString() {
@@ -0,0 +1,471 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.api;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.DTDHandler;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXNotRecognizedException;
+import org.xml.sax.SAXNotSupportedException;
+import org.xml.sax.SAXParseException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.ext.DefaultHandler2;
+import org.xml.sax.ext.LexicalHandler;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.DefaultHandler;
+import org.xml.sax.helpers.LocatorImpl;
+import org.xml.sax.helpers.NamespaceSupport;
+
+/**
+ * An {@link XMLReader} that replays an {@link XmlElement} tree as SAX events, instead of parsing a document.
+ * <p>
+ * The tree is traversed iteratively. Attributes named {@code xmlns} or {@code xmlns:*} are reported as prefix mappings, and element
+ * and attribute names are resolved against them. Child elements that are not {@link XmlElement}s are read from their
+ * {@code toString()} as they are read from the serialized form of the tree: references are expanded, and markup is parsed.
+ * <p>
+ * The only supported {@link InputSource} is that of an {@link XmlElementSource}, whose public and system IDs are reported through
+ * the {@link org.xml.sax.Locator}, so that relative references resolve against them. The {@code namespaces} and
+ * {@code namespace-prefixes} features are supported, and default to {@code true} and {@code false}, respectively. The
+ * {@code lexical-handler} property is supported, and the comments and CDATA sections of parsed content are reported to it.
+ */
+@SuppressWarnings("rawtypes")
+public final class XmlElementReader implements XMLReader {
+  private static final String NAMESPACES = "http://xml.org/sax/features/namespaces";
+  private static final String NAMESPACE_PREFIXES = "http://xml.org/sax/features/namespace-prefixes";
+  private static final String LEXICAL_HANDLER = "http://xml.org/sax/properties/lexical-handler";
+  private static final ContentHandler discard = new DefaultHandler();
+
+  private boolean namespaces = true;
+  private boolean namespacePrefixes;
+  private EntityResolver entityResolver;
+  private DTDHandler dtdHandler;
+  private ContentHandler contentHandler;
+  private ErrorHandler errorHandler;
+  private LexicalHandler lexicalHandler;
+  private SAXParserFactory contentParserFactory;
+
+  /**
+   * A {@link ContentHandler} that reports the events of parsed content to a {@link ContentHandler}, less those of the document and
+   * of the wrapping element in which the content is parsed, and its comments and CDATA sections to a {@link LexicalHandler}.
+   */
+  private static final class ContentFilter extends DefaultHandler2 {
+    private final ContentHandler contentHandler;
+    private final LexicalHandler lexicalHandler;
+    private int depth;
+
+    private ContentFilter(final ContentHandler contentHandler, final LexicalHandler lexicalHandler) {
+      this.contentHandler = contentHandler;
+      this.lexicalHandler = lexicalHandler;
+    }
+
+    @Override
+    public void startPrefixMapping(final String prefix, final String uri) throws SAXException {
+      if (depth > 0)
+        contentHandler.startPrefixMapping(prefix, uri);
+    }
+
+    @Override
+    public void endPrefixMapping(final String prefix) throws SAXException {
+      if (depth > 0)
+        contentHandler.endPrefixMapping(prefix);
+    }
+
+    @Override
+    public void startElement(final String uri, final String localName, final String qName, final Attributes attributes) throws SAXException {
+      if (depth++ > 0)
+        contentHandler.startElement(uri, localName, qName, attributes);
+    }
+
+    @Override
+    public void endElement(final String uri, final String localName, final String qName) throws SAXException {
+      if (--depth > 0)
+        contentHandler.endElement(uri, localName, qName);
+    }
+
+    @Override
+    public void characters(final char[] ch, final int start, final int length) throws SAXException {
+      contentHandler.characters(ch, start, length);
+    }
+
+    @Override
+    public void ignorableWhitespace(final char[] ch, final int start, final int length) throws SAXException {
+      contentHandler.ignorableWhitespace(ch, start, length);
+    }
+
+    @Override
+    public void processingInstruction(final String target, final String data) throws SAXException {
+      contentHandler.processingInstruction(target, data);
+    }
+
+    @Override
+    public void skippedEntity(final String name) throws SAXException {
+      contentHandler.skippedEntity(name);
+    }
+
+    @Override
+    public void startCDATA() throws SAXException {
+      lexicalHandler.startCDATA();
+    }
+
+    @Override
+    public void endCDATA() throws SAXException {
+      lexicalHandler.endCDATA();
+    }
+
+    @Override
+    public void comment(final char[] ch, final int start, final int length) throws SAXException {
+      lexicalHandler.comment(ch, start, length);
+    }
+  }
+
+  @Override
+  public boolean getFeature(final String name) throws SAXNotRecognizedException {
+    if (NAMESPACES.equals(name))
+      return namespaces;
+
+    if (NAMESPACE_PREFIXES.equals(name))
+      return namespacePrefixes;
+
+    throw new SAXNotRecognizedException(name);
+  }
+
+  @Override
+  public void setFeature(final String name, final boolean value) throws SAXNotRecognizedException {
+    if (NAMESPACES.equals(name))
+      namespaces = value;
+    else if (NAMESPACE_PREFIXES.equals(name))
+      namespacePrefixes = value;
+    else
+      throw new SAXNotRecognizedException(name);
+  }
+
+  @Override
+  public Object getProperty(final String name) throws SAXNotRecognizedException {
+    if (LEXICAL_HANDLER.equals(name))
+      return lexicalHandler;
+
+    throw new SAXNotRecognizedException(name);
+  }
+
+  @Override
+  public void setProperty(final String name, final Object value) throws SAXNotRecognizedException, SAXNotSupportedException {
+    if (!LEXICAL_HANDLER.equals(name))
+      throw new SAXNotRecognizedException(name);
+
+    if (value != null && !(value instanceof LexicalHandler))
+      throw new SAXNotSupportedException(name + ": " + value.getClass().getName());
+
+    lexicalHandler = (LexicalHandler)value;
+  }
+
+  @Override
+  public void setEntityResolver(final EntityResolver resolver) {
+    this.entityResolver = resolver;
+  }
+
+  @Override
+  public EntityResolver getEntityResolver() {
+    return entityResolver;
+  }
+
+  @Override
+  public void setDTDHandler(final DTDHandler handler) {
+    this.dtdHandler = handler;
+  }
+
+  @Override
+  public DTDHandler getDTDHandler() {
+    return dtdHandler;
+  }
+
+  @Override
+  public void setContentHandler(final ContentHandler handler) {
+    this.contentHandler = handler;
+  }
+
+  @Override
+  public ContentHandler getContentHandler() {
+    return contentHandler;
+  }
+
+  @Override
+  public void setErrorHandler(final ErrorHandler handler) {
+    this.errorHandler = handler;
+  }
+
+  @Override
+  public ErrorHandler getErrorHandler() {
+    return errorHandler;
+  }
+
+  /**
+   * Replays the {@link XmlElement} of the specified {@link InputSource}, which must be the {@link InputSource} of an
+   * {@link XmlElementSource}.
+   *
+   * @param input The {@link InputSource} of an {@link XmlElementSource}.
+   * @throws SAXException If {@code input} is not the {@link InputSource} of an {@link XmlElementSource}, if a prefix is not
+   *           declared, or if the {@link ContentHandler} throws a {@link SAXException}.
+   * @throws NullPointerException If {@code input} is null.
+   */
+  @Override
+  public void parse(final InputSource input) throws SAXException {
+    if (!(input instanceof XmlElementSource.Input))
+      throw new SAXException("Unsupported InputSource: " + input.getClass().getName());
+
+    parse(((XmlElementSource.Input)input).element, input.getPublicId(), input.getSystemId());
+  }
+
+  /**
+   * Throws {@link SAXException}, because an {@link XmlElementReader} does not parse documents.
+   *
+   * @param systemId The system identifier.
+   * @throws SAXException Always.
+   */
+  @Override
+  public void parse(final String systemId) throws SAXException {
+    throw new SAXException("Unsupported system identifier: " + systemId);
+  }
+
+  private void fatalError(final LocatorImpl locator, final String message) throws SAXException {
+    final SAXParseException e = new SAXParseException(message, locator);
+    if (errorHandler != null)
+      errorHandler.fatalError(e);
+
+    throw e;
+  }
+
+  private String[] processName(final LocatorImpl locator, final NamespaceSupport namespaceSupport, final String qName, final boolean isAttribute, final String[] parts) throws SAXException {
+    if (namespaceSupport.processName(qName, parts, isAttribute) == null)
+      fatalError(locator, "The prefix of \"" + qName + "\" is not declared");
+
+    return parts;
+  }
+
+  private void startElement(final ContentHandler contentHandler, final LocatorImpl locator, final XmlElement element, final NamespaceSupport namespaceSupport, final AttributesImpl attributes, final String[] parts) throws SAXException {
+    namespaceSupport.pushContext();
+    attributes.clear();
+    final Map map = element.getAttributes();
+    final boolean hasAttributes = map != null && map.size() > 0;
+    if (hasAttributes) {
+      for (final Object obj : map.entrySet()) { // [S]
+        final Map.Entry entry = (Map.Entry)obj;
+        final String name = XmlNames.requireQName(entry.getKey().toString());
+        if (!namespaces || !name.startsWith("xmlns") || name.length() > 5 && name.charAt(5) != ':')
+          continue;
+
+        final String prefix = name.length() == 5 ? "" : name.substring(6);
+        final String uri = entry.getValue().toString();
+        namespaceSupport.declarePrefix(prefix, uri);
+        contentHandler.startPrefixMapping(prefix, uri);
+      }
+
+      for (final Object obj : map.entrySet()) { // [S]
+        final Map.Entry entry = (Map.Entry)obj;
+        final String name = entry.getKey().toString();
+        final String value = entry.getValue().toString();
+        if (!namespaces) {
+          attributes.addAttribute("", "", name, "CDATA", value);
+        }
+        else if (name.startsWith("xmlns") && (name.length() == 5 || name.charAt(5) == ':')) {
+          if (namespacePrefixes)
+            attributes.addAttribute("", "", name, "CDATA", value);
+        }
+        else {
+          processName(locator, namespaceSupport, name, true, parts);
+          attributes.addAttribute(parts[0], parts[1], name, "CDATA", value);
+        }
+      }
+    }
+
+    final String name = element.getName();
+    if (namespaces) {
+      processName(locator, namespaceSupport, name, false, parts);
+      contentHandler.startElement(parts[0], parts[1], name, attributes);
+    }
+    else {
+      contentHandler.startElement("", "", name, attributes);
+    }
+  }
+
+  private void endElement(final ContentHandler contentHandler, final LocatorImpl locator, final XmlElement element, final NamespaceSupport namespaceSupport, final String[] parts) throws SAXException {
+    final String name = element.getName();
+    if (namespaces) {
+      processName(locator, namespaceSupport, name, false, parts);
+      contentHandler.endElement(parts[0], parts[1], name);
+      for (final Enumeration<?> prefixes = namespaceSupport.getDeclaredPrefixes(); prefixes.hasMoreElements();) // [X]
+        contentHandler.endPrefixMapping((String)prefixes.nextElement());
+    }
+    else {
+      contentHandler.endElement("", "", name);
+    }
+
+    namespaceSupport.popContext();
+  }
+
+  /**
+   * Parses the specified content, which has markup, as it is parsed in the serialized form of the tree, and reports its events to
+   * the provided {@link ContentHandler}, and its comments and CDATA sections to the {@link LexicalHandler} of this reader, if set.
+   * The content is parsed in a wrapping element that declares the prefixes that are in scope, and whose own events are not
+   * reported.
+   *
+   * @param contentHandler The {@link ContentHandler}.
+   * @param namespaceSupport The {@link NamespaceSupport} with the prefixes that are in scope.
+   * @param content The content.
+   * @throws SAXException If the content is not well-formed, or if the {@link ContentHandler} throws a {@link SAXException}.
+   */
+  private void parseContent(final ContentHandler contentHandler, final NamespaceSupport namespaceSupport, final String content) throws SAXException {
+    final StringBuilder b = new StringBuilder("<x");
+    if (namespaces) {
+      for (final Enumeration<?> prefixes = namespaceSupport.getPrefixes(); prefixes.hasMoreElements();) { // [X]
+        final String prefix = (String)prefixes.nextElement();
+        if (!"xml".equals(prefix))
+          CharacterDatas.escapeForAttr(b.append(" xmlns:").append(prefix).append("=\""), namespaceSupport.getURI(prefix), '"').append('"');
+      }
+
+      final String uri = namespaceSupport.getURI("");
+      if (uri != null)
+        CharacterDatas.escapeForAttr(b.append(" xmlns=\""), uri, '"').append('"');
+    }
+
+    b.append('>').append(content).append("</x>");
+    try {
+      if (contentParserFactory == null)
+        contentParserFactory = SAXParserFactory.newInstance();
+
+      contentParserFactory.setNamespaceAware(namespaces);
+      final XMLReader reader = contentParserFactory.newSAXParser().getXMLReader();
+      if (namespaces)
+        reader.setFeature(NAMESPACE_PREFIXES, namespacePrefixes);
+
+      final ContentFilter filter = new ContentFilter(contentHandler, lexicalHandler);
+      reader.setContentHandler(filter);
+      if (lexicalHandler != null)
+        reader.setProperty(LEXICAL_HANDLER, filter);
+      if (errorHandler != null)
+        reader.setErrorHandler(errorHandler);
+
+      reader.parse(new InputSource(new StringReader(b.toString())));
+    }
+    catch (final IOException | ParserConfigurationException e) {
+      throw new SAXException(e);
+    }
+  }
+
+  /**
+   * Replays the specified {@link XmlElement} as a document of SAX events to the {@link ContentHandler} of this reader. If no
+   * {@link ContentHandler} is set, the events are discarded.
+   *
+   * @param element The {@link XmlElement}.
+   * @throws SAXException If a prefix is not declared, or if the {@link ContentHandler} throws a {@link SAXException}.
+   * @throws NullPointerException If {@code element} is null, or if a child element is null, or the name or value of an attribute
+   *           is null.
+   * @throws IllegalArgumentException If the name of an attribute is not a valid
+   *           <a href= "https://www.w3.org/TR/1999/REC-xml-names-19990114/#dt-qname">xs:qName</a>.
+   * @throws IllegalStateException If the graph of child elements has cycles.
+   */
+  public void parse(final XmlElement element) throws SAXException {
+    parse(element, null, null);
+  }
+
+  private void parse(final XmlElement element, final String publicId, final String systemId) throws SAXException {
+    final LocatorImpl locator = new LocatorImpl();
+    locator.setPublicId(publicId);
+    locator.setSystemId(systemId);
+    locator.setLineNumber(-1);
+    locator.setColumnNumber(-1);
+
+    final ContentHandler contentHandler = this.contentHandler != null ? this.contentHandler : discard;
+    final NamespaceSupport namespaceSupport = new NamespaceSupport();
+    final AttributesImpl attributes = new AttributesImpl();
+    final String[] parts = new String[3];
+    XmlElement[] path = new XmlElement[8];
+    Iterator[] iterators = new Iterator[path.length];
+    Set<XmlElement> ancestors = null;
+    char[] buf = new char[64];
+
+    contentHandler.setDocumentLocator(locator);
+    contentHandler.startDocument();
+    XmlElement next = element;
+    int depth = 0;
+    do {
+      startElement(contentHandler, locator, next, namespaceSupport, attributes, parts);
+      if (depth == path.length) {
+        path = Arrays.copyOf(path, depth * 2);
+        iterators = Arrays.copyOf(iterators, depth * 2);
+      }
+
+      final Collection elements = next.getElements();
+      path[depth] = next;
+      iterators[depth++] = elements == null ? null : elements.iterator();
+      if (ancestors != null)
+        ancestors.add(next);
+
+      next = null;
+      while (depth > 0) {
+        final Iterator iterator = iterators[depth - 1];
+        if (iterator != null && iterator.hasNext()) {
+          final Object child = iterator.next();
+          if (child instanceof XmlElement) {
+            next = (XmlElement)child;
+            ancestors = XmlElement.checkCycle(next, path, depth, ancestors);
+            break;
+          }
+
+          final String text = child.toString();
+          if (text.indexOf('<') != -1) {
+            parseContent(contentHandler, namespaceSupport, text);
+          }
+          else {
+            final int len = text.length();
+            if (len > buf.length)
+              buf = new char[Math.max(len, buf.length * 2)];
+
+            text.getChars(0, len, buf, 0);
+            contentHandler.characters(buf, 0, CharacterDatas.unescapeInPlace(buf, 0, len));
+          }
+        }
+        else {
+          final XmlElement end = path[--depth];
+          endElement(contentHandler, locator, end, namespaceSupport, parts);
+          path[depth] = null;
+          iterators[depth] = null;
+          if (ancestors != null)
+            ancestors.remove(end);
+        }
+      }
+    }
+    while (next != null);
+
+    contentHandler.endDocument();
+  }
+}
\ No newline at end of file
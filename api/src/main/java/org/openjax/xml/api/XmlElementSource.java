@@ -0,0 +1,56 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.api;
+
+import java.util.Objects;
+
+import javax.xml.transform.sax.SAXSource;
+
+import org.xml.sax.InputSource;
+
+/**
+ * A {@link SAXSource} that replays an {@link XmlElement} tree as SAX events with an {@link XmlElementReader}, so that the tree can be
+ * validated or transformed without being serialized and parsed again.
+ */
+public final class XmlElementSource extends SAXSource {
+  static final class Input extends InputSource {
+    final XmlElement element;
+
+    private Input(final XmlElement element) {
+      this.element = Objects.requireNonNull(element, "element is null");
+    }
+  }
+
+  /**
+   * Creates a new {@link XmlElementSource} for the specified {@link XmlElement}.
+   *
+   * @param element The {@link XmlElement}.
+   * @throws NullPointerException If {@code element} is null.
+   */
+  public XmlElementSource(final XmlElement element) {
+    super(new XmlElementReader(), new Input(element));
+  }
+
+  /**
+   * Returns the {@link XmlElement} of this source.
+   *
+   * @return The {@link XmlElement} of this source.
+   */
+  public XmlElement getElement() {
+    return ((Input)getInputSource()).element;
+  }
+}
\ No newline at end of file
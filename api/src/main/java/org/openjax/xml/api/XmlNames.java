@@ -0,0 +1,235 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.api;
+
+/**
+ * Utility functions for the validation of XML names, as per the
+ * <a href="https://www.w3.org/TR/xml/#NT-Name">Name</a> production of XML 1.0 (Fifth Edition) and XML 1.1, and the
+ * <a href="https://www.w3.org/TR/xml-names/#NT-NCName">NCName</a> and <a href="https://www.w3.org/TR/xml-names/#NT-QName">QName</a>
+ * productions of Namespaces in XML.
+ * <p>
+ * Characters in the Basic Multilingual Plane are classified with precomputed bit tables. Supplementary characters, which are all
+ * name characters in the range {@code [#x10000-#xEFFFF]}, are recognized from their surrogate pairs.
+ */
+public final class XmlNames {
+  private static final long[] nameStartChars = new long[1 << 10];
+  private static final long[] nameChars = new long[1 << 10];
+
+  private static void set(final long[] table, final int from, final int to) {
+    for (int ch = from; ch <= to; ++ch) // [N]
+      table[ch >>> 6] |= 1L << ch;
+  }
+
+  static {
+    final int[] nameStartRanges = {':', ':', 'A', 'Z', '_', '_', 'a', 'z', 0xC0, 0xD6, 0xD8, 0xF6, 0xF8, 0x2FF, 0x370, 0x37D, 0x37F, 0x1FFF, 0x200C, 0x200D, 0x2070, 0x218F, 0x2C00, 0x2FEF, 0x3001, 0xD7FF, 0xF900, 0xFDCF, 0xFDF0, 0xFFFD};
+    for (int i = 0; i < nameStartRanges.length; i += 2) { // [A]
+      set(nameStartChars, nameStartRanges[i], nameStartRanges[i + 1]);
+      set(nameChars, nameStartRanges[i], nameStartRanges[i + 1]);
+    }
+
+    final int[] nameRanges = {'-', '.', '0', '9', 0xB7, 0xB7, 0x300, 0x36F, 0x203F, 0x2040};
+    for (int i = 0; i < nameRanges.length; i += 2) // [A]
+      set(nameChars, nameRanges[i], nameRanges[i + 1]);
+  }
+
+  private static final String[] cache = new String[1 << 10];
+
+  /**
+   * Returns whether the specified code point is a <a href="https://www.w3.org/TR/xml/#NT-NameStartChar">NameStartChar</a>.
+   *
+   * @param codePoint The code point.
+   * @return Whether the specified code point is a <a href="https://www.w3.org/TR/xml/#NT-NameStartChar">NameStartChar</a>.
+   */
+  public static boolean isNameStartChar(final int codePoint) {
+    if (codePoint < 0x10000)
+      return codePoint >= 0 && (nameStartChars[codePoint >>> 6] & 1L << codePoint) != 0;
+
+    return codePoint <= 0xEFFFF;
+  }
+
+  /**
+   * Returns whether the specified code point is a <a href="https://www.w3.org/TR/xml/#NT-NameChar">NameChar</a>.
+   *
+   * @param codePoint The code point.
+   * @return Whether the specified code point is a <a href="https://www.w3.org/TR/xml/#NT-NameChar">NameChar</a>.
+   */
+  public static boolean isNameChar(final int codePoint) {
+    if (codePoint < 0x10000)
+      return codePoint >= 0 && (nameChars[codePoint >>> 6] & 1L << codePoint) != 0;
+
+    return codePoint <= 0xEFFFF;
+  }
+
+  /**
+   * Returns the index after the last char of the longest run of name chars in {@code str}, starting at {@code off} and ending
+   * before {@code end}, or {@code -1} if the run does not start with a name start char. A colon is accepted only if
+   * {@code colon} is {@code true}.
+   */
+  private static int scanName(final CharSequence str, final int off, final int end, final boolean colon) {
+    long[] table = nameStartChars;
+    int i = off;
+    while (i < end) {
+      final char ch = str.charAt(i);
+      if (ch == ':' && !colon)
+        break;
+
+      if (Character.isHighSurrogate(ch)) {
+        // High surrogates up to #xDB7F pair into the range [#x10000-#xEFFFF]
+        if (ch > '\uDB7F' || i + 1 == end || !Character.isLowSurrogate(str.charAt(i + 1)))
+          break;
+
+        i += 2;
+      }
+      else if ((table[ch >>> 6] & 1L << ch) != 0) {
+        ++i;
+      }
+      else {
+        break;
+      }
+
+      table = nameChars;
+    }
+
+    return i == off ? -1 : i;
+  }
+
+  private static void assertRange(final int off, final int len, final CharSequence str) {
+    if (off < 0)
+      throw new IndexOutOfBoundsException("off (" + off + ") must be non-negative");
+
+    if (len < 0)
+      throw new IndexOutOfBoundsException("len (" + len + ") must be non-negative");
+
+    if (off + len > str.length())
+      throw new IndexOutOfBoundsException("off (" + off + ") + len (" + len + ") > str.length() (" + str.length() + ")");
+  }
+
+  /**
+   * Returns whether the specified range of {@code str} is a <a href="https://www.w3.org/TR/xml/#NT-Name">Name</a>.
+   *
+   * @param str The {@link CharSequence}.
+   * @param off The offset of the range in {@code str}.
+   * @param len The length of the range.
+   * @return Whether the specified range of {@code str} is a <a href="https://www.w3.org/TR/xml/#NT-Name">Name</a>.
+   * @throws NullPointerException If {@code str} is null.
+   * @throws IndexOutOfBoundsException If {@code off} or {@code len} is negative, or {@code off + len > str.length()}.
+   */
+  public static boolean isName(final CharSequence str, final int off, final int len) {
+    assertRange(off, len, str);
+    return scanName(str, off, off + len, true) == off + len;
+  }
+
+  /**
+   * Returns whether the specified range of {@code str} is an <a href="https://www.w3.org/TR/xml-names/#NT-NCName">NCName</a>.
+   *
+   * @param str The {@link CharSequence}.
+   * @param off The offset of the range in {@code str}.
+   * @param len The length of the range.
+   * @return Whether the specified range of {@code str} is an <a href="https://www.w3.org/TR/xml-names/#NT-NCName">NCName</a>.
+   * @throws NullPointerException If {@code str} is null.
+   * @throws IndexOutOfBoundsException If {@code off} or {@code len} is negative, or {@code off + len > str.length()}.
+   */
+  public static boolean isNCName(final CharSequence str, final int off, final int len) {
+    assertRange(off, len, str);
+    return scanName(str, off, off + len, false) == off + len;
+  }
+
+  /**
+   * Returns whether the specified range of {@code str} is a <a href="https://www.w3.org/TR/xml-names/#NT-QName">QName</a>, i.e. an
+   * <a href="https://www.w3.org/TR/xml-names/#NT-NCName">NCName</a>, optionally prefixed by another
+   * <a href="https://www.w3.org/TR/xml-names/#NT-NCName">NCName</a> and a colon.
+   *
+   * @param str The {@link CharSequence}.
+   * @param off The offset of the range in {@code str}.
+   * @param len The length of the range.
+   * @return Whether the specified range of {@code str} is a <a href="https://www.w3.org/TR/xml-names/#NT-QName">QName</a>.
+   * @throws NullPointerException If {@code str} is null.
+   * @throws IndexOutOfBoundsException If {@code off} or {@code len} is negative, or {@code off + len > str.length()}.
+   */
+  public static boolean isQName(final CharSequence str, final int off, final int len) {
+    assertRange(off, len, str);
+    final int end = off + len;
+    int i = scanName(str, off, end, false);
+    if (i == end)
+      return true;
+
+    if (i == -1 || str.charAt(i) != ':')
+      return false;
+
+    return scanName(str, ++i, end, false) == end;
+  }
+
+  /**
+   * Returns whether {@code str} is a <a href="https://www.w3.org/TR/xml/#NT-Name">Name</a>.
+   *
+   * @param str The {@link CharSequence}.
+   * @return Whether {@code str} is a <a href="https://www.w3.org/TR/xml/#NT-Name">Name</a>.
+   * @throws NullPointerException If {@code str} is null.
+   */
+  public static boolean isName(final CharSequence str) {
+    return isName(str, 0, str.length());
+  }
+
+  /**
+   * Returns whether {@code str} is an <a href="https://www.w3.org/TR/xml-names/#NT-NCName">NCName</a>.
+   *
+   * @param str The {@link CharSequence}.
+   * @return Whether {@code str} is an <a href="https://www.w3.org/TR/xml-names/#NT-NCName">NCName</a>.
+   * @throws NullPointerException If {@code str} is null.
+   */
+  public static boolean isNCName(final CharSequence str) {
+    return isNCName(str, 0, str.length());
+  }
+
+  /**
+   * Returns whether {@code str} is a <a href="https://www.w3.org/TR/xml-names/#NT-QName">QName</a>.
+   *
+   * @param str The {@link CharSequence}.
+   * @return Whether {@code str} is a <a href="https://www.w3.org/TR/xml-names/#NT-QName">QName</a>.
+   * @throws NullPointerException If {@code str} is null.
+   */
+  public static boolean isQName(final CharSequence str) {
+    return isQName(str, 0, str.length());
+  }
+
+  /**
+   * Asserts that {@code name} is a valid <a href="https://www.w3.org/TR/xml-names/#NT-QName">QName</a>. Names that pass are held
+   * in a bounded cache, so that repeated validations of equal names reduce to a lookup.
+   *
+   * @param name The name.
+   * @return The specified name.
+   * @throws NullPointerException If {@code name} is null.
+   * @throws IllegalArgumentException If {@code name} is not a valid
+   *           <a href="https://www.w3.org/TR/xml-names/#NT-QName">QName</a>.
+   */
+  public static String requireQName(final String name) {
+    final int hashCode = name.hashCode();
+    final int index = (hashCode ^ hashCode >>> 16) & (cache.length - 1);
+    final String cached = cache[index];
+    if (cached != null && (cached == name || cached.equals(name)))
+      return name;
+
+    if (!isQName(name, 0, name.length()))
+      throw new IllegalArgumentException(name + " is not a valid xs:QName");
+
+    cache[index] = name;
+    return name;
+  }
+
+  private XmlNames() {
+  }
+}
\ No newline at end of file
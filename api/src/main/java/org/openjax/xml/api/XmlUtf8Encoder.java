@@ -0,0 +1,331 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.api;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Utility functions that escape XML character data and encode it to UTF-8 in a single pass, directly into a {@code byte[]} or a
+ * {@link ByteBuffer}, without the intermediate {@link StringBuilder}, {@link String} and {@link java.io.Writer} of
+ * {@link CharacterDatas}.
+ * <p>
+ * The escaped characters are the same as those of {@link CharacterDatas#escapeForElem(CharSequence)} and
+ * {@link CharacterDatas#escapeForAttr(CharSequence,char)}. Runs of ASCII characters that need no escaping are copied byte for char
+ * in a tight loop. Unpaired surrogates are encoded as {@code '?'}, as by {@link String#getBytes(java.nio.charset.Charset)}.
+ */
+public final class XmlUtf8Encoder {
+  private static final byte[] amp = {'&', 'a', 'm', 'p', ';'};
+  private static final byte[] lt = {'&', 'l', 't', ';'};
+  private static final byte[] gt = {'&', 'g', 't', ';'};
+  private static final byte[] apos = {'&', 'a', 'p', 'o', 's', ';'};
+  private static final byte[] quot = {'&', 'q', 'u', 'o', 't', ';'};
+
+  private static final class Name {
+    private final String name;
+    private final byte[] bytes;
+
+    private Name(final String name) {
+      this.name = name;
+      this.bytes = name.getBytes(StandardCharsets.UTF_8);
+    }
+  }
+
+  private static final Name[] names = new Name[1 << 10];
+
+  /** The number of chars encoded per chunk into the scratch array for buffers that are not backed by an accessible array. */
+  private static final int CHUNK_LENGTH = 1024;
+  private static final ThreadLocal<byte[]> scratch = ThreadLocal.withInitial(() -> new byte[CHUNK_LENGTH * 6]);
+
+  private static void assertQuote(final char quote) {
+    if (quote != '"' && quote != '\'')
+      throw new IllegalArgumentException("Illegal quote character: '" + quote + "'");
+  }
+
+  private static void assertOffset(final byte[] out, final int off) {
+    if (off < 0)
+      throw new IndexOutOfBoundsException("off (" + off + ") must be non-negative");
+
+    if (off > out.length)
+      throw new IndexOutOfBoundsException("off (" + off + ") > out.length (" + out.length + ")");
+  }
+
+  private static byte[] entityOf(final char ch, final char quote) {
+    if (ch == '&')
+      return amp;
+
+    if (ch == '<')
+      return lt;
+
+    if (ch == '>')
+      return gt;
+
+    if (ch == '\'')
+      return apos;
+
+    if (ch == '"')
+      return quot;
+
+    throw new IllegalArgumentException("Illegal quote character: '" + quote + "'");
+  }
+
+  /**
+   * Escapes and encodes the chars of {@code str} from index {@code start} to index {@code end} into {@code out} from index
+   * {@code pos}, without writing at or beyond index {@code limit}.
+   *
+   * @return The index after the last byte written, or {@code -1} if {@code out} has insufficient space between {@code pos} and
+   *         {@code limit}, in which case the bytes in that range are undefined.
+   */
+  private static int encode(final byte[] out, int pos, final int limit, final CharSequence str, final int start, final int end, final char quote) {
+    for (int i = start; i < end;) { // [N]
+      char ch = str.charAt(i);
+      if (ch < 0x80) {
+        if (!CharacterDatas.isEscaped(ch, quote)) {
+          final int max = i + Math.min(end - i, limit - pos);
+          if (i == max)
+            return -1;
+
+          do
+            out[pos++] = (byte)ch;
+          while (++i < max && (ch = str.charAt(i)) < 0x80 && !CharacterDatas.isEscaped(ch, quote));
+        }
+        else {
+          final byte[] entity = entityOf(ch, quote);
+          if (limit - pos < entity.length)
+            return -1;
+
+          System.arraycopy(entity, 0, out, pos, entity.length);
+          pos += entity.length;
+          ++i;
+        }
+      }
+      else if (ch < 0x800) {
+        if (limit - pos < 2)
+          return -1;
+
+        out[pos++] = (byte)(0xC0 | ch >> 6);
+        out[pos++] = (byte)(0x80 | ch & 0x3F);
+        ++i;
+      }
+      else if (!Character.isSurrogate(ch)) {
+        if (limit - pos < 3)
+          return -1;
+
+        out[pos++] = (byte)(0xE0 | ch >> 12);
+        out[pos++] = (byte)(0x80 | ch >> 6 & 0x3F);
+        out[pos++] = (byte)(0x80 | ch & 0x3F);
+        ++i;
+      }
+      else {
+        final char low;
+        if (Character.isHighSurrogate(ch) && i + 1 < end && Character.isLowSurrogate(low = str.charAt(i + 1))) {
+          if (limit - pos < 4)
+            return -1;
+
+          final int codePoint = Character.toCodePoint(ch, low);
+          out[pos++] = (byte)(0xF0 | codePoint >> 18);
+          out[pos++] = (byte)(0x80 | codePoint >> 12 & 0x3F);
+          out[pos++] = (byte)(0x80 | codePoint >> 6 & 0x3F);
+          out[pos++] = (byte)(0x80 | codePoint & 0x3F);
+          i += 2;
+        }
+        else {
+          if (pos == limit)
+            return -1;
+
+          out[pos++] = '?';
+          ++i;
+        }
+      }
+    }
+
+    return pos;
+  }
+
+  private static int encode(final byte[] out, final int off, final CharSequence str, final char quote) {
+    assertOffset(out, off);
+    final int pos = encode(out, off, out.length, str, 0, str.length(), quote);
+    if (pos < 0)
+      throw new IndexOutOfBoundsException("out.length (" + out.length + ") is insufficient for the encoding of str at off (" + off + ")");
+
+    return pos;
+  }
+
+  private static ByteBuffer encode(final ByteBuffer out, final CharSequence str, final char quote) {
+    if (out.hasArray()) {
+      final int base = out.arrayOffset();
+      final int pos = encode(out.array(), base + out.position(), base + out.limit(), str, 0, str.length(), quote);
+      if (pos < 0)
+        throw new BufferOverflowException();
+
+      out.position(pos - base);
+    }
+    else {
+      // Chunks of at most CHUNK_LENGTH chars, which never split a surrogate pair, always fit in the scratch array
+      final byte[] bytes = scratch.get();
+      final int position = out.position();
+      for (int i = 0, end = str.length(), to; i < end; i = to) { // [N]
+        to = Math.min(i + CHUNK_LENGTH, end);
+        if (to < end && Character.isHighSurrogate(str.charAt(to - 1)))
+          --to;
+
+        final int len = encode(bytes, 0, bytes.length, str, i, to, quote);
+        if (out.remaining() < len) {
+          out.position(position);
+          throw new BufferOverflowException();
+        }
+
+        out.put(bytes, 0, len);
+      }
+    }
+
+    return out;
+  }
+
+  /**
+   * Writes the XML-escaped and UTF-8 encoded {@code str} to be used in an XML element to the provided {@code byte[]}, starting at
+   * index {@code off}. The escaped characters are the same as for {@link CharacterDatas#escapeForElem(CharSequence)}.
+   *
+   * @param out The {@code byte[]} to which to write.
+   * @param off The index in {@code out} at which to start writing.
+   * @param str The string to escape and encode.
+   * @return The index in {@code out} after the last byte written.
+   * @throws IndexOutOfBoundsException If {@code off} is negative or greater than {@code out.length}, or if {@code out} has
+   *           insufficient space for the encoding of {@code str}, in which case the bytes of {@code out} from index {@code off} are
+   *           undefined.
+   * @throws NullPointerException If {@code out} or {@code str} is null.
+   */
+  public static int escapeForElem(final byte[] out, final int off, final CharSequence str) {
+    return encode(out, off, str, '\0');
+  }
+
+  /**
+   * Writes the XML-escaped and UTF-8 encoded {@code str} to be used in an XML attribute to the provided {@code byte[]}, starting at
+   * index {@code off}. The escaped characters are the same as for {@link CharacterDatas#escapeForAttr(CharSequence,char)}.
+   *
+   * @param out The {@code byte[]} to which to write.
+   * @param off The index in {@code out} at which to start writing.
+   * @param str The string to escape and encode.
+   * @param quote The quote character to be used to delimit the attribute's value in the XML document (either {@code '"'} or
+   *          {@code '\''}).
+   * @return The index in {@code out} after the last byte written.
+   * @throws IndexOutOfBoundsException If {@code off} is negative or greater than {@code out.length}, or if {@code out} has
+   *           insufficient space for the encoding of {@code str}, in which case the bytes of {@code out} from index {@code off} are
+   *           undefined.
+   * @throws NullPointerException If {@code out} or {@code str} is null.
+   * @throws IllegalArgumentException If {@code quote} is not {@code '"'} or {@code '\''}.
+   */
+  public static int escapeForAttr(final byte[] out, final int off, final CharSequence str, final char quote) {
+    assertQuote(quote);
+    return encode(out, off, str, quote);
+  }
+
+  /**
+   * Puts the XML-escaped and UTF-8 encoded {@code str} to be used in an XML element into the provided {@link ByteBuffer}, at its
+   * position. The escaped characters are the same as for {@link CharacterDatas#escapeForElem(CharSequence)}. Buffers backed by an
+   * accessible array are written in place.
+   *
+   * @param out The {@link ByteBuffer} into which to put the bytes.
+   * @param str The string to escape and encode.
+   * @return The provided {@link ByteBuffer}.
+   * @throws BufferOverflowException If {@code out} has insufficient remaining space for the encoding of {@code str}, in which case
+   *           the position of {@code out} is unchanged, but its remaining bytes are undefined.
+   * @throws java.nio.ReadOnlyBufferException If {@code out} is read-only.
+   * @throws NullPointerException If {@code out} or {@code str} is null.
+   */
+  public static ByteBuffer escapeForElem(final ByteBuffer out, final CharSequence str) {
+    return encode(out, str, '\0');
+  }
+
+  /**
+   * Puts the XML-escaped and UTF-8 encoded {@code str} to be used in an XML attribute into the provided {@link ByteBuffer}, at its
+   * position. The escaped characters are the same as for {@link CharacterDatas#escapeForAttr(CharSequence,char)}. Buffers backed
+   * by an accessible array are written in place.
+   *
+   * @param out The {@link ByteBuffer} into which to put the bytes.
+   * @param str The string to escape and encode.
+   * @param quote The quote character to be used to delimit the attribute's value in the XML document (either {@code '"'} or
+   *          {@code '\''}).
+   * @return The provided {@link ByteBuffer}.
+   * @throws BufferOverflowException If {@code out} has insufficient remaining space for the encoding of {@code str}, in which case
+   *           the position of {@code out} is unchanged, but its remaining bytes are undefined.
+   * @throws java.nio.ReadOnlyBufferException If {@code out} is read-only.
+   * @throws NullPointerException If {@code out} or {@code str} is null.
+   * @throws IllegalArgumentException If {@code quote} is not {@code '"'} or {@code '\''}.
+   */
+  public static ByteBuffer escapeForAttr(final ByteBuffer out, final CharSequence str, final char quote) {
+    assertQuote(quote);
+    return encode(out, str, quote);
+  }
+
+  /**
+   * Returns the UTF-8 encoding of the specified name, from a bounded cache of recently encoded names, so that repeated encodings
+   * of the same element or attribute name reduce to a lookup.
+   */
+  private static byte[] bytesOf(final String name) {
+    final int hashCode = name.hashCode();
+    final int index = (hashCode ^ hashCode >>> 16) & (names.length - 1);
+    final Name cached = names[index];
+    if (cached != null && (cached.name == name || cached.name.equals(name)))
+      return cached.bytes;
+
+    // A benign race: the cached entry is immutable, and concurrent encodings of the same name are equal
+    final Name encoded = new Name(name);
+    names[index] = encoded;
+    return encoded.bytes;
+  }
+
+  /**
+   * Writes the UTF-8 encoded {@code name} of an element or attribute to the provided {@code byte[]}, starting at index
+   * {@code off}. The encodings of recently written names are cached, so that repeated tags are copied from their pre-encoded
+   * bytes. The name is not escaped, nor is it validated (see {@link XmlNames#isQName(CharSequence)}).
+   *
+   * @param out The {@code byte[]} to which to write.
+   * @param off The index in {@code out} at which to start writing.
+   * @param name The name to encode.
+   * @return The index in {@code out} after the last byte written.
+   * @throws IndexOutOfBoundsException If {@code off} is negative, or if {@code out} has insufficient space for the encoding of
+   *           {@code name}.
+   * @throws NullPointerException If {@code out} or {@code name} is null.
+   */
+  public static int encodeName(final byte[] out, final int off, final String name) {
+    assertOffset(out, off);
+    final byte[] bytes = bytesOf(name);
+    System.arraycopy(bytes, 0, out, off, bytes.length);
+    return off + bytes.length;
+  }
+
+  /**
+   * Puts the UTF-8 encoded {@code name} of an element or attribute into the provided {@link ByteBuffer}, at its position. The
+   * encodings of recently written names are cached, so that repeated tags are copied from their pre-encoded bytes. The name is not
+   * escaped, nor is it validated (see {@link XmlNames#isQName(CharSequence)}).
+   *
+   * @param out The {@link ByteBuffer} into which to put the bytes.
+   * @param name The name to encode.
+   * @return The provided {@link ByteBuffer}.
+   * @throws BufferOverflowException If {@code out} has insufficient remaining space for the encoding of {@code name}.
+   * @throws java.nio.ReadOnlyBufferException If {@code out} is read-only.
+   * @throws NullPointerException If {@code out} or {@code name} is null.
+   */
+  public static ByteBuffer encodeName(final ByteBuffer out, final String name) {
+    return out.put(bytesOf(name));
+  }
+
+  private XmlUtf8Encoder() {
+  }
+}
\ No newline at end of file
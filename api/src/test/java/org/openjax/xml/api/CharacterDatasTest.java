@@ -18,6 +18,10 @@ package org.openjax.xml.api;
 
 import static org.junit.Assert.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.CharBuffer;
+
 import org.junit.Test;
 
 public class CharacterDatasTest {
@@ -61,4 +65,67 @@ public class CharacterDatasTest {
     testUnescapeAttr("\"foo < &apos; > & bar\"", "&quot;foo &lt; &apos; &gt; &amp; bar&quot;", '"');
     testUnescapeAttr("&quot;foo < ' > & bar&quot;", "&quot;foo &lt; &apos; &gt; &amp; bar&quot;", '\'');
   }
+
+  @Test
+  public void testUnescapePartial() {
+    testUnescapeElem(0, "a&qtpt<b&amp", "a&qtpt&lt;b&amp");
+    testUnescapeElem(1, "&&&lt&", "&&amp;&lt&");
+    testUnescapeAttr("&apos&quo\"", "&apos&quo&quot;", '"');
+  }
+
+  @Test
+  public void testAppendable() throws IOException {
+    for (int i = 0, i$ = escaped.length; i < i$; ++i) { // [A]
+      assertEquals(escaped[i], CharacterDatas.escapeForElem(new StringWriter(), unescaped[i]).toString());
+      assertEquals(unescaped[i], CharacterDatas.unescapeFromElem(new StringWriter(), escaped[i]).toString());
+
+      final CharBuffer buffer = CharBuffer.allocate(64);
+      CharacterDatas.unescapeFromElem(buffer, escaped[i]).append('|');
+      CharacterDatas.escapeForElem(buffer, new StringBuilder(unescaped[i]));
+      buffer.flip();
+      assertEquals(unescaped[i] + "|" + escaped[i], buffer.toString());
+    }
+
+    assertEquals("\"foo < &apos; > & bar\"", CharacterDatas.unescapeFromAttr(new StringWriter(), "&quot;foo &lt; &apos; &gt; &amp; bar&quot;", '"').toString());
+    assertEquals("&quot;foo < ' > & bar&quot;", CharacterDatas.unescapeFromAttr(new StringBuilder(), "&quot;foo &lt; &apos; &gt; &amp; bar&quot;", '\'').toString());
+  }
+
+  @Test
+  public void testIfNeeded() {
+    final String str = "foo \"bar\" ' &amp";
+    assertSame(str, CharacterDatas.unescapeFromElemIfNeeded(str));
+    assertSame(str, CharacterDatas.unescapeFromAttrIfNeeded(str, '"'));
+    assertEquals("foo \"bar\" ' &", CharacterDatas.unescapeFromAttrIfNeeded(str + ";", '"').toString());
+
+    final String elem = "foo \"bar\" '";
+    assertSame(elem, CharacterDatas.escapeForElemIfNeeded(elem));
+
+    final String attr = "foo bar '";
+    assertSame(attr, CharacterDatas.escapeForAttrIfNeeded(attr, '"'));
+    assertEquals("foo &quot;bar&quot; '", CharacterDatas.escapeForAttrIfNeeded(elem, '"').toString());
+    assertEquals("foo \"bar\" &apos;", CharacterDatas.escapeForAttrIfNeeded(elem, '\'').toString());
+  }
+
+  private static String unescapeInPlace(final String str) {
+    final char[] chars = ("|" + str + "|").toCharArray();
+    final int len = CharacterDatas.unescapeInPlace(chars, 1, str.length());
+    assertEquals('|', chars[0]);
+    return new String(chars, 1, len);
+  }
+
+  @Test
+  public void testUnescapeInPlace() {
+    assertEquals("foo bar", unescapeInPlace("foo bar"));
+    assertEquals("<>&'\"", unescapeInPlace("&lt;&gt;&amp;&apos;&quot;"));
+    assertEquals("AB\u00e9\ud83d\ude00", unescapeInPlace("&#65;&#x42;&#xe9;&#128512;"));
+    assertEquals("&qtpt; &#xZ; &#; &amp &", unescapeInPlace("&qtpt; &#xZ; &#; &amp &"));
+    assertEquals("&#x; &#x110000; &#00000000065; \ud83d\ude00", unescapeInPlace("&#x; &#x110000; &#00000000065; &#x1F600;"));
+    assertEquals("&#65;&#65;", CharacterDatas.unescapeFromElem("&#65;&amp;#65;").toString());
+    try {
+      CharacterDatas.unescapeInPlace(new char[2], 1, 2);
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+  }
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.api;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class ImmutableXmlElementTest {
+  private static XmlElement newTree() {
+    final Map<String,Object> attributes = new LinkedHashMap<>();
+    attributes.put("x", "1");
+    attributes.put("y", "2");
+    final XmlElement c = new XmlElement("c", Collections.singletonMap("q", "&"));
+    final XmlElement b = new XmlElement("b:b", attributes, new ArrayList<>(Arrays.asList("text", c)));
+    return new XmlElement("a", new ArrayList<>(Collections.singletonList(b)));
+  }
+
+  @Test
+  public void testValueOf() {
+    final XmlElement mutable = newTree();
+    final ImmutableXmlElement element = ImmutableXmlElement.valueOf(mutable);
+    assertSame(element, ImmutableXmlElement.valueOf(element));
+    assertSame(element, element.clone());
+    assertEquals(mutable, element);
+    assertEquals(element, mutable);
+    assertEquals(mutable.hashCode(), element.hashCode());
+    assertEquals(mutable.toString(), element.toString());
+    assertEquals(mutable.toString(2), element.toString(2));
+
+    final ImmutableXmlElement b = (ImmutableXmlElement)element.getElements().get(0);
+    assertEquals("2", ImmutableXmlElement.valueOf(new XmlElement("e", Collections.singletonMap("n", 2))).getAttributes().get("n"));
+    assertTrue(b.getElements().get(1) instanceof ImmutableXmlElement);
+
+    try {
+      element.setAttributes(null);
+      fail("Expected UnsupportedOperationException");
+    }
+    catch (final UnsupportedOperationException e) {
+    }
+
+    try {
+      element.setElements(null);
+      fail("Expected UnsupportedOperationException");
+    }
+    catch (final UnsupportedOperationException e) {
+    }
+
+    try {
+      element.getElements().add("x");
+      fail("Expected UnsupportedOperationException");
+    }
+    catch (final UnsupportedOperationException e) {
+    }
+
+    try {
+      b.getAttributes().put("z", "3");
+      fail("Expected UnsupportedOperationException");
+    }
+    catch (final UnsupportedOperationException e) {
+    }
+
+    try {
+      new ImmutableXmlElement("1a");
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testWith() {
+    final ImmutableXmlElement a = ImmutableXmlElement.valueOf(newTree());
+    final ImmutableXmlElement b = (ImmutableXmlElement)a.getElements().get(0);
+
+    final ImmutableXmlElement b2 = b.withAttribute("x", "one");
+    assertEquals("<b:b x=\"1\" y=\"2\">text<c q=\"&amp;\"/></b:b>", b.toString());
+    assertEquals("<b:b x=\"one\" y=\"2\">text<c q=\"&amp;\"/></b:b>", b2.toString());
+    assertSame(b.getElements(), b2.getElements());
+    assertSame(b, b.withAttribute("x", "1"));
+    assertNotEquals(b, b2);
+
+    final ImmutableXmlElement b3 = b2.withAttribute("z", "3").withoutAttribute("y");
+    assertEquals("<b:b x=\"one\" z=\"3\">text<c q=\"&amp;\"/></b:b>", b3.toString());
+    assertSame(b3, b3.withoutAttribute("y"));
+
+    final ImmutableXmlElement a2 = a.withElement(0, b3);
+    assertEquals("<a><b:b x=\"1\" y=\"2\">text<c q=\"&amp;\"/></b:b></a>", a.toString());
+    assertEquals("<a><b:b x=\"one\" z=\"3\">text<c q=\"&amp;\"/></b:b></a>", a2.toString());
+    assertSame(b.getElements().get(1), ((ImmutableXmlElement)a2.getElements().get(0)).getElements().get(1));
+
+    final ImmutableXmlElement a3 = a2.withElementAdded(new XmlElement("d")).withAttributes(Collections.singletonMap("e", "f"));
+    assertEquals("<a e=\"f\"><b:b x=\"one\" z=\"3\">text<c q=\"&amp;\"/></b:b><d/></a>", a3.toString());
+    assertEquals(ImmutableXmlElement.valueOf(a3.clone()), a3);
+    assertEquals("<d/>", new ImmutableXmlElement("d").toString());
+    assertEquals("<d>x</d>", new ImmutableXmlElement("d").withElementAdded("x").toString());
+
+    try {
+      a.withElement(1, "x");
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+  }
+}
\ No newline at end of file
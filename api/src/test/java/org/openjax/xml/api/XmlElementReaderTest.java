@@ -0,0 +1,231 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.api;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamResult;
+
+import org.junit.Test;
+import org.xml.sax.Attributes;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXNotRecognizedException;
+import org.xml.sax.SAXNotSupportedException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.ext.DefaultHandler2;
+import org.xml.sax.helpers.DefaultHandler;
+
+public class XmlElementReaderTest {
+  private static XmlElement newTree() {
+    final Map<String,String> attributes = new LinkedHashMap<>();
+    attributes.put("xmlns", "urn:a");
+    attributes.put("xmlns:b", "urn:b");
+    attributes.put("b:x", "1 < 2");
+    attributes.put("y", "2");
+    final XmlElement c = new XmlElement("b:c", Collections.singletonList("c &amp; d"));
+    final XmlElement e = new XmlElement("e", Collections.singletonList("<b:f>g</b:f>"));
+    return new XmlElement("a", attributes, Arrays.asList("text", c, e));
+  }
+
+  @Test
+  public void testEvents() throws SAXException {
+    final List<String> events = new ArrayList<>();
+    final XmlElementReader reader = new XmlElementReader();
+    reader.setContentHandler(new DefaultHandler() {
+      @Override
+      public void startDocument() {
+        events.add("startDocument");
+      }
+
+      @Override
+      public void endDocument() {
+        events.add("endDocument");
+      }
+
+      @Override
+      public void startPrefixMapping(final String prefix, final String uri) {
+        events.add("startPrefixMapping " + prefix + "=" + uri);
+      }
+
+      @Override
+      public void endPrefixMapping(final String prefix) {
+        events.add("endPrefixMapping " + prefix);
+      }
+
+      @Override
+      public void startElement(final String uri, final String localName, final String qName, final Attributes attributes) {
+        final StringBuilder b = new StringBuilder("startElement {").append(uri).append('}').append(localName);
+        for (int i = 0; i < attributes.getLength(); ++i) // [N]
+          b.append(" {").append(attributes.getURI(i)).append('}').append(attributes.getLocalName(i)).append('=').append(attributes.getValue(i));
+
+        events.add(b.toString());
+      }
+
+      @Override
+      public void endElement(final String uri, final String localName, final String qName) {
+        events.add("endElement {" + uri + "}" + localName);
+      }
+
+      @Override
+      public void characters(final char[] ch, final int start, final int length) {
+        events.add("characters " + new String(ch, start, length));
+      }
+    });
+
+    reader.parse(newTree());
+    final List<String> expected = Arrays.asList("startDocument", "startPrefixMapping =urn:a", "startPrefixMapping b=urn:b", "startElement {urn:a}a {urn:b}x=1 < 2 {}y=2", "characters text", "startElement {urn:b}c", "characters c & d", "endElement {urn:b}c", "startElement {urn:a}e", "startElement {urn:b}f", "characters g", "endElement {urn:b}f", "endElement {urn:a}e", "endElement {urn:a}a", "endPrefixMapping b", "endPrefixMapping ", "endDocument");
+    assertEquals(expected.size(), events.size());
+    assertTrue(events.containsAll(expected));
+    assertEquals(expected.subList(3, 14), events.subList(3, 14));
+
+    try {
+      reader.parse(new XmlElement("p:a"));
+      fail("Expected SAXException");
+    }
+    catch (final SAXException e) {
+    }
+  }
+
+  @Test
+  public void testNoContentHandler() throws SAXException {
+    new XmlElementReader().parse(newTree());
+  }
+
+  @Test
+  public void testLocator() throws IOException, SAXException {
+    final String[] systemId = new String[1];
+    final XmlElementSource source = new XmlElementSource(newTree());
+    source.setSystemId("http://www.example.com/a.xml");
+    final XMLReader reader = source.getXMLReader();
+    reader.setContentHandler(new DefaultHandler() {
+      @Override
+      public void setDocumentLocator(final Locator locator) {
+        systemId[0] = locator.getSystemId();
+      }
+    });
+
+    reader.parse(source.getInputSource());
+    assertEquals("http://www.example.com/a.xml", systemId[0]);
+  }
+
+  @Test
+  public void testCycle() throws SAXException {
+    final List<Object> elements = new ArrayList<>();
+    final XmlElement a = new XmlElement("a", elements);
+    elements.add(new XmlElement("b", Collections.singletonList(a)));
+    final XmlElementReader reader = new XmlElementReader();
+    try {
+      reader.parse(a);
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+    }
+
+    XmlElement parent = a;
+    for (int i = 0; i < 100; ++i) { // [N]
+      final XmlElement child = new XmlElement("c");
+      parent.setElements(Collections.singletonList(child));
+      parent = child;
+    }
+
+    reader.parse(a);
+    parent.setElements(Collections.singletonList(a));
+    try {
+      reader.parse(a);
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+    }
+  }
+
+  @Test
+  public void testLexicalHandler() throws SAXException {
+    final List<String> events = new ArrayList<>();
+    final XmlElementReader reader = new XmlElementReader();
+    final DefaultHandler2 handler = new DefaultHandler2() {
+      @Override
+      public void characters(final char[] ch, final int start, final int length) {
+        events.add("characters " + new String(ch, start, length));
+      }
+
+      @Override
+      public void startCDATA() {
+        events.add("startCDATA");
+      }
+
+      @Override
+      public void endCDATA() {
+        events.add("endCDATA");
+      }
+
+      @Override
+      public void comment(final char[] ch, final int start, final int length) {
+        events.add("comment " + new String(ch, start, length));
+      }
+    };
+
+    assertNull(reader.getProperty("http://xml.org/sax/properties/lexical-handler"));
+    reader.setContentHandler(handler);
+    reader.setProperty("http://xml.org/sax/properties/lexical-handler", handler);
+    assertSame(handler, reader.getProperty("http://xml.org/sax/properties/lexical-handler"));
+
+    reader.parse(new XmlElement("a", Collections.singletonList("b<!--c--><![CDATA[<d>]]>")));
+    assertEquals(Arrays.asList("characters b", "comment c", "startCDATA", "characters <d>", "endCDATA"), events);
+
+    try {
+      reader.setProperty("http://xml.org/sax/properties/lexical-handler", "e");
+      fail("Expected SAXNotSupportedException");
+    }
+    catch (final SAXNotSupportedException e) {
+    }
+
+    try {
+      reader.getProperty("http://xml.org/sax/properties/declaration-handler");
+      fail("Expected SAXNotRecognizedException");
+    }
+    catch (final SAXNotRecognizedException e) {
+    }
+  }
+
+  @Test
+  public void testTransform() throws Exception {
+    final Transformer transformer = TransformerFactory.newInstance().newTransformer();
+    transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+    final StringWriter writer = new StringWriter();
+    final XmlElementSource source = new XmlElementSource(newTree());
+    transformer.transform(source, new StreamResult(writer));
+    final String xml = writer.toString();
+    assertTrue(xml, xml.startsWith("<a "));
+    assertTrue(xml, xml.endsWith(">text<b:c>c &amp; d</b:c><e><b:f>g</b:f></e></a>"));
+    for (final String attribute : new String[] {" xmlns=\"urn:a\"", " xmlns:b=\"urn:b\"", " b:x=\"1 &lt; 2\"", " y=\"2\""}) // [A]
+      assertTrue(xml, xml.contains(attribute));
+    assertNotNull(source.getElement());
+  }
+}
\ No newline at end of file
@@ -18,7 +18,12 @@ package org.openjax.xml.api;
 
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -127,4 +132,86 @@ public class XmlElementTest {
     assertEquals("<a><b:b x=\"y\">before<c:c s=\"t\"/>after</b:b></a>", a.toString());
     assertEquals("<a>\n  <b:b x=\"y\">\n    before\n    <c:c s=\"t\"/>\n    after\n  </b:b>\n</a>", a.toString(2));
   }
+
+  @Test
+  public void testWriteTo() throws IOException {
+    final XmlElement c = new XmlElement("c", Collections.singletonMap("q", "\"<&>'"));
+    final XmlElement b = new XmlElement("b", new ArrayList<>(Arrays.asList("x\ny", c)));
+    final XmlElement a = new XmlElement("a", Collections.singletonList(b));
+    assertEquals("<a><b>x\ny<c q=\"&quot;&lt;&amp;&gt;'\"/></b></a>", a.toString());
+    assertEquals("<a>\n  <b>\n    x\n    y\n    <c q=\"&quot;&lt;&amp;&gt;'\"/>\n  </b>\n</a>", a.toString(2));
+
+    final StringWriter writer = new StringWriter();
+    a.writeTo(writer, 1);
+    assertEquals(a.toString(1), writer.toString());
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new XmlElement("a", Collections.singletonList("\u00e9\u20ac")).writeTo(out, 0);
+    assertEquals("<a>\u00e9\u20ac</a>", new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+    try {
+      a.writeTo(new StringBuilder(), -1);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testWriteToDeep() throws IOException {
+    final int depth = 100000;
+    final XmlElement root = new XmlElement("e");
+    XmlElement parent = root;
+    for (int i = 1; i < depth; ++i) { // [N]
+      final XmlElement child = new XmlElement("e");
+      parent.setElements(Collections.singletonList(child));
+      parent = child;
+    }
+
+    final StringBuilder b = new StringBuilder();
+    root.writeTo(b, 0);
+    assertEquals((depth - 1) * "<e></e>".length() + "<e/>".length(), b.length());
+    assertTrue(b.toString().startsWith("<e><e><e>"));
+    assertTrue(b.toString().contains("<e><e/></e></e>"));
+    assertTrue(b.toString().endsWith("</e></e></e>"));
+
+    final XmlElement leaf = new XmlElement("e");
+    parent = root;
+    for (int i = 0; i < 998; ++i) // [N]
+      parent = (XmlElement)parent.getElements().iterator().next();
+
+    parent.setElements(Collections.singletonList(leaf));
+    b.setLength(0);
+    root.writeTo(b, 2);
+    assertTrue(b.toString().contains("<e/>\n" + String.join("", Collections.nCopies(998 * 2, " ")) + "</e>\n"));
+    assertTrue(b.toString().endsWith("\n  </e>\n</e>"));
+  }
+
+  @Test
+  public void testCycle() {
+    final List elements = new ArrayList();
+    final XmlElement a = new XmlElement("a", elements);
+    elements.add(new XmlElement("b", Collections.singletonList(a)));
+    try {
+      a.toString();
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+    }
+
+    XmlElement parent = a;
+    for (int i = 0; i < 100; ++i) { // [N]
+      final XmlElement child = new XmlElement("c");
+      parent.setElements(Collections.singletonList(child));
+      parent = child;
+    }
+
+    parent.setElements(Collections.singletonList(a));
+    try {
+      a.toString(2);
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+    }
+  }
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.api;
+
+import static org.junit.Assert.*;
+
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+public class XmlNamesTest {
+  private static final Pattern nameStartChar = Pattern.compile("[:A-Z_a-z\\u00C0-\\u00D6\\u00D8-\\u00F6\\u00F8-\\u02FF\\u0370-\\u037D\\u037F-\\u1FFF\\u200C-\\u200D\\u2070-\\u218F\\u2C00-\\u2FEF\\u3001-\\uD7FF\\uF900-\\uFDCF\\uFDF0-\\uFFFD\\x{10000}-\\x{EFFFF}]");
+  private static final Pattern nameChar = Pattern.compile("[-.0-9\\u00B7\\u0300-\\u036F\\u203F-\\u2040:A-Z_a-z\\u00C0-\\u00D6\\u00D8-\\u00F6\\u00F8-\\u02FF\\u0370-\\u037D\\u037F-\\u1FFF\\u200C-\\u200D\\u2070-\\u218F\\u2C00-\\u2FEF\\u3001-\\uD7FF\\uF900-\\uFDCF\\uFDF0-\\uFFFD\\x{10000}-\\x{EFFFF}]");
+
+  @Test
+  public void testChars() {
+    for (int codePoint = 0; codePoint <= 0x10FFFF; ++codePoint) { // [N]
+      if (0xD800 <= codePoint && codePoint <= 0xDFFF)
+        continue;
+
+      final String string = new String(Character.toChars(codePoint));
+      assertEquals(Integer.toHexString(codePoint), nameStartChar.matcher(string).matches(), XmlNames.isNameStartChar(codePoint));
+      assertEquals(Integer.toHexString(codePoint), nameChar.matcher(string).matches(), XmlNames.isNameChar(codePoint));
+    }
+
+    assertFalse(XmlNames.isNameChar(-1));
+    assertFalse(XmlNames.isNameStartChar(0x110000));
+  }
+
+  @Test
+  public void testNames() {
+    final String[] qNames = {"a", "_", "a1", "a-b.c", "p:a", "\u00e9t\u00e9", "\u4e2d\u6587", "\ud800\udc00x", "x\udb7f\udfff"};
+    for (final String qName : qNames) { // [A]
+      assertTrue(qName, XmlNames.isQName(qName));
+      assertTrue(qName, XmlNames.isName(qName));
+      assertSame(qName, XmlNames.requireQName(qName));
+      assertSame(qName, XmlNames.requireQName(qName));
+    }
+
+    final String[] notQNames = {"", "1a", "-a", ".a", "a b", ":a", "a:", "a:b:c", "p:1a", "a\u00d7", "\udb80\udc00", "a\ud800", "a\udc00"};
+    for (final String notQName : notQNames) { // [A]
+      assertFalse(notQName, XmlNames.isQName(notQName));
+      try {
+        XmlNames.requireQName(notQName);
+        fail("Expected IllegalArgumentException: " + notQName);
+      }
+      catch (final IllegalArgumentException e) {
+      }
+    }
+
+    assertTrue(XmlNames.isName(":a"));
+    assertTrue(XmlNames.isName("a:b:c"));
+    assertFalse(XmlNames.isNCName("p:a"));
+    assertTrue(XmlNames.isNCName("a-b"));
+
+    assertTrue(XmlNames.isQName("<p:a/>", 1, 3));
+    assertFalse(XmlNames.isQName("<p:a/>", 1, 4));
+    try {
+      XmlNames.isQName("a", 1, 1);
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,171 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.api;
+
+import static org.junit.Assert.*;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class XmlUtf8EncoderTest {
+  private static final String alphabet = "&<>'\"abc \u00E9\u00FF\u0800\u20AC\uFFFF\uD83D\uDE00\uD800\uDC00";
+
+  private static byte[] expected(final String str, final char quote) {
+    final String escaped = quote == '\0' ? CharacterDatas.escapeForElem(str).toString() : CharacterDatas.escapeForAttr(str, quote).toString();
+    return escaped.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static void assertEncode(final String str, final char quote) {
+    final byte[] expected = expected(str, quote);
+    final byte[] bytes = new byte[expected.length + 2];
+    final int end = quote == '\0' ? XmlUtf8Encoder.escapeForElem(bytes, 1, str) : XmlUtf8Encoder.escapeForAttr(bytes, 1, str, quote);
+    assertEquals(str, expected.length + 1, end);
+    assertArrayEquals(str, expected, Arrays.copyOfRange(bytes, 1, end));
+
+    final ByteBuffer heap = ByteBuffer.allocate(expected.length + 2);
+    heap.position(1);
+    final ByteBuffer slice = heap.slice();
+    if (quote == '\0')
+      XmlUtf8Encoder.escapeForElem(slice, str);
+    else
+      XmlUtf8Encoder.escapeForAttr(slice, str, quote);
+
+    assertEquals(str, expected.length, slice.position());
+    assertArrayEquals(str, expected, Arrays.copyOfRange(heap.array(), 1, 1 + expected.length));
+
+    final ByteBuffer direct = ByteBuffer.allocateDirect(expected.length);
+    if (quote == '\0')
+      XmlUtf8Encoder.escapeForElem(direct, str);
+    else
+      XmlUtf8Encoder.escapeForAttr(direct, str, quote);
+
+    assertFalse(direct.hasRemaining());
+    direct.flip();
+    final byte[] actual = new byte[expected.length];
+    direct.get(actual);
+    assertArrayEquals(str, expected, actual);
+  }
+
+  @Test
+  public void testEscape() {
+    assertEncode("", '\0');
+    assertEncode("foo & bar", '\0');
+    assertEncode("\"foo < ' > & bar\"", '"');
+    assertEncode("\"foo < ' > & bar\"", '\'');
+    assertEncode("caf\u00E9 \u20AC \uD83D\uDE00", '\0');
+    assertEncode("lone \ud800 and \udc00", '"');
+
+    final Random random = new Random(1);
+    final char[] quotes = {'\0', '"', '\''};
+    for (int i = 0; i < 2000; ++i) { // [N]
+      final char[] chars = new char[random.nextInt(32)];
+      for (int j = 0; j < chars.length; ++j) // [A]
+        chars[j] = alphabet.charAt(random.nextInt(alphabet.length()));
+
+      assertEncode(new String(chars), quotes[i % quotes.length]);
+    }
+
+    // Longer than a chunk of a direct buffer, with a surrogate pair across the chunk boundary
+    final StringBuilder b = new StringBuilder();
+    for (int i = 0; i < 1023; ++i) // [N]
+      b.append(i % 10 == 0 ? '&' : 'a');
+
+    b.append("\uD83D\uDE00");
+    for (int i = 0; i < 3000; ++i) // [N]
+      b.append(alphabet.charAt(random.nextInt(alphabet.length())));
+
+    assertEncode(b.toString(), '\0');
+  }
+
+  @Test
+  public void testOverflow() {
+    final String str = "a&b\u20AC";
+    final int length = expected(str, '\0').length;
+    for (int i = 0; i < length; ++i) { // [N]
+      try {
+        XmlUtf8Encoder.escapeForElem(new byte[i], 0, str);
+        fail("Expected IndexOutOfBoundsException");
+      }
+      catch (final IndexOutOfBoundsException e) {
+      }
+
+      final ByteBuffer buffer = ByteBuffer.allocate(i);
+      try {
+        XmlUtf8Encoder.escapeForElem(buffer, str);
+        fail("Expected BufferOverflowException");
+      }
+      catch (final BufferOverflowException e) {
+        assertEquals(0, buffer.position());
+      }
+
+      final ByteBuffer direct = ByteBuffer.allocateDirect(i);
+      try {
+        XmlUtf8Encoder.escapeForElem(direct, str);
+        fail("Expected BufferOverflowException");
+      }
+      catch (final BufferOverflowException e) {
+        assertEquals(0, direct.position());
+      }
+    }
+
+    final char[] chars = new char[3000];
+    Arrays.fill(chars, 'a');
+    final ByteBuffer direct = ByteBuffer.allocateDirect(chars.length - 1);
+    try {
+      XmlUtf8Encoder.escapeForElem(direct, new String(chars));
+      fail("Expected BufferOverflowException");
+    }
+    catch (final BufferOverflowException e) {
+      assertEquals(0, direct.position());
+    }
+
+    assertEquals(length, XmlUtf8Encoder.escapeForElem(new byte[length], 0, str));
+
+    try {
+      XmlUtf8Encoder.escapeForElem(new byte[4], 5, "");
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+
+    try {
+      XmlUtf8Encoder.escapeForAttr(new byte[4], 0, "", 'x');
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testEncodeName() {
+    final String name = "ns:caf\u00E9";
+    final byte[] expected = name.getBytes(StandardCharsets.UTF_8);
+    final byte[] bytes = new byte[expected.length * 2];
+    int end = XmlUtf8Encoder.encodeName(bytes, 0, name);
+    end = XmlUtf8Encoder.encodeName(bytes, end, new String(name));
+    assertEquals(bytes.length, end);
+    assertArrayEquals(expected, Arrays.copyOfRange(bytes, expected.length, end));
+
+    final ByteBuffer buffer = XmlUtf8Encoder.encodeName(ByteBuffer.allocate(expected.length), name);
+    assertArrayEquals(expected, buffer.array());
+  }
+}
\ No newline at end of file
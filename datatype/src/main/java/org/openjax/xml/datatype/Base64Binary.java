@@ -16,6 +16,7 @@
 
 package org.openjax.xml.datatype;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Base64;
@@ -33,6 +34,8 @@ public class Base64Binary implements Serializable {
     return encoded == null ? null : new Base64Binary(Base64.getDecoder().decode(encoded));
   }
 
+  static final char[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+
   private final byte[] bytes;
   private String encoded;
 
@@ -66,6 +69,67 @@ public class Base64Binary implements Serializable {
     return 31 + Arrays.hashCode(bytes);
   }
 
+  /**
+   * Returns the number of chars in the Base64 string representation of this object's {@code byte[]} data.
+   *
+   * @return The number of chars in the Base64 string representation of this object's {@code byte[]} data.
+   */
+  public int printLength() {
+    return (bytes.length + 2) / 3 * 4;
+  }
+
+  /**
+   * Prints the Base64 string representation of this object's {@code byte[]} data to the provided {@code char[]}.
+   *
+   * @param buf The {@code char[]} to which to print.
+   * @param off The offset in {@code buf} at which to start printing.
+   * @return The offset in {@code buf} after the last printed char, which is {@code off + printLength()}.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the printed chars.
+   */
+  public int printTo(final char[] buf, int off) {
+    final int len = bytes.length;
+    final int rem = len % 3;
+    int i = 0;
+    for (int bits; i < len - rem;) { // [A]
+      bits = (bytes[i++] & 0xff) << 16 | (bytes[i++] & 0xff) << 8 | bytes[i++] & 0xff;
+      buf[off++] = ALPHABET[bits >>> 18];
+      buf[off++] = ALPHABET[bits >>> 12 & 0x3f];
+      buf[off++] = ALPHABET[bits >>> 6 & 0x3f];
+      buf[off++] = ALPHABET[bits & 0x3f];
+    }
+
+    if (rem != 0) {
+      final int bits = rem == 1 ? (bytes[i] & 0xff) << 16 : (bytes[i] & 0xff) << 16 | (bytes[i + 1] & 0xff) << 8;
+      buf[off++] = ALPHABET[bits >>> 18];
+      buf[off++] = ALPHABET[bits >>> 12 & 0x3f];
+      buf[off++] = rem == 1 ? '=' : ALPHABET[bits >>> 6 & 0x3f];
+      buf[off++] = '=';
+    }
+
+    return off;
+  }
+
+  /**
+   * Prints the Base64 string representation of this object's {@code byte[]} data to the provided {@link Appendable}.
+   *
+   * @param out The {@link Appendable} to which to print.
+   * @throws IOException If an I/O error has occurred.
+   */
+  public void printTo(final Appendable out) throws IOException {
+    final int len = bytes.length;
+    final int rem = len % 3;
+    int i = 0;
+    for (int bits; i < len - rem;) { // [A]
+      bits = (bytes[i++] & 0xff) << 16 | (bytes[i++] & 0xff) << 8 | bytes[i++] & 0xff;
+      out.append(ALPHABET[bits >>> 18]).append(ALPHABET[bits >>> 12 & 0x3f]).append(ALPHABET[bits >>> 6 & 0x3f]).append(ALPHABET[bits & 0x3f]);
+    }
+
+    if (rem != 0) {
+      final int bits = rem == 1 ? (bytes[i] & 0xff) << 16 : (bytes[i] & 0xff) << 16 | (bytes[i + 1] & 0xff) << 8;
+      out.append(ALPHABET[bits >>> 18]).append(ALPHABET[bits >>> 12 & 0x3f]).append(rem == 1 ? '=' : ALPHABET[bits >>> 6 & 0x3f]).append('=');
+    }
+  }
+
   /**
    * Returns the Base64 string representation of this object's {@code byte[]} data.
    *
@@ -73,6 +137,11 @@ public class Base64Binary implements Serializable {
    */
   @Override
   public String toString() {
-    return encoded == null ? encoded = new String(Base64.getEncoder().encode(bytes)) : encoded;
+    if (encoded != null)
+      return encoded;
+
+    final char[] chars = new char[printLength()];
+    printTo(chars, 0);
+    return encoded = new String(chars);
   }
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.datatype;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A {@link BinaryDecoder} of the <a href="http://www.w3.org/TR/xmlschema11-2/#base64Binary">xs:base64Binary</a> lexical value.
+ * As with {@link java.util.Base64#getDecoder()}, padding is optional.
+ */
+public final class Base64Decoder extends BinaryDecoder {
+  private int bits;
+  private int sextets;
+  private int padding;
+  private boolean ended;
+
+  /**
+   * Creates a new {@link Base64Decoder} that writes the decoded bytes to the provided {@link OutputStream}.
+   *
+   * @param out The {@link OutputStream}.
+   * @throws NullPointerException If {@code out} is null.
+   */
+  public Base64Decoder(final OutputStream out) {
+    super(out);
+  }
+
+  /**
+   * Creates a new {@link Base64Decoder} that writes the decoded bytes to the provided {@link WritableByteChannel}.
+   *
+   * @param channel The {@link WritableByteChannel}.
+   * @throws NullPointerException If {@code channel} is null.
+   */
+  public Base64Decoder(final WritableByteChannel channel) {
+    super(channel);
+  }
+
+  @Override
+  void decode(final char[] cbuf, int off, final int end) throws IOException {
+    final byte[] table = ColumnDecoders.BASE64;
+    while (off < end) {
+      if (sextets == 0 && !ended) {
+        for (int c0, c1, c2, c3, bits; off + 4 <= end; off += 4) { // [A]
+          c0 = cbuf[off];
+          c1 = cbuf[off + 1];
+          c2 = cbuf[off + 2];
+          c3 = cbuf[off + 3];
+          if ((c0 | c1 | c2 | c3) >= 128 || (bits = table[c0] << 18 | table[c1] << 12 | table[c2] << 6 | table[c3]) < 0)
+            break;
+
+          put((byte)(bits >> 16));
+          put((byte)(bits >> 8));
+          put((byte)bits);
+        }
+      }
+
+      if (off < end)
+        decode(cbuf[off++]);
+    }
+  }
+
+  @Override
+  void decode(final char ch) throws IOException {
+    final int value = ch < 128 ? ColumnDecoders.BASE64[ch] : -1;
+    if (value >= 0) {
+      if (ended)
+        throw new IllegalArgumentException("Base64 data after padding: " + ch);
+
+      bits = bits << 6 | value;
+      if (++sextets == 4) {
+        put((byte)(bits >> 16));
+        put((byte)(bits >> 8));
+        put((byte)bits);
+        bits = 0;
+        sextets = 0;
+      }
+    }
+    else if (ch == '=') {
+      if (ended) {
+        if (padding-- == 0)
+          throw new IllegalArgumentException("Excess padding in base64 string");
+      }
+      else {
+        if (sextets < 2)
+          throw new IllegalArgumentException("Unexpected padding in base64 string");
+
+        ended = true;
+        padding = 3 - sextets;
+        putRemainder();
+      }
+    }
+    else if (!isWhitespace(ch)) {
+      throw new IllegalArgumentException("Bad character in base64 string: " + ch);
+    }
+  }
+
+  private void putRemainder() throws IOException {
+    if (sextets == 1)
+      throw new IllegalArgumentException("Illegal length of base64 string");
+
+    if (sextets == 2) {
+      put((byte)(bits >> 4));
+    }
+    else if (sextets == 3) {
+      put((byte)(bits >> 10));
+      put((byte)(bits >> 2));
+    }
+
+    bits = 0;
+    sextets = 0;
+  }
+
+  @Override
+  void finish() throws IOException {
+    if (padding != 0)
+      throw new IllegalArgumentException("Incomplete padding in base64 string");
+
+    putRemainder();
+  }
+}
\ No newline at end of file
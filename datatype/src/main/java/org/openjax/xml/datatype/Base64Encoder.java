@@ -0,0 +1,84 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.datatype;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A {@link BinaryEncoder} of the <a href="http://www.w3.org/TR/xmlschema11-2/#base64Binary">xs:base64Binary</a> lexical value,
+ * which is written without line separators, and with padding.
+ */
+public final class Base64Encoder extends BinaryEncoder {
+  private int bits;
+  private int count;
+
+  /**
+   * Creates a new {@link Base64Encoder} that writes the encoded characters to the provided {@link Writer}.
+   *
+   * @param out The {@link Writer}.
+   * @throws NullPointerException If {@code out} is null.
+   */
+  public Base64Encoder(final Writer out) {
+    super(out);
+  }
+
+  private void putGroup(final int bits) throws IOException {
+    final char[] alphabet = Base64Binary.ALPHABET;
+    put(alphabet[bits >>> 18]);
+    put(alphabet[bits >>> 12 & 0x3f]);
+    put(alphabet[bits >>> 6 & 0x3f]);
+    put(alphabet[bits & 0x3f]);
+  }
+
+  @Override
+  void encode(final byte[] b, int off, final int end) throws IOException {
+    while (count != 0 && off < end)
+      encode(b[off++]);
+
+    for (; off + 3 <= end; off += 3) // [A]
+      putGroup((b[off] & 0xff) << 16 | (b[off + 1] & 0xff) << 8 | b[off + 2] & 0xff);
+
+    while (off < end)
+      encode(b[off++]);
+  }
+
+  @Override
+  void encode(final byte b) throws IOException {
+    bits = bits << 8 | b & 0xff;
+    if (++count == 3) {
+      putGroup(bits);
+      bits = 0;
+      count = 0;
+    }
+  }
+
+  @Override
+  void finish() throws IOException {
+    if (count == 0)
+      return;
+
+    final char[] alphabet = Base64Binary.ALPHABET;
+    final int bits = this.bits << (count == 1 ? 16 : 8);
+    put(alphabet[bits >>> 18]);
+    put(alphabet[bits >>> 12 & 0x3f]);
+    put(count == 1 ? '=' : alphabet[bits >>> 6 & 0x3f]);
+    put('=');
+    this.bits = 0;
+    count = 0;
+  }
+}
\ No newline at end of file
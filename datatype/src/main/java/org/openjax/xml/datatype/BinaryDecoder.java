@@ -0,0 +1,206 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.datatype;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * A {@link Writer} that decodes the characters of a binary lexical value as they are written, and writes the decoded bytes to an
+ * {@link OutputStream} or a {@link WritableByteChannel}. XML whitespace is skipped, so chunks of text content can be written
+ * as they are read. The decoded bytes are buffered, and the end of the lexical value is signaled by {@link #close()}, which
+ * writes the remaining bytes and closes the underlying stream or channel.
+ * <p>
+ * An {@link IllegalArgumentException} is thrown as soon as the written characters are known not to be a valid lexical value.
+ *
+ * @see Base64Decoder
+ * @see HexDecoder
+ */
+public abstract class BinaryDecoder extends Writer {
+  private static final int BUFFER_SIZE = 8192;
+
+  static boolean isWhitespace(final char ch) {
+    return ch == ' ' || ch == '\n' || ch == '\r' || ch == '\t';
+  }
+
+  private final OutputStream out;
+  private final WritableByteChannel channel;
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private final ByteBuffer byteBuffer;
+  private int pos;
+  private long count;
+  private boolean closed;
+
+  BinaryDecoder(final OutputStream out) {
+    this.out = Objects.requireNonNull(out);
+    this.channel = null;
+    this.byteBuffer = null;
+  }
+
+  BinaryDecoder(final WritableByteChannel channel) {
+    this.out = null;
+    this.channel = Objects.requireNonNull(channel);
+    this.byteBuffer = ByteBuffer.wrap(buffer);
+  }
+
+  /**
+   * Decodes the chars in the specified range of the provided {@code char[]}.
+   *
+   * @param cbuf The {@code char[]}.
+   * @param off The offset in {@code cbuf} of the first char to decode.
+   * @param end The offset in {@code cbuf} after the last char to decode.
+   * @throws IOException If an I/O error has occurred.
+   */
+  abstract void decode(char[] cbuf, int off, int end) throws IOException;
+
+  /**
+   * Decodes the provided char.
+   *
+   * @param ch The char.
+   * @throws IOException If an I/O error has occurred.
+   */
+  abstract void decode(char ch) throws IOException;
+
+  /**
+   * Decodes the chars that are pending at the end of the lexical value.
+   *
+   * @throws IOException If an I/O error has occurred.
+   */
+  abstract void finish() throws IOException;
+
+  final void put(final byte b) throws IOException {
+    if (pos == BUFFER_SIZE)
+      drain();
+
+    buffer[pos++] = b;
+  }
+
+  private void drain() throws IOException {
+    if (pos == 0)
+      return;
+
+    if (out != null) {
+      out.write(buffer, 0, pos);
+    }
+    else {
+      byteBuffer.clear();
+      byteBuffer.limit(pos);
+      while (byteBuffer.hasRemaining())
+        channel.write(byteBuffer);
+    }
+
+    count += pos;
+    pos = 0;
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed)
+      throw new IOException("Stream closed");
+  }
+
+  /**
+   * Returns the number of bytes that have been decoded so far.
+   *
+   * @return The number of bytes that have been decoded so far.
+   */
+  public long getCount() {
+    return count + pos;
+  }
+
+  @Override
+  public void write(final int c) throws IOException {
+    ensureOpen();
+    decode((char)c);
+  }
+
+  @Override
+  public void write(final char[] cbuf, final int off, final int len) throws IOException {
+    ensureOpen();
+    if (off < 0 || len < 0 || off + len > cbuf.length)
+      throw new IndexOutOfBoundsException("off (" + off + ") + len (" + len + ") > cbuf.length (" + cbuf.length + ")");
+
+    decode(cbuf, off, off + len);
+  }
+
+  @Override
+  public void write(final String str, final int off, final int len) throws IOException {
+    append(str, off, off + len);
+  }
+
+  @Override
+  public Writer append(final CharSequence csq) throws IOException {
+    return csq == null ? append("null", 0, 4) : append(csq, 0, csq.length());
+  }
+
+  @Override
+  public Writer append(final CharSequence csq, final int start, final int end) throws IOException {
+    if (csq == null)
+      return append("null", start, end);
+
+    ensureOpen();
+    if (start < 0 || end < start || end > csq.length())
+      throw new IndexOutOfBoundsException("start (" + start + "), end (" + end + "), csq.length (" + csq.length() + ")");
+
+    for (int i = start; i < end; ++i) // [N]
+      decode(csq.charAt(i));
+
+    return this;
+  }
+
+  /**
+   * Writes the bytes that have been decoded so far to the underlying stream or channel, and flushes the underlying stream.
+   * Chars of an incomplete group remain pending until more chars are written, or this decoder is closed.
+   *
+   * @throws IOException If an I/O error has occurred.
+   */
+  @Override
+  public void flush() throws IOException {
+    ensureOpen();
+    drain();
+    if (out != null)
+      out.flush();
+  }
+
+  /**
+   * Decodes the chars that are pending at the end of the lexical value, writes the remaining bytes, and closes the underlying
+   * stream or channel.
+   *
+   * @throws IllegalArgumentException If the written chars are not a complete lexical value.
+   * @throws IOException If an I/O error has occurred.
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed)
+      return;
+
+    closed = true;
+    try {
+      finish();
+      drain();
+    }
+    finally {
+      if (out != null)
+        out.close();
+      else
+        channel.close();
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,136 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.datatype;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * An {@link OutputStream} that encodes the bytes written to it into the characters of a binary lexical value, and writes the
+ * characters to a {@link Writer}. The encoded characters are buffered, and the end of the binary data is signaled by
+ * {@link #close()}, which writes the remaining characters and closes the underlying {@link Writer}.
+ *
+ * @see Base64Encoder
+ * @see HexEncoder
+ */
+public abstract class BinaryEncoder extends OutputStream {
+  private static final int BUFFER_SIZE = 8192;
+
+  private final Writer out;
+  private final char[] buffer = new char[BUFFER_SIZE];
+  private int pos;
+  private boolean closed;
+
+  BinaryEncoder(final Writer out) {
+    this.out = Objects.requireNonNull(out);
+  }
+
+  /**
+   * Encodes the bytes in the specified range of the provided {@code byte[]}.
+   *
+   * @param b The {@code byte[]}.
+   * @param off The offset in {@code b} of the first byte to encode.
+   * @param end The offset in {@code b} after the last byte to encode.
+   * @throws IOException If an I/O error has occurred.
+   */
+  abstract void encode(byte[] b, int off, int end) throws IOException;
+
+  /**
+   * Encodes the provided byte.
+   *
+   * @param b The byte.
+   * @throws IOException If an I/O error has occurred.
+   */
+  abstract void encode(byte b) throws IOException;
+
+  /**
+   * Encodes the bytes that are pending at the end of the binary data.
+   *
+   * @throws IOException If an I/O error has occurred.
+   */
+  abstract void finish() throws IOException;
+
+  final void put(final char ch) throws IOException {
+    if (pos == BUFFER_SIZE)
+      drain();
+
+    buffer[pos++] = ch;
+  }
+
+  private void drain() throws IOException {
+    if (pos > 0) {
+      out.write(buffer, 0, pos);
+      pos = 0;
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed)
+      throw new IOException("Stream closed");
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    ensureOpen();
+    encode((byte)b);
+  }
+
+  @Override
+  public void write(final byte[] b, final int off, final int len) throws IOException {
+    ensureOpen();
+    if (off < 0 || len < 0 || off + len > b.length)
+      throw new IndexOutOfBoundsException("off (" + off + ") + len (" + len + ") > b.length (" + b.length + ")");
+
+    encode(b, off, off + len);
+  }
+
+  /**
+   * Writes the characters that have been encoded so far to the underlying {@link Writer}, and flushes it. Bytes of an incomplete
+   * group remain pending until more bytes are written, or this encoder is closed.
+   *
+   * @throws IOException If an I/O error has occurred.
+   */
+  @Override
+  public void flush() throws IOException {
+    ensureOpen();
+    drain();
+    out.flush();
+  }
+
+  /**
+   * Encodes the bytes that are pending at the end of the binary data, writes the remaining characters, and closes the
+   * underlying {@link Writer}.
+   *
+   * @throws IOException If an I/O error has occurred.
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed)
+      return;
+
+    closed = true;
+    try {
+      finish();
+      drain();
+    }
+    finally {
+      out.close();
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,420 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.datatype;
+
+/**
+ * Utility functions for the decoding of batches of XSD lexical values into primitive columns, without creating an object per
+ * value.
+ * <p>
+ * The lexical values are provided either as a {@link CharSequence CharSequence[]}, or as a {@code char[]} with a
+ * {@code bounds} array, whereby value {@code i} is in the range of {@code bounds[i]} to {@code bounds[i + 1]}. The decoded
+ * values are set into columns starting at {@code index}, and the timezone offset columns may be {@code null} if the offsets are
+ * not needed. Timezone offsets are in minutes, and are {@link Temporals#NO_OFFSET} for lexical values that do not specify a
+ * timezone, which are decoded as if they were in UTC.
+ */
+public final class ColumnDecoders {
+  static final byte[] HEX = new byte[128];
+  static final byte[] BASE64 = new byte[128];
+
+  static {
+    for (int i = 0; i < 128; ++i) { // [A]
+      HEX[i] = -1;
+      BASE64[i] = -1;
+    }
+
+    for (int i = 0; i < 10; ++i) // [N]
+      HEX['0' + i] = (byte)i;
+
+    for (int i = 0; i < 6; ++i) { // [N]
+      HEX['a' + i] = (byte)(10 + i);
+      HEX['A' + i] = (byte)(10 + i);
+    }
+
+    final String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+    for (int i = 0; i < 64; ++i) // [N]
+      BASE64[alphabet.charAt(i)] = (byte)i;
+  }
+
+  private static void assertRange(final int off, final int len, final int length) {
+    if (off < 0)
+      throw new IndexOutOfBoundsException("off (" + off + ") must be non-negative");
+
+    if (len < 0)
+      throw new IndexOutOfBoundsException("len (" + len + ") must be non-negative");
+
+    if (off + len > length)
+      throw new IndexOutOfBoundsException("off (" + off + ") + len (" + len + ") > length (" + length + ")");
+  }
+
+  private static long toEpochNanos(final long[] out, final CharSequence str, final int off, final int end) {
+    try {
+      return Math.addExact(Math.multiplyExact(out[0], Temporals.NANOS_PER_SECOND), Temporals.nanoOf(out[1]));
+    }
+    catch (final ArithmeticException e) {
+      throw new IllegalArgumentException("dateTime out of range of epoch nanos: " + str.subSequence(off, end), e);
+    }
+  }
+
+  private static long toEpochNanos(final long[] out, final char[] chars, final int off, final int end) {
+    try {
+      return Math.addExact(Math.multiplyExact(out[0], Temporals.NANOS_PER_SECOND), Temporals.nanoOf(out[1]));
+    }
+    catch (final ArithmeticException e) {
+      throw new IllegalArgumentException("dateTime out of range of epoch nanos: " + new String(chars, off, end - off), e);
+    }
+  }
+
+  /**
+   * Decodes the <a href="http://www.w3.org/TR/xmlschema11-2/#dateTime">xs:dateTime</a> lexical values in the specified range of
+   * the provided {@link CharSequence CharSequence[]} into columns of epoch nanos and timezone offsets.
+   *
+   * @param values The lexical values.
+   * @param off The index of the first value in {@code values} to decode.
+   * @param len The number of values to decode.
+   * @param epochNanos The column into which to set the number of nanoseconds since 1970-01-01T00:00:00Z of each value.
+   * @param offsetMinutes The column into which to set the timezone offset of each value, or {@code null}.
+   * @param index The index in the columns at which to set the first decoded value.
+   * @throws IndexOutOfBoundsException If the specified range is out-of-bounds of {@code values}, or the columns do not have room
+   *           for {@code len} values at {@code index}.
+   * @throws IllegalArgumentException If a value is not a valid lexical value, or is out of the range of epoch nanos (i.e. from
+   *           1677-09-21T00:12:43.145224192Z to 2262-04-11T23:47:16.854775807Z).
+   * @throws NullPointerException If {@code values}, a value in the range, or {@code epochNanos} is null.
+   */
+  public static void decodeDateTimes(final CharSequence[] values, final int off, final int len, final long[] epochNanos, final int[] offsetMinutes, final int index) {
+    assertRange(off, len, values.length);
+    final long[] out = new long[2];
+    for (int i = 0; i < len; ++i) { // [A]
+      final CharSequence value = values[off + i];
+      final int end = value.length();
+      Temporals.parseDateTime(value, 0, end, out, 0);
+      epochNanos[index + i] = toEpochNanos(out, value, 0, end);
+      if (offsetMinutes != null)
+        offsetMinutes[index + i] = Temporals.offsetOf(out[1]);
+    }
+  }
+
+  /**
+   * Decodes the <a href="http://www.w3.org/TR/xmlschema11-2/#dateTime">xs:dateTime</a> lexical values in the specified range of
+   * the provided {@code bounds} of {@code chars} into columns of epoch nanos and timezone offsets.
+   *
+   * @param chars The {@code char[]} of the lexical values.
+   * @param bounds The bounds of the lexical values in {@code chars}.
+   * @param off The index of the first value in {@code bounds} to decode.
+   * @param len The number of values to decode.
+   * @param epochNanos The column into which to set the number of nanoseconds since 1970-01-01T00:00:00Z of each value.
+   * @param offsetMinutes The column into which to set the timezone offset of each value, or {@code null}.
+   * @param index The index in the columns at which to set the first decoded value.
+   * @throws IndexOutOfBoundsException If the specified range is out-of-bounds of {@code bounds}, a bound is out-of-bounds of
+   *           {@code chars}, or the columns do not have room for {@code len} values at {@code index}.
+   * @throws IllegalArgumentException If a value is not a valid lexical value, or is out of the range of epoch nanos (i.e. from
+   *           1677-09-21T00:12:43.145224192Z to 2262-04-11T23:47:16.854775807Z).
+   * @throws NullPointerException If {@code chars}, {@code bounds} or {@code epochNanos} is null.
+   */
+  public static void decodeDateTimes(final char[] chars, final int[] bounds, final int off, final int len, final long[] epochNanos, final int[] offsetMinutes, final int index) {
+    assertRange(off, len + 1, bounds.length);
+    final long[] out = new long[2];
+    for (int i = 0, start, end; i < len; ++i) { // [A]
+      start = bounds[off + i];
+      end = bounds[off + i + 1];
+      Temporals.parseDateTime(chars, start, end - start, out, 0);
+      epochNanos[index + i] = toEpochNanos(out, chars, start, end);
+      if (offsetMinutes != null)
+        offsetMinutes[index + i] = Temporals.offsetOf(out[1]);
+    }
+  }
+
+  /**
+   * Decodes the <a href="http://www.w3.org/TR/xmlschema11-2/#date">xs:date</a> lexical values in the specified range of the
+   * provided {@link CharSequence CharSequence[]} into columns of epoch days and timezone offsets.
+   *
+   * @param values The lexical values.
+   * @param off The index of the first value in {@code values} to decode.
+   * @param len The number of values to decode.
+   * @param epochDays The column into which to set the number of days since 1970-01-01 of each value.
+   * @param offsetMinutes The column into which to set the timezone offset of each value, or {@code null}.
+   * @param index The index in the columns at which to set the first decoded value.
+   * @throws IndexOutOfBoundsException If the specified range is out-of-bounds of {@code values}, or the columns do not have room
+   *           for {@code len} values at {@code index}.
+   * @throws IllegalArgumentException If a value is not a valid lexical value.
+   * @throws NullPointerException If {@code values}, a value in the range, or {@code epochDays} is null.
+   */
+  public static void decodeDates(final CharSequence[] values, final int off, final int len, final long[] epochDays, final int[] offsetMinutes, final int index) {
+    assertRange(off, len, values.length);
+    for (int i = 0; i < len; ++i) { // [A]
+      final CharSequence value = values[off + i];
+      final long packed = Temporals.parseDate(value, 0, value.length());
+      epochDays[index + i] = Temporals.epochDayOf(packed);
+      if (offsetMinutes != null)
+        offsetMinutes[index + i] = Temporals.offsetOf(packed);
+    }
+  }
+
+  /**
+   * Decodes the <a href="http://www.w3.org/TR/xmlschema11-2/#date">xs:date</a> lexical values in the specified range of the
+   * provided {@code bounds} of {@code chars} into columns of epoch days and timezone offsets.
+   *
+   * @param chars The {@code char[]} of the lexical values.
+   * @param bounds The bounds of the lexical values in {@code chars}.
+   * @param off The index of the first value in {@code bounds} to decode.
+   * @param len The number of values to decode.
+   * @param epochDays The column into which to set the number of days since 1970-01-01 of each value.
+   * @param offsetMinutes The column into which to set the timezone offset of each value, or {@code null}.
+   * @param index The index in the columns at which to set the first decoded value.
+   * @throws IndexOutOfBoundsException If the specified range is out-of-bounds of {@code bounds}, a bound is out-of-bounds of
+   *           {@code chars}, or the columns do not have room for {@code len} values at {@code index}.
+   * @throws IllegalArgumentException If a value is not a valid lexical value.
+   * @throws NullPointerException If {@code chars}, {@code bounds} or {@code epochDays} is null.
+   */
+  public static void decodeDates(final char[] chars, final int[] bounds, final int off, final int len, final long[] epochDays, final int[] offsetMinutes, final int index) {
+    assertRange(off, len + 1, bounds.length);
+    for (int i = 0, start; i < len; ++i) { // [A]
+      start = bounds[off + i];
+      final long packed = Temporals.parseDate(chars, start, bounds[off + i + 1] - start);
+      epochDays[index + i] = Temporals.epochDayOf(packed);
+      if (offsetMinutes != null)
+        offsetMinutes[index + i] = Temporals.offsetOf(packed);
+    }
+  }
+
+  private static int decodeHex(final CharSequence str, int i, final int end, final byte[] bytes, int pos) {
+    if (((end - i) & 1) != 0)
+      throw new IllegalArgumentException("Odd length of hex string: " + (end - i));
+
+    for (int c0, c1, hi, lo; i < end; i += 2) { // [N]
+      c0 = str.charAt(i);
+      c1 = str.charAt(i + 1);
+      hi = c0 < 128 ? HEX[c0] : -1;
+      lo = c1 < 128 ? HEX[c1] : -1;
+      if ((hi | lo) < 0)
+        throw new IllegalArgumentException("Bad character in hex string: " + (char)(hi < 0 ? c0 : c1));
+
+      bytes[pos++] = (byte)(hi << 4 | lo);
+    }
+
+    return pos;
+  }
+
+  private static int decodeHex(final char[] chars, int i, final int end, final byte[] bytes, int pos) {
+    if (((end - i) & 1) != 0)
+      throw new IllegalArgumentException("Odd length of hex string: " + (end - i));
+
+    for (int c0, c1, hi, lo; i < end; i += 2) { // [N]
+      c0 = chars[i];
+      c1 = chars[i + 1];
+      hi = c0 < 128 ? HEX[c0] : -1;
+      lo = c1 < 128 ? HEX[c1] : -1;
+      if ((hi | lo) < 0)
+        throw new IllegalArgumentException("Bad character in hex string: " + (char)(hi < 0 ? c0 : c1));
+
+      bytes[pos++] = (byte)(hi << 4 | lo);
+    }
+
+    return pos;
+  }
+
+  private static int decodeBase64(final CharSequence str, int i, int end, final byte[] bytes, int pos) {
+    final int length = end - i;
+    if (length > 0 && str.charAt(end - 1) == '=' && (length & 3) == 0 && str.charAt(--end - 1) == '=')
+      --end;
+
+    final int rem = (end - i) & 3;
+    if (rem == 1)
+      throw new IllegalArgumentException("Illegal length of base64 string: " + length);
+
+    for (final int full = end - rem; i < full; i += 4) { // [N]
+      final int bits = base64(str, i) << 18 | base64(str, i + 1) << 12 | base64(str, i + 2) << 6 | base64(str, i + 3);
+      bytes[pos++] = (byte)(bits >> 16);
+      bytes[pos++] = (byte)(bits >> 8);
+      bytes[pos++] = (byte)bits;
+    }
+
+    if (rem != 0) {
+      final int bits = base64(str, i) << 18 | base64(str, i + 1) << 12 | (rem == 3 ? base64(str, i + 2) << 6 : 0);
+      bytes[pos++] = (byte)(bits >> 16);
+      if (rem == 3)
+        bytes[pos++] = (byte)(bits >> 8);
+    }
+
+    return pos;
+  }
+
+  private static int decodeBase64(final char[] chars, int i, int end, final byte[] bytes, int pos) {
+    final int length = end - i;
+    if (length > 0 && chars[end - 1] == '=' && (length & 3) == 0 && chars[--end - 1] == '=')
+      --end;
+
+    final int rem = (end - i) & 3;
+    if (rem == 1)
+      throw new IllegalArgumentException("Illegal length of base64 string: " + length);
+
+    for (final int full = end - rem; i < full; i += 4) { // [N]
+      final int bits = base64(chars, i) << 18 | base64(chars, i + 1) << 12 | base64(chars, i + 2) << 6 | base64(chars, i + 3);
+      bytes[pos++] = (byte)(bits >> 16);
+      bytes[pos++] = (byte)(bits >> 8);
+      bytes[pos++] = (byte)bits;
+    }
+
+    if (rem != 0) {
+      final int bits = base64(chars, i) << 18 | base64(chars, i + 1) << 12 | (rem == 3 ? base64(chars, i + 2) << 6 : 0);
+      bytes[pos++] = (byte)(bits >> 16);
+      if (rem == 3)
+        bytes[pos++] = (byte)(bits >> 8);
+    }
+
+    return pos;
+  }
+
+  private static int base64(final CharSequence str, final int i) {
+    final char ch = str.charAt(i);
+    final int value = ch < 128 ? BASE64[ch] : -1;
+    if (value < 0)
+      throw new IllegalArgumentException("Bad character in base64 string: " + ch);
+
+    return value;
+  }
+
+  private static int base64(final char[] chars, final int i) {
+    final char ch = chars[i];
+    final int value = ch < 128 ? BASE64[ch] : -1;
+    if (value < 0)
+      throw new IllegalArgumentException("Bad character in base64 string: " + ch);
+
+    return value;
+  }
+
+  /**
+   * Decodes the <a href="http://www.w3.org/TR/xmlschema11-2/#hexBinary">xs:hexBinary</a> lexical values in the specified range of
+   * the provided {@link CharSequence CharSequence[]} into consecutive ranges of {@code bytes}, and sets the end position of each
+   * value's range in {@code bytes} into the {@code ends} column.
+   *
+   * @param values The lexical values.
+   * @param off The index of the first value in {@code values} to decode.
+   * @param len The number of values to decode.
+   * @param bytes The {@code byte[]} into which to decode the values, which must have room for half of the total length of the
+   *          values.
+   * @param pos The position in {@code bytes} at which to decode the first value.
+   * @param ends The column into which to set the end position in {@code bytes} of each value.
+   * @param index The index in {@code ends} at which to set the end position of the first decoded value.
+   * @return The position in {@code bytes} after the last decoded byte.
+   * @throws IndexOutOfBoundsException If the specified range is out-of-bounds of {@code values}, {@code bytes} does not have room
+   *           for the decoded bytes, or {@code ends} does not have room for {@code len} values at {@code index}.
+   * @throws IllegalArgumentException If a value is not a valid lexical value.
+   * @throws NullPointerException If {@code values}, a value in the range, {@code bytes} or {@code ends} is null.
+   */
+  public static int decodeHexBinaries(final CharSequence[] values, final int off, final int len, final byte[] bytes, int pos, final int[] ends, final int index) {
+    assertRange(off, len, values.length);
+    for (int i = 0; i < len; ++i) { // [A]
+      final CharSequence value = values[off + i];
+      ends[index + i] = pos = decodeHex(value, 0, value.length(), bytes, pos);
+    }
+
+    return pos;
+  }
+
+  /**
+   * Decodes the <a href="http://www.w3.org/TR/xmlschema11-2/#hexBinary">xs:hexBinary</a> lexical values in the specified range of
+   * the provided {@code bounds} of {@code chars} into consecutive ranges of {@code bytes}, and sets the end position of each
+   * value's range in {@code bytes} into the {@code ends} column.
+   *
+   * @param chars The {@code char[]} of the lexical values.
+   * @param bounds The bounds of the lexical values in {@code chars}.
+   * @param off The index of the first value in {@code bounds} to decode.
+   * @param len The number of values to decode.
+   * @param bytes The {@code byte[]} into which to decode the values, which must have room for half of the total length of the
+   *          values.
+   * @param pos The position in {@code bytes} at which to decode the first value.
+   * @param ends The column into which to set the end position in {@code bytes} of each value.
+   * @param index The index in {@code ends} at which to set the end position of the first decoded value.
+   * @return The position in {@code bytes} after the last decoded byte.
+   * @throws IndexOutOfBoundsException If the specified range is out-of-bounds of {@code bounds}, a bound is out-of-bounds of
+   *           {@code chars}, {@code bytes} does not have room for the decoded bytes, or {@code ends} does not have room for
+   *           {@code len} values at {@code index}.
+   * @throws IllegalArgumentException If a value is not a valid lexical value.
+   * @throws NullPointerException If {@code chars}, {@code bounds}, {@code bytes} or {@code ends} is null.
+   */
+  public static int decodeHexBinaries(final char[] chars, final int[] bounds, final int off, final int len, final byte[] bytes, int pos, final int[] ends, final int index) {
+    assertRange(off, len + 1, bounds.length);
+    for (int i = 0; i < len; ++i) // [A]
+      ends[index + i] = pos = decodeHex(chars, bounds[off + i], bounds[off + i + 1], bytes, pos);
+
+    return pos;
+  }
+
+  /**
+   * Decodes the <a href="http://www.w3.org/TR/xmlschema11-2/#base64Binary">xs:base64Binary</a> lexical values in the specified
+   * range of the provided {@link CharSequence CharSequence[]} into consecutive ranges of {@code bytes}, and sets the end position
+   * of each value's range in {@code bytes} into the {@code ends} column. As with {@link java.util.Base64#getDecoder()}, padding is
+   * optional, and whitespace is not permitted. This is a deliberate restriction to the canonical form, so that values are decoded
+   * in 4-char groups in a single pass: values with the whitespace that the lexical space permits must be collapsed first.
+   *
+   * @param values The lexical values.
+   * @param off The index of the first value in {@code values} to decode.
+   * @param len The number of values to decode.
+   * @param bytes The {@code byte[]} into which to decode the values, which must have room for three quarters of the total length
+   *          of the values.
+   * @param pos The position in {@code bytes} at which to decode the first value.
+   * @param ends The column into which to set the end position in {@code bytes} of each value.
+   * @param index The index in {@code ends} at which to set the end position of the first decoded value.
+   * @return The position in {@code bytes} after the last decoded byte.
+   * @throws IndexOutOfBoundsException If the specified range is out-of-bounds of {@code values}, {@code bytes} does not have room
+   *           for the decoded bytes, or {@code ends} does not have room for {@code len} values at {@code index}.
+   * @throws IllegalArgumentException If a value is not a valid lexical value.
+   * @throws NullPointerException If {@code values}, a value in the range, {@code bytes} or {@code ends} is null.
+   */
+  public static int decodeBase64Binaries(final CharSequence[] values, final int off, final int len, final byte[] bytes, int pos, final int[] ends, final int index) {
+    assertRange(off, len, values.length);
+    for (int i = 0; i < len; ++i) { // [A]
+      final CharSequence value = values[off + i];
+      ends[index + i] = pos = decodeBase64(value, 0, value.length(), bytes, pos);
+    }
+
+    return pos;
+  }
+
+  /**
+   * Decodes the <a href="http://www.w3.org/TR/xmlschema11-2/#base64Binary">xs:base64Binary</a> lexical values in the specified
+   * range of the provided {@code bounds} of {@code chars} into consecutive ranges of {@code bytes}, and sets the end position of
+   * each value's range in {@code bytes} into the {@code ends} column. As with {@link java.util.Base64#getDecoder()}, padding is
+   * optional, and whitespace is not permitted, as for {@link #decodeBase64Binaries(CharSequence[],int,int,byte[],int,int[],int)}.
+   *
+   * @param chars The {@code char[]} of the lexical values.
+   * @param bounds The bounds of the lexical values in {@code chars}.
+   * @param off The index of the first value in {@code bounds} to decode.
+   * @param len The number of values to decode.
+   * @param bytes The {@code byte[]} into which to decode the values, which must have room for three quarters of the total length
+   *          of the values.
+   * @param pos The position in {@code bytes} at which to decode the first value.
+   * @param ends The column into which to set the end position in {@code bytes} of each value.
+   * @param index The index in {@code ends} at which to set the end position of the first decoded value.
+   * @return The position in {@code bytes} after the last decoded byte.
+   * @throws IndexOutOfBoundsException If the specified range is out-of-bounds of {@code bounds}, a bound is out-of-bounds of
+   *           {@code chars}, {@code bytes} does not have room for the decoded bytes, or {@code ends} does not have room for
+   *           {@code len} values at {@code index}.
+   * @throws IllegalArgumentException If a value is not a valid lexical value.
+   * @throws NullPointerException If {@code chars}, {@code bounds}, {@code bytes} or {@code ends} is null.
+   */
+  public static int decodeBase64Binaries(final char[] chars, final int[] bounds, final int off, final int len, final byte[] bytes, int pos, final int[] ends, final int index) {
+    assertRange(off, len + 1, bounds.length);
+    for (int i = 0; i < len; ++i) // [A]
+      ends[index + i] = pos = decodeBase64(chars, bounds[off + i], bounds[off + i + 1], bytes, pos);
+
+    return pos;
+  }
+
+  private ColumnDecoders() {
+  }
+}
\ No newline at end of file
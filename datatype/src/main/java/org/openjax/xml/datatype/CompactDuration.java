@@ -0,0 +1,518 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.datatype;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import javax.xml.datatype.DatatypeConstants;
+
+import org.apache.xerces.jaxp.datatype.Duration;
+
+/**
+ * http://www.w3.org/TR/xmlschema11-2/#duration
+ * <p>
+ * A compact alternative to {@link Duration}, represented by a count of months and a count of seconds and nanos in primitive
+ * fields, which all have the sign of the duration. The comparison and addition of {@link CompactDuration}s is performed with
+ * {@code int} and {@code long} arithmetic.
+ */
+public final class CompactDuration implements Serializable {
+  /** The maximum number of chars printed by {@link #printTo(char[],int)}. */
+  public static final int MAX_PRINT_LENGTH = 64;
+
+  /** The zero-length duration. */
+  public static final CompactDuration ZERO = new CompactDuration(0, 0, 0);
+
+  private static final ThreadLocal<char[]> buffer = ThreadLocal.withInitial(() -> new char[MAX_PRINT_LENGTH]);
+  private static final int NANOS_PER_SECOND = 1000000000;
+
+  /** The year and month of the reference dateTimes with which durations are compared, as specified in XML Schema 1.1. */
+  private static final int[] REFERENCE_YEAR_MONTHS = {1696, 9, 1697, 2, 1903, 3, 1903, 7};
+  private static final int EQUALITY_YEAR = 1970;
+  private static final int EQUALITY_MONTH = 2;
+
+  public static String print(final CompactDuration duration) {
+    return duration == null ? null : duration.toString();
+  }
+
+  public static CompactDuration parse(final CharSequence string) {
+    return string == null ? null : parse(string, 0, string.length());
+  }
+
+  private static IllegalArgumentException illegal(final CharSequence str, final int off, final int end) {
+    return new IllegalArgumentException("duration == " + str.subSequence(off, end));
+  }
+
+  /**
+   * Parses the <a href="http://www.w3.org/TR/xmlschema11-2/#duration">xs:duration</a> lexical value in the specified range of the
+   * provided {@link CharSequence}. Fractions of seconds beyond nanosecond precision are truncated.
+   *
+   * @param str The {@link CharSequence}.
+   * @param off Start index of the lexical value.
+   * @param len Length of the lexical value.
+   * @return The {@link CompactDuration} of the lexical value.
+   * @throws IndexOutOfBoundsException For range parameters that are out-of-bounds ({@code off < 0 || len < 0 ||
+   *         off + len > str.length()}).
+   * @throws IllegalArgumentException If the range does not contain a valid lexical value, or if the value is out of the range
+   *           of a {@link CompactDuration}.
+   * @throws NullPointerException If {@code str} is null.
+   */
+  public static CompactDuration parse(final CharSequence str, final int off, final int len) {
+    if (off < 0 || len < 0 || off + len > str.length())
+      throw new IndexOutOfBoundsException("off (" + off + ") + len (" + len + ") > str.length (" + str.length() + ")");
+
+    int i = off;
+    int end = off + len;
+    while (i < end && str.charAt(i) <= ' ')
+      ++i;
+
+    while (end > i && str.charAt(end - 1) <= ' ')
+      --end;
+
+    final int start = i;
+    final boolean negative = i < end && str.charAt(i) == '-';
+    if (negative)
+      ++i;
+
+    if (i == end || str.charAt(i++) != 'P')
+      throw illegal(str, start, end);
+
+    long months = 0;
+    long seconds = 0;
+    int nanos = 0;
+    boolean time = false;
+    // The order of the last designator: Y=1, M=2, D=3, H=4, M=5, S=6
+    int last = 0;
+    try {
+      for (int order; i < end;) { // [N]
+        char ch = str.charAt(i);
+        if (ch == 'T') {
+          if (time)
+            throw illegal(str, start, end);
+
+          time = true;
+          ++i;
+          continue;
+        }
+
+        final int from = i;
+        long value = 0;
+        for (; i < end && '0' <= (ch = str.charAt(i)) && ch <= '9'; ++i) // [N]
+          value = Math.addExact(Math.multiplyExact(value, 10), ch - '0');
+
+        if (i == from || i == end)
+          throw illegal(str, start, end);
+
+        int fraction = -1;
+        if (ch == '.') {
+          if (!time)
+            throw illegal(str, start, end);
+
+          fraction = 0;
+          int digits = 0;
+          for (++i; i < end && '0' <= (ch = str.charAt(i)) && ch <= '9'; ++i) // [N]
+            if (++digits <= 9)
+              fraction = fraction * 10 + ch - '0';
+
+          if (digits == 0 || i == end)
+            throw illegal(str, start, end);
+
+          for (; digits < 9; ++digits) // [N]
+            fraction *= 10;
+        }
+
+        ++i;
+        order = !time ? (ch == 'Y' ? 1 : ch == 'M' ? 2 : ch == 'D' ? 3 : 0) : (ch == 'H' ? 4 : ch == 'M' ? 5 : ch == 'S' ? 6 : 0);
+        if (order <= last || fraction != -1 && order != 6)
+          throw illegal(str, start, end);
+
+        last = order;
+        if (order == 1)
+          months = Math.multiplyExact(value, 12);
+        else if (order == 2)
+          months = Math.addExact(months, value);
+        else if (order == 3)
+          seconds = Math.multiplyExact(value, 86400);
+        else if (order == 4)
+          seconds = Math.addExact(seconds, Math.multiplyExact(value, 3600));
+        else if (order == 5)
+          seconds = Math.addExact(seconds, Math.multiplyExact(value, 60));
+        else {
+          seconds = Math.addExact(seconds, value);
+          if (fraction != -1)
+            nanos = fraction;
+        }
+      }
+
+      if (last == 0 || time && last < 4)
+        throw illegal(str, start, end);
+
+      return negative ? new CompactDuration(-Math.toIntExact(months), -seconds, -nanos) : new CompactDuration(Math.toIntExact(months), seconds, nanos);
+    }
+    catch (final ArithmeticException e) {
+      throw new IllegalArgumentException("duration out of range: " + str.subSequence(start, end), e);
+    }
+  }
+
+  private static long longValue(final javax.xml.datatype.Duration duration, final DatatypeConstants.Field field) {
+    final Number value = duration.getField(field);
+    return value == null ? 0 : ((BigInteger)value).longValueExact();
+  }
+
+  /**
+   * Returns a {@link CompactDuration} equal to the provided {@link javax.xml.datatype.Duration}, such as a {@link Duration}.
+   * Fractions of seconds beyond nanosecond precision are truncated.
+   *
+   * @param duration The {@link javax.xml.datatype.Duration}.
+   * @return A {@link CompactDuration} equal to the provided {@link javax.xml.datatype.Duration}, or {@code null} if
+   *         {@code duration} is null.
+   * @throws IllegalArgumentException If the value is out of the range of a {@link CompactDuration}.
+   */
+  public static CompactDuration valueOf(final javax.xml.datatype.Duration duration) {
+    if (duration == null)
+      return null;
+
+    try {
+      final int months = Math.toIntExact(Math.addExact(Math.multiplyExact(longValue(duration, DatatypeConstants.YEARS), 12), longValue(duration, DatatypeConstants.MONTHS)));
+      long seconds = Math.multiplyExact(longValue(duration, DatatypeConstants.DAYS), 86400);
+      seconds = Math.addExact(seconds, Math.multiplyExact(longValue(duration, DatatypeConstants.HOURS), 3600));
+      seconds = Math.addExact(seconds, Math.multiplyExact(longValue(duration, DatatypeConstants.MINUTES), 60));
+      final BigDecimal second = (BigDecimal)duration.getField(DatatypeConstants.SECONDS);
+      int nanos = 0;
+      if (second != null) {
+        seconds = Math.addExact(seconds, second.toBigInteger().longValueExact());
+        nanos = second.remainder(BigDecimal.ONE).movePointRight(9).intValue();
+      }
+
+      return duration.getSign() < 0 ? new CompactDuration(-months, -seconds, -nanos) : new CompactDuration(months, seconds, nanos);
+    }
+    catch (final ArithmeticException e) {
+      throw new IllegalArgumentException("duration out of range: " + duration, e);
+    }
+  }
+
+  private final int months;
+  private final long seconds;
+  private final int nanos;
+
+  /**
+   * Creates a new {@link CompactDuration} with the specified months, seconds and nanos, which must not have different signs.
+   *
+   * @param months The count of months.
+   * @param seconds The count of seconds.
+   * @param nanos The count of nanos, from -999,999,999 to 999,999,999.
+   * @throws IllegalArgumentException If the arguments have different signs, or if {@code nanos} is out of range.
+   */
+  public CompactDuration(final int months, final long seconds, final int nanos) {
+    if (nanos <= -NANOS_PER_SECOND || NANOS_PER_SECOND <= nanos)
+      throw new IllegalArgumentException("nanos == " + nanos);
+
+    if ((months | seconds | nanos) < 0 && (months > 0 || seconds > 0 || nanos > 0) || months == Integer.MIN_VALUE || seconds == Long.MIN_VALUE)
+      throw new IllegalArgumentException("months == " + months + " seconds == " + seconds + " nanos == " + nanos);
+
+    this.months = months;
+    this.seconds = seconds;
+    this.nanos = nanos;
+  }
+
+  /**
+   * Returns the count of months, which has the sign of this duration.
+   *
+   * @return The count of months.
+   */
+  public int getMonths() {
+    return months;
+  }
+
+  /**
+   * Returns the count of seconds, excluding the months, which has the sign of this duration.
+   *
+   * @return The count of seconds.
+   */
+  public long getSeconds() {
+    return seconds;
+  }
+
+  /**
+   * Returns the count of nanos, excluding the seconds, which has the sign of this duration.
+   *
+   * @return The count of nanos.
+   */
+  public int getNanos() {
+    return nanos;
+  }
+
+  /**
+   * Returns the sign of this duration: {@code -1}, {@code 0} or {@code 1}.
+   *
+   * @return The sign of this duration.
+   */
+  public int getSign() {
+    return months < 0 || seconds < 0 || nanos < 0 ? -1 : months > 0 || seconds > 0 || nanos > 0 ? 1 : 0;
+  }
+
+  /**
+   * Returns a {@link CompactDuration} with the opposite sign of this duration.
+   *
+   * @return A {@link CompactDuration} with the opposite sign of this duration.
+   */
+  public CompactDuration negate() {
+    return getSign() == 0 ? this : new CompactDuration(-months, -seconds, -nanos);
+  }
+
+  /**
+   * Returns the sum of this duration and the provided duration.
+   *
+   * @param duration The duration to add.
+   * @return The sum of this duration and the provided duration.
+   * @throws IllegalStateException If the sum cannot be represented as a duration, such as {@code P1M + -P1D}, as with
+   *           {@link javax.xml.datatype.Duration#add(javax.xml.datatype.Duration)}.
+   * @throws ArithmeticException If the sum is out of the range of a {@link CompactDuration}.
+   * @throws NullPointerException If {@code duration} is null.
+   */
+  public CompactDuration add(final CompactDuration duration) {
+    final int months = Math.addExact(this.months, duration.months);
+    long seconds = Math.addExact(this.seconds, duration.seconds);
+    int nanos = this.nanos + duration.nanos;
+    if (nanos >= NANOS_PER_SECOND) {
+      nanos -= NANOS_PER_SECOND;
+      seconds = Math.addExact(seconds, 1);
+    }
+    else if (nanos <= -NANOS_PER_SECOND) {
+      nanos += NANOS_PER_SECOND;
+      seconds = Math.subtractExact(seconds, 1);
+    }
+
+    if (seconds > 0 && nanos < 0) {
+      nanos += NANOS_PER_SECOND;
+      --seconds;
+    }
+    else if (seconds < 0 && nanos > 0) {
+      nanos -= NANOS_PER_SECOND;
+      ++seconds;
+    }
+
+    if (months < 0 && (seconds > 0 || nanos > 0) || months > 0 && (seconds < 0 || nanos < 0))
+      throw new IllegalStateException(this + " + " + duration + " is not a duration");
+
+    return new CompactDuration(months, seconds, nanos);
+  }
+
+  private static int signum(final long seconds, final long nanos) {
+    return seconds != 0 ? (seconds < -1 || 1 < seconds ? Long.signum(seconds) : Long.signum(seconds * NANOS_PER_SECOND + nanos)) : Long.signum(nanos);
+  }
+
+  /**
+   * Returns the epoch day of the first day of the month that is the specified count of months after the specified year and month.
+   */
+  private static long plusMonths(final int year, final int month, final int months) {
+    final long m = month - 1L + months;
+    return Temporals.toEpochDay(year + Math.floorDiv(m, 12), Math.floorMod(m, 12) + 1, 1);
+  }
+
+  /**
+   * Compares this duration to the provided duration, by the partial order of durations specified in XML Schema 1.1, whereby
+   * the results of the addition of the durations to four reference dateTimes are compared. As with
+   * {@link Duration#compare(javax.xml.datatype.Duration)}, durations that are equal when added to {@code 1970-02-01T00:00:00} are
+   * {@link DatatypeConstants#EQUAL}, even if they are not equal when added to each of the reference dateTimes, such as {@code P2M}
+   * and {@code P59D}. Unlike {@link Duration#compare(javax.xml.datatype.Duration)}, this check does not truncate fractional
+   * seconds.
+   *
+   * @param duration The duration to compare.
+   * @return {@link DatatypeConstants#LESSER}, {@link DatatypeConstants#EQUAL}, {@link DatatypeConstants#GREATER}, or
+   *         {@link DatatypeConstants#INDETERMINATE} if the order of the durations depends on the reference dateTime, such as
+   *         for {@code P1M} and {@code P30D}.
+   * @throws NullPointerException If {@code duration} is null.
+   */
+  public int compare(final CompactDuration duration) {
+    final long months = (long)this.months - duration.months;
+    final long seconds;
+    try {
+      seconds = Math.subtractExact(this.seconds, duration.seconds);
+    }
+    catch (final ArithmeticException e) {
+      // The difference of the seconds exceeds any difference of the months
+      return this.seconds > duration.seconds ? DatatypeConstants.GREATER : DatatypeConstants.LESSER;
+    }
+
+    final int nanos = this.nanos - duration.nanos;
+    final int sign = signum(seconds, nanos);
+    if (months == 0 || sign == Long.signum(months) || sign == 0)
+      return months == 0 ? sign : Long.signum(months);
+
+    if (nanos == 0 && (plusMonths(EQUALITY_YEAR, EQUALITY_MONTH, this.months) - plusMonths(EQUALITY_YEAR, EQUALITY_MONTH, duration.months)) * 86400 + seconds == 0)
+      return DatatypeConstants.EQUAL;
+
+    int result = 0;
+    for (int i = 0; i < REFERENCE_YEAR_MONTHS.length; i += 2) { // [A]
+      // The addition of months is not translation-invariant, so each duration is added to the reference dateTime separately
+      final int year = REFERENCE_YEAR_MONTHS[i];
+      final int month = REFERENCE_YEAR_MONTHS[i + 1];
+      final long days = plusMonths(year, month, this.months) - plusMonths(year, month, duration.months);
+      long total;
+      try {
+        total = Math.addExact(days * 86400, seconds);
+      }
+      catch (final ArithmeticException e) {
+        total = seconds;
+      }
+
+      final int signum = signum(total, nanos);
+      if (i == 0)
+        result = signum;
+      else if (signum != result)
+        return DatatypeConstants.INDETERMINATE;
+    }
+
+    return result;
+  }
+
+  /**
+   * Returns a {@link Duration} equal to this duration.
+   *
+   * @return A {@link Duration} equal to this duration.
+   */
+  public Duration toDuration() {
+    return Duration.parse(toString());
+  }
+
+  /**
+   * Prints the canonical lexical value of this duration to the provided {@code char[]}, without creating intermediate objects.
+   *
+   * @param buf The {@code char[]} to which to print.
+   * @param off The offset in {@code buf} at which to start printing.
+   * @return The offset in {@code buf} after the last printed char.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the printed chars, of which there are at most
+   *           {@link #MAX_PRINT_LENGTH}.
+   */
+  public int printTo(final char[] buf, int off) {
+    if (getSign() < 0)
+      buf[off++] = '-';
+
+    buf[off++] = 'P';
+    final int months = Math.abs(this.months);
+    final long seconds = Math.abs(this.seconds);
+    final int nanos = Math.abs(this.nanos);
+    if (months >= 12) {
+      off = Temporals.printLong(buf, off, months / 12);
+      buf[off++] = 'Y';
+    }
+
+    if (months % 12 != 0) {
+      off = Temporals.printLong(buf, off, months % 12);
+      buf[off++] = 'M';
+    }
+
+    if (seconds == 0 && nanos == 0) {
+      if (months == 0) {
+        buf[off++] = 'T';
+        buf[off++] = '0';
+        buf[off++] = 'S';
+      }
+
+      return off;
+    }
+
+    if (seconds >= 86400) {
+      off = Temporals.printLong(buf, off, seconds / 86400);
+      buf[off++] = 'D';
+    }
+
+    final int secondOfDay = (int)(seconds % 86400);
+    if (secondOfDay == 0 && nanos == 0)
+      return off;
+
+    buf[off++] = 'T';
+    if (secondOfDay >= 3600) {
+      off = Temporals.printLong(buf, off, secondOfDay / 3600);
+      buf[off++] = 'H';
+    }
+
+    if (secondOfDay / 60 % 60 != 0) {
+      off = Temporals.printLong(buf, off, secondOfDay / 60 % 60);
+      buf[off++] = 'M';
+    }
+
+    if (secondOfDay % 60 != 0 || nanos != 0) {
+      off = Temporals.printLong(buf, off, secondOfDay % 60);
+      if (nanos != 0)
+        off = Temporals.printNanoFraction(buf, off, nanos);
+
+      buf[off++] = 'S';
+    }
+
+    return off;
+  }
+
+  /**
+   * Prints the canonical lexical value of this duration to the provided {@link StringBuilder}.
+   *
+   * @param b The {@link StringBuilder} to which to print.
+   * @return The provided {@link StringBuilder}.
+   */
+  public StringBuilder printTo(final StringBuilder b) {
+    final char[] buf = buffer.get();
+    return b.append(buf, 0, printTo(buf, 0));
+  }
+
+  /**
+   * Prints the canonical lexical value of this duration to the provided {@link Appendable}.
+   *
+   * @param out The {@link Appendable} to which to print.
+   * @throws IOException If an I/O error has occurred.
+   */
+  public void printTo(final Appendable out) throws IOException {
+    final char[] buf = buffer.get();
+    final int len = printTo(buf, 0);
+    if (out instanceof StringBuilder)
+      ((StringBuilder)out).append(buf, 0, len);
+    else if (out instanceof Writer)
+      ((Writer)out).write(buf, 0, len);
+    else
+      for (int i = 0; i < len; ++i) // [A]
+        out.append(buf[i]);
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this)
+      return true;
+
+    if (!(obj instanceof CompactDuration))
+      return false;
+
+    final CompactDuration that = (CompactDuration)obj;
+    return months == that.months && seconds == that.seconds && nanos == that.nanos;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 31 + months;
+    hashCode = 31 * hashCode + Long.hashCode(seconds);
+    hashCode = 31 * hashCode + nanos;
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    final char[] buf = buffer.get();
+    return new String(buf, 0, printTo(buf, 0));
+  }
+}
\ No newline at end of file
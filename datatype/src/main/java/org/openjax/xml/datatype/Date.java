@@ -16,8 +16,6 @@
 
 package org.openjax.xml.datatype;
 
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
 import java.util.TimeZone;
 
 /**
@@ -70,11 +68,17 @@ public class Date extends TemporalType {
     super(timeZone);
     this.yearMonth = yearMonth;
     this.day = day;
-    this.epochTime = LocalDateTime.of(yearMonth.getYear(), yearMonth.getMonth(), day.getDay(), 0, 0, 0).toEpochSecond(ZoneOffset.ofTotalSeconds(getTimeZone().getRawOffset() / 1000));
+    final int y = yearMonth.getYear();
+    final int m = yearMonth.getMonth();
+    final int d = day.getDay();
+    if (m < 1 || d < 1 || Temporals.lengthOfMonth(y, m) < d)
+      throw new IllegalArgumentException("year == " + y + " month == " + m + " day == " + d);
+
+    this.epochTime = Temporals.toEpochDay(y, m, d) * Temporals.SECONDS_PER_DAY - this.timeZone.getRawOffset() / 1000;
   }
 
   public Date(final int year, final int month, final int day, final TimeZone timeZone) {
-    this(new YearMonth(year, month), new Day(day), timeZone);
+    this(new YearMonth(year, month), Day.valueOf(day, null), timeZone);
   }
 
   public Date(final int year, final int month, final int day) {
@@ -130,12 +134,9 @@ public class Date extends TemporalType {
   }
 
   @Override
-  protected StringBuilder toEmbeddedString(final StringBuilder b) {
-    yearMonth.toEmbeddedString(b).append('-');
-    final int day = getDay();
-    if (day < 10)
-      b.append('0');
-
-    return b.append(day);
+  protected int printEmbeddedTo(final char[] buf, int off) {
+    off = yearMonth.printEmbeddedTo(buf, off);
+    buf[off++] = '-';
+    return Temporals.printTwoDigits(buf, off, getDay());
   }
 }
\ No newline at end of file
@@ -16,8 +16,6 @@
 
 package org.openjax.xml.datatype;
 
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
 import java.util.TimeZone;
 
 /**
@@ -50,10 +48,10 @@ public class DateTime extends TemporalType {
   private final long epochTime;
 
   protected DateTime(final Date date, final Time time) {
-    super(time.getTimeZone());
+    super(time.timeZone);
     this.date = date;
     this.time = time;
-    this.epochTime = LocalDateTime.of(date.getYear(), date.getMonth(), date.getDay(), time.getHour(), time.getMinute(), (int)time.getSecond(), (int)((time.getSecond() - (int)time.getSecond()) * 1000000000)).toEpochSecond(ZoneOffset.ofTotalSeconds(getTimeZone().getRawOffset() / 1000));
+    this.epochTime = Temporals.toEpochDay(date.getYear(), date.getMonth(), date.getDay()) * Temporals.SECONDS_PER_DAY + time.getHour() * 3600 + time.getMinute() * 60 + (int)time.getSecond() - this.timeZone.getRawOffset() / 1000;
   }
 
   public DateTime(final int year, final int month, final int day, final int hour, final int minute, final float second, final TimeZone timeZone) {
@@ -125,14 +123,14 @@ public class DateTime extends TemporalType {
   }
 
   @Override
-  protected StringBuilder toEmbeddedString(final StringBuilder b) {
+  protected int printEmbeddedTo(final char[] buf, int off) {
     if (date != null)
-      date.toEmbeddedString(b);
+      off = date.printEmbeddedTo(buf, off);
 
-    b.append('T');
+    buf[off++] = 'T';
     if (time != null)
-      time.toEmbeddedString(b);
+      off = time.printEmbeddedTo(buf, off);
 
-    return b;
+    return off;
   }
 }
\ No newline at end of file
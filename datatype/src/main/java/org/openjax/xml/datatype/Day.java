@@ -34,45 +34,65 @@ public class Day extends TemporalType {
     if (!string.startsWith(PAD_FRAG) || string.length() < PAD_FRAG.length() + DAY_FRAG_MIN_LENGTH)
       throw new IllegalArgumentException("day == " + string);
 
-    final int day = parseDayFrag(string.substring(PAD_FRAG.length()));
-    final TimeZone timeZone = Time.parseTimeZoneFrag(string.substring(PAD_FRAG.length() + DAY_FRAG_MIN_LENGTH));
-    return new Day(day, timeZone);
+    final int day = parseDayFrag(string, PAD_FRAG.length());
+    final TimeZone timeZone = Time.parseTimeZoneFrag(string, PAD_FRAG.length() + DAY_FRAG_MIN_LENGTH);
+    return valueOf(day, timeZone);
+  }
+
+  private static final Interner<Day> interner = new Interner<>(6);
+
+  /**
+   * Returns the canonical {@link Day} of the specified day in the specified {@link TimeZone}. Instances in the default
+   * {@link TimeZone} (i.e. {@code null}), in UTC, or in a {@link TimeZone} returned by {@link #parse(String)} are shared.
+   *
+   * @param day The day.
+   * @param timeZone The {@link TimeZone}, or {@code null} for the default {@link TimeZone}.
+   * @return The canonical {@link Day} of the specified day in the specified {@link TimeZone}.
+   * @throws IllegalArgumentException If the value is not valid.
+   */
+  public static Day valueOf(final int day, final TimeZone timeZone) {
+    final long key = Interner.key(day, timeZone);
+    if (key == Interner.NONE)
+      return new Day(day, timeZone);
+
+    final Day value = Interner.current(interner.get(key), timeZone);
+    return value != null ? value : interner.intern(key, new Day(day, timeZone));
   }
 
   protected static int parseDayFrag(final String string) {
-    if (string.length() < DAY_FRAG_MIN_LENGTH)
-      throw new IllegalArgumentException("day == " + string);
+    return parseDayFrag(string, 0);
+  }
+
+  static int parseDayFrag(final String string, final int off) {
+    if (string.length() - off < DAY_FRAG_MIN_LENGTH)
+      throw new IllegalArgumentException("day == " + string.substring(off));
 
-    final char ch = string.charAt(0);
-    final char ch2 = string.charAt(1);
+    final char ch = string.charAt(off);
+    final char ch2 = string.charAt(off + 1);
     if (ch == '0') {
       if (ch2 < '1' || '9' < ch2)
-        throw new IllegalArgumentException("day == " + string);
+        throw new IllegalArgumentException("day == " + string.substring(off));
     }
     else if (ch == '1' || ch == '2') {
       if (ch2 < '0' || '9' < ch2)
-        throw new IllegalArgumentException("day == " + string);
+        throw new IllegalArgumentException("day == " + string.substring(off));
     }
     else if (ch == '3') {
       if (ch2 < '0' || '1' < ch2)
-        throw new IllegalArgumentException("day == " + string);
+        throw new IllegalArgumentException("day == " + string.substring(off));
     }
     else {
-      throw new IllegalArgumentException("day == " + string);
+      throw new IllegalArgumentException("day == " + string.substring(off));
     }
 
-    try {
-      return Integer.parseInt("" + ch + ch2);
-    }
-    catch (final NumberFormatException e) {
-      throw new IllegalArgumentException(string, e);
-    }
+    return (ch - '0') * 10 + ch2 - '0';
   }
 
   protected static final int DAY_FRAG_MIN_LENGTH = 2;
   private static final String PAD_FRAG = "---";
 
   private final int day;
+  private transient int hashCode;
 
   public Day(final int day, final TimeZone timeZone) {
     super(timeZone);
@@ -85,10 +105,9 @@ public class Day extends TemporalType {
     this(day, null);
   }
 
-  @SuppressWarnings("deprecation")
   public Day(final long timeMs) {
     super(TimeZone.getDefault());
-    this.day = new java.util.Date(timeMs).getDate();
+    this.day = Temporals.civilDay(Temporals.toCivil(Temporals.localEpochDay(timeMs, timeZone)));
   }
 
   public Day() {
@@ -113,11 +132,18 @@ public class Day extends TemporalType {
 
   @Override
   public int hashCode() {
-    return 31 * super.hashCode() + day;
+    int hashCode = this.hashCode;
+    if (hashCode == 0)
+      this.hashCode = hashCode = 31 * super.hashCode() + day;
+
+    return hashCode;
   }
 
   @Override
-  protected StringBuilder toEmbeddedString(final StringBuilder b) {
-    return b.append(day < 10 ? "---0" : "---").append(day);
+  protected int printEmbeddedTo(final char[] buf, int off) {
+    buf[off++] = '-';
+    buf[off++] = '-';
+    buf[off++] = '-';
+    return Temporals.printTwoDigits(buf, off, day);
   }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@
 
 package org.openjax.xml.datatype;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Objects;
@@ -67,7 +68,7 @@ public class HexBinary implements Serializable {
     return new HexBinary(bytes);
   }
 
-  private static char convertDigit(int value) {
+  static char convertDigit(int value) {
     value &= 0x0f;
     return (char)(value >= 10 ? value - 10 + 'A' : value + '0');
   }
@@ -100,6 +101,44 @@ public class HexBinary implements Serializable {
     return 31 + Arrays.hashCode(bytes);
   }
 
+  /**
+   * Prints the hex string representation of this object's {@code byte[]} data to the provided {@code char[]}.
+   *
+   * @param buf The {@code char[]} to which to print.
+   * @param off The offset in {@code buf} at which to start printing.
+   * @return The offset in {@code buf} after the last printed char, which is {@code off + 2 * getBytes().length}.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the printed chars.
+   */
+  public int printTo(final char[] buf, int off) {
+    byte b;
+    for (int i = 0, i$ = bytes.length; i < i$; ++i) { // [A]
+      b = bytes[i];
+      buf[off++] = convertDigit(b >> 4);
+      buf[off++] = convertDigit(b);
+    }
+
+    return off;
+  }
+
+  /**
+   * Prints the hex string representation of this object's {@code byte[]} data to the provided {@link Appendable}.
+   *
+   * @param out The {@link Appendable} to which to print.
+   * @throws IOException If an I/O error has occurred.
+   */
+  public void printTo(final Appendable out) throws IOException {
+    if (encoded != null) {
+      out.append(encoded);
+      return;
+    }
+
+    byte b;
+    for (int i = 0, i$ = bytes.length; i < i$; ++i) { // [A]
+      b = bytes[i];
+      out.append(convertDigit(b >> 4)).append(convertDigit(b));
+    }
+  }
+
   /**
    * Returns the hex string representation of this object's {@code byte[]} data.
    *
@@ -110,14 +149,8 @@ public class HexBinary implements Serializable {
     if (encoded != null)
       return encoded;
 
-    byte b;
-    final int i$ = bytes.length;
-    final StringBuilder s = new StringBuilder(i$ * 2);
-    for (int i = 0; i < i$; ++i) { // [A]
-      b = bytes[i];
-      s.append(convertDigit(b >> 4)).append(convertDigit(b & 0x0f));
-    }
-
-    return encoded = s.toString();
+    final char[] chars = new char[bytes.length * 2];
+    printTo(chars, 0);
+    return encoded = new String(chars);
   }
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.datatype;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A {@link BinaryDecoder} of the <a href="http://www.w3.org/TR/xmlschema11-2/#hexBinary">xs:hexBinary</a> lexical value.
+ */
+public final class HexDecoder extends BinaryDecoder {
+  private int high = -1;
+
+  /**
+   * Creates a new {@link HexDecoder} that writes the decoded bytes to the provided {@link OutputStream}.
+   *
+   * @param out The {@link OutputStream}.
+   * @throws NullPointerException If {@code out} is null.
+   */
+  public HexDecoder(final OutputStream out) {
+    super(out);
+  }
+
+  /**
+   * Creates a new {@link HexDecoder} that writes the decoded bytes to the provided {@link WritableByteChannel}.
+   *
+   * @param channel The {@link WritableByteChannel}.
+   * @throws NullPointerException If {@code channel} is null.
+   */
+  public HexDecoder(final WritableByteChannel channel) {
+    super(channel);
+  }
+
+  @Override
+  void decode(final char[] cbuf, int off, final int end) throws IOException {
+    final byte[] table = ColumnDecoders.HEX;
+    while (off < end) {
+      if (high < 0) {
+        for (int c0, c1, hi, lo; off + 2 <= end; off += 2) { // [A]
+          c0 = cbuf[off];
+          c1 = cbuf[off + 1];
+          if ((c0 | c1) >= 128 || ((hi = table[c0]) | (lo = table[c1])) < 0)
+            break;
+
+          put((byte)(hi << 4 | lo));
+        }
+      }
+
+      if (off < end)
+        decode(cbuf[off++]);
+    }
+  }
+
+  @Override
+  void decode(final char ch) throws IOException {
+    final int value = ch < 128 ? ColumnDecoders.HEX[ch] : -1;
+    if (value >= 0) {
+      if (high < 0) {
+        high = value;
+      }
+      else {
+        put((byte)(high << 4 | value));
+        high = -1;
+      }
+    }
+    else if (!isWhitespace(ch)) {
+      throw new IllegalArgumentException("Bad character in hex string: " + ch);
+    }
+  }
+
+  @Override
+  void finish() {
+    if (high >= 0)
+      throw new IllegalArgumentException("Odd length of hex string");
+  }
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.datatype;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A {@link BinaryEncoder} of the <a href="http://www.w3.org/TR/xmlschema11-2/#hexBinary">xs:hexBinary</a> lexical value, which is
+ * written in upper case, as by {@link HexBinary#toString()}.
+ */
+public final class HexEncoder extends BinaryEncoder {
+  /**
+   * Creates a new {@link HexEncoder} that writes the encoded characters to the provided {@link Writer}.
+   *
+   * @param out The {@link Writer}.
+   * @throws NullPointerException If {@code out} is null.
+   */
+  public HexEncoder(final Writer out) {
+    super(out);
+  }
+
+  @Override
+  void encode(final byte[] b, int off, final int end) throws IOException {
+    while (off < end)
+      encode(b[off++]);
+  }
+
+  @Override
+  void encode(final byte b) throws IOException {
+    put(HexBinary.convertDigit(b >> 4));
+    put(HexBinary.convertDigit(b));
+  }
+
+  @Override
+  void finish() {
+  }
+}
\ No newline at end of file
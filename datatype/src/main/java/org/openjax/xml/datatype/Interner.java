@@ -0,0 +1,131 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.datatype;
+
+import java.util.TimeZone;
+
+/**
+ * A bounded, lock-free table of canonical instances of a datatype, keyed by a {@code long}. Each slot of the table holds the
+ * instance that was most recently interned with a key that maps to the slot, so the table never grows, and a lookup that hits
+ * does not allocate. The string form and hash code of an instance are computed when it is interned.
+ * <p>
+ * Entries are immutable, so racing threads at most replace each other's entries.
+ *
+ * @param <T> The type of the interned instances.
+ */
+final class Interner<T> {
+  /** The key of values that are not to be interned. */
+  static final long NONE = Long.MIN_VALUE;
+
+  /** The code of the default {@link TimeZone} in a key, after those of UTC and of the shared instances. */
+  private static final int DEFAULT_TIME_ZONE = 2 * Temporals.MAX_OFFSET_MINUTES + 2;
+
+  /**
+   * Returns the key of the specified value in the provided {@link TimeZone}, or {@link #NONE} if the {@link TimeZone} is neither
+   * {@code null} (i.e. the default {@link TimeZone}), nor one of the shared instances returned by
+   * {@link Time#parseTimeZoneFrag(String)}. Instances in the default {@link TimeZone} that are returned for the key must be checked
+   * with {@link #current(TemporalType,TimeZone)}, as the default {@link TimeZone} can change.
+   *
+   * @param value The value.
+   * @param timeZone The {@link TimeZone}.
+   * @return The key of the specified value in the provided {@link TimeZone}, or {@link #NONE} if it is not to be interned.
+   */
+  static long key(final long value, final TimeZone timeZone) {
+    final int code;
+    if (timeZone == null) {
+      code = DEFAULT_TIME_ZONE;
+    }
+    else if (timeZone == DateTime.GMT) {
+      code = 0;
+    }
+    else {
+      if (!Temporals.isShared(timeZone))
+        return NONE;
+
+      code = timeZone.getRawOffset() / 60000 + Temporals.MAX_OFFSET_MINUTES + 1;
+    }
+
+    return value << 12 | code;
+  }
+
+  /**
+   * Returns the provided interned instance of a value in the specified {@link TimeZone}, or {@code null} if the {@link TimeZone} is
+   * {@code null} and the instance was interned in a default {@link TimeZone} other than the current one.
+   *
+   * @param <T> The type of the instance.
+   * @param value The interned instance, or {@code null}.
+   * @param timeZone The {@link TimeZone} of the value, or {@code null} for the default {@link TimeZone}.
+   * @return The provided interned instance, or {@code null} if it is not in the current default {@link TimeZone}.
+   */
+  static <T extends TemporalType> T current(final T value, final TimeZone timeZone) {
+    return value == null || timeZone != null || value.timeZone.equals(TimeZone.getDefault()) ? value : null;
+  }
+
+  private static final class Entry<T> {
+    private final long key;
+    private final T value;
+
+    private Entry(final long key, final T value) {
+      this.key = key;
+      this.value = value;
+    }
+  }
+
+  private final Entry<T>[] entries;
+  private final int shift;
+
+  /**
+   * Creates a new {@link Interner} with the specified number of slots.
+   *
+   * @param bits The base 2 logarithm of the number of slots.
+   */
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  Interner(final int bits) {
+    this.entries = new Entry[1 << bits];
+    this.shift = 64 - bits;
+  }
+
+  private int index(final long key) {
+    return (int)(key * 0x9E3779B97F4A7C15L >>> shift);
+  }
+
+  /**
+   * Returns the instance interned with the specified key, or {@code null} if there is none. Callers whose keys are not unique to a
+   * value, such as hash codes, must check that the returned instance is the expected one.
+   *
+   * @param key The key.
+   * @return The instance interned with the specified key, or {@code null} if there is none.
+   */
+  T get(final long key) {
+    final Entry<T> entry = entries[index(key)];
+    return entry != null && entry.key == key ? entry.value : null;
+  }
+
+  /**
+   * Interns the provided instance with the specified key, after computing its string form and hash code.
+   *
+   * @param key The key.
+   * @param value The instance.
+   * @return The provided instance.
+   */
+  T intern(final long key, final T value) {
+    value.toString();
+    value.hashCode();
+    entries[index(key)] = new Entry<>(key, value);
+    return value;
+  }
+}
\ No newline at end of file
@@ -17,11 +17,7 @@
 package org.openjax.xml.datatype;
 
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.StringTokenizer;
-import java.util.regex.Pattern;
 
 /**
  * http://www.w3.org/TR/xmlschema11-2/#language
@@ -31,42 +27,95 @@ public class Language implements CharSequence, Serializable {
     return language == null ? null : language.toString();
   }
 
+  /**
+   * Returns the canonical {@link Language} of the specified string. Instances are shared via a bounded cache, so repeated tags
+   * are neither revalidated nor reallocated.
+   *
+   * @param string The string.
+   * @return The canonical {@link Language} of the specified string, or {@code null} if the string is null.
+   * @throws IllegalArgumentException If the string is not a valid language tag.
+   */
   public static Language parse(String string) {
     if (string == null)
       return null;
 
     string = string.trim();
-    if (string.length() < LANGUAGE_FRAG_MIN_LENGTH)
+    final long key = string.hashCode();
+    final Language language = interner.get(key);
+    if (language != null && language.encoded.equals(string))
+      return language;
+
+    final int len = string.length();
+    if (len < LANGUAGE_FRAG_MIN_LENGTH)
       throw new IllegalArgumentException(string);
 
-    final StringTokenizer tokenizer = new StringTokenizer(string, "-");
-    final Collection<String> languages = new ArrayList<>();
-    while (tokenizer.hasMoreTokens())
-      languages.add(tokenizer.nextToken());
+    int count = 1;
+    for (int i = 0; i < len; ++i) // [N]
+      if (string.charAt(i) == '-')
+        ++count;
+
+    final String[] subtags = new String[count];
+    for (int i = 0, start = 0, end; i < count; ++i, start = end + 1) { // [A]
+      end = string.indexOf('-', start);
+      if (end == -1)
+        end = len;
+
+      if (!isSubtag(string, start, end, i == 0))
+        throw new IllegalArgumentException(string);
+
+      subtags[i] = string.substring(start, end);
+    }
 
-    return new Language(languages);
+    return interner.intern(key, new Language(subtags, string));
+  }
+
+  private static boolean isSubtag(final String string, final int start, final int end, final boolean first) {
+    final int len = end - start;
+    if (len < 1 || 8 < len)
+      return false;
+
+    for (int i = start; i < end; ++i) { // [N]
+      final char ch = string.charAt(i);
+      if ('a' <= ch && ch <= 'z' || 'A' <= ch && ch <= 'Z')
+        continue;
+
+      if (first || ch < '0' || '9' < ch)
+        return false;
+    }
+
+    return true;
   }
 
-  private static final Pattern firstPattern = Pattern.compile("[a-zA-Z]{1,8}");
-  private static final Pattern otherPattern = Pattern.compile("[a-zA-Z0-9]{1,8}");
   private static final int LANGUAGE_FRAG_MIN_LENGTH = 1;
+  private static final Interner<Language> interner = new Interner<>(10);
+
   private final String[] language;
-  private String encoded;
+  private final String encoded;
+
+  private Language(final String[] language, final String encoded) {
+    this.language = language;
+    this.encoded = encoded;
+  }
 
   public Language(final String ... language) {
     final int len = language.length;
     if (len == 0)
       throw new IllegalArgumentException("language.length == 0");
 
-    final String langudage0 = language[0];
-    if (!firstPattern.matcher(langudage0).matches())
-      throw new IllegalArgumentException(langudage0);
+    final StringBuilder b = new StringBuilder();
+    for (int i = 0; i < len; ++i) { // [A]
+      final String subtag = language[i];
+      if (!isSubtag(subtag, 0, subtag.length(), i == 0))
+        throw new IllegalArgumentException(subtag);
+
+      if (i > 0)
+        b.append('-');
 
-    for (int i = 1; i < len; ++i) // [A]
-      if (!otherPattern.matcher(language[i]).matches())
-        throw new IllegalArgumentException(language[i]);
+      b.append(subtag);
+    }
 
-    this.language = language;
+    this.language = language.clone();
+    this.encoded = b.toString();
   }
 
   public Language(final Collection<String> language) {
@@ -74,22 +123,22 @@ public class Language implements CharSequence, Serializable {
   }
 
   public String[] getLanguage() {
-    return language;
+    return language.clone();
   }
 
   @Override
   public int length() {
-    return toString().length();
+    return encoded.length();
   }
 
   @Override
   public char charAt(final int index) {
-    return toString().charAt(index);
+    return encoded.charAt(index);
   }
 
   @Override
   public CharSequence subSequence(final int start, final int end) {
-    return toString().subSequence(start, end);
+    return encoded.subSequence(start, end);
   }
 
   @Override
@@ -101,31 +150,16 @@ public class Language implements CharSequence, Serializable {
       return false;
 
     final Language that = (Language)obj;
-    return Arrays.equals(this.language, that.language);
+    return encoded.equals(that.encoded);
   }
 
   @Override
   public int hashCode() {
-    return Arrays.hashCode(language);
+    return encoded.hashCode();
   }
 
   @Override
   public String toString() {
-    if (encoded != null)
-      return encoded;
-
-    final int i$ = language.length;
-    if (i$ == 0)
-      return encoded = "";
-
-    final StringBuilder b = new StringBuilder();
-    for (int i = 0; i < i$; ++i) { // [A]
-      if (i > 0)
-        b.append('-');
-
-      b.append(language[i]);
-    }
-
-    return encoded = b.toString();
+    return encoded;
   }
 }
\ No newline at end of file
@@ -34,41 +34,61 @@ public class Month extends TemporalType {
     if (!string.startsWith(PAD_FRAG) || string.length() < PAD_FRAG.length() + MONTH_FRAG_MIN_LENGTH)
       throw new IllegalArgumentException(string);
 
-    final int month = parseMonthFrag(string.substring(PAD_FRAG.length()));
-    final TimeZone timeZone = Time.parseTimeZoneFrag(string.substring(PAD_FRAG.length() + MONTH_FRAG_MIN_LENGTH));
-    return new Month(month, timeZone);
+    final int month = parseMonthFrag(string, PAD_FRAG.length());
+    final TimeZone timeZone = Time.parseTimeZoneFrag(string, PAD_FRAG.length() + MONTH_FRAG_MIN_LENGTH);
+    return valueOf(month, timeZone);
+  }
+
+  private static final Interner<Month> interner = new Interner<>(6);
+
+  /**
+   * Returns the canonical {@link Month} of the specified month in the specified {@link TimeZone}. Instances in the default
+   * {@link TimeZone} (i.e. {@code null}), in UTC, or in a {@link TimeZone} returned by {@link #parse(String)} are shared.
+   *
+   * @param month The month.
+   * @param timeZone The {@link TimeZone}, or {@code null} for the default {@link TimeZone}.
+   * @return The canonical {@link Month} of the specified month in the specified {@link TimeZone}.
+   * @throws IllegalArgumentException If the value is not valid.
+   */
+  public static Month valueOf(final int month, final TimeZone timeZone) {
+    final long key = Interner.key(month, timeZone);
+    if (key == Interner.NONE)
+      return new Month(month, timeZone);
+
+    final Month value = Interner.current(interner.get(key), timeZone);
+    return value != null ? value : interner.intern(key, new Month(month, timeZone));
   }
 
   protected static int parseMonthFrag(final String string) {
-    if (string.length() < MONTH_FRAG_MIN_LENGTH)
-      throw new IllegalArgumentException("month == " + string);
+    return parseMonthFrag(string, 0);
+  }
+
+  static int parseMonthFrag(final String string, final int off) {
+    if (string.length() - off < MONTH_FRAG_MIN_LENGTH)
+      throw new IllegalArgumentException("month == " + string.substring(off));
 
-    final char ch = string.charAt(0);
-    final char ch2 = string.charAt(1);
+    final char ch = string.charAt(off);
+    final char ch2 = string.charAt(off + 1);
     if (ch == '0') {
       if (ch2 < '1' || '9' < ch2)
-        throw new IllegalArgumentException("month == " + string);
+        throw new IllegalArgumentException("month == " + string.substring(off));
     }
     else if (ch == '1') {
       if (ch2 < '0' || '2' < ch2)
-        throw new IllegalArgumentException("month == " + string);
+        throw new IllegalArgumentException("month == " + string.substring(off));
     }
     else {
-      throw new IllegalArgumentException("month == " + string);
+      throw new IllegalArgumentException("month == " + string.substring(off));
     }
 
-    try {
-      return Integer.parseInt("" + ch + ch2);
-    }
-    catch (final NumberFormatException e) {
-      throw new IllegalArgumentException("month == " + string, e);
-    }
+    return (ch - '0') * 10 + ch2 - '0';
   }
 
   protected static final int MONTH_FRAG_MIN_LENGTH = 2;
   private static final String PAD_FRAG = "--";
 
   private final int month;
+  private transient int hashCode;
 
   public Month(final int month, final TimeZone timeZone) {
     super(timeZone);
@@ -81,10 +101,9 @@ public class Month extends TemporalType {
     this(month, null);
   }
 
-  @SuppressWarnings("deprecation")
   public Month(final long timeMs) {
     super(TimeZone.getDefault());
-    this.month = new java.util.Date(timeMs).getMonth() + 1;
+    this.month = Temporals.civilMonth(Temporals.toCivil(Temporals.localEpochDay(timeMs, timeZone)));
   }
 
   public Month() {
@@ -109,11 +128,17 @@ public class Month extends TemporalType {
 
   @Override
   public int hashCode() {
-    return 31 * super.hashCode() + month;
+    int hashCode = this.hashCode;
+    if (hashCode == 0)
+      this.hashCode = hashCode = 31 * super.hashCode() + month;
+
+    return hashCode;
   }
 
   @Override
-  protected StringBuilder toEmbeddedString(final StringBuilder b) {
-    return b.append(month < 10 ? "--0" : "--").append(month);
+  protected int printEmbeddedTo(final char[] buf, int off) {
+    buf[off++] = '-';
+    buf[off++] = '-';
+    return Temporals.printTwoDigits(buf, off, month);
   }
 }
\ No newline at end of file
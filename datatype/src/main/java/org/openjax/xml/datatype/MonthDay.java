@@ -35,27 +35,53 @@ public class MonthDay extends TemporalType {
     if (!string.startsWith(PAD_FRAG) || string.length() < PAD_FRAG.length() + MONTH_DAY_FRAG_MIN_LENGTH)
       throw new IllegalArgumentException("month-day == " + string);
 
-    final MonthDay monthDay = parseMonthDayFrag(string = string.substring(PAD_FRAG.length()));
-    if (MONTH_DAY_FRAG_MIN_LENGTH >= string.length())
-      return monthDay;
+    final int monthDay = parseMonthDayFrag(string, PAD_FRAG.length());
+    final TimeZone timeZone = Time.parseTimeZoneFrag(string, PAD_FRAG.length() + MONTH_DAY_FRAG_MIN_LENGTH);
+    return valueOf(monthDay >> 5, monthDay & 0x1F, timeZone);
+  }
 
-    final TimeZone timeZone = Time.parseTimeZoneFrag(string.substring(MONTH_DAY_FRAG_MIN_LENGTH));
-    return new MonthDay(monthDay.getMonth(), monthDay.getDay(), timeZone);
+  private static final Interner<MonthDay> interner = new Interner<>(9);
+
+  /**
+   * Returns the canonical {@link MonthDay} of the specified month and day in the specified {@link TimeZone}. Instances in the
+   * default {@link TimeZone} (i.e. {@code null}), in UTC, or in a {@link TimeZone} returned by {@link #parse(String)} are shared.
+   *
+   * @param month The month.
+   * @param day The day.
+   * @param timeZone The {@link TimeZone}, or {@code null} for the default {@link TimeZone}.
+   * @return The canonical {@link MonthDay} of the specified month and day in the specified {@link TimeZone}.
+   * @throws IllegalArgumentException If the value is not valid.
+   */
+  public static MonthDay valueOf(final int month, final int day, final TimeZone timeZone) {
+    final long key = (month & ~0xF) != 0 || (day & ~0x1F) != 0 ? Interner.NONE : Interner.key(month << 5 | day, timeZone);
+    if (key == Interner.NONE)
+      return new MonthDay(month, day, timeZone);
+
+    final MonthDay value = Interner.current(interner.get(key), timeZone);
+    return value != null ? value : interner.intern(key, new MonthDay(month, day, timeZone));
   }
 
-  protected static MonthDay parseMonthDayFrag(String string) {
-    if (string.length() < MONTH_DAY_FRAG_MIN_LENGTH)
-      throw new IllegalArgumentException("month-day == " + string);
+  protected static MonthDay parseMonthDayFrag(final String string) {
+    final int monthDay = parseMonthDayFrag(string, 0);
+    return valueOf(monthDay >> 5, monthDay & 0x1F, null);
+  }
 
-    final int month = Month.parseMonthFrag(string);
-    final int day = Day.parseDayFrag(string.substring(Month.MONTH_FRAG_MIN_LENGTH + 1));
+  /**
+   * Returns the month and day of the month-day fragment at the specified offset, as {@code month << 5 | day}.
+   */
+  private static int parseMonthDayFrag(final String string, final int off) {
+    if (string.length() - off < MONTH_DAY_FRAG_MIN_LENGTH)
+      throw new IllegalArgumentException("month-day == " + string.substring(off));
+
+    final int month = Month.parseMonthFrag(string, off);
+    final int day = Day.parseDayFrag(string, off + Month.MONTH_FRAG_MIN_LENGTH + 1);
     if (month == 2 && 29 < day)
       throw new IllegalArgumentException("month == " + month + " day == " + day);
 
     if (Arrays.binarySearch(LONG_MONTHS, month) < 0 && 30 < day)
       throw new IllegalArgumentException("month == " + month + " day == " + day);
 
-    return new MonthDay(month, day);
+    return month << 5 | day;
   }
 
   protected static final int MONTH_DAY_FRAG_MIN_LENGTH = Month.MONTH_FRAG_MIN_LENGTH + 1 + Day.DAY_FRAG_MIN_LENGTH;
@@ -64,9 +90,10 @@ public class MonthDay extends TemporalType {
 
   private final Month month;
   private final Day day;
+  private transient int hashCode;
 
   public MonthDay(final int month, final int day, final TimeZone timeZone) {
-    this(new Month(month), new Day(day), timeZone);
+    this(Month.valueOf(month, null), Day.valueOf(day, null), timeZone);
   }
 
   protected MonthDay(final Month month, final Day day, final TimeZone timeZone) {
@@ -114,20 +141,21 @@ public class MonthDay extends TemporalType {
 
   @Override
   public int hashCode() {
-    int hashCode = super.hashCode();
-    hashCode = 31 * hashCode + month.hashCode();
-    hashCode = 31 * hashCode + day.hashCode();
+    int hashCode = this.hashCode;
+    if (hashCode == 0) {
+      hashCode = super.hashCode();
+      hashCode = 31 * hashCode + month.hashCode();
+      hashCode = 31 * hashCode + day.hashCode();
+      this.hashCode = hashCode;
+    }
+
     return hashCode;
   }
 
   @Override
-  protected StringBuilder toEmbeddedString(final StringBuilder b) {
-    month.toEmbeddedString(b).append('-');
-    final int day = getDay();
-    if (day < 10)
-      b.append('0');
-
-    b.append(day);
-    return b;
+  protected int printEmbeddedTo(final char[] buf, int off) {
+    off = month.printEmbeddedTo(buf, off);
+    buf[off++] = '-';
+    return Temporals.printTwoDigits(buf, off, getDay());
   }
 }
\ No newline at end of file
@@ -16,22 +16,109 @@
 
 package org.openjax.xml.datatype;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.Writer;
 import java.util.Objects;
 import java.util.TimeZone;
 
 public abstract class TemporalType implements Serializable {
+  /** The maximum number of chars printed by {@link #printTo(char[],int)}. */
+  public static final int MAX_PRINT_LENGTH = 42;
+
+  private static final ThreadLocal<char[]> buffer = ThreadLocal.withInitial(() -> new char[MAX_PRINT_LENGTH]);
+
   protected final TimeZone timeZone;
-  private String timeZoneStr;
+  private final transient boolean defaultTimeZone;
+  private transient String string;
 
   protected TemporalType(final TimeZone timeZone) {
-    this.timeZone = timeZone == null ? TimeZone.getDefault() : timeZone;
+    this.defaultTimeZone = timeZone == null;
+    this.timeZone = defaultTimeZone ? TimeZone.getDefault() : timeZone;
+  }
+
+  /**
+   * Appends the lexical value of this object, excluding its timezone, to the provided {@link StringBuilder}.
+   *
+   * @param b The {@link StringBuilder} to which to append.
+   * @return The provided {@link StringBuilder}.
+   * @deprecated Use {@link #printEmbeddedTo(char[],int)} instead.
+   */
+  @Deprecated
+  protected StringBuilder toEmbeddedString(final StringBuilder b) {
+    final char[] buf = buffer.get();
+    return b.append(buf, 0, printEmbeddedTo(buf, 0));
   }
 
-  protected abstract StringBuilder toEmbeddedString(StringBuilder b);
+  /**
+   * Prints the lexical value of this object, excluding its timezone, to the provided {@code char[]}.
+   *
+   * @param buf The {@code char[]} to which to print.
+   * @param off The offset in {@code buf} at which to start printing.
+   * @return The offset in {@code buf} after the last printed char.
+   */
+  protected abstract int printEmbeddedTo(char[] buf, int off);
 
+  /**
+   * Prints the lexical value of this object to the provided {@code char[]}, without creating intermediate objects.
+   *
+   * @param buf The {@code char[]} to which to print.
+   * @param off The offset in {@code buf} at which to start printing.
+   * @return The offset in {@code buf} after the last printed char.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the printed chars, of which there are at most
+   *           {@link #MAX_PRINT_LENGTH}.
+   */
+  public final int printTo(final char[] buf, final int off) {
+    return Time.printTimeZone(buf, printEmbeddedTo(buf, off), timeZone);
+  }
+
+  /**
+   * Prints the lexical value of this object to the provided {@link StringBuilder}.
+   *
+   * @param b The {@link StringBuilder} to which to print.
+   * @return The provided {@link StringBuilder}.
+   */
+  public final StringBuilder printTo(final StringBuilder b) {
+    final char[] buf = buffer.get();
+    return b.append(buf, 0, printTo(buf, 0));
+  }
+
+  /**
+   * Prints the lexical value of this object to the provided {@link Appendable}.
+   *
+   * @param out The {@link Appendable} to which to print.
+   * @throws IOException If an I/O error has occurred.
+   */
+  public final void printTo(final Appendable out) throws IOException {
+    final char[] buf = buffer.get();
+    final int len = printTo(buf, 0);
+    if (out instanceof StringBuilder)
+      ((StringBuilder)out).append(buf, 0, len);
+    else if (out instanceof Writer)
+      ((Writer)out).write(buf, 0, len);
+    else
+      for (int i = 0; i < len; ++i) // [A]
+        out.append(buf[i]);
+  }
+
+  /**
+   * Returns the {@link TimeZone} of this object. Parsed values, and values in the default {@link TimeZone}, share {@link TimeZone}
+   * instances, which are not exposed, so a copy is returned for these. Use {@link #getTimeZoneOffset()} to read the offset without
+   * the copy.
+   *
+   * @return The {@link TimeZone} of this object.
+   */
   public final TimeZone getTimeZone() {
-    return timeZone;
+    return defaultTimeZone || Temporals.isShared(timeZone) ? (TimeZone)timeZone.clone() : timeZone;
+  }
+
+  /**
+   * Returns the offset of the {@link TimeZone} of this object in minutes, as it is printed.
+   *
+   * @return The offset of the {@link TimeZone} of this object in minutes.
+   */
+  public final int getTimeZoneOffset() {
+    return (timeZone.getRawOffset() + timeZone.getDSTSavings()) / 60000;
   }
 
   @Override
@@ -53,6 +140,12 @@ public abstract class TemporalType implements Serializable {
 
   @Override
   public final String toString() {
-    return toEmbeddedString(new StringBuilder()).append(timeZoneStr == null ? timeZoneStr = Time.formatTimeZone(timeZone) : timeZoneStr).toString();
+    String string = this.string;
+    if (string == null) {
+      final char[] buf = buffer.get();
+      this.string = string = new String(buf, 0, printTo(buf, 0));
+    }
+
+    return string;
   }
 }
\ No newline at end of file
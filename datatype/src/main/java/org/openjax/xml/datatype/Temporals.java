@@ -0,0 +1,813 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.datatype;
+
+import java.util.TimeZone;
+
+/**
+ * Utility functions for allocation-free operations on the lexical values of the XSD temporal types.
+ * <p>
+ * The {@code parse} methods in this class read a range of a {@link CharSequence}, and return primitive values packed in
+ * {@code long}s. Each packed value carries the timezone offset in its low 16 bits, which is extracted with
+ * {@link #offsetOf(long)}, and is {@link #NO_OFFSET} for lexical values that do not specify a timezone:
+ *
+ * <pre>
+ * {@code Type     | Packed value             | Accessor
+ * ---------------------------------------------------------
+ * date     | epochDay  << 16 | offset | epochDayOf(long)
+ * time     | nanoOfDay << 16 | offset | nanoOfDayOf(long)
+ * dateTime | epochSecond              | (out[index])
+ *          | nano      << 16 | offset | nanoOf(long)}
+ * </pre>
+ *
+ * Lexical values without a timezone are converted as if they were in UTC.
+ */
+public final class Temporals {
+  /** The value returned by {@link #offsetOf(long)} for lexical values that do not specify a timezone. */
+  public static final int NO_OFFSET = Short.MIN_VALUE;
+
+  static final long NANOS_PER_SECOND = 1000000000L;
+  static final long SECONDS_PER_DAY = 86400L;
+  static final long NANOS_PER_DAY = SECONDS_PER_DAY * NANOS_PER_SECOND;
+  static final long MILLIS_PER_DAY = SECONDS_PER_DAY * 1000;
+  static final int MAX_OFFSET_MINUTES = 14 * 60;
+
+  private static final int[] POW10 = {1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000};
+  private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+  static boolean isLeapYear(final long year) {
+    return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+  }
+
+  static int lengthOfMonth(final long year, final int month) {
+    return month == 2 && isLeapYear(year) ? 29 : DAYS_IN_MONTH[month - 1];
+  }
+
+  /**
+   * Returns the number of days since 1970-01-01 of the specified date in the proleptic Gregorian calendar.
+   *
+   * @param year The year.
+   * @param month The month of the year, from 1 to 12.
+   * @param day The day of the month, from 1 to 31.
+   * @return The number of days since 1970-01-01 of the specified date in the proleptic Gregorian calendar.
+   */
+  static long toEpochDay(long year, final int month, final int day) {
+    if (month <= 2)
+      --year;
+
+    final long era = (year >= 0 ? year : year - 399) / 400;
+    final long yoe = year - era * 400;
+    final long doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+    final long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+    return era * 146097 + doe - 719468;
+  }
+
+  /**
+   * Returns the date of the specified number of days since 1970-01-01 in the proleptic Gregorian calendar, packed as
+   * {@code year << 9 | month << 5 | day}, of which the parts are extracted with {@link #civilYear(long)},
+   * {@link #civilMonth(long)} and {@link #civilDay(long)}.
+   *
+   * @param epochDay The number of days since 1970-01-01.
+   * @return The packed date of the specified number of days since 1970-01-01.
+   */
+  static long toCivil(final long epochDay) {
+    final long z = epochDay + 719468;
+    final long era = (z >= 0 ? z : z - 146096) / 146097;
+    final long doe = z - era * 146097;
+    final long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+    final long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+    final long mp = (5 * doy + 2) / 153;
+    final long day = doy - (153 * mp + 2) / 5 + 1;
+    final long month = mp < 10 ? mp + 3 : mp - 9;
+    final long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+    return year << 9 | month << 5 | day;
+  }
+
+  static int civilYear(final long civil) {
+    return (int)(civil >> 9);
+  }
+
+  static int civilMonth(final long civil) {
+    return (int)(civil >> 5 & 0xf);
+  }
+
+  static int civilDay(final long civil) {
+    return (int)(civil & 0x1f);
+  }
+
+  /**
+   * Returns the number of days since 1970-01-01 of the local date at the specified instant in the provided {@link TimeZone}.
+   *
+   * @param timeMs The number of milliseconds since 1970-01-01T00:00:00Z.
+   * @param timeZone The {@link TimeZone}, or {@code null} for the default {@link TimeZone}.
+   * @return The number of days since 1970-01-01 of the local date at the specified instant in the provided {@link TimeZone}.
+   */
+  static long localEpochDay(final long timeMs, final TimeZone timeZone) {
+    return Math.floorDiv(timeMs + (timeZone != null ? timeZone : TimeZone.getDefault()).getOffset(timeMs), MILLIS_PER_DAY);
+  }
+
+  /**
+   * Returns the milli of day of the local time at the specified instant in the provided {@link TimeZone}.
+   *
+   * @param timeMs The number of milliseconds since 1970-01-01T00:00:00Z.
+   * @param timeZone The {@link TimeZone}, or {@code null} for the default {@link TimeZone}.
+   * @return The milli of day of the local time at the specified instant in the provided {@link TimeZone}.
+   */
+  static int localMillisOfDay(final long timeMs, final TimeZone timeZone) {
+    return (int)Math.floorMod(timeMs + (timeZone != null ? timeZone : TimeZone.getDefault()).getOffset(timeMs), MILLIS_PER_DAY);
+  }
+
+  /**
+   * Returns the {@link TimeZone} with the specified offset, as would be returned by {@link TimeZone#getTimeZone(String)} for
+   * {@code "GMT[+-]hh:mm"}. The instances are shared, and must therefore not be modified.
+   *
+   * @param offsetMinutes The timezone offset in minutes, in the range of {@code -14:00} to {@code +14:00}.
+   * @return The {@link TimeZone} with the specified offset.
+   * @throws ArrayIndexOutOfBoundsException If {@code offsetMinutes} is out of range.
+   */
+  static TimeZone getTimeZone(final int offsetMinutes) {
+    return TimeZones.table[offsetMinutes + MAX_OFFSET_MINUTES];
+  }
+
+  /**
+   * Returns whether the specified {@link TimeZone} is one of the shared instances returned by {@link #getTimeZone(int)}, or
+   * {@link DateTime#GMT}.
+   *
+   * @param timeZone The {@link TimeZone}.
+   * @return Whether the specified {@link TimeZone} is one of the shared instances.
+   */
+  static boolean isShared(final TimeZone timeZone) {
+    if (timeZone == DateTime.GMT)
+      return true;
+
+    final int offset = timeZone.getRawOffset() / 60000;
+    return -MAX_OFFSET_MINUTES <= offset && offset <= MAX_OFFSET_MINUTES && TimeZones.table[offset + MAX_OFFSET_MINUTES] == timeZone;
+  }
+
+  private static final class TimeZones {
+    private static final TimeZone[] table = new TimeZone[2 * MAX_OFFSET_MINUTES + 1];
+
+    static {
+      final char[] id = {'G', 'M', 'T', 0, 0, 0, 0, 0, 0};
+      for (int i = 0; i < table.length; ++i) { // [A]
+        printOffset(id, 3, i - MAX_OFFSET_MINUTES);
+        table[i] = TimeZone.getTimeZone(new String(id));
+      }
+    }
+  }
+
+  private static void assertRange(final int off, final int len, final CharSequence str) {
+    if (off < 0)
+      throw new IndexOutOfBoundsException("off (" + off + ") must be non-negative");
+
+    if (len < 0)
+      throw new IndexOutOfBoundsException("len (" + len + ") must be non-negative");
+
+    if (off + len > str.length())
+      throw new IndexOutOfBoundsException("off (" + off + ") + len (" + len + ") > str.length() (" + str.length() + ")");
+  }
+
+  private static void assertRange(final int off, final int len, final char[] chars) {
+    if (off < 0)
+      throw new IndexOutOfBoundsException("off (" + off + ") must be non-negative");
+
+    if (len < 0)
+      throw new IndexOutOfBoundsException("len (" + len + ") must be non-negative");
+
+    if (off + len > chars.length)
+      throw new IndexOutOfBoundsException("off (" + off + ") + len (" + len + ") > chars.length (" + chars.length + ")");
+  }
+
+  private static IllegalArgumentException illegal(final String type, final CharSequence str, final int off, final int end) {
+    return new IllegalArgumentException(type + " == " + str.subSequence(off, end));
+  }
+
+  private static IllegalArgumentException illegal(final String type, final char[] chars, final int off, final int end) {
+    return new IllegalArgumentException(type + " == " + new String(chars, off, end - off));
+  }
+
+  private static int trimStart(final CharSequence str, int i, final int end) {
+    while (i < end && str.charAt(i) <= ' ')
+      ++i;
+
+    return i;
+  }
+
+  private static int trimStart(final char[] chars, int i, final int end) {
+    while (i < end && chars[i] <= ' ')
+      ++i;
+
+    return i;
+  }
+
+  private static int trimEnd(final CharSequence str, final int start, int end) {
+    while (end > start && str.charAt(end - 1) <= ' ')
+      --end;
+
+    return end;
+  }
+
+  private static int trimEnd(final char[] chars, final int start, int end) {
+    while (end > start && chars[end - 1] <= ' ')
+      --end;
+
+    return end;
+  }
+
+  private static int digit(final CharSequence str, final int i, final int end) {
+    if (i >= end)
+      return -1;
+
+    final int digit = str.charAt(i) - '0';
+    return digit < 0 || 9 < digit ? -1 : digit;
+  }
+
+  private static int digit(final char[] chars, final int i, final int end) {
+    if (i >= end)
+      return -1;
+
+    final int digit = chars[i] - '0';
+    return digit < 0 || 9 < digit ? -1 : digit;
+  }
+
+  private static int twoDigits(final CharSequence str, final int i, final int end) {
+    final int d1 = digit(str, i, end);
+    final int d0 = digit(str, i + 1, end);
+    return d1 < 0 || d0 < 0 ? -1 : d1 * 10 + d0;
+  }
+
+  private static int twoDigits(final char[] chars, final int i, final int end) {
+    final int d1 = digit(chars, i, end);
+    final int d0 = digit(chars, i + 1, end);
+    return d1 < 0 || d0 < 0 ? -1 : d1 * 10 + d0;
+  }
+
+  /**
+   * Returns the index immediately after the {@code dateFrag} (i.e. {@code yyyy-mm-dd}) that starts at {@code i}, or {@code -1} if
+   * the range does not contain a {@code dateFrag}.
+   */
+  private static int endOfDateFrag(final CharSequence str, final int i, final int end) {
+    int j = i < end && str.charAt(i) == '-' ? i + 1 : i;
+    final int start = j;
+    while (digit(str, j, end) >= 0)
+      ++j;
+
+    final int digits = j - start;
+    return digits < 4 || 9 < digits || j + 6 > end || str.charAt(j) != '-' || str.charAt(j + 3) != '-' ? -1 : j + 6;
+  }
+
+  private static int endOfDateFrag(final char[] chars, final int i, final int end) {
+    int j = i < end && chars[i] == '-' ? i + 1 : i;
+    final int start = j;
+    while (digit(chars, j, end) >= 0)
+      ++j;
+
+    final int digits = j - start;
+    return digits < 4 || 9 < digits || j + 6 > end || chars[j] != '-' || chars[j + 3] != '-' ? -1 : j + 6;
+  }
+
+  /**
+   * Returns the epoch day of the {@code dateFrag} in the range from {@code i} to {@code j}, or {@link Long#MIN_VALUE} if the
+   * {@code dateFrag} is not valid.
+   */
+  private static long parseDateFrag(final CharSequence str, int i, final int j) {
+    final boolean negative = str.charAt(i) == '-';
+    if (negative)
+      ++i;
+
+    int year = 0;
+    for (final int yearEnd = j - 6; i < yearEnd; ++i) // [N]
+      year = year * 10 + str.charAt(i) - '0';
+
+    final int month = twoDigits(str, j - 5, j);
+    final int day = twoDigits(str, j - 2, j);
+    if (month < 1 || 12 < month || day < 1 || lengthOfMonth(negative ? -year : year, month) < day)
+      return Long.MIN_VALUE;
+
+    return toEpochDay(negative ? -year : year, month, day);
+  }
+
+  private static long parseDateFrag(final char[] chars, int i, final int j) {
+    final boolean negative = chars[i] == '-';
+    if (negative)
+      ++i;
+
+    int year = 0;
+    for (final int yearEnd = j - 6; i < yearEnd; ++i) // [N]
+      year = year * 10 + chars[i] - '0';
+
+    final int month = twoDigits(chars, j - 5, j);
+    final int day = twoDigits(chars, j - 2, j);
+    if (month < 1 || 12 < month || day < 1 || lengthOfMonth(negative ? -year : year, month) < day)
+      return Long.MIN_VALUE;
+
+    return toEpochDay(negative ? -year : year, month, day);
+  }
+
+  /**
+   * Returns the index immediately after the {@code timeFrag} (i.e. {@code hh:mm:ss(.s+)?}) that starts at {@code i}, or {@code -1}
+   * if the range does not contain a {@code timeFrag}.
+   */
+  private static int endOfTimeFrag(final CharSequence str, final int i, final int end) {
+    if (i + 8 > end || str.charAt(i + 2) != ':' || str.charAt(i + 5) != ':')
+      return -1;
+
+    int j = i + 8;
+    if (j < end && str.charAt(j) == '.') {
+      final int start = ++j;
+      while (digit(str, j, end) >= 0)
+        ++j;
+
+      if (j == start)
+        return -1;
+    }
+
+    return j;
+  }
+
+  private static int endOfTimeFrag(final char[] chars, final int i, final int end) {
+    if (i + 8 > end || chars[i + 2] != ':' || chars[i + 5] != ':')
+      return -1;
+
+    int j = i + 8;
+    if (j < end && chars[j] == '.') {
+      final int start = ++j;
+      while (digit(chars, j, end) >= 0)
+        ++j;
+
+      if (j == start)
+        return -1;
+    }
+
+    return j;
+  }
+
+  /**
+   * Returns the nano of day of the {@code timeFrag} in the range from {@code i} to {@code j}, or {@code -1} if the {@code timeFrag}
+   * is not valid.
+   */
+  private static long parseTimeFrag(final CharSequence str, final int i, final int j) {
+    final int hour = twoDigits(str, i, j);
+    final int minute = twoDigits(str, i + 3, j);
+    final int second = twoDigits(str, i + 6, j);
+    if (hour < 0 || 24 < hour || minute < 0 || 59 < minute || second < 0 || 59 < second)
+      return -1;
+
+    int nano = 0;
+    for (int k = i + 9, digits = 0; k < j; ++k) { // [N]
+      if (digits < 9) {
+        nano = nano * 10 + str.charAt(k) - '0';
+        if (++digits == 9 || k == j - 1)
+          nano *= POW10[9 - digits];
+      }
+    }
+
+    if (hour == 24 && (minute != 0 || second != 0 || nano != 0))
+      return -1;
+
+    return (hour * 3600L + minute * 60 + second) * NANOS_PER_SECOND + nano;
+  }
+
+  private static long parseTimeFrag(final char[] chars, final int i, final int j) {
+    final int hour = twoDigits(chars, i, j);
+    final int minute = twoDigits(chars, i + 3, j);
+    final int second = twoDigits(chars, i + 6, j);
+    if (hour < 0 || 24 < hour || minute < 0 || 59 < minute || second < 0 || 59 < second)
+      return -1;
+
+    int nano = 0;
+    for (int k = i + 9, digits = 0; k < j; ++k) { // [N]
+      if (digits < 9) {
+        nano = nano * 10 + chars[k] - '0';
+        if (++digits == 9 || k == j - 1)
+          nano *= POW10[9 - digits];
+      }
+    }
+
+    if (hour == 24 && (minute != 0 || second != 0 || nano != 0))
+      return -1;
+
+    return (hour * 3600L + minute * 60 + second) * NANOS_PER_SECOND + nano;
+  }
+
+  /**
+   * Returns the offset in minutes of the {@code timezoneFrag} in the range from {@code i} to {@code end}, {@link #NO_OFFSET} if the
+   * range is empty, or {@link Integer#MIN_VALUE} if the {@code timezoneFrag} is not valid. Offsets are limited to the range of
+   * {@code -14:00} to {@code +14:00}.
+   */
+  static int parseTimezoneFrag(final CharSequence str, final int i, final int end) {
+    final int offset = parseOffset(str, i, end);
+    return offset == NO_OFFSET || -MAX_OFFSET_MINUTES <= offset && offset <= MAX_OFFSET_MINUTES ? offset : Integer.MIN_VALUE;
+  }
+
+  static int parseTimezoneFrag(final char[] chars, final int i, final int end) {
+    final int offset = parseOffset(chars, i, end);
+    return offset == NO_OFFSET || -MAX_OFFSET_MINUTES <= offset && offset <= MAX_OFFSET_MINUTES ? offset : Integer.MIN_VALUE;
+  }
+
+  /**
+   * Returns the offset in minutes of the {@code timezoneFrag} in the range from {@code i} to {@code end}, as
+   * {@link #parseTimezoneFrag(CharSequence,int,int)}, but with the hour and minute only limited to {@code 14} and {@code 59}
+   * respectively, as accepted by the {@code parse(String)} methods of the {@link TemporalType} subclasses.
+   */
+  static int parseOffset(final CharSequence str, final int i, final int end) {
+    final int len = end - i;
+    if (len == 0)
+      return NO_OFFSET;
+
+    final char ch = str.charAt(i);
+    if (ch == 'Z')
+      return len == 1 ? 0 : Integer.MIN_VALUE;
+
+    if (len != 6 || ch != '+' && ch != '-' || str.charAt(i + 3) != ':')
+      return Integer.MIN_VALUE;
+
+    final int hour = twoDigits(str, i + 1, end);
+    final int minute = twoDigits(str, i + 4, end);
+    if (hour < 0 || 14 < hour || minute < 0 || 59 < minute)
+      return Integer.MIN_VALUE;
+
+    final int offset = hour * 60 + minute;
+    return ch == '-' ? -offset : offset;
+  }
+
+  static int parseOffset(final char[] chars, final int i, final int end) {
+    final int len = end - i;
+    if (len == 0)
+      return NO_OFFSET;
+
+    final char ch = chars[i];
+    if (ch == 'Z')
+      return len == 1 ? 0 : Integer.MIN_VALUE;
+
+    if (len != 6 || ch != '+' && ch != '-' || chars[i + 3] != ':')
+      return Integer.MIN_VALUE;
+
+    final int hour = twoDigits(chars, i + 1, end);
+    final int minute = twoDigits(chars, i + 4, end);
+    if (hour < 0 || 14 < hour || minute < 0 || 59 < minute)
+      return Integer.MIN_VALUE;
+
+    final int offset = hour * 60 + minute;
+    return ch == '-' ? -offset : offset;
+  }
+
+  /**
+   * Parses the <a href="http://www.w3.org/TR/xmlschema11-2/#date">xs:date</a> lexical value in the specified range of the provided
+   * {@link CharSequence}, and returns the packed {@code epochDay << 16 | offset} value.
+   *
+   * @param str The {@link CharSequence}.
+   * @param off Start index of the lexical value.
+   * @param len Length of the lexical value.
+   * @return The packed {@code epochDay << 16 | offset} value.
+   * @throws IndexOutOfBoundsException For range parameters that are out-of-bounds ({@code off < 0 || len < 0 ||
+   *         off + len > str.length()}).
+   * @throws IllegalArgumentException If the range does not contain a valid lexical value.
+   * @throws NullPointerException If {@code str} is null.
+   * @see #epochDayOf(long)
+   * @see #offsetOf(long)
+   */
+  public static long parseDate(final CharSequence str, final int off, final int len) {
+    assertRange(off, len, str);
+    final int i = trimStart(str, off, off + len);
+    final int end = trimEnd(str, i, off + len);
+    final int j = endOfDateFrag(str, i, end);
+    final long epochDay;
+    final int offset;
+    if (j == -1 || (epochDay = parseDateFrag(str, i, j)) == Long.MIN_VALUE || (offset = parseTimezoneFrag(str, j, end)) == Integer.MIN_VALUE)
+      throw illegal("date", str, off, off + len);
+
+    return epochDay << 16 | offset & 0xFFFF;
+  }
+
+  /**
+   * Parses the <a href="http://www.w3.org/TR/xmlschema11-2/#date">xs:date</a> lexical value in the specified range of the provided
+   * {@code char[]}, and returns the packed {@code epochDay << 16 | offset} value.
+   *
+   * @param chars The {@code char[]}.
+   * @param off Start index of the lexical value.
+   * @param len Length of the lexical value.
+   * @return The packed {@code epochDay << 16 | offset} value.
+   * @throws IndexOutOfBoundsException For range parameters that are out-of-bounds ({@code off < 0 || len < 0 ||
+   *         off + len > chars.length}).
+   * @throws IllegalArgumentException If the range does not contain a valid lexical value.
+   * @throws NullPointerException If {@code chars} is null.
+   * @see #epochDayOf(long)
+   * @see #offsetOf(long)
+   */
+  public static long parseDate(final char[] chars, final int off, final int len) {
+    assertRange(off, len, chars);
+    final int i = trimStart(chars, off, off + len);
+    final int end = trimEnd(chars, i, off + len);
+    final int j = endOfDateFrag(chars, i, end);
+    final long epochDay;
+    final int offset;
+    if (j == -1 || (epochDay = parseDateFrag(chars, i, j)) == Long.MIN_VALUE || (offset = parseTimezoneFrag(chars, j, end)) == Integer.MIN_VALUE)
+      throw illegal("date", chars, off, off + len);
+
+    return epochDay << 16 | offset & 0xFFFF;
+  }
+
+  /**
+   * Parses the <a href="http://www.w3.org/TR/xmlschema11-2/#time">xs:time</a> lexical value in the specified range of the provided
+   * {@link CharSequence}, and returns the packed {@code nanoOfDay << 16 | offset} value.
+   *
+   * @param str The {@link CharSequence}.
+   * @param off Start index of the lexical value.
+   * @param len Length of the lexical value.
+   * @return The packed {@code nanoOfDay << 16 | offset} value.
+   * @throws IndexOutOfBoundsException For range parameters that are out-of-bounds ({@code off < 0 || len < 0 ||
+   *         off + len > str.length()}).
+   * @throws IllegalArgumentException If the range does not contain a valid lexical value.
+   * @throws NullPointerException If {@code str} is null.
+   * @see #nanoOfDayOf(long)
+   * @see #offsetOf(long)
+   */
+  public static long parseTime(final CharSequence str, final int off, final int len) {
+    assertRange(off, len, str);
+    final int i = trimStart(str, off, off + len);
+    final int end = trimEnd(str, i, off + len);
+    final int j = endOfTimeFrag(str, i, end);
+    final long nanoOfDay;
+    final int offset;
+    if (j == -1 || (nanoOfDay = parseTimeFrag(str, i, j)) == -1 || (offset = parseTimezoneFrag(str, j, end)) == Integer.MIN_VALUE)
+      throw illegal("time", str, off, off + len);
+
+    return nanoOfDay << 16 | offset & 0xFFFF;
+  }
+
+  /**
+   * Parses the <a href="http://www.w3.org/TR/xmlschema11-2/#time">xs:time</a> lexical value in the specified range of the provided
+   * {@code char[]}, and returns the packed {@code nanoOfDay << 16 | offset} value.
+   *
+   * @param chars The {@code char[]}.
+   * @param off Start index of the lexical value.
+   * @param len Length of the lexical value.
+   * @return The packed {@code nanoOfDay << 16 | offset} value.
+   * @throws IndexOutOfBoundsException For range parameters that are out-of-bounds ({@code off < 0 || len < 0 ||
+   *         off + len > chars.length}).
+   * @throws IllegalArgumentException If the range does not contain a valid lexical value.
+   * @throws NullPointerException If {@code chars} is null.
+   * @see #nanoOfDayOf(long)
+   * @see #offsetOf(long)
+   */
+  public static long parseTime(final char[] chars, final int off, final int len) {
+    assertRange(off, len, chars);
+    final int i = trimStart(chars, off, off + len);
+    final int end = trimEnd(chars, i, off + len);
+    final int j = endOfTimeFrag(chars, i, end);
+    final long nanoOfDay;
+    final int offset;
+    if (j == -1 || (nanoOfDay = parseTimeFrag(chars, i, j)) == -1 || (offset = parseTimezoneFrag(chars, j, end)) == Integer.MIN_VALUE)
+      throw illegal("time", chars, off, off + len);
+
+    return nanoOfDay << 16 | offset & 0xFFFF;
+  }
+
+  /**
+   * Parses the <a href="http://www.w3.org/TR/xmlschema11-2/#dateTime">xs:dateTime</a> lexical value in the specified range of the
+   * provided {@link CharSequence}, and sets the epoch second at {@code out[index]}, and the packed {@code nano << 16 | offset} value
+   * at {@code out[index + 1]}.
+   *
+   * @param str The {@link CharSequence}.
+   * @param off Start index of the lexical value.
+   * @param len Length of the lexical value.
+   * @param out The array into which the results are to be set.
+   * @param index The index in {@code out} at which the results are to be set.
+   * @throws IndexOutOfBoundsException For range parameters that are out-of-bounds ({@code off < 0 || len < 0 ||
+   *         off + len > str.length()}), or if {@code index + 1} is out-of-bounds of {@code out}.
+   * @throws IllegalArgumentException If the range does not contain a valid lexical value.
+   * @throws NullPointerException If {@code str} or {@code out} is null.
+   * @see #nanoOf(long)
+   * @see #offsetOf(long)
+   */
+  public static void parseDateTime(final CharSequence str, final int off, final int len, final long[] out, final int index) {
+    assertRange(off, len, str);
+    final int i = trimStart(str, off, off + len);
+    final int end = trimEnd(str, i, off + len);
+    final int j = endOfDateFrag(str, i, end);
+    final int k;
+    final long epochDay;
+    final long nanoOfDay;
+    final int offset;
+    if (j == -1 || j == end || str.charAt(j) != 'T' || (k = endOfTimeFrag(str, j + 1, end)) == -1 || (epochDay = parseDateFrag(str, i, j)) == Long.MIN_VALUE || (nanoOfDay = parseTimeFrag(str, j + 1, k)) == -1 || (offset = parseTimezoneFrag(str, k, end)) == Integer.MIN_VALUE)
+      throw illegal("dateTime", str, off, off + len);
+
+    final long secondOfDay = nanoOfDay / NANOS_PER_SECOND;
+    out[index] = epochDay * SECONDS_PER_DAY + secondOfDay - (offset == NO_OFFSET ? 0 : offset * 60L);
+    out[index + 1] = (nanoOfDay - secondOfDay * NANOS_PER_SECOND) << 16 | offset & 0xFFFF;
+  }
+
+  /**
+   * Parses the <a href="http://www.w3.org/TR/xmlschema11-2/#dateTime">xs:dateTime</a> lexical value in the specified range of the
+   * provided {@code char[]}, and sets the epoch second at {@code out[index]}, and the packed {@code nano << 16 | offset} value
+   * at {@code out[index + 1]}.
+   *
+   * @param chars The {@code char[]}.
+   * @param off Start index of the lexical value.
+   * @param len Length of the lexical value.
+   * @param out The array into which the results are to be set.
+   * @param index The index in {@code out} at which the results are to be set.
+   * @throws IndexOutOfBoundsException For range parameters that are out-of-bounds ({@code off < 0 || len < 0 ||
+   *         off + len > chars.length}), or if {@code index + 1} is out-of-bounds of {@code out}.
+   * @throws IllegalArgumentException If the range does not contain a valid lexical value.
+   * @throws NullPointerException If {@code chars} or {@code out} is null.
+   * @see #nanoOf(long)
+   * @see #offsetOf(long)
+   */
+  public static void parseDateTime(final char[] chars, final int off, final int len, final long[] out, final int index) {
+    assertRange(off, len, chars);
+    final int i = trimStart(chars, off, off + len);
+    final int end = trimEnd(chars, i, off + len);
+    final int j = endOfDateFrag(chars, i, end);
+    final int k;
+    final long epochDay;
+    final long nanoOfDay;
+    final int offset;
+    if (j == -1 || j == end || chars[j] != 'T' || (k = endOfTimeFrag(chars, j + 1, end)) == -1 || (epochDay = parseDateFrag(chars, i, j)) == Long.MIN_VALUE || (nanoOfDay = parseTimeFrag(chars, j + 1, k)) == -1 || (offset = parseTimezoneFrag(chars, k, end)) == Integer.MIN_VALUE)
+      throw illegal("dateTime", chars, off, off + len);
+
+    final long secondOfDay = nanoOfDay / NANOS_PER_SECOND;
+    out[index] = epochDay * SECONDS_PER_DAY + secondOfDay - (offset == NO_OFFSET ? 0 : offset * 60L);
+    out[index + 1] = (nanoOfDay - secondOfDay * NANOS_PER_SECOND) << 16 | offset & 0xFFFF;
+  }
+
+  /**
+   * Returns the number of days since 1970-01-01 of the packed value returned by {@link #parseDate(CharSequence,int,int)}.
+   *
+   * @param packed The packed value.
+   * @return The number of days since 1970-01-01 of the packed value.
+   */
+  public static long epochDayOf(final long packed) {
+    return packed >> 16;
+  }
+
+  /**
+   * Returns the nano of day of the packed value returned by {@link #parseTime(CharSequence,int,int)}.
+   *
+   * @param packed The packed value.
+   * @return The nano of day of the packed value.
+   */
+  public static long nanoOfDayOf(final long packed) {
+    return packed >>> 16;
+  }
+
+  /**
+   * Returns the nano of second of the packed value set by {@link #parseDateTime(CharSequence,int,int,long[],int)}.
+   *
+   * @param packed The packed value.
+   * @return The nano of second of the packed value.
+   */
+  public static int nanoOf(final long packed) {
+    return (int)(packed >>> 16);
+  }
+
+  /**
+   * Returns the timezone offset in minutes of the specified packed value, or {@link #NO_OFFSET} if the packed value does not
+   * specify a timezone.
+   *
+   * @param packed The packed value.
+   * @return The timezone offset in minutes of the specified packed value, or {@link #NO_OFFSET} if the packed value does not
+   *         specify a timezone.
+   */
+  public static int offsetOf(final long packed) {
+    return (short)packed;
+  }
+
+  static int printTwoDigits(final char[] buf, int off, final int value) {
+    buf[off++] = (char)('0' + value / 10);
+    buf[off++] = (char)('0' + value % 10);
+    return off;
+  }
+
+  private static int printDigits(final char[] buf, final int off, long value, final int digits) {
+    for (int i = off + digits - 1; i >= off; --i, value /= 10) // [N]
+      buf[i] = (char)('0' + value % 10);
+
+    return off + digits;
+  }
+
+  /**
+   * Prints the specified non-negative value to the provided {@code char[]} with as many digits as it has.
+   *
+   * @param buf The {@code char[]} to which to print.
+   * @param off The offset in {@code buf} at which to start printing.
+   * @param value The non-negative value.
+   * @return The offset in {@code buf} after the last printed char.
+   */
+  static int printLong(final char[] buf, final int off, final long value) {
+    int digits = 1;
+    for (long n = value; n >= 10; n /= 10) // [N]
+      ++digits;
+
+    return printDigits(buf, off, value, digits);
+  }
+
+  /**
+   * Prints the specified nanos to the provided {@code char[]} as a fraction of a second, without trailing zeros.
+   *
+   * @param buf The {@code char[]} to which to print.
+   * @param off The offset in {@code buf} at which to start printing.
+   * @param nanos The nanos, from 1 to 999,999,999.
+   * @return The offset in {@code buf} after the last printed char.
+   */
+  static int printNanoFraction(final char[] buf, final int off, int nanos) {
+    int digits = 9;
+    for (; nanos % 10 == 0; nanos /= 10) // [N]
+      --digits;
+
+    buf[off] = '.';
+    return printDigits(buf, off + 1, nanos, digits);
+  }
+
+  /**
+   * Prints the specified year to the provided {@code char[]} as a yearFrag, which has at least 4 digits.
+   *
+   * @param buf The {@code char[]} to which to print.
+   * @param off The offset in {@code buf} at which to start printing.
+   * @param year The year.
+   * @return The offset in {@code buf} after the last printed char.
+   */
+  static int printYear(final char[] buf, int off, final int year) {
+    long abs = year;
+    if (abs < 0) {
+      buf[off++] = '-';
+      abs = -abs;
+    }
+
+    int digits = 4;
+    while (digits < 10 && abs >= POW10[digits])
+      ++digits;
+
+    return printDigits(buf, off, abs, digits);
+  }
+
+  /**
+   * Prints the specified seconds to the provided {@code char[]} as a secondFrag. A fraction is printed with the fewest digits
+   * (but not fewer than 3) that parse back to the same {@code float} value.
+   *
+   * @param buf The {@code char[]} to which to print.
+   * @param off The offset in {@code buf} at which to start printing.
+   * @param second The seconds.
+   * @return The offset in {@code buf} after the last printed char.
+   */
+  static int printSecond(final char[] buf, int off, final float second) {
+    final int whole = (int)second;
+    if (second == whole)
+      return printTwoDigits(buf, off, whole);
+
+    int scale = 1;
+    long scaled;
+    while ((float)((scaled = Math.round((double)second * POW10[scale])) / (double)POW10[scale]) != second && scale < 9)
+      ++scale;
+
+    off = printTwoDigits(buf, off, (int)(scaled / POW10[scale]));
+    buf[off++] = '.';
+    long fraction = scaled % POW10[scale];
+    if (scale < 3) {
+      fraction *= POW10[3 - scale];
+      scale = 3;
+    }
+
+    return printDigits(buf, off, fraction, scale);
+  }
+
+  /**
+   * Prints the specified timezone offset to the provided {@code char[]} as {@code [+-]hh:mm}.
+   *
+   * @param buf The {@code char[]} to which to print.
+   * @param off The offset in {@code buf} at which to start printing.
+   * @param offsetMinutes The timezone offset in minutes.
+   * @return The offset in {@code buf} after the last printed char.
+   */
+  static int printOffset(final char[] buf, int off, int offsetMinutes) {
+    if (offsetMinutes < 0) {
+      buf[off++] = '-';
+      offsetMinutes = -offsetMinutes;
+    }
+    else {
+      buf[off++] = '+';
+    }
+
+    off = printTwoDigits(buf, off, offsetMinutes / 60);
+    buf[off++] = ':';
+    return printTwoDigits(buf, off, offsetMinutes % 60);
+  }
+
+  private Temporals() {
+  }
+}
\ No newline at end of file
@@ -16,28 +16,12 @@
 
 package org.openjax.xml.datatype;
 
-import java.util.Calendar;
 import java.util.TimeZone;
 
 /**
  * http://www.w3.org/TR/xmlschema11-2/#time
  */
 public class Time extends TemporalType {
-  static Calendar newCalendar(final long timeMs, final TimeZone timeZone) {
-    if (timeZone == null)
-      throw new IllegalArgumentException("timeZone is null");
-
-    final Calendar calendar = Calendar.getInstance(timeZone);
-    calendar.setTimeInMillis(timeMs);
-    return calendar;
-  }
-
-  static Calendar newCalendar(final long timeMs) {
-    final Calendar calendar = Calendar.getInstance();
-    calendar.setTimeInMillis(timeMs);
-    return calendar;
-  }
-
   public static String print(final Time time) {
     return time == null ? null : time.toString();
   }
@@ -117,50 +101,34 @@ public class Time extends TemporalType {
   }
 
   protected static TimeZone parseTimeZoneFrag(final String string) {
-    final int length = string.length();
-    if (length == 0)
+    return parseTimeZoneFrag(string, 0);
+  }
+
+  static TimeZone parseTimeZoneFrag(final String string, final int off) {
+    final int offset = Temporals.parseOffset(string, off, string.length());
+    if (offset == Temporals.NO_OFFSET)
       return null;
 
-    int index = 0;
-    final TimeZone timeZone;
-    final char zPlusMinus = string.charAt(index);
-    if (zPlusMinus == 'Z') {
-      ++index;
-      timeZone = TimeZone.getTimeZone("GMT");
-    }
-    else if ((zPlusMinus == '+' || zPlusMinus == '-') && 6 <= length) {
-      final String hourString = string.substring(++index, index += 2);
-      final int hour = Integer.parseInt(hourString);
-      if (14 < hour || hour < 0)
-        throw new IllegalArgumentException(string);
-
-      final String minuteString = string.substring(++index, index += 2);
-      final int minute = Integer.parseInt(minuteString);
-      if (59 < minute || minute < 0)
-        throw new IllegalArgumentException(string);
-
-      timeZone = TimeZone.getTimeZone("GMT" + zPlusMinus + hourString + ":" + minuteString);
-    }
-    else {
-      throw new IllegalArgumentException("timeZone == " + string);
-    }
+    if (offset == Integer.MIN_VALUE)
+      throw new IllegalArgumentException("timeZone == " + string.substring(off));
 
-    if (index != length)
-      throw new IllegalArgumentException("timeZone == " + string);
+    if (string.charAt(off) == 'Z')
+      return DateTime.GMT;
 
-    return timeZone;
+    return -Temporals.MAX_OFFSET_MINUTES <= offset && offset <= Temporals.MAX_OFFSET_MINUTES ? Temporals.getTimeZone(offset) : TimeZone.getTimeZone("GMT" + string.substring(off));
   }
 
   protected static String formatTimeZone(final TimeZone timeZone) {
-    if (DateTime.GMT.equals(timeZone))
-      return "Z";
-
-    int offset = (timeZone.getRawOffset() + timeZone.getDSTSavings()) / 60000;
-    final boolean negative = offset < 0;
-    offset = Math.abs(offset);
-    final int hourTZ = offset / 60;
-    final int minsTZ = offset - hourTZ * 60;
-    return (negative ? "-" : "+") + (hourTZ < 10 ? "0" + hourTZ : hourTZ) + ":" + (minsTZ < 10 ? "0" + minsTZ : minsTZ);
+    final char[] buf = new char[6];
+    return new String(buf, 0, printTimeZone(buf, 0, timeZone));
+  }
+
+  static int printTimeZone(final char[] buf, final int off, final TimeZone timeZone) {
+    if (!DateTime.GMT.equals(timeZone))
+      return Temporals.printOffset(buf, off, (timeZone.getRawOffset() + timeZone.getDSTSavings()) / 60000);
+
+    buf[off] = 'Z';
+    return off + 1;
   }
 
   protected static final int HOUR_FRAG_MIN_LENGTH = 2;
@@ -193,10 +161,10 @@ public class Time extends TemporalType {
 
   public Time(final long timeMs, final TimeZone timeZone) {
     super(timeZone);
-    final Calendar calendar = newCalendar(timeMs, this.timeZone);
-    this.hour = calendar.get(Calendar.HOUR);
-    this.minute = calendar.get(Calendar.MINUTE);
-    this.second = calendar.get(Calendar.SECOND) + calendar.get(Calendar.MILLISECOND) / 1000f;
+    final int millisOfDay = Temporals.localMillisOfDay(timeMs, this.timeZone);
+    this.hour = millisOfDay / 3600000;
+    this.minute = millisOfDay / 60000 % 60;
+    this.second = millisOfDay / 1000 % 60 + millisOfDay % 1000 / 1000f;
   }
 
   public Time(final long timeMs) {
@@ -245,35 +213,11 @@ public class Time extends TemporalType {
   }
 
   @Override
-  protected StringBuilder toEmbeddedString(final StringBuilder b) {
-    if (hour < 10)
-      b.append('0');
-
-    b.append(hour).append(':');
-    if (minute < 10)
-      b.append('0');
-
-    b.append(minute).append(':');
-    if (second >= 10f) {
-      b.append(second);
-    }
-    else if (second != 0f) {
-      b.append('0').append(second);
-      for (int i = b.length() - 1; b.charAt(i) == '0'; b.deleteCharAt(i)); // [ST]
-    }
-    else {
-      b.append("00");
-    }
-
-    // Add trailing ".?00" to conform to XML millisecond standard
-    final int lastDotIndex = b.lastIndexOf(".");
-    if (lastDotIndex != -1) {
-      if (b.length() - lastDotIndex == 2)
-        b.append("00");
-      else if (b.length() - lastDotIndex == 3)
-        b.append('0');
-    }
-
-    return b;
+  protected int printEmbeddedTo(final char[] buf, int off) {
+    off = Temporals.printTwoDigits(buf, off, hour);
+    buf[off++] = ':';
+    off = Temporals.printTwoDigits(buf, off, minute);
+    buf[off++] = ':';
+    return Temporals.printSecond(buf, off, second);
   }
 }
\ No newline at end of file
@@ -16,7 +16,6 @@
 
 package org.openjax.xml.datatype;
 
-import java.util.Calendar;
 import java.util.TimeZone;
 
 /**
@@ -35,42 +34,59 @@ public class Year extends TemporalType {
     if (string.length() < YEAR_FRAG_MIN_LENGTH)
       throw new IllegalArgumentException("year == " + string);
 
-    final int year = parseYearFrag(string);
-    int index = string.indexOf('Z', YEAR_FRAG_MIN_LENGTH);
-    if (index == -1)
-      index = string.indexOf('-', YEAR_FRAG_MIN_LENGTH);
-
-    if (index == -1)
-      index = string.indexOf('+', YEAR_FRAG_MIN_LENGTH);
-
-    final TimeZone timeZone = index == -1 ? null : Time.parseTimeZoneFrag(string.substring(index));
-    return new Year(year, timeZone);
+    final int end = yearFragEnd(string);
+    final int year = parseYearFrag(string, end);
+    final TimeZone timeZone = Time.parseTimeZoneFrag(string, end);
+    return valueOf(year, timeZone);
   }
 
-  protected static int parseYearFrag(String string) {
-    if (string.length() == 0)
-      throw new IllegalArgumentException(string);
+  private static final Interner<Year> interner = new Interner<>(10);
+
+  /**
+   * Returns the canonical {@link Year} of the specified year in the specified {@link TimeZone}. Instances in the default
+   * {@link TimeZone} (i.e. {@code null}), in UTC, or in a {@link TimeZone} returned by {@link #parse(String)} are shared.
+   *
+   * @param year The year.
+   * @param timeZone The {@link TimeZone}, or {@code null} for the default {@link TimeZone}.
+   * @return The canonical {@link Year} of the specified year in the specified {@link TimeZone}.
+   */
+  public static Year valueOf(final int year, final TimeZone timeZone) {
+    final long key = Interner.key(year, timeZone);
+    if (key == Interner.NONE)
+      return new Year(year, timeZone);
+
+    final Year value = Interner.current(interner.get(key), timeZone);
+    return value != null ? value : interner.intern(key, new Year(year, timeZone));
+  }
 
-    int index = string.indexOf('Z', YEAR_FRAG_MIN_LENGTH);
-    if (index != -1)
-      string = string.substring(0, index);
+  protected static int parseYearFrag(final String string) {
+    return parseYearFrag(string, yearFragEnd(string));
+  }
 
-    index = string.indexOf('-', YEAR_FRAG_MIN_LENGTH);
-    if (index != -1)
-      string = string.substring(0, index);
+  /**
+   * Returns the index of the first {@code 'Z'}, {@code '-'} or {@code '+'} after the minimum length of a year fragment, which ends
+   * the year fragment, or the length of the specified string if there is none.
+   */
+  private static int yearFragEnd(final String string) {
+    final int len = string.length();
+    for (int i = YEAR_FRAG_MIN_LENGTH; i < len; ++i) { // [N]
+      final char ch = string.charAt(i);
+      if (ch == 'Z' || ch == '-' || ch == '+')
+        return i;
+    }
 
-    index = string.indexOf('+', YEAR_FRAG_MIN_LENGTH);
-    if (index != -1)
-      string = string.substring(0, index);
+    return len;
+  }
 
-    if (string.length() < YEAR_FRAG_MIN_LENGTH)
+  private static int parseYearFrag(final String string, final int end) {
+    if (end < YEAR_FRAG_MIN_LENGTH)
       throw new IllegalArgumentException(string);
 
     try {
-      return Integer.parseInt(string);
+      return Integer.parseInt(string, 0, end, 10);
     }
     catch (final NumberFormatException e) {
-      throw new IllegalArgumentException(string, e);
+      throw new IllegalArgumentException(string.substring(0, end), e);
     }
   }
 
@@ -78,12 +94,12 @@ public class Year extends TemporalType {
 
   private final int year;
   private final long epochTime;
+  private transient int hashCode;
 
-  @SuppressWarnings("deprecation")
   public Year(final int year, final TimeZone timeZone) {
     super(timeZone);
     this.year = year;
-    epochTime = java.util.Date.UTC(year - 1900, Calendar.JANUARY, 1, 0, 0, 0) - getTimeZone().getRawOffset() - getTimeZone().getDSTSavings();
+    epochTime = Temporals.toEpochDay(year, 1, 1) * Temporals.MILLIS_PER_DAY - this.timeZone.getRawOffset() - this.timeZone.getDSTSavings();
   }
 
   public Year(final int year) {
@@ -91,11 +107,11 @@ public class Year extends TemporalType {
   }
 
   public Year(final long timeMs, final TimeZone timeZone) {
-    this(Time.newCalendar(timeMs, timeZone).get(Calendar.YEAR), null);
+    this(Temporals.civilYear(Temporals.toCivil(Temporals.localEpochDay(timeMs, timeZone))), null);
   }
 
   public Year(final long timeMs) {
-    this(Time.newCalendar(timeMs).get(Calendar.YEAR), null);
+    this(timeMs, null);
   }
 
   public Year() {
@@ -106,6 +122,13 @@ public class Year extends TemporalType {
     return year;
   }
 
+  /**
+   * Returns the number of milliseconds since 1970-01-01T00:00:00Z of the start of this year, in the proleptic Gregorian calendar,
+   * as for {@link Date#getTime()}. Years before 1583 therefore differ from {@link java.util.Date#UTC(int,int,int,int,int,int)},
+   * which switches to the Julian calendar.
+   *
+   * @return The number of milliseconds since 1970-01-01T00:00:00Z of the start of this year.
+   */
   public long getTime() {
     return epochTime;
   }
@@ -124,20 +147,15 @@ public class Year extends TemporalType {
 
   @Override
   public int hashCode() {
-    return 31 * super.hashCode() + year;
+    int hashCode = this.hashCode;
+    if (hashCode == 0)
+      this.hashCode = hashCode = 31 * super.hashCode() + year;
+
+    return hashCode;
   }
 
   @Override
-  protected StringBuilder toEmbeddedString(final StringBuilder b) {
-    if (year < 10)
-      b.append("000").append(year);
-    else if (year < 100)
-      b.append("00").append(year);
-    else if (year < 1000)
-      b.append('0').append(year);
-    else
-      b.append(year);
-
-    return b;
+  protected int printEmbeddedTo(final char[] buf, final int off) {
+    return Temporals.printYear(buf, off, year);
   }
 }
\ No newline at end of file
@@ -55,16 +55,15 @@ public class YearMonth extends TemporalType {
   private final Month month;
   private final long epochTime;
 
-  @SuppressWarnings("deprecation")
   protected YearMonth(final Year year, final Month month, final TimeZone timeZone) {
     super(timeZone);
     this.year = year;
     this.month = month;
-    epochTime = java.util.Date.UTC(year.getYear() - 1900, month.getMonth() - 1, 1, 0, 0, 0) - getTimeZone().getRawOffset() - getTimeZone().getDSTSavings();
+    epochTime = Temporals.toEpochDay(year.getYear(), month.getMonth(), 1) * Temporals.MILLIS_PER_DAY - this.timeZone.getRawOffset() - this.timeZone.getDSTSavings();
   }
 
   public YearMonth(final int year, final int month, final TimeZone timeZone) {
-    this(new Year(year, timeZone), new Month(month, timeZone), timeZone);
+    this(Year.valueOf(year, timeZone), Month.valueOf(month, timeZone), timeZone);
   }
 
   public YearMonth(final int year, final int month) {
@@ -91,6 +90,13 @@ public class YearMonth extends TemporalType {
     return month.getMonth();
   }
 
+  /**
+   * Returns the number of milliseconds since 1970-01-01T00:00:00Z of the start of this month, in the proleptic Gregorian calendar,
+   * as for {@link Date#getTime()}. Months before 1582-10 therefore differ from
+   * {@link java.util.Date#UTC(int,int,int,int,int,int)}, which switches to the Julian calendar.
+   *
+   * @return The number of milliseconds since 1970-01-01T00:00:00Z of the start of this month.
+   */
   public long getTime() {
     return epochTime;
   }
@@ -120,12 +126,9 @@ public class YearMonth extends TemporalType {
   }
 
   @Override
-  protected StringBuilder toEmbeddedString(final StringBuilder b) {
-    year.toEmbeddedString(b).append('-');
-    final int month = getMonth();
-    if (month < 10)
-      b.append('0');
-
-    return b.append(month);
+  protected int printEmbeddedTo(final char[] buf, int off) {
+    off = year.printEmbeddedTo(buf, off);
+    buf[off++] = '-';
+    return Temporals.printTwoDigits(buf, off, getMonth());
   }
 }
\ No newline at end of file
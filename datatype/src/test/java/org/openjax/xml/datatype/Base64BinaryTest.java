@@ -24,12 +24,16 @@ public class Base64BinaryTest {
     final Base64Binary base64Binary = new Base64Binary(data.getBytes());
     final String base64String = base64Binary.toString();
     Assert.assertEquals(base64, base64String);
+    final char[] chars = new char[base64Binary.printLength() + 2];
+    Assert.assertEquals(chars.length - 1, base64Binary.printTo(chars, 1));
+    Assert.assertEquals(base64, new String(chars, 1, base64Binary.printLength()));
     final Base64Binary unmarshalled = Base64Binary.parse(base64String);
     Assert.assertEquals(data, new String(unmarshalled.getBytes()));
   }
 
   @Test
   public void testBase64Binary() {
+    assertEquals("", "");
     assertEquals("Bonjour", "Qm9uam91cg==");
     assertEquals("Hello World", "SGVsbG8gV29ybGQ=");
     assertEquals("The quick brown fox jumps over the lazy dog", "VGhlIHF1aWNrIGJyb3duIGZveCBqdW1wcyBvdmVyIHRoZSBsYXp5IGRvZw==");
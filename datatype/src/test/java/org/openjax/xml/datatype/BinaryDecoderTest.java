@@ -0,0 +1,121 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.datatype;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Base64;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class BinaryDecoderTest {
+  private static final Random random = new Random(7);
+
+  private static byte[] randomBytes(final int len) {
+    final byte[] bytes = new byte[len];
+    random.nextBytes(bytes);
+    return bytes;
+  }
+
+  private static void writeInChunks(final BinaryDecoder decoder, final String str) throws IOException {
+    final char[] chars = str.toCharArray();
+    for (int i = 0, len; i < chars.length; i += len) { // [A]
+      len = Math.min(chars.length - i, 1 + random.nextInt(11));
+      if (len % 3 == 0)
+        decoder.append(str, i, i + len);
+      else
+        decoder.write(chars, i, len);
+    }
+
+    decoder.close();
+  }
+
+  private static void assertIllegal(final BinaryDecoder decoder, final String str) throws IOException {
+    try {
+      writeInChunks(decoder, str);
+      fail("Expected IllegalArgumentException: " + str);
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testBase64Decoder() throws IOException {
+    for (int len = 0; len < 40; ++len) { // [N]
+      final byte[] bytes = randomBytes(len);
+      final String encoded = Base64.getEncoder().encodeToString(bytes);
+
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      writeInChunks(new Base64Decoder(out), encoded);
+      assertArrayEquals(encoded, bytes, out.toByteArray());
+
+      out = new ByteArrayOutputStream();
+      writeInChunks(new Base64Decoder(Channels.newChannel(out)), Base64.getMimeEncoder(8, "\r\n".getBytes()).encodeToString(bytes));
+      assertArrayEquals(encoded, bytes, out.toByteArray());
+
+      out = new ByteArrayOutputStream();
+      writeInChunks(new Base64Decoder(out), Base64.getEncoder().withoutPadding().encodeToString(bytes));
+      assertArrayEquals(encoded, bytes, out.toByteArray());
+    }
+
+    final byte[] bytes = randomBytes(100000);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final Base64Decoder decoder = new Base64Decoder(out);
+    writeInChunks(decoder, Base64.getEncoder().encodeToString(bytes));
+    assertEquals(bytes.length, decoder.getCount());
+    assertArrayEquals(bytes, out.toByteArray());
+
+    for (final String invalid : new String[] {"Qm9uam91cg===", "Qm9uam91c", "Qm9u*m91", "Qm9uam91cg=", "Qm9uam91cg==Qm9u", "Q==="}) // [A]
+      assertIllegal(new Base64Decoder(new ByteArrayOutputStream()), invalid);
+  }
+
+  @Test
+  public void testHexDecoder() throws IOException {
+    for (int len = 0; len < 40; ++len) { // [N]
+      final byte[] bytes = randomBytes(len);
+      final String encoded = new HexBinary(bytes).toString();
+
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      writeInChunks(new HexDecoder(out), encoded);
+      assertArrayEquals(encoded, bytes, out.toByteArray());
+
+      out = new ByteArrayOutputStream();
+      writeInChunks(new HexDecoder(Channels.newChannel(out)), "\n  " + encoded.toLowerCase() + "\n");
+      assertArrayEquals(encoded, bytes, out.toByteArray());
+    }
+
+    for (final String invalid : new String[] {"4G", "426", "42\u00e96F"}) // [A]
+      assertIllegal(new HexDecoder(new ByteArrayOutputStream()), invalid);
+  }
+
+  @Test
+  public void testClosed() throws IOException {
+    final BinaryDecoder decoder = new HexDecoder(new ByteArrayOutputStream());
+    decoder.close();
+    decoder.close();
+    try {
+      decoder.write("42");
+      fail("Expected IOException");
+    }
+    catch (final IOException e) {
+    }
+  }
+}
\ No newline at end of file
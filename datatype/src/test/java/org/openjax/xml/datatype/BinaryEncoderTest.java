@@ -0,0 +1,68 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.datatype;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Base64;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class BinaryEncoderTest {
+  private static final Random random = new Random(7);
+
+  private static String encode(final BinaryEncoder encoder, final StringWriter out, final byte[] bytes) throws IOException {
+    for (int i = 0, len; i < bytes.length; i += len) { // [A]
+      len = Math.min(bytes.length - i, 1 + random.nextInt(11));
+      if (len == 1)
+        encoder.write(bytes[i]);
+      else
+        encoder.write(bytes, i, len);
+    }
+
+    encoder.close();
+    return out.toString();
+  }
+
+  @Test
+  public void testBase64Encoder() throws IOException {
+    for (int len = 0; len < 40; ++len) { // [N]
+      final byte[] bytes = new byte[len];
+      random.nextBytes(bytes);
+      final StringWriter out = new StringWriter();
+      assertEquals(Base64.getEncoder().encodeToString(bytes), encode(new Base64Encoder(out), out, bytes));
+    }
+
+    final byte[] bytes = new byte[100000];
+    random.nextBytes(bytes);
+    final StringWriter out = new StringWriter();
+    assertEquals(new Base64Binary(bytes).toString(), encode(new Base64Encoder(out), out, bytes));
+  }
+
+  @Test
+  public void testHexEncoder() throws IOException {
+    for (int len = 0; len < 40; ++len) { // [N]
+      final byte[] bytes = new byte[len];
+      random.nextBytes(bytes);
+      final StringWriter out = new StringWriter();
+      assertEquals(new HexBinary(bytes).toString(), encode(new HexEncoder(out), out, bytes));
+    }
+  }
+}
\ No newline at end of file
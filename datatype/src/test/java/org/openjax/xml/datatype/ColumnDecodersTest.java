@@ -0,0 +1,157 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.datatype;
+
+import static org.junit.Assert.*;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+
+import org.junit.Test;
+
+public class ColumnDecodersTest {
+  private static int[] bounds(final char[][] chars, final String ... values) {
+    final StringBuilder b = new StringBuilder();
+    final int[] bounds = new int[values.length + 1];
+    for (int i = 0; i < values.length; ++i) { // [A]
+      b.append(values[i]);
+      bounds[i + 1] = b.length();
+    }
+
+    chars[0] = b.toString().toCharArray();
+    return bounds;
+  }
+
+  @Test
+  public void testDecodeDateTimes() {
+    final String[] values = {"x", "2200-01-01T04:20:00Z", "1970-01-01T00:00:00.000000001", "2007-07-07T12:30:45.678+01:00", "1812-01-11T12:34:56.789-12:30"};
+    final long[] epochNanos = new long[5];
+    final int[] offsets = new int[5];
+    ColumnDecoders.decodeDateTimes(values, 1, 4, epochNanos, offsets, 1);
+    assertEquals(1, epochNanos[2]);
+    assertEquals(Temporals.NO_OFFSET, offsets[2]);
+    for (final int i : new int[] {1, 3, 4}) { // [A]
+      final OffsetDateTime expected = OffsetDateTime.parse(values[i]);
+      assertEquals(values[i], expected.toEpochSecond() * 1000000000L + expected.getNano(), epochNanos[i]);
+      assertEquals(values[i], expected.getOffset().getTotalSeconds() / 60, offsets[i]);
+    }
+
+    final char[][] chars = new char[1][];
+    final int[] bounds = bounds(chars, values);
+    final long[] packedEpochNanos = new long[5];
+    ColumnDecoders.decodeDateTimes(chars[0], bounds, 1, 4, packedEpochNanos, null, 1);
+    assertArrayEquals(epochNanos, packedEpochNanos);
+
+    try {
+      ColumnDecoders.decodeDateTimes(new String[] {"2263-01-01T00:00:00Z"}, 0, 1, epochNanos, null, 0);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      ColumnDecoders.decodeDateTimes(values, 0, 2, epochNanos, null, 0);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testDecodeDates() {
+    final String[] values = {"2019-08-24Z", " -0044-03-15-05:30 ", "2000-02-29"};
+    final long[] epochDays = new long[3];
+    final int[] offsets = new int[3];
+    ColumnDecoders.decodeDates(values, 0, 3, epochDays, offsets, 0);
+    assertArrayEquals(new long[] {LocalDate.of(2019, 8, 24).toEpochDay(), LocalDate.of(-44, 3, 15).toEpochDay(), LocalDate.of(2000, 2, 29).toEpochDay()}, epochDays);
+    assertArrayEquals(new int[] {0, -330, Temporals.NO_OFFSET}, offsets);
+
+    final char[][] chars = new char[1][];
+    final int[] bounds = bounds(chars, values);
+    final long[] packedEpochDays = new long[4];
+    ColumnDecoders.decodeDates(chars[0], bounds, 0, 3, packedEpochDays, null, 1);
+    assertArrayEquals(epochDays, Arrays.copyOfRange(packedEpochDays, 1, 4));
+  }
+
+  @Test
+  public void testDecodeHexBinaries() {
+    final String[] values = {"426F6e6A6F7572", "", "48656C6C6F20576F726C64"};
+    final byte[] bytes = new byte[19];
+    final int[] ends = new int[3];
+    assertEquals(19, ColumnDecoders.decodeHexBinaries(values, 0, 3, bytes, 1, ends, 0));
+    assertArrayEquals(new int[] {8, 8, 19}, ends);
+    assertEquals("Bonjour", new String(bytes, 1, 7));
+    assertEquals("Hello World", new String(bytes, 8, 11));
+
+    final char[][] chars = new char[1][];
+    final int[] bounds = bounds(chars, values);
+    final byte[] packedBytes = new byte[19];
+    assertEquals(19, ColumnDecoders.decodeHexBinaries(chars[0], bounds, 0, 3, packedBytes, 1, ends, 0));
+    assertArrayEquals(bytes, packedBytes);
+
+    try {
+      ColumnDecoders.decodeHexBinaries(new String[] {"4G"}, 0, 1, bytes, 0, ends, 0);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      ColumnDecoders.decodeHexBinaries(new String[] {"426"}, 0, 1, bytes, 0, ends, 0);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testDecodeBase64Binaries() {
+    final String[] data = {"", "B", "Bo", "Bon", "Bonj", "The quick brown fox jumps over the lazy dog"};
+    final String[] values = new String[data.length + 1];
+    int length = 0;
+    for (int i = 0; i < data.length; ++i) { // [A]
+      values[i] = Base64.getEncoder().encodeToString(data[i].getBytes());
+      length += data[i].length();
+    }
+
+    values[data.length] = Base64.getEncoder().withoutPadding().encodeToString(data[1].getBytes());
+    length += data[1].length();
+
+    final byte[] bytes = new byte[length];
+    final int[] ends = new int[values.length];
+    assertEquals(length, ColumnDecoders.decodeBase64Binaries(values, 0, values.length, bytes, 0, ends, 0));
+    for (int i = 0, start = 0; i < data.length; start = ends[i++]) // [A]
+      assertEquals(data[i], new String(bytes, start, ends[i] - start));
+
+    final char[][] chars = new char[1][];
+    final int[] bounds = bounds(chars, values);
+    final byte[] packedBytes = new byte[length];
+    assertEquals(length, ColumnDecoders.decodeBase64Binaries(chars[0], bounds, 0, values.length, packedBytes, 0, ends, 0));
+    assertArrayEquals(bytes, packedBytes);
+
+    for (final String invalid : new String[] {"Qm9uam91cg===", "Qm9uam91c", "Qm9u*m91"}) { // [A]
+      try {
+        ColumnDecoders.decodeBase64Binaries(new String[] {invalid}, 0, 1, bytes, 0, ends, 0);
+        fail("Expected IllegalArgumentException: " + invalid);
+      }
+      catch (final IllegalArgumentException e) {
+      }
+    }
+  }
+}
\ No newline at end of file
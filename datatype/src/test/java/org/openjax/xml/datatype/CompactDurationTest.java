@@ -0,0 +1,149 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.datatype;
+
+import static org.junit.Assert.*;
+
+import javax.xml.datatype.DatatypeConstants;
+
+import org.apache.xerces.jaxp.datatype.Duration;
+import org.junit.Test;
+
+public class CompactDurationTest {
+  private static void assertIllegal(final String duration) {
+    try {
+      CompactDuration.parse(duration);
+      fail("Expected a IllegalArgumentException: " + duration);
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  private static void assertCompare(final int expected, final String a, final String b) {
+    assertEquals(a + " <> " + b, expected, CompactDuration.parse(a).compare(CompactDuration.parse(b)));
+    assertEquals(b + " <> " + a, expected == DatatypeConstants.INDETERMINATE ? expected : -expected, CompactDuration.parse(b).compare(CompactDuration.parse(a)));
+  }
+
+  @Test
+  public void testParse() {
+    assertNull(CompactDuration.parse(null));
+    assertIllegal("");
+    assertIllegal("P");
+    assertIllegal("PT");
+    assertIllegal("P1YT");
+    assertIllegal("X1347Y");
+    assertIllegal("PTT347Y");
+    assertIllegal("P1.Y3M5DT7H10M3.3S");
+    assertIllegal("P1M1Y");
+    assertIllegal("P1Y1Y");
+    assertIllegal("P-1Y");
+    assertIllegal("P1H");
+    assertIllegal("PT1D");
+    assertIllegal("PT1.5M");
+    assertIllegal("PT1.S");
+    assertIllegal("P1634928649284Y");
+
+    CompactDuration duration = CompactDuration.parse(" -P1Y2M3DT4H5M6.789S ");
+    assertEquals(-14, duration.getMonths());
+    assertEquals(-(3 * 86400 + 4 * 3600 + 5 * 60 + 6), duration.getSeconds());
+    assertEquals(-789000000, duration.getNanos());
+    assertEquals(-1, duration.getSign());
+
+    duration = CompactDuration.parse("PT0.1234567899S");
+    assertEquals(0, duration.getSeconds());
+    assertEquals(123456789, duration.getNanos());
+
+    assertEquals(CompactDuration.parse("P1Y"), CompactDuration.parse("P12M"));
+    assertEquals(CompactDuration.parse("P1D"), CompactDuration.parse("PT24H"));
+    assertEquals(CompactDuration.ZERO, CompactDuration.parse("-PT0S"));
+  }
+
+  @Test
+  public void testPrint() {
+    final String[] durations = {"PT0S", "P1Y", "P1M", "-P1Y2M", "P3D", "PT4H", "PT5M", "PT6S", "PT0.000000001S", "-P1Y2M3DT4H5M6.789S", "P178956970Y7M106751991167300DT15H30M7.999999999S"};
+    for (final String duration : durations) { // [A]
+      assertEquals(duration, CompactDuration.parse(duration).toString());
+      assertEquals(duration, CompactDuration.print(CompactDuration.parse(duration)));
+    }
+
+    assertEquals("P1Y3M", CompactDuration.parse("P15M").toString());
+    assertEquals("P1DT1H", CompactDuration.parse("PT25H").toString());
+    assertEquals("[PT1.5S", CompactDuration.parse("PT1.500S").printTo(new StringBuilder("[")).toString());
+
+    final char[] buf = new char[CompactDuration.MAX_PRINT_LENGTH + 1];
+    final CompactDuration max = new CompactDuration(-Integer.MAX_VALUE, -Long.MAX_VALUE, -999999999);
+    final int end = max.printTo(buf, 1);
+    assertEquals(max, CompactDuration.parse(new String(buf, 1, end - 1)));
+  }
+
+  @Test
+  public void testAdd() {
+    assertEquals(CompactDuration.parse("P1Y1DT1M0.5S"), CompactDuration.parse("P11MT23H59M59.6S").add(CompactDuration.parse("P1MT1M0.9S")));
+    assertEquals(CompactDuration.parse("PT0.9S"), CompactDuration.parse("PT1.1S").add(CompactDuration.parse("-PT0.2S")));
+    assertEquals(CompactDuration.parse("-PT0.9S"), CompactDuration.parse("-PT1.1S").add(CompactDuration.parse("PT0.2S")));
+    assertEquals(CompactDuration.ZERO, CompactDuration.parse("P1YT1.1S").add(CompactDuration.parse("-P1YT1.1S")));
+    assertEquals(CompactDuration.parse("P2D"), CompactDuration.parse("P3D").add(CompactDuration.parse("P1D").negate()));
+
+    try {
+      CompactDuration.parse("P1M").add(CompactDuration.parse("-P1D"));
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+    }
+  }
+
+  @Test
+  public void testCompare() {
+    assertCompare(DatatypeConstants.EQUAL, "P1Y", "P12M");
+    assertCompare(DatatypeConstants.LESSER, "PT1S", "PT1.000000001S");
+    assertCompare(DatatypeConstants.GREATER, "P1M", "P27D");
+    assertCompare(DatatypeConstants.INDETERMINATE, "P1M", "P30D");
+    assertCompare(DatatypeConstants.LESSER, "P1M", "P32D");
+    assertCompare(DatatypeConstants.EQUAL, "P1Y", "P365D");
+    assertCompare(DatatypeConstants.INDETERMINATE, "P1Y", "P366D");
+    assertCompare(DatatypeConstants.GREATER, "P1Y", "P364D");
+    assertCompare(DatatypeConstants.LESSER, "-P1Y", "P1D");
+    assertCompare(DatatypeConstants.GREATER, "P5M", "P149DT23H59M59.999999999S");
+    assertCompare(DatatypeConstants.LESSER, "P5M", "P153DT0.000000001S");
+    assertCompare(DatatypeConstants.GREATER, "PT" + Long.MAX_VALUE + "S", "-P1000Y");
+    assertCompare(DatatypeConstants.LESSER, "P1M28D", "P2M");
+    assertCompare(DatatypeConstants.GREATER, "P2M", "P1M28D");
+    assertCompare(DatatypeConstants.INDETERMINATE, "P2M1D", "P1M31D");
+    assertCompare(DatatypeConstants.EQUAL, "P2M", "P59D");
+    assertCompare(DatatypeConstants.INDETERMINATE, "P2M", "P59DT0.000000001S");
+
+    // Pairs that differ only by fractional seconds are excluded, because Duration.compare truncates them
+    final String[] durations = {"P1M", "P30D", "-P2M", "P1Y2M3DT4H5M6.789S", "P59D", "-PT1H", "P400Y", "P146097D", "P1M28D", "P2M", "P2M1D", "P1M31D", "P13M29D", "P1Y1M30D", "-P1M28D", "-P2M", "P1Y", "P365D", "P366D"};
+    for (final String a : durations) // [A]
+      for (final String b : durations) // [A]
+        assertEquals(a + " <> " + b, Duration.parse(a).compare(Duration.parse(b)), CompactDuration.parse(a).compare(CompactDuration.parse(b)));
+  }
+
+  @Test
+  public void testDuration() {
+    final String[] durations = {"P1Y2M3DT4H5M6.789S", "-P1M", "PT0S", "P3DT0.5S", "-P100Y"};
+    for (final String lexical : durations) { // [A]
+      final Duration duration = Duration.parse(lexical);
+      final CompactDuration compact = CompactDuration.valueOf(duration);
+      assertEquals(lexical, lexical, compact.toString());
+      assertEquals(lexical, DatatypeConstants.EQUAL, compact.toDuration().compare(duration));
+    }
+
+    assertEquals(CompactDuration.parse("P1Y1DT1H"), CompactDuration.valueOf(Duration.parse("P12MT25H")));
+    assertNull(CompactDuration.valueOf(null));
+  }
+}
\ No newline at end of file
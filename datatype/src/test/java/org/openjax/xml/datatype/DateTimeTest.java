@@ -18,6 +18,11 @@ package org.openjax.xml.datatype;
 
 import static org.junit.Assert.*;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.TimeZone;
+
 import org.junit.Test;
 
 public class DateTimeTest {
@@ -217,4 +222,23 @@ public class DateTimeTest {
     for (final String dateTime : dateTimes) // [A]
       assertEquals(dateTime, DateTime.parse(dateTime).toString());
   }
+
+  @Test
+  public void testGetTime() {
+    final String[] dateTimes = {"2500-01-01T04:20:00Z", "0003-03-03T12:34:56.789Z", "2007-07-07T12:30:45.678+01:00", "1112-01-11T12:34:56.789-12:30", "2019-12-31T24:00:00+14:00"};
+    for (final String dateTime : dateTimes) // [A]
+      assertEquals(dateTime, OffsetDateTime.parse(dateTime.replace("T24:", "T23:")).toEpochSecond() + (dateTime.contains("T24:") ? 3600 : 0), DateTime.parse(dateTime).getTime());
+
+    final TimeZone timeZone = TimeZone.getDefault();
+    for (long timeMs = -50000000000000L; timeMs < 50000000000000L; timeMs += 999999999937L) { // [N]
+      final ZonedDateTime expected = Instant.ofEpochMilli(timeMs).atZone(timeZone.toZoneId());
+      final DateTime dateTime = new DateTime(timeMs, timeZone);
+      assertEquals(expected.getYear(), dateTime.getYear());
+      assertEquals(expected.getMonthValue(), dateTime.getMonth());
+      assertEquals(expected.getDayOfMonth(), dateTime.getDay());
+      assertEquals(expected.getHour(), dateTime.getHour());
+      assertEquals(expected.getMinute(), dateTime.getMinute());
+      assertEquals(expected.getSecond() + expected.getNano() / 1000000 / 1000f, dateTime.getSecond(), 0f);
+    }
+  }
 }
\ No newline at end of file
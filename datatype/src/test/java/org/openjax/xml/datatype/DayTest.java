@@ -18,6 +18,8 @@ package org.openjax.xml.datatype;
 
 import static org.junit.Assert.*;
 
+import java.util.TimeZone;
+
 import org.junit.Test;
 
 public class DayTest {
@@ -120,4 +122,37 @@ public class DayTest {
     for (final String day : days) // [A]
       assertEquals(day, Day.parse(day).toString());
   }
+
+  @Test
+  public void testValueOf() {
+    assertSame(Day.parse("---17"), Day.parse(" ---17 "));
+    assertSame(Day.parse("---17Z"), Day.valueOf(17, DateTime.GMT));
+    assertEquals("---17-01:00", Day.parse("---17-01:00").toString());
+    assertSame(Day.parse("---17-01:00").toString(), Day.parse("---17-01:00").toString());
+
+    Day.parse("---17+05:30").getTimeZone().setRawOffset(0);
+    assertEquals(330 * 60000, Day.parse("---17+05:30").getTimeZone().getRawOffset());
+    assertEquals(330 * 60000, Time.parse("12:00:00+05:30").getTimeZone().getRawOffset());
+    assertEquals(330, Day.parse("---17+05:30").getTimeZoneOffset());
+    final TimeZone timeZone = TimeZone.getTimeZone("GMT+05:30");
+    assertSame(timeZone, Day.valueOf(17, timeZone).getTimeZone());
+
+    final TimeZone defaultTimeZone = TimeZone.getDefault();
+    try {
+      Day.parse("---18").getTimeZone().setRawOffset(0);
+      assertEquals(defaultTimeZone.getRawOffset(), Day.parse("---18").getTimeZone().getRawOffset());
+      TimeZone.setDefault(TimeZone.getTimeZone("GMT+03:00"));
+      assertEquals("---18+03:00", Day.parse("---18").toString());
+      assertSame(Day.parse("---18"), Day.valueOf(18, null));
+    }
+    finally {
+      TimeZone.setDefault(defaultTimeZone);
+    }
+    try {
+      Day.valueOf(32, null);
+      fail("Expected a IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
 }
\ No newline at end of file
@@ -24,6 +24,9 @@ public class HexBinaryTest {
     final HexBinary hexBinary = new HexBinary(data.getBytes());
     final String hexString = hexBinary.toString();
     Assert.assertEquals(base64, hexString);
+    final char[] chars = new char[hexString.length() + 2];
+    Assert.assertEquals(chars.length - 1, hexBinary.printTo(chars, 1));
+    Assert.assertEquals(hexString, new String(chars, 1, hexString.length()));
     final HexBinary unmarshalled = HexBinary.parse(hexString);
     Assert.assertEquals(data, new String(unmarshalled.getBytes()));
   }
@@ -78,4 +78,25 @@ public class LanguageTest {
     for (final String language : languages) // [A]
       assertEquals(language, Language.parse(language).toString());
   }
+
+  @Test
+  public void testParseShared() {
+    assertSame(Language.parse("zh-Hant-TW"), Language.parse(" zh-Hant-TW "));
+    assertNotSame(Language.parse("zh-Hant-TW"), Language.parse("zh-hant-tw"));
+    assertEquals(new Language("zh", "Hant", "TW"), Language.parse("zh-Hant-TW"));
+    assertEquals(new Language("zh", "Hant", "TW").hashCode(), Language.parse("zh-Hant-TW").hashCode());
+    assertArrayEquals(new String[] {"zh", "Hant", "TW"}, Language.parse("zh-Hant-TW").getLanguage());
+    Language.parse("zh-Hant-TW").getLanguage()[0] = "xx";
+    assertEquals("zh", Language.parse("zh-Hant-TW").getLanguage()[0]);
+
+    final String[] invalid = {"-en", "en-", "en--US", "en-abcdefghi"};
+    for (final String language : invalid) { // [A]
+      try {
+        Language.parse(language);
+        fail("Expected a IllegalArgumentException: " + language);
+      }
+      catch (final IllegalArgumentException e) {
+      }
+    }
+  }
 }
\ No newline at end of file
@@ -155,4 +155,24 @@ public class MonthDayTest {
     for (final String monthDay : monthDays) // [A]
       assertEquals(monthDay, MonthDay.parse(monthDay).toString());
   }
+
+  @Test
+  public void testValueOf() {
+    assertSame(MonthDay.parse("--02-29"), MonthDay.parse("--02-29"));
+    assertSame(MonthDay.parse("--02-29Z"), MonthDay.valueOf(2, 29, DateTime.GMT));
+    assertEquals(MonthDay.parse("--02-29Z").hashCode(), new MonthDay(2, 29, DateTime.GMT).hashCode());
+    try {
+      MonthDay.valueOf(1, 33, null);
+      fail("Expected a IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      MonthDay.valueOf(2, 30, null);
+      fail("Expected a IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
 }
\ No newline at end of file
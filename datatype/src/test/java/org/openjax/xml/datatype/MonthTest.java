@@ -18,6 +18,8 @@ package org.openjax.xml.datatype;
 
 import static org.junit.Assert.*;
 
+import java.util.TimeZone;
+
 import org.junit.Test;
 
 public class MonthTest {
@@ -106,4 +108,20 @@ public class MonthTest {
     for (final String month : months) // [A]
       assertEquals(month, Month.parse(month).toString());
   }
+
+  @Test
+  public void testValueOf() {
+    assertSame(Month.parse("--05"), Month.parse("--05"));
+    assertSame(Month.parse("--05Z"), Month.valueOf(5, DateTime.GMT));
+    assertSame(Month.parse("--05+05:30"), Month.parse(" --05+05:30 "));
+    assertNotSame(Month.parse("--05Z"), Month.parse("--05+05:30"));
+    assertEquals(new Month(5, TimeZone.getTimeZone("GMT+05:30")), Month.parse("--05+05:30"));
+    assertNotSame(Month.valueOf(5, TimeZone.getTimeZone("GMT+05:30")), Month.valueOf(5, TimeZone.getTimeZone("GMT+05:30")));
+    try {
+      Month.valueOf(13, null);
+      fail("Expected a IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
 }
\ No newline at end of file
@@ -0,0 +1,162 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.datatype;
+
+import static org.junit.Assert.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+public class TemporalsTest {
+  private static void assertIllegal(final String type, final String str) {
+    try {
+      if ("date".equals(type))
+        Temporals.parseDate(str, 0, str.length());
+      else if ("time".equals(type))
+        Temporals.parseTime(str, 0, str.length());
+      else
+        Temporals.parseDateTime(str, 0, str.length(), new long[2], 0);
+
+      fail("Expected IllegalArgumentException: " + str);
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    final char[] chars = str.toCharArray();
+    try {
+      if ("date".equals(type))
+        Temporals.parseDate(chars, 0, chars.length);
+      else if ("time".equals(type))
+        Temporals.parseTime(chars, 0, chars.length);
+      else
+        Temporals.parseDateTime(chars, 0, chars.length, new long[2], 0);
+
+      fail("Expected IllegalArgumentException: " + str);
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testToEpochDay() {
+    for (int year = -2000; year <= 3000; year += 7) // [N]
+      for (int month = 1; month <= 12; ++month) // [N]
+        assertEquals(year + "-" + month, LocalDate.of(year, month, 28).toEpochDay(), Temporals.toEpochDay(year, month, 28));
+  }
+
+  @Test
+  public void testToCivil() {
+    for (long epochDay = -1000000; epochDay <= 1000000; epochDay += 37) { // [N]
+      final LocalDate expected = LocalDate.ofEpochDay(epochDay);
+      final long civil = Temporals.toCivil(epochDay);
+      assertEquals(expected.getYear(), Temporals.civilYear(civil));
+      assertEquals(expected.getMonthValue(), Temporals.civilMonth(civil));
+      assertEquals(expected.getDayOfMonth(), Temporals.civilDay(civil));
+    }
+  }
+
+  @Test
+  public void testGetTimeZone() {
+    for (int offset = -Temporals.MAX_OFFSET_MINUTES; offset <= Temporals.MAX_OFFSET_MINUTES; offset += 7) { // [N]
+      final TimeZone timeZone = Temporals.getTimeZone(offset);
+      assertEquals(offset * 60000, timeZone.getRawOffset());
+      assertSame(timeZone, Temporals.getTimeZone(offset));
+    }
+
+    assertEquals(TimeZone.getTimeZone("GMT-14:00"), Temporals.getTimeZone(-840));
+    assertEquals(TimeZone.getTimeZone("GMT+2:30"), Temporals.getTimeZone(150));
+  }
+
+  @Test
+  public void testParseDate() {
+    final String str = "x 2019-08-24Z y";
+    long packed = Temporals.parseDate(str, 2, 11);
+    assertEquals(LocalDate.of(2019, 8, 24).toEpochDay(), Temporals.epochDayOf(packed));
+    assertEquals(0, Temporals.offsetOf(packed));
+
+    packed = Temporals.parseDate(" -0044-03-15-05:30 ", 0, 19);
+    assertEquals(LocalDate.of(-44, 3, 15).toEpochDay(), Temporals.epochDayOf(packed));
+    assertEquals(-330, Temporals.offsetOf(packed));
+
+    packed = Temporals.parseDate("2000-02-29", 0, 10);
+    assertEquals(LocalDate.of(2000, 2, 29).toEpochDay(), Temporals.epochDayOf(packed));
+    assertEquals(Temporals.NO_OFFSET, Temporals.offsetOf(packed));
+
+    assertIllegal("date", "");
+    assertIllegal("date", "1900-02-29");
+    assertIllegal("date", "2227-04-31");
+    assertIllegal("date", "2227-13-08");
+    assertIllegal("date", "2227-10-1Z");
+    assertIllegal("date", "227-10-01");
+    assertIllegal("date", "2227-12-08-15:00");
+    assertIllegal("date", "2227-01-08+14:60");
+    assertIllegal("date", "2227-01-08+14:01");
+  }
+
+  @Test
+  public void testParseTime() {
+    long packed = Temporals.parseTime("21:23:45.678+02:30", 0, 18);
+    assertEquals(LocalTime.of(21, 23, 45, 678000000).toNanoOfDay(), Temporals.nanoOfDayOf(packed));
+    assertEquals(150, Temporals.offsetOf(packed));
+
+    packed = Temporals.parseTime("01:23:45.1234567891", 0, 19);
+    assertEquals(LocalTime.of(1, 23, 45, 123456789).toNanoOfDay(), Temporals.nanoOfDayOf(packed));
+    assertEquals(Temporals.NO_OFFSET, Temporals.offsetOf(packed));
+
+    packed = Temporals.parseTime("24:00:00.000", 0, 12);
+    assertEquals(Temporals.NANOS_PER_DAY, Temporals.nanoOfDayOf(packed));
+
+    assertEquals(Temporals.parseTime("21:23:45.678+02:30", 0, 18), Temporals.parseTime(" 21:23:45.678+02:30 ".toCharArray(), 1, 18));
+
+    assertIllegal("time", "25:30:10Z");
+    assertIllegal("time", "24:00:01");
+    assertIllegal("time", "22:60:10");
+    assertIllegal("time", "22:59:60");
+    assertIllegal("time", "2:59:59.99999Z");
+    assertIllegal("time", "23:59:59.Z");
+    assertIllegal("time", "23:59:59.99999-15:00");
+    assertIllegal("time", "23:59:59.99999+14:60.9");
+  }
+
+  @Test
+  public void testParseDateTime() {
+    final String[] dateTimes = {"2500-01-01T04:20:00Z", "1400-02-02T12:30:45.678Z", "0003-03-03T12:34:56.789Z", "2007-07-07T12:30:45.678+01:00", "3017-08-08T12:34:56.789-01:00", "1112-01-11T12:34:56.789-12:30", "1999-12-31T23:59:59.999999999+14:00"};
+    final long[] out = new long[3];
+    for (final String dateTime : dateTimes) { // [A]
+      Temporals.parseDateTime(dateTime, 0, dateTime.length(), out, 1);
+      final OffsetDateTime expected = OffsetDateTime.parse(dateTime);
+      assertEquals(dateTime, expected.toEpochSecond(), out[1]);
+      assertEquals(dateTime, expected.getNano(), Temporals.nanoOf(out[2]));
+      assertEquals(dateTime, expected.getOffset().getTotalSeconds() / 60, Temporals.offsetOf(out[2]));
+    }
+
+    Temporals.parseDateTime("2019-12-31T24:00:00", 0, 19, out, 0);
+    assertEquals(OffsetDateTime.parse("2020-01-01T00:00:00Z").toEpochSecond(), out[0]);
+    assertEquals(Temporals.NO_OFFSET, Temporals.offsetOf(out[1]));
+
+    assertIllegal("dateTime", "2227-12-08");
+    assertIllegal("dateTime", "2227-12-08T12:30:61-11:00");
+    assertIllegal("dateTime", "2227-12-08T26:50:31-12:00");
+    assertIllegal("dateTime", "2227-02-08T12:12:12:22+14:60");
+    assertIllegal("dateTime", "2227-02-08T12:12:12-14:30");
+    assertIllegal("dateTime", "2227-04-31TP04:20:00+12:60.9");
+  }
+}
\ No newline at end of file
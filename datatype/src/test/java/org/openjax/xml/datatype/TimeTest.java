@@ -18,6 +18,8 @@ package org.openjax.xml.datatype;
 
 import static org.junit.Assert.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.TimeZone;
 
 import org.junit.Test;
@@ -106,4 +108,44 @@ public class TimeTest {
     assertEquals(new Time(21, 23, 45.09999f, TimeZone.getTimeZone("GMT+2:30")), Time.parse("21:23:45.09999+02:30"));
     assertEquals(new Time(21, 23, 45.09999f, TimeZone.getTimeZone("GMT-14:45")), Time.parse("21:23:45.09999-14:45"));
   }
+
+  @Test
+  public void testPrintTo() throws IOException {
+    final TimeZone gmt = TimeZone.getTimeZone("GMT");
+    assertEquals("09:30:10Z", new Time(9, 30, 10, gmt).toString());
+    assertEquals("09:30:05Z", new Time(9, 30, 5, gmt).toString());
+    assertEquals("09:30:05.500Z", new Time(9, 30, 5.5f, gmt).toString());
+    assertEquals("21:23:45.09999-14:45", new Time(21, 23, 45.09999f, TimeZone.getTimeZone("GMT-14:45")).toString());
+    assertEquals("00:00:00.001+02:30", new Time(0, 0, .001f, TimeZone.getTimeZone("GMT+2:30")).toString());
+    for (float second = 0; second < 60; second += 0.0123f) // [N]
+      assertEquals(second, Time.parse(new Time(1, 2, second, gmt).toString()).getSecond(), 0f);
+
+    final Time time = new Time(21, 23, 45.678f, gmt);
+    final char[] buf = new char[TemporalType.MAX_PRINT_LENGTH + 1];
+    assertEquals(14, time.printTo(buf, 1));
+    assertEquals("21:23:45.678Z", new String(buf, 1, 13));
+    assertEquals("[21:23:45.678Z", time.printTo(new StringBuilder("[")).toString());
+
+    final StringWriter writer = new StringWriter();
+    time.printTo(writer);
+    assertEquals("21:23:45.678Z", writer.toString());
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  public void testToEmbeddedString() {
+    final TemporalType legacy = new TemporalType(TimeZone.getTimeZone("GMT+01:00")) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected int printEmbeddedTo(final char[] buf, final int off) {
+        "legacy".getChars(0, 6, buf, off);
+        return off + 6;
+      }
+    };
+
+    assertEquals("legacy+01:00", legacy.toString());
+    assertEquals("legacy", legacy.toEmbeddedString(new StringBuilder()).toString());
+    assertEquals("[09:30:10", new Time(9, 30, 10).toEmbeddedString(new StringBuilder("[")).toString());
+  }
 }
\ No newline at end of file
@@ -18,6 +18,8 @@ package org.openjax.xml.datatype;
 
 import static org.junit.Assert.*;
 
+import java.time.LocalDate;
+
 import org.junit.Test;
 
 public class YearMonthTest {
@@ -113,4 +115,9 @@ public class YearMonthTest {
     for (final String yearMonth : yearMonths) // [A]
       assertEquals(yearMonth, YearMonth.parse(yearMonth).toString());
   }
+
+  @Test
+  public void testGetTime() {
+    assertEquals(LocalDate.of(1582, 2, 1).toEpochDay() * 86400000, new YearMonth(1582, 2, DateTime.GMT).getTime());
+  }
 }
\ No newline at end of file
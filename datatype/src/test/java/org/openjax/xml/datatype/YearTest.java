@@ -18,6 +18,9 @@ package org.openjax.xml.datatype;
 
 import static org.junit.Assert.*;
 
+import java.time.LocalDate;
+import java.util.TimeZone;
+
 import org.junit.Test;
 
 public class YearTest {
@@ -92,4 +95,25 @@ public class YearTest {
     for (final String year : years) // [A]
       assertEquals(year, Year.parse(year).toString());
   }
+
+  @Test
+  public void testPrintTo() {
+    assertEquals("-0044Z", new Year(-44, DateTime.GMT).toString());
+    assertEquals("12345+01:30", new Year(12345, TimeZone.getTimeZone("GMT+01:30")).toString());
+    assertEquals("-2147483648Z", new Year(Integer.MIN_VALUE, DateTime.GMT).toString());
+  }
+
+  @Test
+  public void testValueOf() {
+    assertSame(Year.parse("2020"), Year.parse("2020"));
+    assertSame(Year.parse("-0044Z"), Year.valueOf(-44, DateTime.GMT));
+    assertSame(Year.parse("12345+01:30"), Year.parse("12345+01:30"));
+    assertNotSame(Year.parse("2020Z"), Year.parse("2021Z"));
+  }
+
+  @Test
+  public void testGetTime() {
+    assertEquals(LocalDate.of(1500, 1, 1).toEpochDay() * 86400000, new Year(1500, DateTime.GMT).getTime());
+    assertEquals(LocalDate.of(-44, 1, 1).toEpochDay() * 86400000 - 3600000, new Year(-44, TimeZone.getTimeZone("GMT+01:00")).getTime());
+  }
 }
\ No newline at end of file
@@ -0,0 +1,744 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.dom;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.XMLConstants;
+
+import org.openjax.xml.api.CharacterDatas;
+import org.openjax.xml.sax.BufferedFasterSAXHandler;
+import org.openjax.xml.sax.FastSAXParser;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXParseException;
+
+/**
+ * Read-only document model that is built from a single {@link FastSAXParser} pass, which stores the tree as parallel primitive
+ * arrays rather than as objects per node. Nodes are identified by their index in document order, with the root element at index
+ * {@code 0}, and {@code -1} signifying the absence of a node. Element and attribute names are interned in a symbol table, and
+ * character data and attribute values are stored (with character references expanded) in a single {@code char[]} buffer. The
+ * source document is not retained.
+ * <p>
+ * For documents that are queried many times after loading, this model uses a fraction of the memory of a DOM, and its traversal
+ * does not chase pointers. Secondary indexes by element name ({@link #getElementsByName(String)}) and by attribute value
+ * ({@link #getElementsByAttribute(String,String)}) are built on their first use, after which the matching elements are located in
+ * {@code O(1)} and returned in {@code O(k)}, for {@code k} matches.
+ * <p>
+ * As with {@link DOMParsers}, only elements, attributes and character data are modeled. Declarations, DOCTYPE blocks and comments
+ * are not. CDATA sections are modeled as character data, and are merged with the character data that is adjacent to them.
+ */
+public final class CompactDocument {
+  /** The kind of element nodes, which is equal to {@link Node#ELEMENT_NODE}. */
+  public static final byte ELEMENT = Node.ELEMENT_NODE;
+  /** The kind of character data nodes, which is equal to {@link Node#TEXT_NODE}. */
+  public static final byte TEXT = Node.TEXT_NODE;
+
+  private static final int[] EMPTY = {};
+
+  private static final class Symbols {
+    private String[] names = new String[16];
+    private int[] prefixes = new int[16];
+    private int[] table = new int[32];
+    private int size;
+
+    private static int hash(final char[] chars, final int len) {
+      int hash = 0;
+      for (int i = 0; i < len; ++i) // [A]
+        hash = 31 * hash + chars[i];
+
+      return hash;
+    }
+
+    private static boolean equals(final String name, final char[] chars, final int len) {
+      if (name.length() != len)
+        return false;
+
+      for (int i = 0; i < len; ++i) // [A]
+        if (name.charAt(i) != chars[i])
+          return false;
+
+      return true;
+    }
+
+    private int add(final char[] chars, final int len, final int prefixLen) {
+      final int mask = table.length - 1;
+      int slot = hash(chars, len) & mask;
+      for (int id; (id = table[slot] - 1) != -1; slot = (slot + 1) & mask) // [X]
+        if (equals(names[id], chars, len))
+          return id;
+
+      if (size == names.length) {
+        names = Arrays.copyOf(names, size * 2);
+        prefixes = Arrays.copyOf(prefixes, size * 2);
+      }
+
+      final int id = size++;
+      names[id] = new String(chars, 0, len);
+      prefixes[id] = prefixLen;
+      table[slot] = id + 1;
+      if (size * 2 > table.length)
+        rehash();
+
+      return id;
+    }
+
+    private void rehash() {
+      table = new int[table.length * 2];
+      final int mask = table.length - 1;
+      for (int id = 0; id < size; ++id) { // [A]
+        int slot = names[id].hashCode() & mask;
+        while (table[slot] != 0) // [X]
+          slot = (slot + 1) & mask;
+
+        table[slot] = id + 1;
+      }
+    }
+
+    private int get(final String name) {
+      final int mask = table.length - 1;
+      for (int slot = name.hashCode() & mask, id; (id = table[slot] - 1) != -1; slot = (slot + 1) & mask) // [X]
+        if (names[id].equals(name))
+          return id;
+
+      return -1;
+    }
+  }
+
+  private final class Builder extends BufferedFasterSAXHandler {
+    private int[] elements = new int[16];
+    private int[] lastChildren = new int[16];
+    private int depth;
+    private boolean inDeclaration;
+    private int text = -1;
+    private int pending;
+
+    private Builder(final Reader in) {
+      super(in);
+    }
+
+    private int readValue(final int len) throws IOException {
+      if (valuesSize + len > values.length)
+        values = Arrays.copyOf(values, Math.max(valuesSize + len, values.length * 2));
+
+      final int off = valuesSize;
+      read(values, off, len);
+      valuesSize += len;
+      return off;
+    }
+
+    /**
+     * Expands the character references of the character data that has been read since the last flush, which cannot be done as
+     * each chunk is read, because a reference may span two chunks.
+     */
+    private void flush() {
+      if (text != -1) {
+        valuesSize = pending + CharacterDatas.unescapeInPlace(values, pending, valuesSize - pending);
+        length[text] = valuesSize - offset[text];
+        pending = valuesSize;
+      }
+    }
+
+    @Override
+    public boolean startDeclaration(final int nameLen) {
+      inDeclaration = true;
+      return true;
+    }
+
+    @Override
+    public boolean endDeclaration() {
+      inDeclaration = false;
+      return true;
+    }
+
+    @Override
+    public boolean comment(final int commentLen) {
+      flush();
+      return true;
+    }
+
+    @Override
+    public boolean startElement(final int prefixLen, final int localPartLen) throws IOException {
+      flush();
+      text = -1;
+      final int len = prefixLen + localPartLen;
+      final char[] chars = read(len);
+      final int element = add(ELEMENT);
+      name[element] = symbols.add(chars, len, prefixLen);
+      offset[element] = attrSize;
+      if (depth == elements.length) {
+        elements = Arrays.copyOf(elements, depth * 2);
+        lastChildren = Arrays.copyOf(lastChildren, depth * 2);
+      }
+
+      elements[depth] = element;
+      lastChildren[depth++] = -1;
+      return true;
+    }
+
+    @Override
+    public boolean attribute(final int prefixLen, final int localPartLen, final int skip, final int valueLen) throws IOException {
+      if (inDeclaration)
+        return true;
+
+      if (attrSize == attrName.length) {
+        final int capacity = attrSize * 2;
+        attrName = Arrays.copyOf(attrName, capacity);
+        attrOffset = Arrays.copyOf(attrOffset, capacity);
+        attrLength = Arrays.copyOf(attrLength, capacity);
+      }
+
+      final int len = prefixLen + localPartLen;
+      attrName[attrSize] = symbols.add(read(len), len, prefixLen);
+      in.skip(skip);
+      final int off = readValue(valueLen);
+      valuesSize = off + CharacterDatas.unescapeInPlace(values, off, valueLen);
+      attrOffset[attrSize] = off;
+      attrLength[attrSize++] = valuesSize - off;
+      ++length[elements[depth - 1]];
+      return true;
+    }
+
+    private void addText() {
+      text = add(TEXT);
+      name[text] = -1;
+      offset[text] = pending = valuesSize;
+    }
+
+    @Override
+    public boolean characters(final int len) throws IOException {
+      // Character data that is reported in consecutive chunks, or that is interrupted by comments, is merged into one node
+      if (text == -1)
+        addText();
+
+      readValue(len);
+      return true;
+    }
+
+    @Override
+    public boolean cdata(final int len) throws IOException {
+      if (depth == 0)
+        return true;
+
+      // CDATA sections are merged into the node of the adjacent character data, but their content is not unescaped
+      if (text == -1)
+        addText();
+      else
+        flush();
+
+      readValue(len);
+      length[text] = (pending = valuesSize) - offset[text];
+      return true;
+    }
+
+    @Override
+    public boolean endElement() {
+      flush();
+      text = -1;
+      --depth;
+      return true;
+    }
+
+    @Override
+    public boolean endDocument() {
+      flush();
+      return true;
+    }
+
+    private int add(final byte type) {
+      if (size == kind.length) {
+        final int capacity = size * 2;
+        kind = Arrays.copyOf(kind, capacity);
+        parent = Arrays.copyOf(parent, capacity);
+        firstChild = Arrays.copyOf(firstChild, capacity);
+        nextSibling = Arrays.copyOf(nextSibling, capacity);
+        name = Arrays.copyOf(name, capacity);
+        offset = Arrays.copyOf(offset, capacity);
+        length = Arrays.copyOf(length, capacity);
+      }
+
+      final int node = size++;
+      kind[node] = type;
+      firstChild[node] = -1;
+      nextSibling[node] = -1;
+      length[node] = 0;
+      if (depth == 0) {
+        parent[node] = -1;
+      }
+      else {
+        final int owner = elements[depth - 1];
+        parent[node] = owner;
+        final int sibling = lastChildren[depth - 1];
+        if (sibling == -1)
+          firstChild[owner] = node;
+        else
+          nextSibling[sibling] = node;
+
+        lastChildren[depth - 1] = node;
+      }
+
+      return node;
+    }
+  }
+
+  /**
+   * Returns a new {@link CompactDocument} of the XML document provided by the specified {@link Reader}. The {@link Reader} is read
+   * to its end, but is not closed.
+   *
+   * @param in The {@link Reader} providing the XML document.
+   * @return A new {@link CompactDocument} of the XML document provided by the specified {@link Reader}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws SAXParseException If the XML document cannot be parsed.
+   * @throws NullPointerException If {@code in} is null.
+   */
+  public static CompactDocument parse(final Reader in) throws IOException, SAXParseException {
+    return new CompactDocument(in.markSupported() ? in : new BufferedReader(in));
+  }
+
+  /**
+   * Returns a new {@link CompactDocument} of the UTF-8 encoded XML document provided by the specified {@link InputStream}. The
+   * {@link InputStream} is read to its end, but is not closed.
+   *
+   * @param in The {@link InputStream} providing the XML document.
+   * @return A new {@link CompactDocument} of the XML document provided by the specified {@link InputStream}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws SAXParseException If the XML document cannot be parsed.
+   * @throws NullPointerException If {@code in} is null.
+   */
+  public static CompactDocument parse(final InputStream in) throws IOException, SAXParseException {
+    return parse(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+  }
+
+  /**
+   * Returns a new {@link CompactDocument} of the specified XML document.
+   *
+   * @param xml The XML document.
+   * @return A new {@link CompactDocument} of the specified XML document.
+   * @throws SAXParseException If the XML document cannot be parsed.
+   * @throws NullPointerException If {@code xml} is null.
+   */
+  public static CompactDocument parse(final CharSequence xml) throws SAXParseException {
+    try {
+      return parse(new StringReader(xml.toString()));
+    }
+    catch (final IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private final Symbols symbols = new Symbols();
+  private int size;
+  private byte[] kind = new byte[64];
+  private int[] parent = new int[64];
+  private int[] firstChild = new int[64];
+  private int[] nextSibling = new int[64];
+  private int[] name = new int[64];
+  // For text nodes, the offset and length of the value in the values buffer
+  // For elements, the offset and length of the range of attributes in the attribute arrays
+  private int[] offset = new int[64];
+  private int[] length = new int[64];
+
+  private int attrSize;
+  private int[] attrName = new int[64];
+  private int[] attrOffset = new int[64];
+  private int[] attrLength = new int[64];
+
+  private int valuesSize;
+  private char[] values = new char[1024];
+
+  private int[] nameIndexOffsets;
+  private int[] nameIndex;
+  private final Map<Integer,Map<String,int[]>> attrIndexes = new HashMap<>();
+
+  private CompactDocument(final Reader in) throws IOException, SAXParseException {
+    FastSAXParser.parse(in, new Builder(in));
+    kind = Arrays.copyOf(kind, size);
+    parent = Arrays.copyOf(parent, size);
+    firstChild = Arrays.copyOf(firstChild, size);
+    nextSibling = Arrays.copyOf(nextSibling, size);
+    name = Arrays.copyOf(name, size);
+    offset = Arrays.copyOf(offset, size);
+    length = Arrays.copyOf(length, size);
+    attrName = Arrays.copyOf(attrName, attrSize);
+    attrOffset = Arrays.copyOf(attrOffset, attrSize);
+    attrLength = Arrays.copyOf(attrLength, attrSize);
+    values = Arrays.copyOf(values, valuesSize);
+  }
+
+  /**
+   * Returns the number of nodes in this document.
+   *
+   * @return The number of nodes in this document.
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * Returns the root element of this document, or {@code -1} if this document has no elements.
+   *
+   * @return The root element of this document, or {@code -1} if this document has no elements.
+   */
+  public int getRoot() {
+    return size == 0 ? -1 : 0;
+  }
+
+  /**
+   * Returns the kind of the specified node, which is either {@link #ELEMENT} or {@link #TEXT}.
+   *
+   * @param node The node.
+   * @return The kind of the specified node.
+   * @throws ArrayIndexOutOfBoundsException If {@code node} is not a node of this document.
+   */
+  public byte getKind(final int node) {
+    return kind[node];
+  }
+
+  /**
+   * Returns the parent element of the specified node, or {@code -1} if the node is the root element.
+   *
+   * @param node The node.
+   * @return The parent element of the specified node, or {@code -1} if the node is the root element.
+   * @throws ArrayIndexOutOfBoundsException If {@code node} is not a node of this document.
+   */
+  public int getParent(final int node) {
+    return parent[node];
+  }
+
+  /**
+   * Returns the first child of the specified node, or {@code -1} if the node has no children.
+   *
+   * @param node The node.
+   * @return The first child of the specified node, or {@code -1} if the node has no children.
+   * @throws ArrayIndexOutOfBoundsException If {@code node} is not a node of this document.
+   */
+  public int getFirstChild(final int node) {
+    return firstChild[node];
+  }
+
+  /**
+   * Returns the next sibling of the specified node, or {@code -1} if the node is the last child of its parent.
+   *
+   * @param node The node.
+   * @return The next sibling of the specified node, or {@code -1} if the node is the last child of its parent.
+   * @throws ArrayIndexOutOfBoundsException If {@code node} is not a node of this document.
+   */
+  public int getNextSibling(final int node) {
+    return nextSibling[node];
+  }
+
+  /**
+   * Returns the symbol of the specified name, or {@code -1} if no element or attribute in this document has the name.
+   *
+   * @param name The qualified name.
+   * @return The symbol of the specified name, or {@code -1} if no element or attribute in this document has the name.
+   * @throws NullPointerException If {@code name} is null.
+   */
+  public int getSymbol(final String name) {
+    return symbols.get(name);
+  }
+
+  /**
+   * Returns the qualified name of the specified symbol.
+   *
+   * @param symbol The symbol.
+   * @return The qualified name of the specified symbol.
+   * @throws ArrayIndexOutOfBoundsException If {@code symbol} is not a symbol of this document.
+   */
+  public String getSymbolName(final int symbol) {
+    if (symbol >= symbols.size)
+      throw new ArrayIndexOutOfBoundsException(symbol);
+
+    return symbols.names[symbol];
+  }
+
+  /**
+   * Returns the symbol of the qualified name of the specified node, or {@code -1} if the node is not an element.
+   *
+   * @param node The node.
+   * @return The symbol of the qualified name of the specified node, or {@code -1} if the node is not an element.
+   * @throws ArrayIndexOutOfBoundsException If {@code node} is not a node of this document.
+   */
+  public int getNameSymbol(final int node) {
+    return name[node];
+  }
+
+  /**
+   * Returns the qualified name of the specified node, or {@code null} if the node is not an element.
+   *
+   * @param node The node.
+   * @return The qualified name of the specified node, or {@code null} if the node is not an element.
+   * @throws ArrayIndexOutOfBoundsException If {@code node} is not a node of this document.
+   */
+  public String getName(final int node) {
+    final int symbol = name[node];
+    return symbol == -1 ? null : symbols.names[symbol];
+  }
+
+  /**
+   * Returns the local part of the name of the specified node, or {@code null} if the node is not an element.
+   *
+   * @param node The node.
+   * @return The local part of the name of the specified node, or {@code null} if the node is not an element.
+   * @throws ArrayIndexOutOfBoundsException If {@code node} is not a node of this document.
+   */
+  public String getLocalName(final int node) {
+    final int symbol = name[node];
+    return symbol == -1 ? null : symbols.names[symbol].substring(symbols.prefixes[symbol]);
+  }
+
+  /**
+   * Returns the namespace URI of the specified node, or {@code null} if the node is not an element, or if its name is not bound to
+   * a namespace. The namespace URI is resolved from the {@code xmlns} attributes of the element and its ancestors.
+   *
+   * @param node The node.
+   * @return The namespace URI of the specified node, or {@code null} if the node is not an element, or if its name is not bound to
+   *         a namespace.
+   * @throws ArrayIndexOutOfBoundsException If {@code node} is not a node of this document.
+   */
+  public String getNamespaceURI(final int node) {
+    final int symbol = name[node];
+    if (symbol == -1)
+      return null;
+
+    final int prefixLen = symbols.prefixes[symbol];
+    final String prefix = prefixLen == 0 ? null : symbols.names[symbol].substring(0, prefixLen - 1);
+    if (XMLConstants.XML_NS_PREFIX.equals(prefix))
+      return XMLConstants.XML_NS_URI;
+
+    final String xmlns = prefix == null ? XMLConstants.XMLNS_ATTRIBUTE : XMLConstants.XMLNS_ATTRIBUTE + ":" + prefix;
+    final int xmlnsSymbol = symbols.get(xmlns);
+    if (xmlnsSymbol == -1)
+      return null;
+
+    for (int element = node; element != -1; element = parent[element]) { // [X]
+      for (int a = offset[element], a$ = a + length[element]; a < a$; ++a) { // [A]
+        if (attrName[a] == xmlnsSymbol)
+          return attrLength[a] == 0 ? null : new String(values, attrOffset[a], attrLength[a]);
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Returns the value of the specified text node, or {@code null} if the node is not a text node.
+   *
+   * @param node The node.
+   * @return The value of the specified text node, or {@code null} if the node is not a text node.
+   * @throws ArrayIndexOutOfBoundsException If {@code node} is not a node of this document.
+   */
+  public String getText(final int node) {
+    return kind[node] != TEXT ? null : new String(values, offset[node], length[node]);
+  }
+
+  /**
+   * Returns the concatenation of the values of the text nodes of the specified node and its descendants.
+   *
+   * @param node The node.
+   * @return The concatenation of the values of the text nodes of the specified node and its descendants.
+   * @throws ArrayIndexOutOfBoundsException If {@code node} is not a node of this document.
+   */
+  public String getTextContent(final int node) {
+    if (kind[node] == TEXT)
+      return getText(node);
+
+    final StringBuilder b = new StringBuilder();
+    // The descendants of an element precede the next sibling of the element or of its nearest ancestor that has one
+    int end = node;
+    while (end != -1 && nextSibling[end] == -1) // [X]
+      end = parent[end];
+
+    end = end == -1 ? size : nextSibling[end];
+    for (int i = node + 1; i < end; ++i) // [A]
+      if (kind[i] == TEXT)
+        b.append(values, offset[i], length[i]);
+
+    return b.toString();
+  }
+
+  /**
+   * Returns the number of attributes of the specified node, which is {@code 0} if the node is not an element.
+   *
+   * @param node The node.
+   * @return The number of attributes of the specified node.
+   * @throws ArrayIndexOutOfBoundsException If {@code node} is not a node of this document.
+   */
+  public int getAttributeCount(final int node) {
+    return kind[node] == ELEMENT ? length[node] : 0;
+  }
+
+  private int attribute(final int element, final int index) {
+    if (index < 0 || index >= getAttributeCount(element))
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + getAttributeCount(element));
+
+    return offset[element] + index;
+  }
+
+  /**
+   * Returns the qualified name of the attribute at the specified index of the specified element.
+   *
+   * @param element The element.
+   * @param index The index of the attribute.
+   * @return The qualified name of the attribute at the specified index of the specified element.
+   * @throws ArrayIndexOutOfBoundsException If {@code element} is not a node of this document.
+   * @throws IndexOutOfBoundsException If {@code index} is out of range of the attributes of the element.
+   */
+  public String getAttributeName(final int element, final int index) {
+    return symbols.names[attrName[attribute(element, index)]];
+  }
+
+  /**
+   * Returns the value of the attribute at the specified index of the specified element.
+   *
+   * @param element The element.
+   * @param index The index of the attribute.
+   * @return The value of the attribute at the specified index of the specified element.
+   * @throws ArrayIndexOutOfBoundsException If {@code element} is not a node of this document.
+   * @throws IndexOutOfBoundsException If {@code index} is out of range of the attributes of the element.
+   */
+  public String getAttributeValue(final int element, final int index) {
+    final int a = attribute(element, index);
+    return new String(values, attrOffset[a], attrLength[a]);
+  }
+
+  /**
+   * Returns the value of the attribute with the specified qualified name of the specified element, or {@code null} if the element
+   * does not have the attribute.
+   *
+   * @param element The element.
+   * @param name The qualified name of the attribute.
+   * @return The value of the attribute with the specified qualified name of the specified element, or {@code null} if the element
+   *         does not have the attribute.
+   * @throws ArrayIndexOutOfBoundsException If {@code element} is not a node of this document.
+   * @throws NullPointerException If {@code name} is null.
+   */
+  public String getAttribute(final int element, final String name) {
+    final int symbol = symbols.get(name);
+    if (symbol == -1 || kind[element] != ELEMENT)
+      return null;
+
+    for (int a = offset[element], a$ = a + length[element]; a < a$; ++a) // [A]
+      if (attrName[a] == symbol)
+        return new String(values, attrOffset[a], attrLength[a]);
+
+    return null;
+  }
+
+  private synchronized int[] nameIndex() {
+    if (nameIndex == null) {
+      final int[] offsets = new int[symbols.size + 1];
+      for (int i = 0; i < size; ++i) // [A]
+        if (kind[i] == ELEMENT)
+          ++offsets[name[i] + 1];
+
+      for (int i = 1; i < offsets.length; ++i) // [A]
+        offsets[i] += offsets[i - 1];
+
+      final int[] next = Arrays.copyOf(offsets, symbols.size);
+      final int[] index = new int[offsets[symbols.size]];
+      for (int i = 0; i < size; ++i) // [A]
+        if (kind[i] == ELEMENT)
+          index[next[name[i]]++] = i;
+
+      nameIndexOffsets = offsets;
+      nameIndex = index;
+    }
+
+    return nameIndex;
+  }
+
+  /**
+   * Returns the elements with the specified qualified name, in document order. The index of elements by name is built on the first
+   * invocation of this method, after which the matching range of the index is located in {@code O(1)}. The returned array is a copy
+   * of that range, so each invocation is {@code O(k)} for {@code k} matching elements.
+   *
+   * @param name The qualified name of the elements.
+   * @return The elements with the specified qualified name, in document order.
+   * @throws NullPointerException If {@code name} is null.
+   */
+  public int[] getElementsByName(final String name) {
+    final int symbol = symbols.get(name);
+    if (symbol == -1)
+      return EMPTY;
+
+    final int[] index = nameIndex();
+    return Arrays.copyOfRange(index, nameIndexOffsets[symbol], nameIndexOffsets[symbol + 1]);
+  }
+
+  /**
+   * Returns the elements that have an attribute with the specified qualified name and value, in document order. The index of
+   * elements by the values of an attribute is built on the first invocation of this method for the attribute name, after which
+   * the matching elements are located in {@code O(1)}. The returned array is a copy, so each invocation is {@code O(k)} for {@code k}
+   * matching elements.
+   *
+   * @param name The qualified name of the attribute.
+   * @param value The value of the attribute.
+   * @return The elements that have an attribute with the specified qualified name and value, in document order.
+   * @throws NullPointerException If {@code name} or {@code value} is null.
+   */
+  public int[] getElementsByAttribute(final String name, final String value) {
+    final int symbol = symbols.get(name);
+    if (symbol == -1)
+      return EMPTY;
+
+    final Map<String,int[]> index;
+    synchronized (attrIndexes) {
+      index = attrIndexes.computeIfAbsent(symbol, this::attrIndex);
+    }
+
+    final int[] elements = index.get(value);
+    return elements == null ? EMPTY : elements.clone();
+  }
+
+  private Map<String,int[]> attrIndex(final int symbol) {
+    // The first entry of each array is the count of elements that follow it
+    final Map<String,int[]> index = new HashMap<>();
+    for (int i = 0; i < size; ++i) { // [A]
+      if (kind[i] != ELEMENT)
+        continue;
+
+      for (int a = offset[i], a$ = a + length[i]; a < a$; ++a) { // [A]
+        if (attrName[a] == symbol) {
+          final String value = new String(values, attrOffset[a], attrLength[a]);
+          int[] elements = index.get(value);
+          if (elements == null)
+            index.put(value, elements = new int[2]);
+          else if (elements[0] + 1 == elements.length)
+            index.put(value, elements = Arrays.copyOf(elements, elements.length * 2));
+
+          elements[++elements[0]] = i;
+        }
+      }
+    }
+
+    for (final Map.Entry<String,int[]> entry : index.entrySet()) { // [S]
+      final int[] elements = entry.getValue();
+      entry.setValue(Arrays.copyOfRange(elements, 1, elements[0] + 1));
+    }
+
+    return index;
+  }
+}
\ No newline at end of file
@@ -19,15 +19,19 @@ package org.openjax.xml.dom;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.Objects;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.validation.Schema;
 
 import org.libj.net.URLConnections;
 import org.libj.util.StringPaths;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.w3c.dom.DOMImplementation;
+import org.w3c.dom.Document;
 import org.xml.sax.EntityResolver;
 import org.xml.sax.ErrorHandler;
 import org.xml.sax.InputSource;
@@ -58,49 +62,206 @@ public final class DOMParsers {
     }
   };
 
-  public static DocumentBuilder newDocumentBuilder() {
-    final DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
-    documentBuilderFactory.setNamespaceAware(true);
-    documentBuilderFactory.setIgnoringComments(true);
-    documentBuilderFactory.setIgnoringElementContentWhitespace(true);
-    documentBuilderFactory.setValidating(false);
+  /**
+   * An {@link EntityResolver} that resolves relative system IDs against the parent path of the last absolute non-local system ID.
+   */
+  private static final class Resolver implements EntityResolver {
+    private String prevPath;
 
-    try {
-      final DocumentBuilder documentBuilder = documentBuilderFactory.newDocumentBuilder();
+    private static InputStream getInputStream(final String systemId) throws IOException {
+      return URLConnections.checkFollowRedirect(new URL(systemId).openConnection()).getInputStream();
+    }
+
+    @Override
+    public InputSource resolveEntity(final String publicId, final String systemId) throws SAXException, IOException {
+      if (systemId == null)
+        return null;
+
+      if (!StringPaths.isAbsoluteLocal(systemId))
+        prevPath = StringPaths.getCanonicalParent(systemId);
+
+      try {
+        return new InputSource(getInputStream(systemId));
+      }
+      catch (final IOException e) {
+        if (prevPath == null || !StringPaths.isAbsoluteLocal(systemId))
+          throw e;
+
+        return new InputSource(getInputStream(prevPath + StringPaths.getName(systemId)));
+      }
+    }
+  }
+
+  /**
+   * A {@link DocumentBuilder} confined to a thread, together with its {@link Resolver}. The builder records whether it is parsing,
+   * so that a nested invocation of {@link DOMParsers#getDocumentBuilder()} from within a parse, such as from an
+   * {@link EntityResolver}, does not reset it.
+   */
+  private static final class Pooled extends DocumentBuilder {
+    private final DocumentBuilder documentBuilder = newDocumentBuilder(factory);
+    private final Resolver resolver = new Resolver();
+    private boolean parsing;
+
+    private DocumentBuilder reset(final EntityResolver entityResolver) {
+      documentBuilder.reset();
       documentBuilder.setErrorHandler(errorHandler);
-      documentBuilder.setEntityResolver(new EntityResolver() {
-        private String prevPath;
-
-        private InputStream getInputStream(final String systemId) throws IOException {
-          return URLConnections.checkFollowRedirect(new URL(systemId).openConnection()).getInputStream();
-        }
-
-        @Override
-        public InputSource resolveEntity(final String publicId, final String systemId) throws SAXException, IOException {
-          if (systemId == null)
-            return null;
-
-          if (!StringPaths.isAbsoluteLocal(systemId))
-            prevPath = StringPaths.getCanonicalParent(systemId);
-
-          try {
-            return new InputSource(getInputStream(systemId));
-          }
-          catch (final IOException e) {
-            if (prevPath == null || !StringPaths.isAbsoluteLocal(systemId))
-              throw e;
-
-            return new InputSource(getInputStream(prevPath + StringPaths.getName(systemId)));
-          }
-        }
-      });
-      return documentBuilder;
+      if (entityResolver != null) {
+        documentBuilder.setEntityResolver(entityResolver);
+      }
+      else {
+        resolver.prevPath = null;
+        documentBuilder.setEntityResolver(resolver);
+      }
+
+      return this;
+    }
+
+    @Override
+    public Document parse(final InputSource is) throws IOException, SAXException {
+      parsing = true;
+      try {
+        return documentBuilder.parse(is);
+      }
+      finally {
+        parsing = false;
+      }
+    }
+
+    @Override
+    public void reset() {
+      documentBuilder.reset();
+    }
+
+    @Override
+    public boolean isNamespaceAware() {
+      return documentBuilder.isNamespaceAware();
+    }
+
+    @Override
+    public boolean isValidating() {
+      return documentBuilder.isValidating();
+    }
+
+    @Override
+    public boolean isXIncludeAware() {
+      return documentBuilder.isXIncludeAware();
+    }
+
+    @Override
+    public Schema getSchema() {
+      return documentBuilder.getSchema();
+    }
+
+    @Override
+    public void setEntityResolver(final EntityResolver er) {
+      documentBuilder.setEntityResolver(er);
+    }
+
+    @Override
+    public void setErrorHandler(final ErrorHandler eh) {
+      documentBuilder.setErrorHandler(eh);
+    }
+
+    @Override
+    public Document newDocument() {
+      return documentBuilder.newDocument();
+    }
+
+    @Override
+    public DOMImplementation getDOMImplementation() {
+      return documentBuilder.getDOMImplementation();
+    }
+  }
+
+  private static DocumentBuilderFactory newFactory() {
+    final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+    factory.setNamespaceAware(true);
+    factory.setIgnoringComments(true);
+    factory.setIgnoringElementContentWhitespace(true);
+    factory.setValidating(false);
+    return factory;
+  }
+
+  private static final DocumentBuilderFactory factory = newFactory();
+  private static final ThreadLocal<Pooled> pooled = ThreadLocal.withInitial(Pooled::new);
+
+  private static DocumentBuilder newDocumentBuilder(final DocumentBuilderFactory factory) {
+    try {
+      // DocumentBuilderFactory is not guaranteed to be thread-safe
+      synchronized (factory) {
+        return factory.newDocumentBuilder();
+      }
     }
     catch (final ParserConfigurationException e) {
       throw new IllegalStateException(e);
     }
   }
 
+  /**
+   * Returns a new namespace-aware and non-validating {@link DocumentBuilder} that ignores comments and element content whitespace,
+   * treats validation errors as fatal, and resolves entities with a new {@link EntityResolver}. The {@link DocumentBuilderFactory}
+   * of the returned builder is shared, and is created only once.
+   *
+   * @return A new {@link DocumentBuilder}.
+   * @see #getDocumentBuilder()
+   */
+  public static DocumentBuilder newDocumentBuilder() {
+    return newDocumentBuilder(new Resolver());
+  }
+
+  /**
+   * Returns a new {@link DocumentBuilder} configured as by {@link #newDocumentBuilder()}, but that resolves entities with the
+   * specified {@link EntityResolver}, such as a shared resolver that caches the entities it resolves.
+   *
+   * @param entityResolver The {@link EntityResolver} with which to resolve entities.
+   * @return A new {@link DocumentBuilder}.
+   * @throws NullPointerException If {@code entityResolver} is null.
+   * @see #getDocumentBuilder(EntityResolver)
+   */
+  public static DocumentBuilder newDocumentBuilder(final EntityResolver entityResolver) {
+    final DocumentBuilder documentBuilder = newDocumentBuilder(factory);
+    documentBuilder.setErrorHandler(errorHandler);
+    documentBuilder.setEntityResolver(Objects.requireNonNull(entityResolver, "entityResolver is null"));
+    return documentBuilder;
+  }
+
+  /**
+   * Returns the {@link DocumentBuilder} of the current thread, configured as by {@link #newDocumentBuilder()}, and
+   * {@linkplain DocumentBuilder#reset() reset} to that configuration. The builder is created on the first invocation in each
+   * thread, and is reused by subsequent invocations in the same thread, which avoids the cost of the JAXP factory lookup and
+   * builder construction for the parsing of many small documents.
+   * <p>
+   * <b>Note:</b> The returned builder must not be shared with other threads, and must not be used after a subsequent invocation
+   * of this method in the same thread. Changes to its configuration are discarded by the next invocation. An invocation from within
+   * a parse of the builder of the current thread, such as from an {@link EntityResolver} or {@link ErrorHandler}, returns a new
+   * builder instead, as by {@link #newDocumentBuilder()}, so that the parse in progress is not disturbed. Code that may be called
+   * while a caller holds the builder of the current thread outside of a parse must use {@link #newDocumentBuilder()}.
+   *
+   * @return The {@link DocumentBuilder} of the current thread.
+   */
+  public static DocumentBuilder getDocumentBuilder() {
+    final Pooled pooled = DOMParsers.pooled.get();
+    return pooled.parsing ? newDocumentBuilder() : pooled.reset(null);
+  }
+
+  /**
+   * Returns the {@link DocumentBuilder} of the current thread, as by {@link #getDocumentBuilder()}, but that resolves entities with
+   * the specified {@link EntityResolver}, such as a shared resolver that caches the entities it resolves.
+   * <p>
+   * <b>Note:</b> The returned builder must not be shared with other threads, and must not be used after a subsequent invocation
+   * of this method in the same thread. The specified {@link EntityResolver} is used concurrently by the builders of all threads
+   * to which it is provided, and must therefore be thread-safe. As with {@link #getDocumentBuilder()}, an invocation from within a
+   * parse of the builder of the current thread returns a new builder instead.
+   *
+   * @param entityResolver The {@link EntityResolver} with which to resolve entities.
+   * @return The {@link DocumentBuilder} of the current thread.
+   * @throws NullPointerException If {@code entityResolver} is null.
+   */
+  public static DocumentBuilder getDocumentBuilder(final EntityResolver entityResolver) {
+    final Pooled pooled = DOMParsers.pooled.get();
+    return pooled.parsing ? newDocumentBuilder(entityResolver) : pooled.reset(Objects.requireNonNull(entityResolver, "entityResolver is null"));
+  }
+
   private DOMParsers() {
   }
 }
\ No newline at end of file
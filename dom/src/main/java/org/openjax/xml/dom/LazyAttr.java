@@ -0,0 +1,135 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.dom;
+
+import javax.xml.XMLConstants;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.TypeInfo;
+
+/**
+ * Read-only {@link Attr} node of a {@link LazyDocument}, of which the name and value are decoded from the source characters when
+ * they are first requested.
+ */
+final class LazyAttr extends LazyNode implements Attr {
+  private final LazyDocument document;
+  final int id;
+  private String name;
+  private String value;
+
+  LazyAttr(final LazyDocument document, final int id) {
+    this.document = document;
+    this.id = id;
+  }
+
+  @Override
+  LazyDocument document() {
+    return document;
+  }
+
+  @Override
+  int index() {
+    return document.attrOwner[id];
+  }
+
+  @Override
+  public String getNodeName() {
+    return getName();
+  }
+
+  @Override
+  public short getNodeType() {
+    return ATTRIBUTE_NODE;
+  }
+
+  @Override
+  public String getNodeValue() {
+    return getValue();
+  }
+
+  @Override
+  public String getTextContent() {
+    return getValue();
+  }
+
+  @Override
+  public String getNamespaceURI() {
+    final int prefixLen = document.attrPrefix[id];
+    if (prefixLen == 0)
+      return XMLConstants.XMLNS_ATTRIBUTE.equals(getName()) ? XMLConstants.XMLNS_ATTRIBUTE_NS_URI : null;
+
+    return document.lookupNamespaceURI(index(), getPrefix());
+  }
+
+  @Override
+  public String getPrefix() {
+    final int prefixLen = document.attrPrefix[id];
+    return prefixLen == 0 ? null : getName().substring(0, prefixLen - 1);
+  }
+
+  @Override
+  public String getLocalName() {
+    final int prefixLen = document.attrPrefix[id];
+    return prefixLen == 0 ? getName() : getName().substring(prefixLen);
+  }
+
+  @Override
+  public String lookupNamespaceURI(final String prefix) {
+    return document.lookupNamespaceURI(index(), prefix);
+  }
+
+  @Override
+  public String lookupPrefix(final String namespaceURI) {
+    return document.lookupPrefix(index(), namespaceURI);
+  }
+
+  @Override
+  public String getName() {
+    return name == null ? name = new String(document.source, document.attrStart[id], document.attrLength[id]) : name;
+  }
+
+  @Override
+  public boolean getSpecified() {
+    return true;
+  }
+
+  @Override
+  public String getValue() {
+    return value == null ? value = LazyDocument.decode(document.source, document.attrValue[id], document.attrValueLength[id]) : value;
+  }
+
+  @Override
+  public void setValue(final String value) {
+    throw readOnly();
+  }
+
+  @Override
+  public Element getOwnerElement() {
+    return (Element)document.node(index());
+  }
+
+  @Override
+  public TypeInfo getSchemaTypeInfo() {
+    return null;
+  }
+
+  @Override
+  public boolean isId() {
+    return false;
+  }
+}
\ No newline at end of file
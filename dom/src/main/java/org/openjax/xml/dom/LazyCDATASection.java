@@ -0,0 +1,44 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.dom;
+
+import org.w3c.dom.CDATASection;
+
+/**
+ * Read-only {@link CDATASection} node of a {@link LazyDocument}, of which the data is copied verbatim from the source characters
+ * when it is first requested.
+ */
+final class LazyCDATASection extends LazyText implements CDATASection {
+  LazyCDATASection(final LazyDocument document, final int index) {
+    super(document, index);
+  }
+
+  @Override
+  public String getNodeName() {
+    return "#cdata-section";
+  }
+
+  @Override
+  public short getNodeType() {
+    return CDATA_SECTION_NODE;
+  }
+
+  @Override
+  String decode(final char[] source, final int off, final int len) {
+    return new String(source, off, len);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,832 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.dom;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javax.xml.XMLConstants;
+
+import org.openjax.xml.api.CharacterDatas;
+import org.openjax.xml.sax.FastSAXParser;
+import org.openjax.xml.sax.FasterSAXHandler;
+import org.w3c.dom.Attr;
+import org.w3c.dom.CDATASection;
+import org.w3c.dom.Comment;
+import org.w3c.dom.DOMConfiguration;
+import org.w3c.dom.DOMImplementation;
+import org.w3c.dom.DocumentFragment;
+import org.w3c.dom.DocumentType;
+import org.w3c.dom.Element;
+import org.w3c.dom.EntityReference;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.w3c.dom.ProcessingInstruction;
+import org.w3c.dom.Text;
+import org.xml.sax.SAXParseException;
+
+/**
+ * Read-only {@link org.w3c.dom.Document} that is built from a single {@link FastSAXParser} scan, which records only a table of the
+ * offsets of elements, attributes and character data in the source document. The {@link Element}, {@link Attr} and {@link Text}
+ * nodes are materialized when they are first accessed, and their names and values are decoded from the source characters only when
+ * requested. Consumers that visit a small fraction of a large document therefore do not pay for the parts they never visit.
+ * <p>
+ * As with {@link DOMParsers}, only elements, attributes and character data are modeled. Declarations, DOCTYPE blocks and comments
+ * are not, and character data on both sides of a comment is modeled as one {@link Text} node. Character data and attribute values
+ * are reported with the predefined and numeric character references expanded, while CDATA sections are modeled as
+ * {@link CDATASection} nodes, of which the data is reported verbatim.
+ * Namespace URIs are resolved from the {@code xmlns} attributes of the element and its ancestors.
+ * <p>
+ * The document cannot be modified: mutator methods throw a {@link org.w3c.dom.DOMException} with
+ * {@link org.w3c.dom.DOMException#NO_MODIFICATION_ALLOWED_ERR}. To obtain a mutable copy of a subtree, import it into another
+ * document with {@link org.w3c.dom.Document#importNode(Node,boolean)}.
+ */
+public final class LazyDocument extends LazyNode implements org.w3c.dom.Document {
+  static final byte ELEMENT_NODE = Node.ELEMENT_NODE;
+  static final byte TEXT_NODE = Node.TEXT_NODE;
+  static final byte CDATA_SECTION_NODE = Node.CDATA_SECTION_NODE;
+
+  private static final class Source extends Reader {
+    private final char[] chars;
+    private final int length;
+    private int pos;
+    private int mark;
+
+    private Source(final char[] chars, final int length) {
+      this.chars = chars;
+      this.length = length;
+    }
+
+    @Override
+    public int read() {
+      return pos < length ? chars[pos++] : -1;
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len) {
+      if (pos >= length)
+        return -1;
+
+      final int n = Math.min(len, length - pos);
+      System.arraycopy(chars, pos, cbuf, off, n);
+      pos += n;
+      return n;
+    }
+
+    @Override
+    public long skip(final long n) {
+      final int skip = (int)Math.min(n, length - pos);
+      pos += skip;
+      return skip;
+    }
+
+    @Override
+    public boolean markSupported() {
+      return true;
+    }
+
+    @Override
+    public void mark(final int readAheadLimit) {
+      mark = pos;
+    }
+
+    @Override
+    public void reset() {
+      pos = mark;
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+
+  private final class Scanner implements FasterSAXHandler {
+    private final Source in;
+    private int[] stack = new int[16];
+    private int depth;
+    private boolean inDeclaration;
+    // The position after the last comment that follows the last Text node, at which following character data is merged into it
+    private int mergePos = -1;
+
+    private Scanner(final Source in) {
+      this.in = in;
+    }
+
+    @Override
+    public boolean startDeclaration(final int nameLen) {
+      inDeclaration = true;
+      return true;
+    }
+
+    @Override
+    public boolean endDeclaration() {
+      inDeclaration = false;
+      return true;
+    }
+
+    @Override
+    public boolean startElement(final int prefixLen, final int localPartLen) {
+      final int node = add(ELEMENT_NODE, in.pos, prefixLen + localPartLen, prefixLen);
+      attrOffset[node] = attrSize;
+      if (depth == stack.length)
+        stack = Arrays.copyOf(stack, depth * 2);
+
+      stack[depth++] = node;
+      return true;
+    }
+
+    @Override
+    public boolean attribute(final int prefixLen, final int localPartLen, final int skip, final int valueLen) {
+      if (inDeclaration)
+        return true;
+
+      if (attrSize == attrStart.length) {
+        final int capacity = attrSize * 2;
+        attrStart = Arrays.copyOf(attrStart, capacity);
+        attrPrefix = Arrays.copyOf(attrPrefix, capacity);
+        attrLength = Arrays.copyOf(attrLength, capacity);
+        attrValue = Arrays.copyOf(attrValue, capacity);
+        attrValueLength = Arrays.copyOf(attrValueLength, capacity);
+        attrOwner = Arrays.copyOf(attrOwner, capacity);
+      }
+
+      final int owner = stack[depth - 1];
+      final int len = prefixLen + localPartLen;
+      attrStart[attrSize] = in.pos;
+      attrPrefix[attrSize] = prefixLen;
+      attrLength[attrSize] = len;
+      attrValue[attrSize] = in.pos + len + skip;
+      attrValueLength[attrSize] = valueLen;
+      attrOwner[attrSize++] = owner;
+      ++attrCount[owner];
+      return true;
+    }
+
+    @Override
+    public boolean characters(final int len) {
+      final int last = size - 1;
+      // Character data that is reported in consecutive chunks, or that is only separated by comments, is merged into one node
+      if (kind[last] == TEXT_NODE && (start[last] + length[last] == in.pos || mergePos == in.pos))
+        length[last] = in.pos + len - start[last];
+      else
+        add(TEXT_NODE, in.pos, len, 0);
+
+      return true;
+    }
+
+    @Override
+    public boolean comment(final int len) {
+      // The reader is positioned after the "<!--" of the comment
+      final int open = in.pos - 4;
+      final int last = size - 1;
+      if (last != -1 && kind[last] == TEXT_NODE && parent[last] == (depth == 0 ? -1 : stack[depth - 1]) && (start[last] + length[last] == open || mergePos == open))
+        mergePos = in.pos + len + 3;
+
+      return true;
+    }
+
+    @Override
+    public boolean cdata(final int len) {
+      if (depth == 0)
+        return true;
+
+      final int last = size - 1;
+      // A CDATA section that is reported in consecutive chunks is merged into one node
+      if (kind[last] == CDATA_SECTION_NODE && start[last] + length[last] == in.pos)
+        length[last] += len;
+      else
+        add(CDATA_SECTION_NODE, in.pos, len, 0);
+
+      return true;
+    }
+
+    @Override
+    public boolean endElement() {
+      final int node = stack[--depth];
+      end[node] = size - 1;
+      return true;
+    }
+
+    private int add(final byte type, final int off, final int len, final int prefixLen) {
+      if (size == kind.length) {
+        final int capacity = size * 2;
+        kind = Arrays.copyOf(kind, capacity);
+        start = Arrays.copyOf(start, capacity);
+        length = Arrays.copyOf(length, capacity);
+        prefix = Arrays.copyOf(prefix, capacity);
+        parent = Arrays.copyOf(parent, capacity);
+        previousSibling = Arrays.copyOf(previousSibling, capacity);
+        nextSibling = Arrays.copyOf(nextSibling, capacity);
+        firstChild = Arrays.copyOf(firstChild, capacity);
+        lastChild = Arrays.copyOf(lastChild, capacity);
+        end = Arrays.copyOf(end, capacity);
+        attrOffset = Arrays.copyOf(attrOffset, capacity);
+        attrCount = Arrays.copyOf(attrCount, capacity);
+      }
+
+      final int node = size++;
+      final int owner = depth == 0 ? -1 : stack[depth - 1];
+      kind[node] = type;
+      start[node] = off;
+      length[node] = len;
+      prefix[node] = prefixLen;
+      parent[node] = owner;
+      nextSibling[node] = -1;
+      firstChild[node] = -1;
+      lastChild[node] = -1;
+      end[node] = node;
+      if (owner == -1) {
+        previousSibling[node] = -1;
+      }
+      else {
+        final int sibling = lastChild[owner];
+        previousSibling[node] = sibling;
+        if (sibling == -1)
+          firstChild[owner] = node;
+        else
+          nextSibling[sibling] = node;
+
+        lastChild[owner] = node;
+      }
+
+      return node;
+    }
+  }
+
+  /**
+   * Returns a new {@link LazyDocument} of the XML document provided by the specified {@link Reader}. The {@link Reader} is read to
+   * its end, but is not closed.
+   *
+   * @param in The {@link Reader} providing the XML document.
+   * @return A new {@link LazyDocument} of the XML document provided by the specified {@link Reader}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws SAXParseException If the XML document cannot be parsed.
+   * @throws NullPointerException If {@code in} is null.
+   */
+  public static LazyDocument parse(final Reader in) throws IOException, SAXParseException {
+    char[] chars = new char[8192];
+    int len = 0;
+    for (int n; (n = in.read(chars, len, chars.length - len)) != -1;) { // [ST]
+      len += n;
+      if (len == chars.length)
+        chars = Arrays.copyOf(chars, len * 2);
+    }
+
+    return new LazyDocument(chars, len);
+  }
+
+  /**
+   * Returns a new {@link LazyDocument} of the UTF-8 encoded XML document provided by the specified {@link InputStream}. The
+   * {@link InputStream} is read to its end, but is not closed.
+   *
+   * @param in The {@link InputStream} providing the XML document.
+   * @return A new {@link LazyDocument} of the XML document provided by the specified {@link InputStream}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws SAXParseException If the XML document cannot be parsed.
+   * @throws NullPointerException If {@code in} is null.
+   */
+  public static LazyDocument parse(final InputStream in) throws IOException, SAXParseException {
+    return parse(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+  }
+
+  /**
+   * Returns a new {@link LazyDocument} of the specified XML document.
+   *
+   * @param xml The XML document.
+   * @return A new {@link LazyDocument} of the specified XML document.
+   * @throws SAXParseException If the XML document cannot be parsed.
+   * @throws NullPointerException If {@code xml} is null.
+   */
+  public static LazyDocument parse(final CharSequence xml) throws SAXParseException {
+    final char[] chars = xml.toString().toCharArray();
+    try {
+      return new LazyDocument(chars, chars.length);
+    }
+    catch (final IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Returns the string of the specified region of character data with the comments that it spans removed, and the predefined and
+   * numeric character references expanded. References that are not recognized are left verbatim.
+   */
+  static String decode(final char[] chars, final int off, final int len) {
+    for (int i = off, end = off + len; i < end; ++i) { // [A]
+      final char ch = chars[i];
+      if (ch == '&' || ch == '<') {
+        final char[] copy = Arrays.copyOfRange(chars, off, end);
+        return new String(copy, 0, CharacterDatas.unescapeInPlace(copy, 0, ch == '<' ? removeComments(copy, i - off, len) : len));
+      }
+    }
+
+    return new String(chars, off, len);
+  }
+
+  /**
+   * Removes the comments from the specified {@code char[]} of character data, starting at the {@code '<'} of the first comment, and
+   * returns the length of the character data without them.
+   */
+  private static int removeComments(final char[] chars, int i, final int len) {
+    int j = i;
+    while (i < len) { // [A]
+      if (chars[i] != '<') {
+        chars[j++] = chars[i++];
+      }
+      else {
+        // Character data only has a '<' at the start of a comment, of which the "-->" is after the "<!--"
+        i += 5;
+        while (chars[i] != '>' || chars[i - 1] != '-' || chars[i - 2] != '-') // [A]
+          ++i;
+
+        ++i;
+      }
+    }
+
+    return j;
+  }
+
+  final char[] source;
+  int size;
+  byte[] kind = new byte[64];
+  int[] start = new int[64];
+  int[] length = new int[64];
+  int[] prefix = new int[64];
+  int[] parent = new int[64];
+  int[] previousSibling = new int[64];
+  int[] nextSibling = new int[64];
+  int[] firstChild = new int[64];
+  int[] lastChild = new int[64];
+  int[] end = new int[64];
+  int[] attrOffset = new int[64];
+  int[] attrCount = new int[64];
+
+  int attrSize;
+  int[] attrStart = new int[64];
+  int[] attrPrefix = new int[64];
+  int[] attrLength = new int[64];
+  int[] attrValue = new int[64];
+  int[] attrValueLength = new int[64];
+  int[] attrOwner = new int[64];
+
+  private final LazyNode[] nodes;
+  private final LazyAttr[] attrs;
+  private final NodeList children;
+  private Map<Node,Map<String,Object>> userData;
+  private DOMImplementation implementation;
+  private String documentURI;
+
+  private LazyDocument(final char[] source, final int length) throws IOException, SAXParseException {
+    this.source = source;
+    final Source in = new Source(source, length);
+    FastSAXParser.parse(in, new Scanner(in));
+    this.nodes = new LazyNode[size];
+    this.attrs = new LazyAttr[attrSize];
+    this.children = size == 0 ? EMPTY : new LazyNodeList(this, new int[] {0});
+  }
+
+  /**
+   * Returns the node at the specified index of the node table, materializing it if it has not yet been accessed.
+   */
+  LazyNode node(final int index) {
+    if (index == -1)
+      return null;
+
+    LazyNode node = nodes[index];
+    if (node == null)
+      nodes[index] = node = kind[index] == ELEMENT_NODE ? new LazyElement(this, index) : kind[index] == TEXT_NODE ? new LazyText(this, index) : new LazyCDATASection(this, index);
+
+    return node;
+  }
+
+  /**
+   * Returns the attribute at the specified index of the attribute table, materializing it if it has not yet been accessed.
+   */
+  LazyAttr attr(final int index) {
+    LazyAttr attr = attrs[index];
+    if (attr == null)
+      attrs[index] = attr = new LazyAttr(this, index);
+
+    return attr;
+  }
+
+  boolean regionEquals(final int off, final int len, final String str) {
+    if (len != str.length())
+      return false;
+
+    for (int i = 0; i < len; ++i) // [N]
+      if (source[off + i] != str.charAt(i))
+        return false;
+
+    return true;
+  }
+
+  /**
+   * Returns the namespace URI bound to the specified prefix in the scope of the specified element, or {@code null} if the prefix
+   * is not bound. The default namespace is specified with a {@code null} or empty prefix.
+   */
+  String lookupNamespaceURI(int element, final String prefix) {
+    final boolean isDefault = prefix == null || prefix.length() == 0;
+    if (!isDefault) {
+      if (XMLConstants.XML_NS_PREFIX.equals(prefix))
+        return XMLConstants.XML_NS_URI;
+
+      if (XMLConstants.XMLNS_ATTRIBUTE.equals(prefix))
+        return XMLConstants.XMLNS_ATTRIBUTE_NS_URI;
+    }
+
+    for (; element != -1; element = parent[element]) { // [X]
+      for (int a = attrOffset[element], a$ = a + attrCount[element]; a < a$; ++a) { // [A]
+        final int off = attrStart[a];
+        if (isDefault ? attrPrefix[a] == 0 && regionEquals(off, attrLength[a], XMLConstants.XMLNS_ATTRIBUTE) : attrPrefix[a] == 6 && regionEquals(off, 5, XMLConstants.XMLNS_ATTRIBUTE) && regionEquals(off + 6, attrLength[a] - 6, prefix)) {
+          final String namespaceURI = decode(source, attrValue[a], attrValueLength[a]);
+          return namespaceURI.length() == 0 ? null : namespaceURI;
+        }
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Returns the prefix bound to the specified namespace URI in the scope of the specified element, or {@code null} if the namespace
+   * URI is not bound to a prefix.
+   */
+  String lookupPrefix(int element, final String namespaceURI) {
+    if (namespaceURI == null || namespaceURI.length() == 0)
+      return null;
+
+    for (; element != -1; element = parent[element]) { // [X]
+      for (int a = attrOffset[element], a$ = a + attrCount[element]; a < a$; ++a) { // [A]
+        if (attrPrefix[a] == 6 && regionEquals(attrStart[a], 5, XMLConstants.XMLNS_ATTRIBUTE) && namespaceURI.equals(decode(source, attrValue[a], attrValueLength[a]))) {
+          final String prefix = new String(source, attrStart[a] + 6, attrLength[a] - 6);
+          if (namespaceURI.equals(lookupNamespaceURI(element, prefix)))
+            return prefix;
+        }
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Returns the concatenation of the character data of the descendants of the specified element.
+   */
+  String textContent(final int element) {
+    final int last = end[element];
+    StringBuilder b = null;
+    String text = null;
+    for (int i = element + 1; i <= last; ++i) { // [A]
+      if (kind[i] == ELEMENT_NODE)
+        continue;
+
+      final String value = ((LazyText)node(i)).getData();
+      if (text == null) {
+        text = value;
+      }
+      else {
+        if (b == null)
+          b = new StringBuilder(text);
+
+        b.append(value);
+      }
+    }
+
+    return b != null ? b.toString() : text != null ? text : "";
+  }
+
+  /**
+   * Returns the elements in the specified range of the node table that match the specified namespace URI and local name, or the
+   * specified qualified name if {@code localName} is null. The value {@code "*"} matches all names.
+   */
+  NodeList getElementsByTagName(final int from, final int to, final String namespaceURI, final String localName, final String name) {
+    int[] matches = new int[8];
+    int count = 0;
+    final boolean anyNamespace = "*".equals(namespaceURI);
+    final boolean anyName = "*".equals(localName != null ? localName : name);
+    for (int i = from; i <= to; ++i) { // [A]
+      if (kind[i] != ELEMENT_NODE)
+        continue;
+
+      final boolean match;
+      if (localName == null)
+        match = anyName || regionEquals(start[i], length[i], name);
+      else if (anyName || regionEquals(start[i] + prefix[i], length[i] - prefix[i], localName))
+        match = anyNamespace || equals(namespaceURI, node(i).getNamespaceURI());
+      else
+        match = false;
+
+      if (match) {
+        if (count == matches.length)
+          matches = Arrays.copyOf(matches, count * 2);
+
+        matches[count++] = i;
+      }
+    }
+
+    return count == 0 ? EMPTY : new LazyNodeList(this, Arrays.copyOf(matches, count));
+  }
+
+  private static boolean equals(final String namespaceURI, final String other) {
+    return namespaceURI == null || namespaceURI.length() == 0 ? other == null : namespaceURI.equals(other);
+  }
+
+  short compareDocumentPosition(final LazyNode node, final Node other) {
+    if (node == other)
+      return 0;
+
+    if (!(other instanceof LazyNode) || ((LazyNode)other).document() != this)
+      return (short)(DOCUMENT_POSITION_DISCONNECTED | DOCUMENT_POSITION_IMPLEMENTATION_SPECIFIC | (System.identityHashCode(node) < System.identityHashCode(other) ? DOCUMENT_POSITION_FOLLOWING : DOCUMENT_POSITION_PRECEDING));
+
+    final LazyNode that = (LazyNode)other;
+    if (contains(node, that))
+      return DOCUMENT_POSITION_CONTAINED_BY | DOCUMENT_POSITION_FOLLOWING;
+
+    if (contains(that, node))
+      return DOCUMENT_POSITION_CONTAINS | DOCUMENT_POSITION_PRECEDING;
+
+    final int a = node.index();
+    final int b = that.index();
+    final boolean following = a != b ? a < b : ((LazyAttr)node).id < ((LazyAttr)that).id;
+    return following ? DOCUMENT_POSITION_FOLLOWING : DOCUMENT_POSITION_PRECEDING;
+  }
+
+  private boolean contains(final LazyNode node, final LazyNode other) {
+    if (node instanceof LazyAttr || other instanceof LazyDocument)
+      return false;
+
+    if (node instanceof LazyDocument)
+      return true;
+
+    final int a = node.index();
+    final int b = other.index();
+    return other instanceof LazyAttr ? a <= b && b <= end[a] : a < b && b <= end[a];
+  }
+
+  Object setUserData(final Node node, final String key, final Object data) {
+    if (userData == null)
+      userData = new IdentityHashMap<>();
+
+    Map<String,Object> map = userData.get(node);
+    if (map == null)
+      userData.put(node, map = new HashMap<>());
+
+    return data == null ? map.remove(key) : map.put(key, data);
+  }
+
+  Object getUserData(final Node node, final String key) {
+    if (userData == null)
+      return null;
+
+    final Map<String,Object> map = userData.get(node);
+    return map == null ? null : map.get(key);
+  }
+
+  @Override
+  LazyDocument document() {
+    return this;
+  }
+
+  @Override
+  int index() {
+    return -1;
+  }
+
+  @Override
+  public String getNodeName() {
+    return "#document";
+  }
+
+  @Override
+  public short getNodeType() {
+    return DOCUMENT_NODE;
+  }
+
+  @Override
+  public NodeList getChildNodes() {
+    return children;
+  }
+
+  @Override
+  public Node getFirstChild() {
+    return getDocumentElement();
+  }
+
+  @Override
+  public Node getLastChild() {
+    return getDocumentElement();
+  }
+
+  @Override
+  public boolean hasChildNodes() {
+    return size > 0;
+  }
+
+  @Override
+  public org.w3c.dom.Document getOwnerDocument() {
+    return null;
+  }
+
+  @Override
+  public String lookupPrefix(final String namespaceURI) {
+    return size == 0 ? null : lookupPrefix(0, namespaceURI);
+  }
+
+  @Override
+  public boolean isDefaultNamespace(final String namespaceURI) {
+    return size > 0 && node(0).isDefaultNamespace(namespaceURI);
+  }
+
+  @Override
+  public String lookupNamespaceURI(final String prefix) {
+    return size == 0 ? null : lookupNamespaceURI(0, prefix);
+  }
+
+  @Override
+  public DocumentType getDoctype() {
+    return null;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The returned {@link DOMImplementation} is that of a new {@link javax.xml.parsers.DocumentBuilder} of {@link DOMParsers}, which
+   * creates mutable documents. The pooled {@link javax.xml.parsers.DocumentBuilder} is not used, because it is reset for each
+   * caller of {@link DOMParsers#getDocumentBuilder()}.
+   */
+  @Override
+  public DOMImplementation getImplementation() {
+    return implementation == null ? implementation = DOMParsers.newDocumentBuilder().getDOMImplementation() : implementation;
+  }
+
+  @Override
+  public Element getDocumentElement() {
+    return (Element)node(size == 0 ? -1 : 0);
+  }
+
+  @Override
+  public Element createElement(final String tagName) {
+    throw readOnly();
+  }
+
+  @Override
+  public DocumentFragment createDocumentFragment() {
+    throw readOnly();
+  }
+
+  @Override
+  public Text createTextNode(final String data) {
+    throw readOnly();
+  }
+
+  @Override
+  public Comment createComment(final String data) {
+    throw readOnly();
+  }
+
+  @Override
+  public CDATASection createCDATASection(final String data) {
+    throw readOnly();
+  }
+
+  @Override
+  public ProcessingInstruction createProcessingInstruction(final String target, final String data) {
+    throw readOnly();
+  }
+
+  @Override
+  public Attr createAttribute(final String name) {
+    throw readOnly();
+  }
+
+  @Override
+  public EntityReference createEntityReference(final String name) {
+    throw readOnly();
+  }
+
+  @Override
+  public NodeList getElementsByTagName(final String tagname) {
+    return getElementsByTagName(0, size - 1, null, null, tagname);
+  }
+
+  @Override
+  public Node importNode(final Node importedNode, final boolean deep) {
+    throw readOnly();
+  }
+
+  @Override
+  public Element createElementNS(final String namespaceURI, final String qualifiedName) {
+    throw readOnly();
+  }
+
+  @Override
+  public Attr createAttributeNS(final String namespaceURI, final String qualifiedName) {
+    throw readOnly();
+  }
+
+  @Override
+  public NodeList getElementsByTagNameNS(final String namespaceURI, final String localName) {
+    return getElementsByTagName(0, size - 1, namespaceURI, localName, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This method always returns {@code null}, because the document is not parsed with a DTD or schema that would declare attributes
+   * of type ID.
+   */
+  @Override
+  public Element getElementById(final String elementId) {
+    return null;
+  }
+
+  @Override
+  public String getInputEncoding() {
+    return null;
+  }
+
+  @Override
+  public String getXmlEncoding() {
+    return null;
+  }
+
+  @Override
+  public boolean getXmlStandalone() {
+    return false;
+  }
+
+  @Override
+  public void setXmlStandalone(final boolean xmlStandalone) {
+    throw readOnly();
+  }
+
+  @Override
+  public String getXmlVersion() {
+    return "1.0";
+  }
+
+  @Override
+  public void setXmlVersion(final String xmlVersion) {
+    throw readOnly();
+  }
+
+  @Override
+  public boolean getStrictErrorChecking() {
+    return true;
+  }
+
+  @Override
+  public void setStrictErrorChecking(final boolean strictErrorChecking) {
+  }
+
+  @Override
+  public String getDocumentURI() {
+    return documentURI;
+  }
+
+  @Override
+  public void setDocumentURI(final String documentURI) {
+    this.documentURI = documentURI;
+  }
+
+  @Override
+  public Node adoptNode(final Node source) {
+    throw readOnly();
+  }
+
+  @Override
+  public DOMConfiguration getDomConfig() {
+    throw notSupported("getDomConfig");
+  }
+
+  @Override
+  public void normalizeDocument() {
+  }
+
+  @Override
+  public Node renameNode(final Node n, final String namespaceURI, final String qualifiedName) {
+    throw readOnly();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,363 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.dom;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.w3c.dom.TypeInfo;
+
+/**
+ * Read-only {@link Element} node of a {@link LazyDocument}. Its children and attributes are materialized when they are first
+ * accessed, and its name and namespace URI are decoded from the source characters when they are first requested.
+ */
+final class LazyElement extends LazyNode implements Element {
+  private final class Children implements NodeList {
+    private int length = -1;
+    private int lastIndex = -1;
+    private int lastNode = -1;
+
+    @Override
+    public Node item(final int index) {
+      if (index < 0)
+        return null;
+
+      // Sequential access is the common case, so the walk is resumed from the previously accessed child
+      int i = 0;
+      int node = document.firstChild[LazyElement.this.index];
+      if (lastIndex != -1 && lastIndex <= index) {
+        i = lastIndex;
+        node = lastNode;
+      }
+
+      for (; node != -1 && i < index; ++i) // [X]
+        node = document.nextSibling[node];
+
+      if (node == -1)
+        return null;
+
+      lastIndex = i;
+      lastNode = node;
+      return document.node(node);
+    }
+
+    @Override
+    public int getLength() {
+      if (length == -1) {
+        int count = 0;
+        for (int node = document.firstChild[LazyElement.this.index]; node != -1; node = document.nextSibling[node]) // [X]
+          ++count;
+
+        length = count;
+      }
+
+      return length;
+    }
+  }
+
+  private final class Attributes implements NamedNodeMap {
+    @Override
+    public Node getNamedItem(final String name) {
+      return getAttributeNode(name);
+    }
+
+    @Override
+    public Node setNamedItem(final Node arg) {
+      throw readOnly();
+    }
+
+    @Override
+    public Node removeNamedItem(final String name) {
+      throw readOnly();
+    }
+
+    @Override
+    public Node item(final int index) {
+      return index < 0 || index >= document.attrCount[LazyElement.this.index] ? null : document.attr(document.attrOffset[LazyElement.this.index] + index);
+    }
+
+    @Override
+    public int getLength() {
+      return document.attrCount[LazyElement.this.index];
+    }
+
+    @Override
+    public Node getNamedItemNS(final String namespaceURI, final String localName) {
+      return getAttributeNodeNS(namespaceURI, localName);
+    }
+
+    @Override
+    public Node setNamedItemNS(final Node arg) {
+      throw readOnly();
+    }
+
+    @Override
+    public Node removeNamedItemNS(final String namespaceURI, final String localName) {
+      throw readOnly();
+    }
+  }
+
+  private final LazyDocument document;
+  private final int index;
+  private String name;
+  private String namespaceURI;
+  private boolean namespaceResolved;
+  private NodeList children;
+  private NamedNodeMap attributes;
+
+  LazyElement(final LazyDocument document, final int index) {
+    this.document = document;
+    this.index = index;
+  }
+
+  @Override
+  LazyDocument document() {
+    return document;
+  }
+
+  @Override
+  int index() {
+    return index;
+  }
+
+  private int getAttributeIndex(final String name) {
+    for (int a = document.attrOffset[index], a$ = a + document.attrCount[index]; a < a$; ++a) // [A]
+      if (document.regionEquals(document.attrStart[a], document.attrLength[a], name))
+        return a;
+
+    return -1;
+  }
+
+  private int getAttributeIndex(final String namespaceURI, final String localName) {
+    final boolean noNamespace = namespaceURI == null || namespaceURI.length() == 0;
+    for (int a = document.attrOffset[index], a$ = a + document.attrCount[index]; a < a$; ++a) { // [A]
+      final int prefixLen = document.attrPrefix[a];
+      if (document.regionEquals(document.attrStart[a] + prefixLen, document.attrLength[a] - prefixLen, localName)) {
+        final String attrNamespaceURI = document.attr(a).getNamespaceURI();
+        if (noNamespace ? attrNamespaceURI == null : namespaceURI.equals(attrNamespaceURI))
+          return a;
+      }
+    }
+
+    return -1;
+  }
+
+  @Override
+  public String getNodeName() {
+    return getTagName();
+  }
+
+  @Override
+  public short getNodeType() {
+    return ELEMENT_NODE;
+  }
+
+  @Override
+  public Node getParentNode() {
+    final int parent = document.parent[index];
+    return parent == -1 ? document : document.node(parent);
+  }
+
+  @Override
+  public NodeList getChildNodes() {
+    return children == null ? children = new Children() : children;
+  }
+
+  @Override
+  public Node getFirstChild() {
+    return document.node(document.firstChild[index]);
+  }
+
+  @Override
+  public Node getLastChild() {
+    return document.node(document.lastChild[index]);
+  }
+
+  @Override
+  public Node getPreviousSibling() {
+    return document.node(document.previousSibling[index]);
+  }
+
+  @Override
+  public Node getNextSibling() {
+    return document.node(document.nextSibling[index]);
+  }
+
+  @Override
+  public NamedNodeMap getAttributes() {
+    return attributes == null ? attributes = new Attributes() : attributes;
+  }
+
+  @Override
+  public boolean hasChildNodes() {
+    return document.firstChild[index] != -1;
+  }
+
+  @Override
+  public boolean hasAttributes() {
+    return document.attrCount[index] > 0;
+  }
+
+  @Override
+  public String getNamespaceURI() {
+    if (!namespaceResolved) {
+      namespaceURI = document.lookupNamespaceURI(index, getPrefix());
+      namespaceResolved = true;
+    }
+
+    return namespaceURI;
+  }
+
+  @Override
+  public String getPrefix() {
+    final int prefixLen = document.prefix[index];
+    return prefixLen == 0 ? null : getTagName().substring(0, prefixLen - 1);
+  }
+
+  @Override
+  public String getLocalName() {
+    final int prefixLen = document.prefix[index];
+    return prefixLen == 0 ? getTagName() : getTagName().substring(prefixLen);
+  }
+
+  @Override
+  public String getTextContent() {
+    return document.textContent(index);
+  }
+
+  @Override
+  public String lookupPrefix(final String namespaceURI) {
+    return document.lookupPrefix(index, namespaceURI);
+  }
+
+  @Override
+  public boolean isDefaultNamespace(final String namespaceURI) {
+    final String defaultNamespaceURI = document.lookupNamespaceURI(index, null);
+    return namespaceURI == null || namespaceURI.length() == 0 ? defaultNamespaceURI == null : namespaceURI.equals(defaultNamespaceURI);
+  }
+
+  @Override
+  public String lookupNamespaceURI(final String prefix) {
+    return document.lookupNamespaceURI(index, prefix);
+  }
+
+  @Override
+  public String getTagName() {
+    return name == null ? name = new String(document.source, document.start[index], document.length[index]) : name;
+  }
+
+  @Override
+  public String getAttribute(final String name) {
+    final int a = getAttributeIndex(name);
+    return a == -1 ? "" : document.attr(a).getValue();
+  }
+
+  @Override
+  public void setAttribute(final String name, final String value) {
+    throw readOnly();
+  }
+
+  @Override
+  public void removeAttribute(final String name) {
+    throw readOnly();
+  }
+
+  @Override
+  public Attr getAttributeNode(final String name) {
+    final int a = getAttributeIndex(name);
+    return a == -1 ? null : document.attr(a);
+  }
+
+  @Override
+  public Attr setAttributeNode(final Attr newAttr) {
+    throw readOnly();
+  }
+
+  @Override
+  public Attr removeAttributeNode(final Attr oldAttr) {
+    throw readOnly();
+  }
+
+  @Override
+  public NodeList getElementsByTagName(final String name) {
+    return document.getElementsByTagName(index + 1, document.end[index], null, null, name);
+  }
+
+  @Override
+  public String getAttributeNS(final String namespaceURI, final String localName) {
+    final int a = getAttributeIndex(namespaceURI, localName);
+    return a == -1 ? "" : document.attr(a).getValue();
+  }
+
+  @Override
+  public void setAttributeNS(final String namespaceURI, final String qualifiedName, final String value) {
+    throw readOnly();
+  }
+
+  @Override
+  public void removeAttributeNS(final String namespaceURI, final String localName) {
+    throw readOnly();
+  }
+
+  @Override
+  public Attr getAttributeNodeNS(final String namespaceURI, final String localName) {
+    final int a = getAttributeIndex(namespaceURI, localName);
+    return a == -1 ? null : document.attr(a);
+  }
+
+  @Override
+  public Attr setAttributeNodeNS(final Attr newAttr) {
+    throw readOnly();
+  }
+
+  @Override
+  public NodeList getElementsByTagNameNS(final String namespaceURI, final String localName) {
+    return document.getElementsByTagName(index + 1, document.end[index], namespaceURI, localName, null);
+  }
+
+  @Override
+  public boolean hasAttribute(final String name) {
+    return getAttributeIndex(name) != -1;
+  }
+
+  @Override
+  public boolean hasAttributeNS(final String namespaceURI, final String localName) {
+    return getAttributeIndex(namespaceURI, localName) != -1;
+  }
+
+  @Override
+  public TypeInfo getSchemaTypeInfo() {
+    return null;
+  }
+
+  @Override
+  public void setIdAttribute(final String name, final boolean isId) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setIdAttributeNS(final String namespaceURI, final String localName, final boolean isId) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setIdAttributeNode(final Attr idAttr, final boolean isId) {
+    throw readOnly();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,289 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.dom;
+
+import java.util.Objects;
+
+import org.w3c.dom.DOMException;
+import org.w3c.dom.Document;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.w3c.dom.UserDataHandler;
+
+/**
+ * Base class of the read-only nodes of a {@link LazyDocument}. Mutator methods throw a {@link DOMException} with
+ * {@link DOMException#NO_MODIFICATION_ALLOWED_ERR}.
+ */
+abstract class LazyNode implements Node {
+  static final NodeList EMPTY = new NodeList() {
+    @Override
+    public Node item(final int index) {
+      return null;
+    }
+
+    @Override
+    public int getLength() {
+      return 0;
+    }
+  };
+
+  static DOMException readOnly() {
+    return new DOMException(DOMException.NO_MODIFICATION_ALLOWED_ERR, "LazyDocument is read-only");
+  }
+
+  static DOMException notSupported(final String operation) {
+    return new DOMException(DOMException.NOT_SUPPORTED_ERR, operation + " is not supported by LazyDocument");
+  }
+
+  static boolean isEqualNode(final Node a, final Node b) {
+    if (a == b)
+      return true;
+
+    if (b == null || a.getNodeType() != b.getNodeType() || !Objects.equals(a.getNodeName(), b.getNodeName()) || !Objects.equals(a.getLocalName(), b.getLocalName()) || !Objects.equals(a.getNamespaceURI(), b.getNamespaceURI()) || !Objects.equals(a.getPrefix(), b.getPrefix()) || !Objects.equals(a.getNodeValue(), b.getNodeValue()))
+      return false;
+
+    final NamedNodeMap attributesA = a.getAttributes();
+    final NamedNodeMap attributesB = b.getAttributes();
+    final int lengthA = attributesA == null ? 0 : attributesA.getLength();
+    if (lengthA != (attributesB == null ? 0 : attributesB.getLength()))
+      return false;
+
+    for (int i = 0; i < lengthA; ++i) { // [RA]
+      final Node attribute = attributesA.item(i);
+      final Node other = attribute.getLocalName() == null ? attributesB.getNamedItem(attribute.getNodeName()) : attributesB.getNamedItemNS(attribute.getNamespaceURI(), attribute.getLocalName());
+      if (!isEqualNode(attribute, other))
+        return false;
+    }
+
+    // The value of an attribute is compared above, so its Text children (which are not modeled by LazyAttr) are not compared
+    if (a.getNodeType() == ATTRIBUTE_NODE)
+      return true;
+
+    final NodeList childrenA = a.getChildNodes();
+    final NodeList childrenB = b.getChildNodes();
+    final int length = childrenA.getLength();
+    if (length != childrenB.getLength())
+      return false;
+
+    for (int i = 0; i < length; ++i) // [RA]
+      if (!isEqualNode(childrenA.item(i), childrenB.item(i)))
+        return false;
+
+    return true;
+  }
+
+  /**
+   * Returns the {@link LazyDocument} of this node.
+   *
+   * @return The {@link LazyDocument} of this node.
+   */
+  abstract LazyDocument document();
+
+  /**
+   * Returns the index of this node in the node table of its document, or of the owner element if this node is an attribute, or
+   * {@code -1} if this node is the document.
+   *
+   * @return The index of this node in the node table of its document.
+   */
+  abstract int index();
+
+  @Override
+  public String getNodeValue() {
+    return null;
+  }
+
+  @Override
+  public void setNodeValue(final String nodeValue) {
+    throw readOnly();
+  }
+
+  @Override
+  public Node getParentNode() {
+    return null;
+  }
+
+  @Override
+  public NodeList getChildNodes() {
+    return EMPTY;
+  }
+
+  @Override
+  public Node getFirstChild() {
+    return null;
+  }
+
+  @Override
+  public Node getLastChild() {
+    return null;
+  }
+
+  @Override
+  public Node getPreviousSibling() {
+    return null;
+  }
+
+  @Override
+  public Node getNextSibling() {
+    return null;
+  }
+
+  @Override
+  public NamedNodeMap getAttributes() {
+    return null;
+  }
+
+  @Override
+  public Document getOwnerDocument() {
+    return document();
+  }
+
+  @Override
+  public Node insertBefore(final Node newChild, final Node refChild) {
+    throw readOnly();
+  }
+
+  @Override
+  public Node replaceChild(final Node newChild, final Node oldChild) {
+    throw readOnly();
+  }
+
+  @Override
+  public Node removeChild(final Node oldChild) {
+    throw readOnly();
+  }
+
+  @Override
+  public Node appendChild(final Node newChild) {
+    throw readOnly();
+  }
+
+  @Override
+  public boolean hasChildNodes() {
+    return false;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Nodes of a {@link LazyDocument} cannot be cloned. To obtain a mutable copy, import the node into another {@link Document} with
+   * {@link Document#importNode(Node,boolean)}.
+   */
+  @Override
+  public Node cloneNode(final boolean deep) {
+    throw notSupported("cloneNode");
+  }
+
+  @Override
+  public void normalize() {
+  }
+
+  @Override
+  public boolean isSupported(final String feature, final String version) {
+    return false;
+  }
+
+  @Override
+  public String getNamespaceURI() {
+    return null;
+  }
+
+  @Override
+  public String getPrefix() {
+    return null;
+  }
+
+  @Override
+  public void setPrefix(final String prefix) {
+    throw readOnly();
+  }
+
+  @Override
+  public String getLocalName() {
+    return null;
+  }
+
+  @Override
+  public boolean hasAttributes() {
+    return false;
+  }
+
+  @Override
+  public String getBaseURI() {
+    return document().getDocumentURI();
+  }
+
+  @Override
+  public short compareDocumentPosition(final Node other) {
+    return document().compareDocumentPosition(this, other);
+  }
+
+  @Override
+  public String getTextContent() {
+    return null;
+  }
+
+  @Override
+  public void setTextContent(final String textContent) {
+    throw readOnly();
+  }
+
+  @Override
+  public boolean isSameNode(final Node other) {
+    return this == other;
+  }
+
+  @Override
+  public String lookupPrefix(final String namespaceURI) {
+    return null;
+  }
+
+  @Override
+  public boolean isDefaultNamespace(final String namespaceURI) {
+    return false;
+  }
+
+  @Override
+  public String lookupNamespaceURI(final String prefix) {
+    return null;
+  }
+
+  @Override
+  public boolean isEqualNode(final Node arg) {
+    return isEqualNode(this, arg);
+  }
+
+  @Override
+  public Object getFeature(final String feature, final String version) {
+    return null;
+  }
+
+  @Override
+  public Object setUserData(final String key, final Object data, final UserDataHandler handler) {
+    return document().setUserData(this, key, data);
+  }
+
+  @Override
+  public Object getUserData(final String key) {
+    return document().getUserData(this, key);
+  }
+
+  @Override
+  public String toString() {
+    return "[" + getNodeName() + ": " + getNodeValue() + "]";
+  }
+}
\ No newline at end of file
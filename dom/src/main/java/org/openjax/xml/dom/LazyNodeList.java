@@ -0,0 +1,44 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.dom;
+
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * {@link NodeList} of the nodes at the specified indexes of the node table of a {@link LazyDocument}, which are materialized when
+ * they are first accessed.
+ */
+final class LazyNodeList implements NodeList {
+  private final LazyDocument document;
+  private final int[] indexes;
+
+  LazyNodeList(final LazyDocument document, final int[] indexes) {
+    this.document = document;
+    this.indexes = indexes;
+  }
+
+  @Override
+  public Node item(final int index) {
+    return index < 0 || index >= indexes.length ? null : document.node(indexes[index]);
+  }
+
+  @Override
+  public int getLength() {
+    return indexes.length;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,174 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.dom;
+
+import org.w3c.dom.DOMException;
+import org.w3c.dom.Node;
+import org.w3c.dom.Text;
+
+/**
+ * Read-only {@link Text} node of a {@link LazyDocument}, of which the data is decoded from the source characters when it is first
+ * requested.
+ */
+class LazyText extends LazyNode implements Text {
+  private final LazyDocument document;
+  private final int index;
+  private String data;
+
+  LazyText(final LazyDocument document, final int index) {
+    this.document = document;
+    this.index = index;
+  }
+
+  @Override
+  LazyDocument document() {
+    return document;
+  }
+
+  @Override
+  int index() {
+    return index;
+  }
+
+  @Override
+  public String getNodeName() {
+    return "#text";
+  }
+
+  @Override
+  public short getNodeType() {
+    return TEXT_NODE;
+  }
+
+  @Override
+  public String getNodeValue() {
+    return getData();
+  }
+
+  @Override
+  public String getTextContent() {
+    return getData();
+  }
+
+  @Override
+  public Node getParentNode() {
+    return document.node(document.parent[index]);
+  }
+
+  @Override
+  public Node getPreviousSibling() {
+    return document.node(document.previousSibling[index]);
+  }
+
+  @Override
+  public Node getNextSibling() {
+    return document.node(document.nextSibling[index]);
+  }
+
+  @Override
+  public String getData() {
+    return data == null ? data = decode(document.source, document.start[index], document.length[index]) : data;
+  }
+
+  String decode(final char[] source, final int off, final int len) {
+    return LazyDocument.decode(source, off, len);
+  }
+
+  @Override
+  public void setData(final String data) {
+    throw readOnly();
+  }
+
+  @Override
+  public int getLength() {
+    return getData().length();
+  }
+
+  @Override
+  public String substringData(final int offset, final int count) {
+    final String data = getData();
+    if (offset < 0 || offset > data.length() || count < 0)
+      throw new DOMException(DOMException.INDEX_SIZE_ERR, "offset (" + offset + ") or count (" + count + ") is out of range");
+
+    return data.substring(offset, Math.min(data.length(), offset + count));
+  }
+
+  @Override
+  public void appendData(final String arg) {
+    throw readOnly();
+  }
+
+  @Override
+  public void insertData(final int offset, final String arg) {
+    throw readOnly();
+  }
+
+  @Override
+  public void deleteData(final int offset, final int count) {
+    throw readOnly();
+  }
+
+  @Override
+  public void replaceData(final int offset, final int count, final String arg) {
+    throw readOnly();
+  }
+
+  @Override
+  public Text splitText(final int offset) {
+    throw readOnly();
+  }
+
+  @Override
+  public boolean isElementContentWhitespace() {
+    return false;
+  }
+
+  @Override
+  public String getWholeText() {
+    int first = index;
+    for (int i; (i = document.previousSibling[first]) != -1 && document.kind[i] != LazyDocument.ELEMENT_NODE;) // [X]
+      first = i;
+
+    int last = index;
+    for (int i; (i = document.nextSibling[last]) != -1 && document.kind[i] != LazyDocument.ELEMENT_NODE;) // [X]
+      last = i;
+
+    if (first == last)
+      return getData();
+
+    final StringBuilder b = new StringBuilder();
+    for (int i = first; i <= last; ++i) // [A]
+      b.append(((LazyText)document.node(i)).getData());
+
+    return b.toString();
+  }
+
+  @Override
+  public Text replaceWholeText(final String content) {
+    throw readOnly();
+  }
+
+  @Override
+  public String lookupNamespaceURI(final String prefix) {
+    return document.lookupNamespaceURI(document.parent[index], prefix);
+  }
+
+  @Override
+  public String lookupPrefix(final String namespaceURI) {
+    return document.lookupPrefix(document.parent[index], namespaceURI);
+  }
+}
\ No newline at end of file
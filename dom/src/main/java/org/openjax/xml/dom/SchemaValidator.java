@@ -0,0 +1,155 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.dom;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.xml.XMLConstants;
+import javax.xml.transform.Source;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+
+import org.openjax.xml.api.ValidationException;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+
+/**
+ * A {@link Validator} that validates the live DOM of an {@link Element} via a {@link DOMSource}, without serializing it.
+ * <p>
+ * The schema locations of the namespaces of the root element, as returned by {@link #getSchemaLocation(String)}, are compiled into
+ * a {@link Schema} that is cached for all subsequent validations of documents that declare the same set of schema locations.
+ * Instances of this class are thread-safe, provided the function of schema locations is thread-safe.
+ */
+public class SchemaValidator extends Validator {
+  private final Function<String,URL> schemaLocations;
+  private final Map<String,Schema> schemas = new ConcurrentHashMap<>();
+  private final SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+
+  /**
+   * Creates a new {@link SchemaValidator} that looks up the schema location of a namespace URI with the specified function.
+   *
+   * @param schemaLocations The function that returns the schema location {@link URL} of a namespace URI, or {@code null} if the
+   *          namespace URI has no schema.
+   * @throws NullPointerException If {@code schemaLocations} is null.
+   */
+  public SchemaValidator(final Function<String,URL> schemaLocations) {
+    this.schemaLocations = Objects.requireNonNull(schemaLocations, "schemaLocations is null");
+  }
+
+  @Override
+  protected URL lookupSchemaLocation(final String namespaceURI) {
+    return schemaLocations.apply(namespaceURI);
+  }
+
+  @Override
+  protected URL getSchemaLocation(final String namespaceURI) {
+    return lookupSchemaLocation(namespaceURI);
+  }
+
+  private void putSchemaLocation(final Map<String,URL> namespaceToLocation, final String namespaceURI) {
+    if (namespaceURI == null || namespaceURI.length() == 0 || namespaceToLocation.containsKey(namespaceURI) || XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI.equals(namespaceURI) || XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(namespaceURI))
+      return;
+
+    final URL schemaLocation = getSchemaLocation(namespaceURI);
+    if (schemaLocation != null)
+      namespaceToLocation.put(namespaceURI, schemaLocation);
+  }
+
+  /**
+   * Returns the {@link Schema} compiled from the schema locations of the namespace URIs of the specified element and the
+   * namespace declarations on it, or {@code null} if none of the namespace URIs has a schema location.
+   *
+   * @param element The {@link Element}.
+   * @return The {@link Schema} for the specified element, or {@code null} if none of its namespace URIs has a schema location.
+   * @throws ValidationException If the {@link Schema} cannot be compiled.
+   */
+  protected Schema getSchema(final Element element) throws ValidationException {
+    final Map<String,URL> namespaceToLocation = new TreeMap<>();
+    putSchemaLocation(namespaceToLocation, element.getNamespaceURI());
+    final NamedNodeMap attributes = element.getAttributes();
+    for (int i = 0, i$ = attributes.getLength(); i < i$; ++i) { // [RA]
+      final Node attribute = attributes.item(i);
+      if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI()) || attribute.getNodeName().startsWith(XMLConstants.XMLNS_ATTRIBUTE))
+        putSchemaLocation(namespaceToLocation, attribute.getNodeValue());
+    }
+
+    if (namespaceToLocation.size() == 0)
+      return null;
+
+    final StringBuilder key = new StringBuilder();
+    for (final URL schemaLocation : namespaceToLocation.values()) // [C]
+      key.append(schemaLocation).append(' ');
+
+    final String cacheKey = key.toString();
+    final Schema schema = schemas.get(cacheKey);
+    if (schema != null)
+      return schema;
+
+    final Source[] sources = new Source[namespaceToLocation.size()];
+    int i = 0;
+    for (final URL schemaLocation : namespaceToLocation.values()) // [C]
+      sources[i++] = new StreamSource(schemaLocation.toString());
+
+    try {
+      final Schema compiled;
+      // SchemaFactory is not thread-safe
+      synchronized (factory) {
+        compiled = factory.newSchema(sources);
+      }
+
+      final Schema previous = schemas.putIfAbsent(cacheKey, compiled);
+      return previous != null ? previous : compiled;
+    }
+    catch (final SAXException e) {
+      throw new ValidationException("Unable to compile schema: " + cacheKey.trim(), e);
+    }
+  }
+
+  /**
+   * Validates the specified {@link Element} via a {@link DOMSource}, against the cached {@link Schema} for its namespaces.
+   *
+   * @param element The {@link Element} to validate.
+   * @throws IOException If an I/O error has occurred.
+   * @throws ValidationException If the {@link Element} is not valid, or if none of its namespaces has a schema location.
+   */
+  @Override
+  protected void parse(final Element element) throws IOException, ValidationException {
+    final Schema schema = getSchema(element);
+    if (schema == null)
+      throw new ValidationException("No schema location for the namespaces of <" + element.getNodeName() + ">");
+
+    try {
+      schema.newValidator().validate(new DOMSource(element));
+    }
+    catch (final ValidationException e) {
+      throw e;
+    }
+    catch (final SAXException e) {
+      throw new ValidationException(e);
+    }
+  }
+}
\ No newline at end of file
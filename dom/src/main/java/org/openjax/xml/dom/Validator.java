@@ -55,8 +55,6 @@ public abstract class Validator {
     element.setAttributeNS(XMLNS.getNamespaceURI(), XSI.getPrefix() + ":" + XSI.getLocalPart(), XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI);
     element.setAttributeNS(XSI.getNamespaceURI(), "xsi:schemaLocation", namespaceLocations.toString());
 
-    System.out.println(DOMs.domToString(element));
-
     parse(element);
   }
 
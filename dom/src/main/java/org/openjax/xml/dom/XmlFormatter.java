@@ -0,0 +1,250 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.dom;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.openjax.xml.sax.BufferedFasterSAXHandler;
+import org.openjax.xml.sax.FastSAXParser;
+import org.xml.sax.SAXParseException;
+
+/**
+ * Streaming formatter of XML documents that applies the {@link DOMStyle} options of
+ * {@link DOMs#domToString(org.w3c.dom.Node,DOMStyle...)} to the events of a {@link FastSAXParser}, writing directly to the output
+ * without building a DOM. The memory used is constant with respect to the size of the document, and is proportional only to the
+ * depth of its elements.
+ * <p>
+ * As with {@link DOMs#domToString(org.w3c.dom.Node,DOMStyle...)}, only elements, attributes and text are written, with CDATA
+ * sections written as CDATA sections. Declarations, DOCTYPE blocks and comments are omitted. Character data and attribute values
+ * are written as they appear in the document (i.e. entity references are preserved), and attributes are written in document
+ * order. With {@link DOMStyle#INDENT}, character data that consists only of whitespace is omitted, so that previously indented
+ * documents are re-indented.
+ */
+public final class XmlFormatter {
+  private static final class Handler extends BufferedFasterSAXHandler {
+    private final Writer out;
+    private final boolean indent;
+    private final boolean indentAttributes;
+    private final boolean omitNamespaces;
+
+    private String[] names = new String[16];
+    private int depth;
+    private boolean inDeclaration;
+    private boolean open;
+    private boolean started;
+    private char last;
+    private StringBuilder whitespace;
+
+    private Handler(final Reader in, final Writer out, final DOMStyle ... styles) {
+      super(in);
+      this.out = out;
+      this.indent = DOMStyle.isIndent(styles);
+      this.indentAttributes = DOMStyle.isIndentAttributes(styles);
+      this.omitNamespaces = DOMStyle.isOmitNamespaces(styles);
+    }
+
+    private String readString(final int len) throws IOException {
+      return new String(read(len), 0, len);
+    }
+
+    private void newline(final int depth) throws IOException {
+      out.write('\n');
+      for (int i = 0; i < depth; ++i) // [N]
+        out.write("  ");
+    }
+
+    private void closeStartTag() throws IOException {
+      if (open) {
+        out.write('>');
+        last = '>';
+        open = false;
+      }
+    }
+
+    @Override
+    public boolean startDeclaration(final int nameLen) {
+      inDeclaration = true;
+      return true;
+    }
+
+    @Override
+    public boolean endDeclaration() {
+      inDeclaration = false;
+      return true;
+    }
+
+    @Override
+    public boolean startElement(final int prefixLen, final int localPartLen) throws IOException {
+      closeStartTag();
+      whitespace = null;
+      if (omitNamespaces)
+        in.skip(prefixLen);
+
+      final String name = readString(omitNamespaces ? localPartLen : prefixLen + localPartLen);
+
+      if (indent && started && last == '>')
+        newline(depth);
+
+      out.write('<');
+      out.write(name);
+      if (depth == names.length)
+        names = Arrays.copyOf(names, depth * 2);
+
+      names[depth++] = name;
+      open = true;
+      started = true;
+      return true;
+    }
+
+    @Override
+    public boolean attribute(final int prefixLen, final int localPartLen, final int skip, final int valueLen) throws IOException {
+      if (inDeclaration)
+        return true;
+
+      final String name = readString(prefixLen + localPartLen);
+      if (omitNamespaces && name.startsWith("xmlns"))
+        return true;
+
+      if (indentAttributes)
+        newline(depth);
+      else
+        out.write(' ');
+
+      out.write(name);
+      out.write("=\"");
+      in.skip(skip);
+      out.write(read(valueLen), 0, valueLen);
+      out.write('"');
+      return true;
+    }
+
+    private static boolean isWhitespace(final char[] chars, final int len) {
+      for (int i = 0; i < len; ++i) // [A]
+        if (!Character.isWhitespace(chars[i]))
+          return false;
+
+      return true;
+    }
+
+    @Override
+    public boolean characters(final int len) throws IOException {
+      final char[] chars = read(len);
+      if (indent && isWhitespace(chars, len)) {
+        // Held until it is known whether the whitespace is followed by other character data, or by a tag
+        if (whitespace == null)
+          whitespace = new StringBuilder();
+
+        whitespace.append(chars, 0, len);
+        return true;
+      }
+
+      closeStartTag();
+      if (whitespace != null) {
+        out.append(whitespace);
+        whitespace = null;
+      }
+
+      out.write(chars, 0, len);
+      last = chars[len - 1];
+      return true;
+    }
+
+    @Override
+    public boolean cdata(final int len) throws IOException {
+      closeStartTag();
+      if (whitespace != null) {
+        out.append(whitespace);
+        whitespace = null;
+      }
+
+      out.write("<![CDATA[");
+      out.write(read(len), 0, len);
+      out.write("]]>");
+      last = ']';
+      return true;
+    }
+
+    @Override
+    public boolean endElement() throws IOException {
+      final String name = names[--depth];
+      names[depth] = null;
+      whitespace = null;
+      if (open) {
+        out.write("/>");
+        open = false;
+      }
+      else {
+        if (indent && last == '>')
+          newline(depth);
+
+        out.write("</");
+        out.write(name);
+        out.write('>');
+      }
+
+      last = '>';
+      return true;
+    }
+  }
+
+  /**
+   * Formats the XML document provided by the specified {@link Reader} with the specified {@link DOMStyle} options, and writes the
+   * result to the provided {@link Writer}. The {@link Writer} is flushed, but neither the {@link Reader} nor the {@link Writer} are
+   * closed.
+   *
+   * @param in The {@link Reader} providing the XML document.
+   * @param out The {@link Writer} to which to write the formatted document.
+   * @param styles An array of {@link DOMStyle} style preferences.
+   * @throws IOException If an I/O error has occurred.
+   * @throws SAXParseException If the XML document cannot be parsed.
+   * @throws NullPointerException If {@code in} or {@code out} is null.
+   */
+  public static void format(final Reader in, final Writer out, final DOMStyle ... styles) throws IOException, SAXParseException {
+    final Reader reader = in.markSupported() ? in : new BufferedReader(in);
+    FastSAXParser.parse(reader, new Handler(reader, out, styles));
+    out.flush();
+  }
+
+  /**
+   * Formats the UTF-8 encoded XML document provided by the specified {@link InputStream} with the specified {@link DOMStyle}
+   * options, and writes the UTF-8 encoded result to the provided {@link OutputStream}. The {@link OutputStream} is flushed, but
+   * neither the {@link InputStream} nor the {@link OutputStream} are closed.
+   *
+   * @param in The {@link InputStream} providing the XML document.
+   * @param out The {@link OutputStream} to which to write the formatted document.
+   * @param styles An array of {@link DOMStyle} style preferences.
+   * @throws IOException If an I/O error has occurred.
+   * @throws SAXParseException If the XML document cannot be parsed.
+   * @throws NullPointerException If {@code in} or {@code out} is null.
+   */
+  public static void format(final InputStream in, final OutputStream out, final DOMStyle ... styles) throws IOException, SAXParseException {
+    format(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)), new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)), styles);
+  }
+
+  private XmlFormatter() {
+  }
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.dom;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class CompactDocumentTest {
+  private static final String XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><!-- comment --><ns:a x=\"1 &amp; 2\" xmlns=\"urn:d\" xmlns:ns=\"urn:a\"><ns:b id=\"1\">x &lt; <!-- y -->y &#x41;&#66;</ns:b><c id=\"2\" z=\"3\"/><d id=\"1\">mixed<c/>content</d></ns:a>";
+
+  @Test
+  public void testNavigation() throws Exception {
+    final CompactDocument document = CompactDocument.parse(XML);
+    assertEquals(8, document.getSize());
+    final int a = document.getRoot();
+    assertEquals(0, a);
+    assertEquals(CompactDocument.ELEMENT, document.getKind(a));
+    assertEquals(-1, document.getParent(a));
+    assertEquals("ns:a", document.getName(a));
+    assertEquals("a", document.getLocalName(a));
+    assertEquals("urn:a", document.getNamespaceURI(a));
+    assertEquals(3, document.getAttributeCount(a));
+    assertEquals("x", document.getAttributeName(a, 0));
+    assertEquals("1 & 2", document.getAttributeValue(a, 0));
+    assertEquals("1 & 2", document.getAttribute(a, "x"));
+    assertNull(document.getAttribute(a, "y"));
+
+    final int b = document.getFirstChild(a);
+    assertEquals(a, document.getParent(b));
+    final int text = document.getFirstChild(b);
+    assertEquals(CompactDocument.TEXT, document.getKind(text));
+    assertEquals("x < y AB", document.getText(text));
+    assertEquals(-1, document.getNextSibling(text));
+    assertNull(document.getName(text));
+    assertEquals(0, document.getAttributeCount(text));
+
+    final int c = document.getNextSibling(b);
+    assertEquals("c", document.getName(c));
+    assertEquals("urn:d", document.getNamespaceURI(c));
+    assertEquals(-1, document.getFirstChild(c));
+    assertEquals("3", document.getAttribute(c, "z"));
+
+    final int d = document.getNextSibling(c);
+    assertEquals(-1, document.getNextSibling(d));
+    assertEquals("mixedcontent", document.getTextContent(d));
+    assertEquals("x < y ABmixedcontent", document.getTextContent(a));
+    assertEquals(document.getSymbol("c"), document.getNameSymbol(c));
+    assertEquals("c", document.getSymbolName(document.getSymbol("c")));
+    assertEquals(-1, document.getSymbol("e"));
+
+    try {
+      document.getAttributeName(c, 2);
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+  }
+
+  @Test
+  public void testIndexes() throws Exception {
+    final CompactDocument document = CompactDocument.parse(new ByteArrayInputStream(XML.getBytes(StandardCharsets.UTF_8)));
+    assertArrayEquals(new int[] {3, 6}, document.getElementsByName("c"));
+    assertArrayEquals(new int[] {0}, document.getElementsByName("ns:a"));
+    assertArrayEquals(new int[0], document.getElementsByName("x"));
+    assertArrayEquals(new int[0], document.getElementsByName("e"));
+    assertArrayEquals(new int[] {1, 4}, document.getElementsByAttribute("id", "1"));
+    assertArrayEquals(new int[] {3}, document.getElementsByAttribute("id", "2"));
+    assertArrayEquals(new int[0], document.getElementsByAttribute("id", "3"));
+    assertArrayEquals(new int[0], document.getElementsByAttribute("c", "3"));
+  }
+
+  @Test
+  public void testCdata() throws Exception {
+    final StringBuilder data = new StringBuilder();
+    for (int i = 0; i < 20000; ++i) // [N]
+      data.append(i % 5 == 0 ? "&amp;" : "]");
+
+    final CompactDocument document = CompactDocument.parse("<a><b>x<![CDATA[y]]>z</b><c>&amp;<![CDATA[&amp;]]>&lt;<!-- - --><![CDATA[<]]></c><d><![CDATA[" + data + "]]>&#x41;</d><e><![CDATA[]]></e></a>");
+    assertEquals(9, document.getSize());
+    final int b = document.getFirstChild(document.getRoot());
+    assertEquals("xyz", document.getText(document.getFirstChild(b)));
+    final int c = document.getNextSibling(b);
+    assertEquals("&&amp;<<", document.getText(document.getFirstChild(c)));
+    final int d = document.getNextSibling(c);
+    assertEquals(data + "A", document.getTextContent(d));
+    final int e = document.getNextSibling(d);
+    assertEquals("", document.getText(document.getFirstChild(e)));
+  }
+
+  @Test
+  public void testLongText() throws Exception {
+    final StringBuilder text = new StringBuilder();
+    final StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < 50000; ++i) { // [N]
+      // References are placed so that some span the chunks in which the parser reports character data
+      if (i % 997 == 0) {
+        text.append("&amp;");
+        expected.append('&');
+      }
+      else {
+        final char ch = (char)('a' + i % 26);
+        text.append(ch);
+        expected.append(ch);
+      }
+    }
+
+    final CompactDocument document = CompactDocument.parse("<a><b>" + text + "</b></a>");
+    final int b = document.getFirstChild(document.getRoot());
+    assertEquals(expected.toString(), document.getText(document.getFirstChild(b)));
+    assertEquals(-1, document.getNextSibling(document.getFirstChild(b)));
+  }
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.dom;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.xml.parsers.DocumentBuilder;
+
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.InputSource;
+
+public class DOMParsersTest {
+  private static Document parse(final DocumentBuilder documentBuilder, final String xml) throws Exception {
+    return documentBuilder.parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  public void testGetDocumentBuilder() throws Exception {
+    final DocumentBuilder documentBuilder = DOMParsers.getDocumentBuilder();
+    assertSame(documentBuilder, DOMParsers.getDocumentBuilder());
+    assertTrue(documentBuilder.isNamespaceAware());
+    assertEquals("b", parse(documentBuilder, "<a><!-- c --><b/></a>").getDocumentElement().getFirstChild().getNodeName());
+
+    final AtomicReference<DocumentBuilder> other = new AtomicReference<>();
+    final Thread thread = new Thread(() -> other.set(DOMParsers.getDocumentBuilder()));
+    thread.start();
+    thread.join();
+    assertNotNull(other.get());
+    assertNotSame(documentBuilder, other.get());
+  }
+
+  @Test
+  public void testReset() throws Exception {
+    final String xml = "<!DOCTYPE a SYSTEM \"file:/nonexistent/a.dtd\"><a/>";
+    final DocumentBuilder documentBuilder = DOMParsers.getDocumentBuilder();
+    documentBuilder.setEntityResolver((publicId, systemId) -> new InputSource(new StringReader("")));
+    assertEquals("a", parse(documentBuilder, xml).getDocumentElement().getNodeName());
+
+    try {
+      parse(DOMParsers.getDocumentBuilder(), xml);
+      fail("Expected IOException");
+    }
+    catch (final IOException e) {
+    }
+
+    assertEquals("a", parse(DOMParsers.getDocumentBuilder(), "<a/>").getDocumentElement().getNodeName());
+  }
+
+  @Test
+  public void testEntityResolver() throws Exception {
+    final String xml = "<!DOCTYPE a SYSTEM \"file:/nonexistent/a.dtd\"><a/>";
+    final EntityResolver entityResolver = (publicId, systemId) -> new InputSource(new StringReader("<!ELEMENT a EMPTY>"));
+    assertEquals("a", parse(DOMParsers.getDocumentBuilder(entityResolver), xml).getDocumentElement().getNodeName());
+    assertEquals("a", parse(DOMParsers.newDocumentBuilder(entityResolver), xml).getDocumentElement().getNodeName());
+    try {
+      parse(DOMParsers.getDocumentBuilder(), xml);
+      fail("Expected IOException");
+    }
+    catch (final IOException e) {
+    }
+  }
+
+  @Test
+  public void testNested() throws Exception {
+    final String xml = "<!DOCTYPE a SYSTEM \"file:/nonexistent/a.dtd\"><a/>";
+    final AtomicReference<DocumentBuilder> nested = new AtomicReference<>();
+    final DocumentBuilder documentBuilder = DOMParsers.getDocumentBuilder((publicId, systemId) -> {
+      try {
+        nested.set(DOMParsers.getDocumentBuilder());
+        parse(nested.get(), "<b/>");
+      }
+      catch (final Exception e) {
+        throw new IllegalStateException(e);
+      }
+
+      return new InputSource(new StringReader("<!ELEMENT a EMPTY>"));
+    });
+
+    assertEquals("a", parse(documentBuilder, xml).getDocumentElement().getNodeName());
+    assertNotNull(nested.get());
+    assertNotSame(documentBuilder, nested.get());
+    assertSame(documentBuilder, DOMParsers.getDocumentBuilder());
+  }
+
+  @Test
+  public void testNewDocumentBuilder() throws Exception {
+    final DocumentBuilder documentBuilder = DOMParsers.newDocumentBuilder();
+    assertNotSame(documentBuilder, DOMParsers.newDocumentBuilder());
+    assertNotSame(documentBuilder, DOMParsers.getDocumentBuilder());
+    assertEquals("a", parse(documentBuilder, "<a/>").getDocumentElement().getNodeName());
+  }
+}
\ No newline at end of file
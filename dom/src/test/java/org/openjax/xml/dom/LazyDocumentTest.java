@@ -0,0 +1,229 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.dom;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.w3c.dom.Attr;
+import org.w3c.dom.CDATASection;
+import org.w3c.dom.DOMException;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.w3c.dom.Text;
+
+public class LazyDocumentTest {
+  private static final String XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><!-- comment --><ns:a x=\"1 &amp; 2\" xmlns=\"urn:d\" xmlns:ns=\"urn:a\"><ns:b ns:y=\"&quot;\">x &lt; y &#x41;&#66;</ns:b><c z=\"3\"/><d>mixed<e/>content</d><f><g><h/></g></f></ns:a>";
+
+  private static Document parse(final String xml) throws Exception {
+    return DOMParsers.getDocumentBuilder().parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  public void testEqualNode() throws Exception {
+    final Element expected = parse(XML).getDocumentElement();
+    final Element element = LazyDocument.parse(XML).getDocumentElement();
+    assertTrue(expected.isEqualNode(element));
+    assertTrue(element.isEqualNode(expected));
+    assertEquals(DOMs.domToString(expected), DOMs.domToString(element));
+    assertEquals(DOMs.domToString(expected, DOMStyle.INDENT), DOMs.domToString(element, DOMStyle.INDENT));
+  }
+
+  @Test
+  public void testNavigation() throws Exception {
+    final LazyDocument document = LazyDocument.parse(new StringReader(XML));
+    final Element a = document.getDocumentElement();
+    assertSame(a, document.getFirstChild());
+    assertSame(document, a.getParentNode());
+    assertEquals("ns:a", a.getTagName());
+    assertEquals("ns", a.getPrefix());
+    assertEquals("a", a.getLocalName());
+    assertEquals("urn:a", a.getNamespaceURI());
+    assertEquals("1 & 2", a.getAttribute("x"));
+    assertEquals("", a.getAttribute("y"));
+    assertEquals(3, a.getAttributes().getLength());
+
+    final NodeList children = a.getChildNodes();
+    assertEquals(4, children.getLength());
+    final Element b = (Element)children.item(0);
+    assertSame(b, a.getFirstChild());
+    assertSame(b, children.item(0));
+    assertEquals("\"", b.getAttributeNS("urn:a", "y"));
+    assertEquals("x < y AB", b.getTextContent());
+
+    final Element c = (Element)b.getNextSibling();
+    assertSame(c, children.item(1));
+    assertEquals("urn:d", c.getNamespaceURI());
+    assertFalse(c.hasChildNodes());
+    assertNull(c.getFirstChild());
+    assertEquals("3", c.getAttributeNode("z").getValue());
+    assertSame(c, c.getAttributeNode("z").getOwnerElement());
+
+    final Element d = (Element)children.item(2);
+    assertEquals(3, d.getChildNodes().getLength());
+    assertEquals("mixedcontent", d.getTextContent());
+    assertEquals("content", ((Text)d.getLastChild()).getData());
+    assertSame(a.getLastChild(), children.item(3));
+    assertNull(children.item(4));
+    assertSame(d, c.getNextSibling());
+    assertSame(b, c.getPreviousSibling());
+  }
+
+  @Test
+  public void testElementsByTagName() throws Exception {
+    final LazyDocument document = LazyDocument.parse(XML);
+    assertEquals(8, document.getElementsByTagName("*").getLength());
+    assertEquals(1, document.getElementsByTagName("ns:b").getLength());
+    assertEquals(0, document.getElementsByTagName("b").getLength());
+    assertEquals(1, document.getElementsByTagNameNS("urn:a", "b").getLength());
+    assertEquals(6, document.getElementsByTagNameNS("urn:d", "*").getLength());
+
+    final Element f = (Element)document.getElementsByTagName("f").item(0);
+    final NodeList elements = f.getElementsByTagName("*");
+    assertEquals(2, elements.getLength());
+    assertEquals("g", elements.item(0).getNodeName());
+    assertEquals("h", elements.item(1).getNodeName());
+  }
+
+  @Test
+  public void testDocumentPosition() throws Exception {
+    final LazyDocument document = LazyDocument.parse(XML);
+    final Element a = document.getDocumentElement();
+    final Node b = a.getFirstChild();
+    final Node c = b.getNextSibling();
+    final Attr z = ((Element)c).getAttributeNode("z");
+    assertEquals(0, a.compareDocumentPosition(a));
+    assertEquals(Node.DOCUMENT_POSITION_CONTAINED_BY | Node.DOCUMENT_POSITION_FOLLOWING, a.compareDocumentPosition(b));
+    assertEquals(Node.DOCUMENT_POSITION_CONTAINS | Node.DOCUMENT_POSITION_PRECEDING, b.compareDocumentPosition(a));
+    assertEquals(Node.DOCUMENT_POSITION_FOLLOWING, b.compareDocumentPosition(c));
+    assertEquals(Node.DOCUMENT_POSITION_PRECEDING, c.compareDocumentPosition(b));
+    assertEquals(Node.DOCUMENT_POSITION_CONTAINED_BY | Node.DOCUMENT_POSITION_FOLLOWING, c.compareDocumentPosition(z));
+    assertEquals(Node.DOCUMENT_POSITION_FOLLOWING, b.compareDocumentPosition(z));
+  }
+
+  @Test
+  public void testChunkedTextNode() throws Exception {
+    final StringBuilder text = new StringBuilder();
+    for (int i = 0; i < 20000; ++i) // [N]
+      text.append((char)('a' + i % 26));
+
+    final LazyDocument document = LazyDocument.parse("<a>" + text + "<b/>&lt;</a>");
+    final Node a = document.getDocumentElement();
+    assertEquals(3, a.getChildNodes().getLength());
+    final Text first = (Text)a.getFirstChild();
+    assertSame(first, a.getChildNodes().item(0));
+    assertEquals(text.length(), first.getLength());
+    assertEquals(text.substring(8190, 8195), first.substringData(8190, 5));
+    assertEquals(text.toString(), first.getWholeText());
+    assertEquals("<", ((Text)a.getLastChild()).getWholeText());
+  }
+
+  @Test
+  public void testCdata() throws Exception {
+    final StringBuilder data = new StringBuilder();
+    for (int i = 0; i < 20000; ++i) // [N]
+      data.append(i % 5 == 0 ? "&amp;" : "]");
+
+    final String xml = "<a>x &amp; <![CDATA[<y> &amp; ]]>z<b><![CDATA[" + data + "]]></b></a>";
+    final LazyDocument document = LazyDocument.parse(xml);
+    final Element a = document.getDocumentElement();
+    assertTrue(parse(xml).getDocumentElement().isEqualNode(a));
+
+    final NodeList children = a.getChildNodes();
+    assertEquals(4, children.getLength());
+    assertEquals(Node.TEXT_NODE, children.item(0).getNodeType());
+    final CDATASection cdata = (CDATASection)children.item(1);
+    assertEquals("#cdata-section", cdata.getNodeName());
+    assertEquals("<y> &amp; ", cdata.getData());
+    assertEquals("x & <y> &amp; z", cdata.getWholeText());
+    assertEquals("x & <y> &amp; z" + data, a.getTextContent());
+
+    final Node b = children.item(3);
+    assertEquals(1, b.getChildNodes().getLength());
+    assertEquals(data.toString(), ((CDATASection)b.getFirstChild()).getData());
+  }
+
+  @Test
+  public void testComment() throws Exception {
+    final String xml = "<a>z<!-- x -->w<!---->&amp;<!-- <b/> --><!-- y -->v<b/>u<!-- t --><c>s</c><!-- r -->q</a>";
+    final LazyDocument document = LazyDocument.parse(xml);
+    final Element a = document.getDocumentElement();
+    assertTrue(parse(xml).getDocumentElement().isEqualNode(a));
+
+    final NodeList children = a.getChildNodes();
+    assertEquals(5, children.getLength());
+    assertEquals("zw&v", ((Text)children.item(0)).getData());
+    assertEquals(4, ((Text)children.item(0)).getLength());
+    assertEquals("u", ((Text)children.item(2)).getData());
+    assertEquals("q", ((Text)children.item(4)).getData());
+    assertEquals("zw&vusq", a.getTextContent());
+  }
+
+  @Test
+  public void testReadOnly() throws Exception {
+    final LazyDocument document = LazyDocument.parse(XML);
+    final Element a = document.getDocumentElement();
+    try {
+      a.setAttribute("x", "2");
+      fail("Expected DOMException");
+    }
+    catch (final DOMException e) {
+      assertEquals(DOMException.NO_MODIFICATION_ALLOWED_ERR, e.code);
+    }
+
+    try {
+      a.appendChild(a.getFirstChild());
+      fail("Expected DOMException");
+    }
+    catch (final DOMException e) {
+      assertEquals(DOMException.NO_MODIFICATION_ALLOWED_ERR, e.code);
+    }
+
+    try {
+      document.createElement("x");
+      fail("Expected DOMException");
+    }
+    catch (final DOMException e) {
+      assertEquals(DOMException.NO_MODIFICATION_ALLOWED_ERR, e.code);
+    }
+  }
+
+  @Test
+  public void testImportNode() throws Exception {
+    final Element a = LazyDocument.parse(XML).getDocumentElement();
+    final Document document = DOMParsers.getDocumentBuilder().newDocument();
+    final Node imported = document.importNode(a, true);
+    document.appendChild(imported);
+    assertTrue(imported.isEqualNode(a));
+    ((Element)imported).setAttribute("x", "2");
+    assertEquals("2", ((Element)imported).getAttribute("x"));
+    assertEquals("1 & 2", a.getAttribute("x"));
+  }
+
+  @Test
+  public void testImplementation() throws Exception {
+    final LazyDocument document = LazyDocument.parse(XML);
+    final Document created = document.getImplementation().createDocument(null, "x", null);
+    assertEquals("x", created.getDocumentElement().getTagName());
+  }
+}
\ No newline at end of file
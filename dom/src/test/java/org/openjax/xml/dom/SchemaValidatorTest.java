@@ -0,0 +1,82 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.dom;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Test;
+import org.openjax.xml.api.ValidationException;
+import org.w3c.dom.Element;
+
+public class SchemaValidatorTest {
+  private static final String NAMESPACE = "http://www.openjax.org/xml/dom/test.xsd";
+  private static final String XSD = "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\" targetNamespace=\"" + NAMESPACE + "\" elementFormDefault=\"qualified\"><xs:element name=\"a\"><xs:complexType><xs:attribute name=\"b\" type=\"xs:int\" use=\"required\"/></xs:complexType></xs:element></xs:schema>";
+
+  private static URL newSchema() throws IOException {
+    final File file = File.createTempFile("test", ".xsd");
+    file.deleteOnExit();
+    Files.write(file.toPath(), XSD.getBytes(StandardCharsets.UTF_8));
+    return file.toURI().toURL();
+  }
+
+  private static Element parse(final String xml) throws Exception {
+    return DOMParsers.getDocumentBuilder().parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8))).getDocumentElement();
+  }
+
+  @Test
+  public void testValidate() throws Exception {
+    final URL schemaLocation = newSchema();
+    final SchemaValidator validator = new SchemaValidator(namespaceURI -> NAMESPACE.equals(namespaceURI) ? schemaLocation : null);
+
+    final PrintStream out = System.out;
+    final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    System.setOut(new PrintStream(buffer));
+    try {
+      final Element valid = parse("<t:a xmlns:t=\"" + NAMESPACE + "\" b=\"1\"/>");
+      validator.validate(valid);
+      assertSame(validator.getSchema(valid), validator.getSchema(parse("<a xmlns=\"" + NAMESPACE + "\" b=\"2\"/>")));
+
+      try {
+        validator.validate(parse("<t:a xmlns:t=\"" + NAMESPACE + "\" b=\"x\"/>"));
+        fail("Expected ValidationException");
+      }
+      catch (final ValidationException e) {
+      }
+
+      try {
+        validator.validate(parse("<a/>"));
+        fail("Expected ValidationException");
+      }
+      catch (final ValidationException e) {
+      }
+    }
+    finally {
+      System.setOut(out);
+    }
+
+    assertEquals(0, buffer.size());
+  }
+}
\ No newline at end of file
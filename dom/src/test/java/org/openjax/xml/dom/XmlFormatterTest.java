@@ -0,0 +1,73 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.dom;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.w3c.dom.Element;
+
+public class XmlFormatterTest {
+  private static final String XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><!-- comment --><ns:a ns:y=\"2\" x=\"1\" xmlns:ns=\"urn:a\"><ns:b>text</ns:b><c z=\"3\"/><d>mixed<e/>content</d><f><g><h/></g></f></ns:a>";
+
+  private static String format(final String xml, final DOMStyle ... styles) throws Exception {
+    final StringWriter out = new StringWriter();
+    XmlFormatter.format(new StringReader(xml), out, styles);
+    return out.toString();
+  }
+
+  @Test
+  public void testDomToString() throws Exception {
+    final Element element = DOMParsers.getDocumentBuilder().parse(new ByteArrayInputStream(XML.getBytes(StandardCharsets.UTF_8))).getDocumentElement();
+    final DOMStyle[][] combinations = {{}, {DOMStyle.INDENT}, {DOMStyle.INDENT_ATTRS}, {DOMStyle.OMIT_NAMESPACES}, {DOMStyle.INDENT, DOMStyle.INDENT_ATTRS}, {DOMStyle.INDENT, DOMStyle.OMIT_NAMESPACES}, {DOMStyle.INDENT_ATTRS, DOMStyle.OMIT_NAMESPACES}, DOMStyle.values()};
+    for (final DOMStyle[] styles : combinations) // [A]
+      assertEquals(styles.length + " styles", DOMs.domToString(element, styles), format(XML, styles));
+  }
+
+  @Test
+  public void testReindent() throws Exception {
+    final String indented = format(XML, DOMStyle.INDENT);
+    assertEquals(indented, format(indented, DOMStyle.INDENT));
+    assertEquals(format(XML), format(format(XML, DOMStyle.INDENT).replaceAll("\n *", "")));
+    assertEquals("<a>\n  <b> x &amp; y </b>\n</a>", format("<a>\n\n\t<b> x &amp; y </b>   </a>", DOMStyle.INDENT));
+  }
+
+  @Test
+  public void testCdata() throws Exception {
+    assertEquals("<a><![CDATA[<b>&amp;]]>x<![CDATA[]]><c/></a>", format("<a><![CDATA[<b>&amp;]]>x<![CDATA[]]><c/></a>"));
+    assertEquals("<a>\n  <b><![CDATA[ x ]]></b>\n  <c/>\n</a>", format("<a> <b><![CDATA[ x ]]></b> <c/> </a>", DOMStyle.INDENT));
+    assertEquals("<a>\n  <b> <![CDATA[x]]></b>\n</a>", format("<a><b> <![CDATA[x]]> </b></a>", DOMStyle.INDENT));
+  }
+
+  @Test
+  public void testLongWhitespace() throws Exception {
+    final StringBuilder whitespace = new StringBuilder();
+    for (int i = 0; i < 20000; ++i) // [N]
+      whitespace.append(i % 80 == 0 ? '\n' : ' ');
+
+    final String xml = "<a>" + whitespace + "<b>x" + whitespace + "y</b>" + whitespace + "</a>";
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    XmlFormatter.format(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), out, DOMStyle.INDENT);
+    assertEquals("<a>\n  <b>x" + whitespace + "y</b>\n</a>", new String(out.toByteArray(), StandardCharsets.UTF_8));
+  }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.sax;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Objects;
+
+/**
+ * A {@link FasterSAXHandler} that dereferences the lengths reported by {@link FastSAXParser} by reading the names and values from
+ * the source {@link Reader} into a reusable buffer.
+ */
+public abstract class BufferedFasterSAXHandler implements FasterSAXHandler {
+  /** The source {@link Reader} of the document being parsed. */
+  protected final Reader in;
+  private char[] buf = new char[64];
+
+  /**
+   * Creates a new {@link BufferedFasterSAXHandler} with the specified source {@link Reader}.
+   *
+   * @param in The source {@link Reader} of the document being parsed.
+   * @throws NullPointerException If {@code in} is null.
+   */
+  protected BufferedFasterSAXHandler(final Reader in) {
+    this.in = Objects.requireNonNull(in, "in is null");
+  }
+
+  /**
+   * Reads exactly {@code len} chars from the source {@link Reader} into the specified range of the provided {@code char[]}.
+   *
+   * @param chars The {@code char[]} into which to read.
+   * @param off The offset in {@code chars} at which to start reading.
+   * @param len The number of chars to read.
+   * @throws IOException If the end of the stream is reached before {@code len} chars are read, or if some other I/O error has
+   *           occurred.
+   */
+  protected final void read(final char[] chars, final int off, final int len) throws IOException {
+    for (int i = 0, n; i < len; i += n) // [N]
+      if ((n = in.read(chars, off + i, len - i)) == -1)
+        throw new IOException("Unexpected end of stream");
+  }
+
+  /**
+   * Reads exactly {@code len} chars from the source {@link Reader} into the buffer of this handler, and returns the buffer. The
+   * buffer is overwritten by the next invocation.
+   *
+   * @param len The number of chars to read.
+   * @return The buffer of this handler, whose first {@code len} chars are the chars that were read.
+   * @throws IOException If the end of the stream is reached before {@code len} chars are read, or if some other I/O error has
+   *           occurred.
+   */
+  protected final char[] read(final int len) throws IOException {
+    if (len > buf.length)
+      buf = new char[Math.max(len, buf.length * 2)];
+
+    read(buf, 0, len);
+    return buf;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,188 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.sax;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.libj.net.URLConnections;
+import org.libj.net.URLs;
+import org.openjax.xml.schema.SchemaResolver;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.InputSource;
+
+/**
+ * A thread-safe {@link EntityResolver} that resolves external entities (such as DTDs) from an optional {@link XmlCatalog} and the
+ * bundled schemas of the {@link SchemaResolver}, and caches the bytes of the resolved entities in a bounded in-memory cache. The
+ * cache is keyed by the {@code systemId} and {@code publicId} of each entity, so that documents that reference the same external
+ * entities do not trigger repeated I/O. When the cache is full, the least recently resolved entity is evicted.
+ * <p>
+ * In offline mode, entities that do not resolve to a {@linkplain URLs#isLocal(URL) local} location are not retrieved, and their
+ * resolution results in an {@link IOException}.
+ * <p>
+ * An instance of this class is intended to be shared, for instance by the builders of
+ * {@code org.openjax.xml.dom.DOMParsers.getDocumentBuilder(EntityResolver)}.
+ */
+public class CachingEntityResolver implements EntityResolver {
+  private static final class Entity {
+    private final String systemId;
+    private final byte[] bytes;
+
+    private Entity(final String systemId, final byte[] bytes) {
+      this.systemId = systemId;
+      this.bytes = bytes;
+    }
+  }
+
+  private final XmlCatalog catalog;
+  private final boolean offline;
+  private final Map<String,Entity> cache;
+
+  /**
+   * Creates a new {@link CachingEntityResolver} with the specified {@link XmlCatalog}, maximum number of cache entries, and
+   * offline mode.
+   *
+   * @param catalog The {@link XmlCatalog} to consult before the location of the {@code systemId} (can be {@code null}).
+   * @param maxEntries The maximum number of cache entries, each of which maps a {@code systemId} or {@code publicId} to the bytes
+   *          of an entity.
+   * @param offline If {@code true}, entities that do not resolve to a local location are not retrieved.
+   * @throws IllegalArgumentException If {@code maxEntries} is not positive.
+   */
+  public CachingEntityResolver(final XmlCatalog catalog, final int maxEntries, final boolean offline) {
+    if (maxEntries <= 0)
+      throw new IllegalArgumentException("maxEntries (" + maxEntries + ") must be positive");
+
+    this.catalog = catalog;
+    this.offline = offline;
+    this.cache = new LinkedHashMap<String,Entity>(16, .75f, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<String,Entity> eldest) {
+        return size() > maxEntries;
+      }
+    };
+  }
+
+  /**
+   * Returns the {@link XmlCatalog} consulted by this resolver, or {@code null} if this resolver has no catalog.
+   *
+   * @return The {@link XmlCatalog} consulted by this resolver.
+   */
+  public XmlCatalog getCatalog() {
+    return catalog;
+  }
+
+  /**
+   * Returns whether this resolver is in offline mode.
+   *
+   * @return Whether this resolver is in offline mode.
+   */
+  public boolean isOffline() {
+    return offline;
+  }
+
+  /**
+   * Removes all cached entities.
+   */
+  public void clear() {
+    synchronized (cache) {
+      cache.clear();
+    }
+  }
+
+  private Entity getCached(final String key) {
+    if (key == null)
+      return null;
+
+    synchronized (cache) {
+      return cache.get(key);
+    }
+  }
+
+  private URL getLocation(final String publicId, final String systemId) throws IOException {
+    if (catalog != null) {
+      synchronized (catalog) {
+        XmlEntity entity = publicId == null ? null : catalog.getEntity(publicId);
+        if (entity == null && systemId != null)
+          entity = catalog.getEntity(systemId);
+
+        if (entity != null)
+          return entity.getLocation();
+      }
+    }
+
+    final URL location = SchemaResolver.resolve(publicId, systemId);
+    return location != null || systemId == null ? location : new URL(systemId);
+  }
+
+  private static byte[] readBytes(final URL location) throws IOException {
+    try (final InputStream in = URLConnections.checkFollowRedirect(location.openConnection()).getInputStream()) {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      final byte[] buffer = new byte[8192];
+      for (int len; (len = in.read(buffer)) != -1;) // [X]
+        out.write(buffer, 0, len);
+
+      return out.toByteArray();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The entity is resolved from the cache, or from the location to which the {@link XmlCatalog} maps its {@code publicId} or
+   * {@code systemId}, or from the location of its bundled schema, or from the location of its {@code systemId}, in that order. The
+   * bytes of an entity resolved from a location are cached for subsequent resolutions. The {@code systemId} of the returned
+   * {@link InputSource} is that of the location, so that relative references in the entity resolve against the location from which
+   * it is read.
+   *
+   * @return An {@link InputSource} of the cached bytes of the entity, or {@code null} if neither {@code publicId} nor
+   *         {@code systemId} is specified, or if the {@code publicId} of an entity without a {@code systemId} cannot be resolved.
+   * @throws IOException If an I/O error has occurred, or if this resolver is in offline mode and the entity does not resolve to a
+   *           local location.
+   */
+  @Override
+  public InputSource resolveEntity(final String publicId, final String systemId) throws IOException {
+    Entity entity = getCached(systemId);
+    if (entity == null && (entity = getCached(publicId)) == null) {
+      final URL location = getLocation(publicId, systemId);
+      if (location == null)
+        return null;
+
+      if (offline && !URLs.isLocal(location))
+        throw new IOException("Unable to resolve " + (systemId != null ? systemId : publicId) + " in offline mode");
+
+      // Concurrent resolutions of an uncached entity may read it more than once, but the I/O is done outside the lock
+      entity = new Entity(location.toString(), readBytes(location));
+      synchronized (cache) {
+        if (systemId != null)
+          cache.put(systemId, entity);
+
+        if (publicId != null)
+          cache.put(publicId, entity);
+      }
+    }
+
+    final InputSource inputSource = new InputSource(new ByteArrayInputStream(entity.bytes));
+    inputSource.setPublicId(publicId);
+    inputSource.setSystemId(entity.systemId);
+    return inputSource;
+  }
+}
\ No newline at end of file
@@ -27,12 +27,24 @@ import org.xml.sax.SAXParseException;
  * <p>
  * This parser performs as few operations as necessary to parse well-formed XML documents.
  *
- * @implNote This parser does not perform any validation.
+ * @implNote This parser does not perform any validation. Well-formedness is checked only if requested with
+ *           {@link #parse(Reader,FasterSAXHandler,boolean)}.
  * @see FasterSAXHandler
  */
 public final class FastSAXParser {
   private static final int DEFAULT_READ_LIMIT = 8192;
 
+  // States of the fast-forward mode, in which the content of an element is skipped
+  private static final byte SKIP_TEXT = 0;
+  private static final byte SKIP_TAG = 1;
+  private static final byte SKIP_START_TAG = 2;
+  private static final byte SKIP_END_TAG = 3;
+  private static final byte SKIP_BANG = 4;
+  private static final byte SKIP_COMMENT = 5;
+  private static final byte SKIP_CDATA = 6;
+  private static final byte SKIP_DECLARATION = 7;
+  private static final byte SKIP_INSTRUCTION = 8;
+
   private static boolean q(final boolean inDeclaration, final int ch) {
     return ch == '"' || inDeclaration && ch == '\'';
   }
@@ -50,17 +62,54 @@ public final class FastSAXParser {
    * @see org.libj.io.ReplayReader
    */
   public static void parse(final Reader in, final FasterSAXHandler handler) throws IOException, SAXParseException {
+    parse(in, handler, false);
+  }
+
+  /**
+   * Parse the data provided by the input stream, and handle parse events with the specified {@link FasterSAXHandler}, optionally
+   * checking that the document is well-formed.
+   * <p>
+   * The well-formedness checks are designed to cheaply reject malformed input before it is subjected to more costly processing:
+   * end tags are matched to start tags by the hash and length of their names, duplicate attributes are detected, and characters
+   * that are not allowed in XML 1.0 are rejected. A {@link SAXParseException} with the row and column of the first violation is
+   * thrown, after the events that precede the violation have been reported. The attributes of elements whose content is skipped by
+   * {@link FasterSAXHandler#skipElement()} are not checked for duplicates.
+   *
+   * @implNote The provided input stream must support {@link Reader#mark(int)}.
+   * @param in The {@link Reader} input stream.
+   * @param handler The {@link FasterSAXHandler}.
+   * @param checkWellFormed Whether to check that the document is well-formed.
+   * @throws IOException If the input stream does not support {@link Reader#mark(int)}, or if some other I/O error has occurred.
+   * @throws SAXParseException If provided XML document cannot be parsed, or if {@code checkWellFormed} is {@code true} and the
+   *           document is not well-formed.
+   * @throws NullPointerException If the specified {@link Reader} or {@link FasterSAXHandler} is null.
+   * @see java.io.BufferedInputStream
+   * @see org.libj.io.ReplayReader
+   */
+  public static void parse(final Reader in, final FasterSAXHandler handler, final boolean checkWellFormed) throws IOException, SAXParseException {
+    final WellFormednessChecker checker = checkWellFormed ? new WellFormednessChecker(ObjectUtil.simpleIdentityString(in)) : null;
     char skipToNext = '\0';
     boolean inElement = false;
     int startElem = -1;
     int startAttr = -1;
     int startValue = -1;
     boolean inComment = false;
+    boolean inCdata = false;
+    int markCdata = -1;
+    int startCdata = -1;
     boolean inQuote = false;
     boolean inDeclaration = false;
     boolean inDoctype = false;
+    boolean inSubset = false;
+    char doctypeQuote = '\0';
     int prefixLen = 0;
     int attrNameLen = 0;
+    int depth = 0;
+    int startText = -1;
+    int skipDepth = 0;
+    byte skipState = SKIP_TEXT;
+    char skipQuote = '\0';
+    boolean skipName = false;
     in.mark(DEFAULT_READ_LIMIT);
     handler.startDocument();
     int row = 1;
@@ -71,12 +120,182 @@ public final class FastSAXParser {
         ++row;
       }
 
+      if (checker != null)
+        checker.checkChar(ch0, ch1, row, col);
+
+      if (skipDepth > 0) {
+        // Fast-forward to the balancing end tag, tracking only the depth of the nested elements
+        switch (skipState) {
+          case SKIP_TEXT:
+            if (ch0 == '<')
+              skipState = SKIP_TAG;
+
+            break;
+          case SKIP_TAG:
+            skipState = ch0 == '/' ? SKIP_END_TAG : ch0 == '!' ? SKIP_BANG : ch0 == '?' ? SKIP_INSTRUCTION : SKIP_START_TAG;
+            if (checker != null) {
+              skipName = true;
+              if (skipState == SKIP_START_TAG) {
+                checker.startTag(row, col);
+                checker.nameChar(ch0);
+              }
+              else if (skipState == SKIP_END_TAG) {
+                checker.endTag();
+              }
+            }
+
+            break;
+          case SKIP_START_TAG:
+            if (skipName && (ch0 == '>' || ch0 == '/' || Character.isWhitespace(ch0)))
+              skipName = false;
+
+            if (skipName) {
+              checker.nameChar(ch0);
+            }
+            else if (skipQuote != '\0') {
+              if (ch0 == skipQuote)
+                skipQuote = '\0';
+            }
+            else if (q(false, ch0)) {
+              // As when an element is not skipped, only '"' delimits an attribute value
+              skipQuote = (char)ch0;
+            }
+            else if (ch0 == '>') {
+              if (ch1 != '/') {
+                ++skipDepth;
+                if (checker != null)
+                  checker.push();
+              }
+
+              skipState = SKIP_TEXT;
+            }
+
+            break;
+          case SKIP_END_TAG:
+            if (ch0 != '>') {
+              if (skipName && Character.isWhitespace(ch0))
+                skipName = false;
+              else if (skipName)
+                checker.nameChar(ch0);
+            }
+            else {
+              if (checker != null)
+                checker.pop(row, col);
+
+              skipState = SKIP_TEXT;
+              if (--skipDepth == 0) {
+                --depth;
+                if (!handler.endElement())
+                  return;
+
+                if (depth > 0) {
+                  in.mark(DEFAULT_READ_LIMIT);
+                  startText = i + 1;
+                }
+              }
+            }
+
+            break;
+          case SKIP_BANG:
+            skipState = ch0 == '-' ? SKIP_COMMENT : ch0 == '[' ? SKIP_CDATA : SKIP_DECLARATION;
+            break;
+          case SKIP_COMMENT:
+            if (ch0 == '>' && ch1 == '-' && ch2 == '-')
+              skipState = SKIP_TEXT;
+
+            break;
+          case SKIP_CDATA:
+            if (ch0 == '>' && ch1 == ']' && ch2 == ']')
+              skipState = SKIP_TEXT;
+
+            break;
+          case SKIP_DECLARATION:
+            if (ch0 == '>')
+              skipState = SKIP_TEXT;
+
+            break;
+          case SKIP_INSTRUCTION:
+            if (ch0 == '>' && ch1 == '?')
+              skipState = SKIP_TEXT;
+
+            break;
+        }
+
+        ch2 = ch1;
+        ch1 = ch0;
+        continue;
+      }
+
       if (skipToNext != '\0') {
-        if (ch0 == skipToNext)
+        if (ch0 != skipToNext) {
+          if (checker != null && !Character.isWhitespace(ch0))
+            checker.nameChar(ch0);
+        }
+        else {
+          if (checker != null)
+            checker.pop(row, col);
+
           skipToNext = '\0';
+          if (depth > 0) {
+            in.mark(DEFAULT_READ_LIMIT);
+            startText = i + 1;
+          }
+        }
+      }
+      else if (inCdata) {
+        if (ch0 == '>' && ch1 == ']' && ch2 == ']') {
+          in.reset();
+          in.skip(startCdata - markCdata);
+          if (!handler.cdata(i - 2 - startCdata))
+            return;
+
+          in.reset();
+          in.skip(i + 1 - markCdata);
+          inComment = false;
+          inCdata = false;
+          if (depth > 0) {
+            in.mark(DEFAULT_READ_LIMIT);
+            startText = i + 1;
+          }
+        }
+        else if (i + 1 - markCdata == DEFAULT_READ_LIMIT && startCdata < i - 1) {
+          // CDATA sections longer than the read limit are reported in chunks, excluding the last 2 chars, which may start the "]]>"
+          in.reset();
+          in.skip(startCdata - markCdata);
+          if (!handler.cdata(i - 1 - startCdata))
+            return;
+
+          in.reset();
+          in.skip(i - 1 - markCdata);
+          in.mark(DEFAULT_READ_LIMIT);
+          in.skip(2);
+          markCdata = startCdata = i - 1;
+        }
       }
       else if (inComment) {
-        if (ch0 == '>' && (ch1 == ']' || ch1 == '-' && ch2 == '-')) {
+        if (inDoctype && !inSubset) {
+          // Until its internal subset, a DOCTYPE ends at the first '>' that is not in a quoted literal
+          if (doctypeQuote != '\0') {
+            if (ch0 == doctypeQuote)
+              doctypeQuote = '\0';
+          }
+          else if (ch0 == '"' || ch0 == '\'') {
+            doctypeQuote = (char)ch0;
+          }
+          else if (ch0 == '[') {
+            inSubset = true;
+          }
+        }
+
+        if (ch2 == '<' && ch1 == '!' && ch0 == '[' && startElem == i - 2) {
+          if (checker != null && depth == 0)
+            checker.content(row, col);
+
+          inCdata = true;
+          markCdata = i - 1;
+          startCdata = i + 7;
+        }
+        else if (ch0 == '>' && (inDoctype && !inSubset ? doctypeQuote == '\0' : ch1 == ']' || ch1 == '-' && ch2 == '-')) {
           in.reset();
           final int len;
           if (inDoctype) {
@@ -96,6 +315,11 @@ public final class FastSAXParser {
           in.skip(len);
           inComment = false;
           inDoctype = false;
+          inSubset = false;
+          if (depth > 0) {
+            in.mark(DEFAULT_READ_LIMIT);
+            startText = i + 1;
+          }
         }
         else if (ch2 == '<' && ch1 == '!' && ch0 == 'D') {
           inDoctype = true;
@@ -103,9 +327,13 @@ public final class FastSAXParser {
       }
       else if (ch1 == '<') {
         if (ch0 == '/') {
+          --depth;
           if (!handler.endElement())
             return;
 
+          if (checker != null)
+            checker.endTag();
+
           skipToNext = '>';
           inElement = false;
         }
@@ -118,9 +346,20 @@ public final class FastSAXParser {
           startElem = i;
           in.mark(DEFAULT_READ_LIMIT);
         }
+        else if (checker != null) {
+          checker.startTag(row, col);
+          checker.nameChar(ch0);
+        }
       }
       else if (inElement) {
         final boolean isWs = !inQuote && Character.isWhitespace(ch0);
+        if (checker != null && !inDeclaration && !inQuote && !isWs && ch0 != '>' && ch0 != '/' && ch0 != '=' && ch0 != '"') {
+          if (startElem != -1)
+            checker.nameChar(ch0);
+          else if (startAttr != -1 && attrNameLen == 0)
+            checker.attributeChar(ch0);
+        }
+
         if (ch0 == ':' && !inQuote) {
           if (startElem != -1)
             prefixLen = i - startElem;
@@ -132,12 +371,13 @@ public final class FastSAXParser {
         else if (ch0 == '>' || ch0 == '=' || q(inDeclaration, ch0) || isWs) {
           if (startElem != -1) {
             in.reset();
-            final int localName = i - startElem - prefixLen - 1;
+            // The name of an element without attributes that ends with "/>" is terminated by the '/'
+            final int localName = i - startElem - prefixLen - (ch0 == '>' && ch1 == '/' ? 2 : 1);
             if (inDeclaration ? !handler.startDeclaration(localName) : !handler.startElement(prefixLen, localName))
               return;
 
             in.reset();
-            in.skip(prefixLen + localName + 1);
+            in.skip(i - startElem);
             startElem = -1;
             prefixLen = 0;
           }
@@ -153,6 +393,9 @@ public final class FastSAXParser {
                 in.reset();
                 final int skip = startValue - startAttr - prefixLen - attrNameLen;
                 final int value = i - startValue - 1;
+                if (checker != null && !inDeclaration)
+                  checker.endAttribute(row, col);
+
                 if (!handler.attribute(prefixLen, attrNameLen, skip, value))
                   return;
 
@@ -177,26 +420,78 @@ public final class FastSAXParser {
               inDeclaration = false;
               if (!handler.endDeclaration())
                 return;
+
+              if (depth > 0) {
+                in.mark(DEFAULT_READ_LIMIT);
+                startText = i + 1;
+              }
             }
-            else if (!handler.startElement()) {
-              return;
-            }
+            else {
+              if (!handler.startElement())
+                return;
 
-            if (ch1 == '/' && !handler.endElement())
-              return;
+              if (ch1 != '/') {
+                ++depth;
+                if (checker != null)
+                  checker.push();
+
+                if (handler.skipElement()) {
+                  skipDepth = 1;
+                  skipState = SKIP_TEXT;
+                  skipQuote = '\0';
+                }
+              }
+              else if (!handler.endElement()) {
+                return;
+              }
+
+              if (skipDepth == 0 && depth > 0) {
+                in.mark(DEFAULT_READ_LIMIT);
+                startText = i + 1;
+              }
+            }
           }
 
           if (attrNameLen == 0 && isWs) {
             startAttr = i;
             in.mark(DEFAULT_READ_LIMIT);
+            if (checker != null)
+              checker.startAttribute();
           }
         }
       }
       else if (ch0 == '<') {
+        if (startText != -1) {
+          final int len = i - startText;
+          startText = -1;
+          if (len > 0) {
+            in.reset();
+            if (!handler.characters(len))
+              return;
+
+            in.reset();
+            in.skip(len + 1);
+          }
+        }
+
         inElement = true;
         startElem = i;
         in.mark(DEFAULT_READ_LIMIT);
       }
+      else if (startText != -1 && i + 1 - startText == DEFAULT_READ_LIMIT) {
+        // Character data longer than the read limit is reported in chunks, so that the mark is never invalidated
+        in.reset();
+        if (!handler.characters(DEFAULT_READ_LIMIT))
+          return;
+
+        in.reset();
+        in.skip(DEFAULT_READ_LIMIT);
+        in.mark(DEFAULT_READ_LIMIT);
+        startText = i + 1;
+      }
+      else if (checker != null && depth == 0 && ch0 != ' ' && ch0 != '\t' && ch0 != '\n' && ch0 != '\r') {
+        checker.content(row, col);
+      }
 
       ch2 = ch1;
       ch1 = ch0;
@@ -204,6 +499,9 @@ public final class FastSAXParser {
         inQuote = !inQuote;
     }
 
+    if (checker != null)
+      checker.endDocument(row, col);
+
     handler.endDocument();
   }
 
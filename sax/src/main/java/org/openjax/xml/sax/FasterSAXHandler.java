@@ -93,6 +93,31 @@ public interface FasterSAXHandler {
     return true;
   }
 
+  /**
+   * Callback method for CDATA sections (i.e. {@code <![CDATA[ DATA ]]>}), whose content is character data that is not to be
+   * unescaped. CDATA sections that are longer than the read limit of the parser are reported in multiple consecutive invocations.
+   *
+   * @param len The length of the {@code DATA} string, sans {@code <![CDATA[} and {@code ]]>}.
+   * @return Whether parsing should continue.
+   * @throws IOException If an I/O error has occurred.
+   */
+  default boolean cdata(final int len) throws IOException {
+    return true;
+  }
+
+  /**
+   * Callback method for character data between the tags of an element, which is reported as it appears in the document (i.e.
+   * entity references are not expanded). Character data that is longer than the read limit of the parser is reported in multiple
+   * consecutive invocations.
+   *
+   * @param len The length of the character data.
+   * @return Whether parsing should continue.
+   * @throws IOException If an I/O error has occurred.
+   */
+  default boolean characters(final int len) throws IOException {
+    return true;
+  }
+
   /**
    * Callback method for attribute occurrences.
    *
@@ -130,6 +155,21 @@ public interface FasterSAXHandler {
     return true;
   }
 
+  /**
+   * Called after {@link #startElement()} has returned {@code true} for an element that may have content (i.e. whose "start tag"
+   * does not end with {@code "/>"}), to ask whether the content of the element is to be skipped. If so, the parser fast-forwards to
+   * the balancing "end tag" of the element, only tracking the depth of the nested elements, without reporting any events for the
+   * content, and then calls {@link #endElement()}.
+   * <p>
+   * Handlers that are not interested in the content of an element can thereby avoid the cost of the events of its subtree.
+   *
+   * @return Whether the content of the element is to be skipped.
+   * @throws IOException If an I/O error has occurred.
+   */
+  default boolean skipElement() throws IOException {
+    return false;
+  }
+
   /**
    * Called when an element's "end tag" is encountered.
    * <p>
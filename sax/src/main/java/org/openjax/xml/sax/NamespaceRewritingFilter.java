@@ -0,0 +1,233 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.sax;
+
+import java.util.Arrays;
+import java.util.Enumeration;
+
+import javax.xml.XMLConstants;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.NamespaceSupport;
+import org.xml.sax.helpers.XMLFilterImpl;
+
+/**
+ * An {@link org.xml.sax.XMLFilter} that sets the specified namespace URI on each element, and conditionally on each attribute if
+ * {@code attributeFormQualified} is {@code true}, as the events stream from its parent {@link XMLReader}. This is the streaming
+ * equivalent of {@code org.openjax.xml.dom.Documents.setNamespaceURI(Document,String,boolean)}, which allows chameleon documents to
+ * be re-namespaced without building a DOM.
+ * <p>
+ * As with the DOM equivalent, the qualified names of elements and attributes are left as is. The prefix of each renamed element,
+ * and of each renamed prefixed attribute, is mapped to the namespace URI, and prefix mappings of the parent to any other namespace
+ * URI for the same prefix on the same element are replaced, so that the events remain consistent for consumers that serialize or
+ * build a DOM from them. Namespace declaration attributes, and attributes in the {@code xml} namespace, are not renamed.
+ */
+public class NamespaceRewritingFilter extends XMLFilterImpl {
+  private final String namespaceURI;
+  private final boolean attributeFormQualified;
+  private final NamespaceSupport namespaces = new NamespaceSupport();
+
+  private String[] pending = new String[8];
+  private int pendingLength;
+  private String[] overrides = new String[4];
+  private int overridesLength;
+
+  /**
+   * Creates a new {@link NamespaceRewritingFilter} with the specified parent {@link XMLReader}, namespace URI, and attribute form.
+   *
+   * @param parent The parent {@link XMLReader}.
+   * @param namespaceURI The namespace URI, or {@code null} to leave the namespaces of elements and attributes as is.
+   * @param attributeFormQualified If {@code true}, the {@code namespaceURI} will be set for attributes; otherwise attributes will be
+   *          left as is.
+   */
+  public NamespaceRewritingFilter(final XMLReader parent, final String namespaceURI, final boolean attributeFormQualified) {
+    super(parent);
+    this.namespaceURI = namespaceURI;
+    this.attributeFormQualified = attributeFormQualified;
+  }
+
+  /**
+   * Creates a new {@link NamespaceRewritingFilter} without a parent {@link XMLReader}, with the specified namespace URI and attribute
+   * form. The parent is to be set with {@link #setParent(XMLReader)}, or the filter is to be used as a
+   * {@link org.xml.sax.ContentHandler} of another reader.
+   *
+   * @param namespaceURI The namespace URI, or {@code null} to leave the namespaces of elements and attributes as is.
+   * @param attributeFormQualified If {@code true}, the {@code namespaceURI} will be set for attributes; otherwise attributes will be
+   *          left as is.
+   */
+  public NamespaceRewritingFilter(final String namespaceURI, final boolean attributeFormQualified) {
+    this.namespaceURI = namespaceURI;
+    this.attributeFormQualified = attributeFormQualified;
+  }
+
+  /**
+   * Returns the namespace URI that is set on each element.
+   *
+   * @return The namespace URI that is set on each element.
+   */
+  public String getNamespaceURI() {
+    return namespaceURI;
+  }
+
+  /**
+   * Returns whether the namespace URI is set on each attribute.
+   *
+   * @return Whether the namespace URI is set on each attribute.
+   */
+  public boolean isAttributeFormQualified() {
+    return attributeFormQualified;
+  }
+
+  private static String getPrefix(final String qName) {
+    final int colon = qName.indexOf(':');
+    return colon == -1 ? XMLConstants.DEFAULT_NS_PREFIX : qName.substring(0, colon);
+  }
+
+  private static String getLocalName(final String localName, final String qName) {
+    return localName != null && localName.length() > 0 ? localName : qName.substring(qName.indexOf(':') + 1);
+  }
+
+  private static boolean isReserved(final String uri, final String qName) {
+    if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(uri) || XMLConstants.XML_NS_URI.equals(uri))
+      return true;
+
+    final String prefix = getPrefix(qName);
+    return XMLConstants.XML_NS_PREFIX.equals(prefix) || XMLConstants.XMLNS_ATTRIBUTE.equals(prefix) || XMLConstants.XMLNS_ATTRIBUTE.equals(qName);
+  }
+
+  private void addOverride(final String prefix) {
+    for (int i = 0; i < overridesLength; ++i) // [A]
+      if (overrides[i].equals(prefix))
+        return;
+
+    if (overridesLength == overrides.length)
+      overrides = Arrays.copyOf(overrides, overridesLength * 2);
+
+    overrides[overridesLength++] = prefix;
+  }
+
+  private boolean isOverride(final String prefix) {
+    for (int i = 0; i < overridesLength; ++i) // [A]
+      if (overrides[i].equals(prefix))
+        return true;
+
+    return false;
+  }
+
+  @Override
+  public void startDocument() throws SAXException {
+    namespaces.reset();
+    pendingLength = 0;
+    super.startDocument();
+  }
+
+  @Override
+  public void startPrefixMapping(final String prefix, final String uri) throws SAXException {
+    if (namespaceURI == null) {
+      super.startPrefixMapping(prefix, uri);
+      return;
+    }
+
+    // Buffered until startElement, where the prefixes to be mapped to the namespace URI are known
+    if (pendingLength == pending.length)
+      pending = Arrays.copyOf(pending, pendingLength * 2);
+
+    pending[pendingLength++] = prefix;
+    pending[pendingLength++] = uri;
+  }
+
+  @Override
+  public void endPrefixMapping(final String prefix) throws SAXException {
+    if (namespaceURI == null)
+      super.endPrefixMapping(prefix);
+  }
+
+  @Override
+  public void startElement(final String uri, final String localName, final String qName, final Attributes atts) throws SAXException {
+    if (namespaceURI == null) {
+      super.startElement(uri, localName, qName, atts);
+      return;
+    }
+
+    overridesLength = 0;
+    addOverride(getPrefix(qName));
+    AttributesImpl attributes = null;
+    if (attributeFormQualified) {
+      attributes = new AttributesImpl(atts);
+      for (int i = 0, i$ = attributes.getLength(); i < i$; ++i) { // [RA]
+        final String attrQName = attributes.getQName(i);
+        if (!isReserved(attributes.getURI(i), attrQName)) {
+          attributes.setURI(i, namespaceURI);
+          attributes.setLocalName(i, getLocalName(attributes.getLocalName(i), attrQName));
+          if (attrQName.indexOf(':') != -1)
+            addOverride(getPrefix(attrQName));
+        }
+      }
+    }
+
+    // Namespace declaration attributes are reported if the "namespace-prefixes" feature is set
+    for (int i = 0, i$ = atts.getLength(); i < i$; ++i) { // [RA]
+      final String attrQName = atts.getQName(i);
+      if (attrQName.startsWith(XMLConstants.XMLNS_ATTRIBUTE) && isReserved(atts.getURI(i), attrQName)) {
+        final int colon = attrQName.indexOf(':');
+        if (colon != -1 ? isOverride(attrQName.substring(colon + 1)) : attrQName.length() == 5 && isOverride(XMLConstants.DEFAULT_NS_PREFIX)) {
+          if (attributes == null)
+            attributes = new AttributesImpl(atts);
+
+          attributes.setValue(i, namespaceURI);
+        }
+      }
+    }
+
+    namespaces.pushContext();
+    for (int i = 0; i < pendingLength; i += 2) { // [A]
+      final String prefix = pending[i];
+      final String prefixURI = isOverride(prefix) ? namespaceURI : pending[i + 1];
+      pending[i] = pending[i + 1] = null;
+      namespaces.declarePrefix(prefix, prefixURI);
+      super.startPrefixMapping(prefix, prefixURI);
+    }
+
+    pendingLength = 0;
+    for (int i = 0; i < overridesLength; ++i) { // [A]
+      final String prefix = overrides[i];
+      if (!namespaceURI.equals(namespaces.getURI(prefix))) {
+        namespaces.declarePrefix(prefix, namespaceURI);
+        super.startPrefixMapping(prefix, namespaceURI);
+      }
+    }
+
+    super.startElement(namespaceURI, getLocalName(localName, qName), qName, attributes != null ? attributes : atts);
+  }
+
+  @Override
+  public void endElement(final String uri, final String localName, final String qName) throws SAXException {
+    if (namespaceURI == null) {
+      super.endElement(uri, localName, qName);
+      return;
+    }
+
+    super.endElement(namespaceURI, getLocalName(localName, qName), qName);
+    for (final Enumeration<?> e = namespaces.getDeclaredPrefixes(); e.hasMoreElements();) // [X]
+      super.endPrefixMapping((String)e.nextElement());
+
+    namespaces.popContext();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,158 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.sax;
+
+import java.util.ArrayList;
+
+/**
+ * A compiled path expression of a small subset of XPath, which selects a value from an XML document by its location, and which is
+ * evaluated in a single pass over the events of a {@link FastSAXParser} by {@link PathExtractor}.
+ * <p>
+ * A path is a sequence of element steps, each preceded by {@code '/'} (the child axis) or {@code '//'} (the descendant axis), and
+ * optionally followed by one of:
+ * <ul>
+ * <li>{@code /@name}: Selects the value of the attribute {@code name} of the last element.</li>
+ * <li>{@code /text()}: Selects the character data directly within the last element.</li>
+ * </ul>
+ * Without either, the path selects the string value of the last element (i.e. all of its descendant character data). An element
+ * or attribute name of {@code *} matches any name. A name without a prefix matches the local part of the name in the document, and
+ * a name with a prefix matches the qualified name in the document as written, as no namespace context is available to resolve it.
+ * For example: {@code /Order/Header/@id}, {@code //Amount}, {@code /a//b/text()}, or {@code //@id} (which is equivalent to a
+ * {@code //*} step followed by {@code /@id}).
+ */
+public final class Path {
+  private static boolean isNameChar(final char ch) {
+    return ch != '/' && ch != '@' && ch != '[' && ch != ']' && ch != '(' && ch != ')' && !Character.isWhitespace(ch);
+  }
+
+  /**
+   * Returns a new {@link Path} of the specified expression.
+   *
+   * @param expression The path expression.
+   * @return A new {@link Path} of the specified expression.
+   * @throws IllegalArgumentException If {@code expression} is not a valid path expression.
+   * @throws NullPointerException If {@code expression} is null.
+   */
+  public static Path compile(final String expression) {
+    final ArrayList<String> names = new ArrayList<>();
+    final ArrayList<Boolean> descendants = new ArrayList<>();
+    String attribute = null;
+    boolean text = false;
+    final int len = expression.length();
+    int i = 0;
+    while (i < len) { // [N]
+      if (attribute != null || text || expression.charAt(i) != '/')
+        throw new IllegalArgumentException("Illegal path expression at index " + i + ": " + expression);
+
+      final boolean descendant = i + 1 < len && expression.charAt(i + 1) == '/';
+      i += descendant ? 2 : 1;
+      if (i < len && expression.charAt(i) == '@') {
+        if (descendant) {
+          names.add("*");
+          descendants.add(Boolean.TRUE);
+        }
+
+        final int start = ++i;
+        while (i < len && isNameChar(expression.charAt(i))) // [N]
+          ++i;
+
+        if (start == i)
+          throw new IllegalArgumentException("Expected an attribute name at index " + start + ": " + expression);
+
+        attribute = expression.substring(start, i);
+      }
+      else if (!descendant && expression.startsWith("text()", i)) {
+        text = true;
+        i += 6;
+      }
+      else {
+        final int start = i;
+        while (i < len && isNameChar(expression.charAt(i))) // [N]
+          ++i;
+
+        if (start == i)
+          throw new IllegalArgumentException("Expected an element name at index " + start + ": " + expression);
+
+        names.add(expression.substring(start, i));
+        descendants.add(descendant);
+      }
+    }
+
+    if (names.size() == 0)
+      throw new IllegalArgumentException("Path expression must select an element: " + expression);
+
+    final boolean[] axes = new boolean[descendants.size()];
+    for (int j = 0; j < axes.length; ++j) // [A]
+      axes[j] = descendants.get(j);
+
+    return new Path(expression, names.toArray(new String[names.size()]), axes, attribute, text);
+  }
+
+  /**
+   * Returns whether the specified name pattern matches the name in the specified region of {@code chars}.
+   *
+   * @param pattern The name pattern of a step, which is {@code "*"}, a local name, or a qualified name.
+   * @param chars The chars of the qualified name in the document.
+   * @param prefixLen The length of the prefix of the name in the document, including the {@code ':'} character.
+   * @param len The length of the qualified name in the document.
+   * @return Whether the specified name pattern matches the name in the specified region of {@code chars}.
+   */
+  static boolean matches(final String pattern, final char[] chars, final int prefixLen, final int len) {
+    final int patternLen = pattern.length();
+    if (patternLen == 1 && pattern.charAt(0) == '*')
+      return true;
+
+    final int off = pattern.indexOf(':') == -1 ? prefixLen : 0;
+    if (patternLen != len - off)
+      return false;
+
+    for (int i = 0; i < patternLen; ++i) // [A]
+      if (pattern.charAt(i) != chars[off + i])
+        return false;
+
+    return true;
+  }
+
+  private final String expression;
+  final String[] names;
+  final boolean[] descendants;
+  final String attribute;
+  final boolean text;
+
+  private Path(final String expression, final String[] names, final boolean[] descendants, final String attribute, final boolean text) {
+    this.expression = expression;
+    this.names = names;
+    this.descendants = descendants;
+    this.attribute = attribute;
+    this.text = text;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    return obj == this || obj instanceof Path && expression.equals(((Path)obj).expression);
+  }
+
+  @Override
+  public int hashCode() {
+    return expression.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return expression;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,377 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.sax;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.openjax.xml.api.CharacterDatas;
+import org.xml.sax.SAXParseException;
+
+/**
+ * Extractor of the values selected by a set of {@link Path} expressions from XML documents. The paths are compiled to a
+ * nondeterministic automaton of their element steps, which is driven by the events of a {@link FastSAXParser} in a single pass over
+ * the document. Parsing stops as soon as a value has been found for every path, so that the remainder of the document is never
+ * read. Only the first value (in document order) of each path is extracted.
+ * <p>
+ * The memory used is proportional only to the depth of the document and the lengths of the extracted values. Character data and
+ * attribute values are returned with the predefined and numeric character references expanded, and the content of CDATA
+ * sections is returned verbatim.
+ * <p>
+ * Instances of this class are immutable, and can be used to extract values from multiple documents concurrently.
+ */
+public final class PathExtractor {
+  private final class Handler extends BufferedFasterSAXHandler {
+    private final String[] values = new String[paths.length];
+    private int remaining = paths.length;
+    private boolean inDeclaration;
+    private int depth;
+
+    // The active states of the automaton at each depth
+    private int[][] sets = new int[16][];
+    private int[] setSizes = new int[16];
+    private final int[] marks = new int[stateNames.length];
+    private int stamp;
+
+    // The paths that select an attribute of the element whose start tag is open
+    private final int[] attributePaths = new int[paths.length];
+    private final int[] matchedPaths = new int[paths.length];
+    private int attributeCount;
+
+    // The paths whose values are being captured from character data
+    private final boolean[] capturing = new boolean[paths.length];
+    private int[] capturePaths = new int[4];
+    private int[] captureDepths = new int[4];
+    private boolean[] captureDirect = new boolean[4];
+    private char[][] captureChars = new char[4][];
+    private int[] captureLengths = new int[4];
+    // The offsets in the captured chars from which character references have not yet been expanded
+    private int[] capturePending = new int[4];
+    private int captureCount;
+
+    private Handler(final Reader in) {
+      super(in);
+      sets[0] = initialStates.clone();
+      setSizes[0] = initialStates.length;
+    }
+
+    private void addState(final int state) {
+      if (marks[state] == stamp)
+        return;
+
+      marks[state] = stamp;
+      int[] set = sets[depth];
+      final int size = setSizes[depth];
+      if (set == null)
+        sets[depth] = set = new int[Math.max(4, size)];
+      else if (size == set.length)
+        sets[depth] = set = Arrays.copyOf(set, size * 2);
+
+      set[setSizes[depth]++] = state;
+    }
+
+    private void match(final int path) {
+      if (values[path] != null || capturing[path])
+        return;
+
+      final Path p = paths[path];
+      if (p.attribute != null) {
+        for (int i = 0; i < attributeCount; ++i) // [A]
+          if (attributePaths[i] == path)
+            return;
+
+        attributePaths[attributeCount++] = path;
+        return;
+      }
+
+      if (captureCount == capturePaths.length) {
+        final int capacity = captureCount * 2;
+        capturePaths = Arrays.copyOf(capturePaths, capacity);
+        captureDepths = Arrays.copyOf(captureDepths, capacity);
+        captureDirect = Arrays.copyOf(captureDirect, capacity);
+        captureChars = Arrays.copyOf(captureChars, capacity);
+        captureLengths = Arrays.copyOf(captureLengths, capacity);
+        capturePending = Arrays.copyOf(capturePending, capacity);
+      }
+
+      capturing[path] = true;
+      capturePaths[captureCount] = path;
+      captureDepths[captureCount] = depth;
+      captureDirect[captureCount] = p.text;
+      captureChars[captureCount] = new char[16];
+      captureLengths[captureCount] = 0;
+      capturePending[captureCount++] = 0;
+    }
+
+    private boolean found(final int path, final char[] chars, final int pending, final int len) {
+      values[path] = new String(chars, 0, pending + CharacterDatas.unescapeInPlace(chars, pending, len - pending));
+      return --remaining > 0;
+    }
+
+    private void capture(final char[] chars, final int len, final boolean cdata) {
+      for (int i = 0; i < captureCount; ++i) { // [A]
+        if (!captureDirect[i] || captureDepths[i] == depth) {
+          int off = captureLengths[i];
+          // The content of a CDATA section is not to be unescaped, so the character data before it is unescaped first
+          if (cdata)
+            off = capturePending[i] + CharacterDatas.unescapeInPlace(captureChars[i], capturePending[i], off - capturePending[i]);
+
+          final int size = off + len;
+          if (size > captureChars[i].length)
+            captureChars[i] = Arrays.copyOf(captureChars[i], Math.max(size, captureChars[i].length * 2));
+
+          System.arraycopy(chars, 0, captureChars[i], off, len);
+          captureLengths[i] = size;
+          if (cdata)
+            capturePending[i] = size;
+        }
+      }
+    }
+
+    @Override
+    public boolean startDeclaration(final int nameLen) {
+      inDeclaration = true;
+      return true;
+    }
+
+    @Override
+    public boolean endDeclaration() {
+      inDeclaration = false;
+      return true;
+    }
+
+    @Override
+    public boolean startElement(final int prefixLen, final int localPartLen) throws IOException {
+      final int len = prefixLen + localPartLen;
+      final char[] name = read(len);
+
+      final int[] parentSet = sets[depth];
+      final int parentSize = setSizes[depth];
+      if (++depth == sets.length) {
+        sets = Arrays.copyOf(sets, depth * 2);
+        setSizes = Arrays.copyOf(setSizes, depth * 2);
+      }
+
+      setSizes[depth] = 0;
+      ++stamp;
+      for (int i = 0; i < parentSize; ++i) { // [A]
+        final int state = parentSet[i];
+        if (values[statePaths[state]] != null)
+          continue;
+
+        if (stateDescendants[state])
+          addState(state);
+
+        if (Path.matches(stateNames[state], name, prefixLen, len)) {
+          if (stateFinal[state])
+            match(statePaths[state]);
+          else
+            addState(state + 1);
+        }
+      }
+
+      return true;
+    }
+
+    @Override
+    public boolean attribute(final int prefixLen, final int localPartLen, final int skip, final int valueLen) throws IOException {
+      if (inDeclaration || attributeCount == 0)
+        return true;
+
+      final int len = prefixLen + localPartLen;
+      final char[] name = read(len);
+      int count = 0;
+      for (int i = 0; i < attributeCount; ++i) { // [A]
+        final int path = attributePaths[i];
+        if (values[path] == null && Path.matches(paths[path].attribute, name, prefixLen, len))
+          matchedPaths[count++] = path;
+      }
+
+      if (count > 0) {
+        in.skip(skip);
+        final char[] value = read(valueLen);
+        for (int i = 0; i < count; ++i) // [A]
+          if (!found(matchedPaths[i], Arrays.copyOf(value, valueLen), 0, valueLen))
+            return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public boolean startElement() {
+      attributeCount = 0;
+      return true;
+    }
+
+    @Override
+    public boolean skipElement() {
+      // The subtree cannot match a path if no state is active, and no value is being captured
+      return setSizes[depth] == 0 && captureCount == 0;
+    }
+
+    @Override
+    public boolean characters(final int len) throws IOException {
+      if (captureCount == 0)
+        return true;
+
+      capture(read(len), len, false);
+      return true;
+    }
+
+    @Override
+    public boolean cdata(final int len) throws IOException {
+      if (captureCount > 0)
+        capture(read(len), len, true);
+
+      return true;
+    }
+
+    @Override
+    public boolean endElement() {
+      attributeCount = 0;
+      for (int i = 0; i < captureCount; ++i) { // [A]
+        if (captureDepths[i] == depth) {
+          final int path = capturePaths[i];
+          final char[] chars = captureChars[i];
+          final int len = captureLengths[i];
+          final int pending = capturePending[i];
+          capturing[path] = false;
+          --captureCount;
+          capturePaths[i] = capturePaths[captureCount];
+          captureDepths[i] = captureDepths[captureCount];
+          captureDirect[i] = captureDirect[captureCount];
+          captureChars[i] = captureChars[captureCount];
+          captureLengths[i] = captureLengths[captureCount];
+          capturePending[i] = capturePending[captureCount];
+          captureChars[captureCount] = null;
+          --i;
+          if (!found(path, chars, pending, len))
+            return false;
+        }
+      }
+
+      --depth;
+      return true;
+    }
+  }
+
+  private final Path[] paths;
+  private final int[] initialStates;
+  private final String[] stateNames;
+  private final boolean[] stateDescendants;
+  private final boolean[] stateFinal;
+  private final int[] statePaths;
+
+  /**
+   * Creates a new {@link PathExtractor} of the specified path expressions.
+   *
+   * @param paths The path expressions.
+   * @throws IllegalArgumentException If a path expression is not valid.
+   * @throws NullPointerException If {@code paths} or a member of {@code paths} is null.
+   * @see Path#compile(String)
+   */
+  public PathExtractor(final String ... paths) {
+    this(compile(paths));
+  }
+
+  private static Path[] compile(final String[] expressions) {
+    final Path[] paths = new Path[expressions.length];
+    for (int i = 0; i < expressions.length; ++i) // [A]
+      paths[i] = Path.compile(expressions[i]);
+
+    return paths;
+  }
+
+  /**
+   * Creates a new {@link PathExtractor} of the specified paths.
+   *
+   * @param paths The paths.
+   * @throws NullPointerException If {@code paths} or a member of {@code paths} is null.
+   */
+  public PathExtractor(final Path ... paths) {
+    this.paths = paths.clone();
+    int size = 0;
+    for (final Path path : this.paths) // [A]
+      size += path.names.length;
+
+    this.initialStates = new int[this.paths.length];
+    this.stateNames = new String[size];
+    this.stateDescendants = new boolean[size];
+    this.stateFinal = new boolean[size];
+    this.statePaths = new int[size];
+    for (int i = 0, s = 0; i < this.paths.length; ++i) { // [A]
+      final Path path = this.paths[i];
+      initialStates[i] = s;
+      for (int j = 0; j < path.names.length; ++j, ++s) { // [A]
+        stateNames[s] = path.names[j];
+        stateDescendants[s] = path.descendants[j];
+        stateFinal[s] = j == path.names.length - 1;
+        statePaths[s] = i;
+      }
+    }
+  }
+
+  /**
+   * Returns the paths of this extractor.
+   *
+   * @return The paths of this extractor.
+   */
+  public Path[] getPaths() {
+    return paths.clone();
+  }
+
+  /**
+   * Returns the values selected by the paths of this extractor from the XML document provided by the specified {@link Reader}. The
+   * {@link Reader} is read only until a value has been found for every path, and is not closed.
+   *
+   * @param in The {@link Reader} providing the XML document.
+   * @return The values selected by the paths of this extractor, at the indexes of their paths, with {@code null} for the paths that
+   *         select no value.
+   * @throws IOException If an I/O error has occurred.
+   * @throws SAXParseException If the XML document cannot be parsed.
+   * @throws NullPointerException If {@code in} is null.
+   */
+  public String[] extract(final Reader in) throws IOException, SAXParseException {
+    final Reader reader = in.markSupported() ? in : new BufferedReader(in);
+    final Handler handler = new Handler(reader);
+    if (paths.length > 0)
+      FastSAXParser.parse(reader, handler);
+
+    return handler.values;
+  }
+
+  /**
+   * Returns the values selected by the paths of this extractor from the UTF-8 encoded XML document provided by the specified
+   * {@link InputStream}. The {@link InputStream} is not closed.
+   *
+   * @param in The {@link InputStream} providing the XML document.
+   * @return The values selected by the paths of this extractor, at the indexes of their paths, with {@code null} for the paths that
+   *         select no value.
+   * @throws IOException If an I/O error has occurred.
+   * @throws SAXParseException If the XML document cannot be parsed.
+   * @throws NullPointerException If {@code in} is null.
+   */
+  public String[] extract(final InputStream in) throws IOException, SAXParseException {
+    return extract(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+  }
+}
\ No newline at end of file
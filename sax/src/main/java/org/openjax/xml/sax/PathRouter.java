@@ -0,0 +1,393 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.sax;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.xml.sax.SAXParseException;
+
+/**
+ * Router of XML documents to the subscribers whose {@link Path} predicates match the documents. A path matches a document if it
+ * selects at least one element, attribute, or (for paths ending in {@code /text()}) non-empty character data of the document.
+ * <p>
+ * The paths of all subscribers are merged into one automaton, in which paths with common prefixes share states (as in YFilter). A
+ * descendant step ({@code '//'}) is represented by an epsilon transition to a state with a self-loop on any element. The automaton
+ * is evaluated in a single {@link FastSAXParser} pass over each document, so that the cost of routing grows with the number of
+ * distinct path prefixes, rather than with the number of subscribers. Parsing stops as soon as every subscriber has matched.
+ * <p>
+ * Subscriptions are to be made before routing, after which documents can be routed concurrently.
+ *
+ * @param <T> The type of the subscriber identifiers.
+ */
+public final class PathRouter<T> {
+  private static final class State {
+    private final int id;
+    private final boolean selfLoop;
+    private Map<String,State> localChildren;
+    private Map<String,State> qualifiedChildren;
+    private State wildcard;
+    private State descendant;
+    private int[] elementSubscribers;
+    private Map<String,int[]> localAttributes;
+    private Map<String,int[]> qualifiedAttributes;
+    private int[] wildcardAttributes;
+    private int[] textSubscribers;
+
+    private State(final int id, final boolean selfLoop) {
+      this.id = id;
+      this.selfLoop = selfLoop;
+    }
+
+    private boolean hasAttributes() {
+      return localAttributes != null || qualifiedAttributes != null || wildcardAttributes != null;
+    }
+  }
+
+  private static int[] add(final int[] subscribers, final int subscriber) {
+    if (subscribers == null)
+      return new int[] {subscriber};
+
+    for (final int s : subscribers) // [A]
+      if (s == subscriber)
+        return subscribers;
+
+    final int[] added = Arrays.copyOf(subscribers, subscribers.length + 1);
+    added[subscribers.length] = subscriber;
+    return added;
+  }
+
+  private static boolean isQualified(final String name) {
+    return name.indexOf(':') != -1;
+  }
+
+  private final class Handler extends BufferedFasterSAXHandler {
+    private final boolean[] matched = new boolean[subscribers.size()];
+    private int remaining = subscribers.size();
+    private boolean inDeclaration;
+    private int depth;
+
+    // The active states of the automaton at each depth
+    private State[][] sets = new State[16][];
+    private int[] setSizes = new int[16];
+    private final int[] marks = new int[size];
+    private int stamp = 1;
+
+    private Handler(final Reader in) {
+      super(in);
+      sets[0] = new State[4];
+      addState(root);
+    }
+
+    /**
+     * Adds the specified state to the set at the current depth, together with the state of its descendant step, which is reached
+     * by an epsilon transition.
+     */
+    private void addState(final State state) {
+      if (state == null || marks[state.id] == stamp)
+        return;
+
+      marks[state.id] = stamp;
+      State[] set = sets[depth];
+      final int size = setSizes[depth];
+      if (set == null)
+        sets[depth] = set = new State[4];
+      else if (size == set.length)
+        sets[depth] = set = Arrays.copyOf(set, size * 2);
+
+      set[setSizes[depth]++] = state;
+      addState(state.descendant);
+    }
+
+    private boolean match(final int[] subscribers) {
+      if (subscribers != null)
+        for (final int subscriber : subscribers) // [A]
+          if (!matched[subscriber] && (matched[subscriber] = true) && --remaining == 0)
+            return false;
+
+      return true;
+    }
+
+    @Override
+    public boolean startDeclaration(final int nameLen) {
+      inDeclaration = true;
+      return true;
+    }
+
+    @Override
+    public boolean endDeclaration() {
+      inDeclaration = false;
+      return true;
+    }
+
+    @Override
+    public boolean startElement(final int prefixLen, final int localPartLen) throws IOException {
+      final int len = prefixLen + localPartLen;
+      final String name = new String(read(len), 0, len);
+      final String localName = prefixLen == 0 ? name : name.substring(prefixLen);
+      final State[] parentSet = sets[depth];
+      final int parentSize = setSizes[depth];
+      if (++depth == sets.length) {
+        sets = Arrays.copyOf(sets, depth * 2);
+        setSizes = Arrays.copyOf(setSizes, depth * 2);
+      }
+
+      setSizes[depth] = 0;
+      ++stamp;
+      for (int i = 0; i < parentSize; ++i) { // [A]
+        final State state = parentSet[i];
+        if (state.selfLoop)
+          addState(state);
+
+        if (state.localChildren != null)
+          addState(state.localChildren.get(localName));
+
+        if (state.qualifiedChildren != null && prefixLen > 0)
+          addState(state.qualifiedChildren.get(name));
+
+        addState(state.wildcard);
+      }
+
+      final State[] set = sets[depth];
+      for (int i = 0, size = setSizes[depth]; i < size; ++i) // [A]
+        if (!match(set[i].elementSubscribers))
+          return false;
+
+      return true;
+    }
+
+    @Override
+    public boolean attribute(final int prefixLen, final int localPartLen, final int skip, final int valueLen) throws IOException {
+      if (inDeclaration)
+        return true;
+
+      final State[] set = sets[depth];
+      String name = null;
+      for (int i = 0, size = setSizes[depth]; i < size; ++i) { // [A]
+        final State state = set[i];
+        if (!state.hasAttributes())
+          continue;
+
+        if (name == null)
+          name = new String(read(prefixLen + localPartLen), 0, prefixLen + localPartLen);
+
+        if (!match(state.wildcardAttributes))
+          return false;
+
+        if (state.localAttributes != null && !match(state.localAttributes.get(prefixLen == 0 ? name : name.substring(prefixLen))))
+          return false;
+
+        if (state.qualifiedAttributes != null && prefixLen > 0 && !match(state.qualifiedAttributes.get(name)))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public boolean skipElement() {
+      // The subtree cannot match a path if no state is active
+      return setSizes[depth] == 0;
+    }
+
+    @Override
+    public boolean characters(final int len) {
+      // A text() path matches only non-empty character data
+      if (len == 0)
+        return true;
+
+      final State[] set = sets[depth];
+      for (int i = 0, size = setSizes[depth]; i < size; ++i) // [A]
+        if (!match(set[i].textSubscribers))
+          return false;
+
+      return true;
+    }
+
+    @Override
+    public boolean cdata(final int len) {
+      return len == 0 || characters(len);
+    }
+
+    @Override
+    public boolean endElement() {
+      --depth;
+      return true;
+    }
+  }
+
+  private final State root = new State(0, false);
+  private final ArrayList<T> subscribers = new ArrayList<>();
+  private final HashMap<T,Integer> subscriberIndexes = new HashMap<>();
+  private int size = 1;
+
+  private State newState(final boolean selfLoop) {
+    return new State(size++, selfLoop);
+  }
+
+  /**
+   * Subscribes the specified subscriber to the documents that match the specified path expression. A subscriber that is subscribed
+   * to multiple paths matches a document if any of its paths match the document.
+   *
+   * @param subscriber The subscriber.
+   * @param path The path expression.
+   * @return This {@link PathRouter}.
+   * @throws IllegalArgumentException If {@code path} is not a valid path expression.
+   * @throws NullPointerException If {@code subscriber} or {@code path} is null.
+   * @see Path#compile(String)
+   */
+  public PathRouter<T> subscribe(final T subscriber, final String path) {
+    return subscribe(subscriber, Path.compile(path));
+  }
+
+  /**
+   * Subscribes the specified subscriber to the documents that match the specified path. A subscriber that is subscribed to multiple
+   * paths matches a document if any of its paths match the document.
+   *
+   * @param subscriber The subscriber.
+   * @param path The path.
+   * @return This {@link PathRouter}.
+   * @throws NullPointerException If {@code subscriber} or {@code path} is null.
+   */
+  public PathRouter<T> subscribe(final T subscriber, final Path path) {
+    Integer index = subscriberIndexes.get(subscriber);
+    if (index == null) {
+      subscriberIndexes.put(subscriber, index = subscribers.size());
+      subscribers.add(subscriber);
+    }
+
+    State state = root;
+    for (int i = 0; i < path.names.length; ++i) { // [A]
+      if (path.descendants[i]) {
+        if (state.descendant == null)
+          state.descendant = newState(true);
+
+        state = state.descendant;
+      }
+
+      final String name = path.names[i];
+      if ("*".equals(name)) {
+        if (state.wildcard == null)
+          state.wildcard = newState(false);
+
+        state = state.wildcard;
+      }
+      else {
+        final boolean qualified = isQualified(name);
+        Map<String,State> children = qualified ? state.qualifiedChildren : state.localChildren;
+        if (children == null) {
+          children = new HashMap<>();
+          if (qualified)
+            state.qualifiedChildren = children;
+          else
+            state.localChildren = children;
+        }
+
+        State child = children.get(name);
+        if (child == null)
+          children.put(name, child = newState(false));
+
+        state = child;
+      }
+    }
+
+    if (path.attribute != null) {
+      final String name = path.attribute;
+      if ("*".equals(name)) {
+        state.wildcardAttributes = add(state.wildcardAttributes, index);
+      }
+      else {
+        final boolean qualified = isQualified(name);
+        Map<String,int[]> attributes = qualified ? state.qualifiedAttributes : state.localAttributes;
+        if (attributes == null) {
+          attributes = new HashMap<>();
+          if (qualified)
+            state.qualifiedAttributes = attributes;
+          else
+            state.localAttributes = attributes;
+        }
+
+        attributes.put(name, add(attributes.get(name), index));
+      }
+    }
+    else if (path.text) {
+      state.textSubscribers = add(state.textSubscribers, index);
+    }
+    else {
+      state.elementSubscribers = add(state.elementSubscribers, index);
+    }
+
+    return this;
+  }
+
+  /**
+   * Returns the number of states of the automaton of this router, which grows with the number of distinct path prefixes.
+   *
+   * @return The number of states of the automaton of this router.
+   */
+  int getStateCount() {
+    return size;
+  }
+
+  /**
+   * Returns the subscribers whose paths match the XML document provided by the specified {@link Reader}, in the order in which they
+   * were first subscribed. The {@link Reader} is read only until every subscriber has matched, and is not closed.
+   *
+   * @param in The {@link Reader} providing the XML document.
+   * @return The subscribers whose paths match the XML document provided by the specified {@link Reader}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws SAXParseException If the XML document cannot be parsed.
+   * @throws NullPointerException If {@code in} is null.
+   */
+  public Set<T> route(final Reader in) throws IOException, SAXParseException {
+    final Reader reader = in.markSupported() ? in : new BufferedReader(in);
+    final Handler handler = new Handler(reader);
+    if (subscribers.size() > 0)
+      FastSAXParser.parse(reader, handler);
+
+    final LinkedHashSet<T> matches = new LinkedHashSet<>();
+    for (int i = 0; i < handler.matched.length; ++i) // [A]
+      if (handler.matched[i])
+        matches.add(subscribers.get(i));
+
+    return matches;
+  }
+
+  /**
+   * Returns the subscribers whose paths match the UTF-8 encoded XML document provided by the specified {@link InputStream}, in the
+   * order in which they were first subscribed. The {@link InputStream} is not closed.
+   *
+   * @param in The {@link InputStream} providing the XML document.
+   * @return The subscribers whose paths match the XML document provided by the specified {@link InputStream}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws SAXParseException If the XML document cannot be parsed.
+   * @throws NullPointerException If {@code in} is null.
+   */
+  public Set<T> route(final InputStream in) throws IOException, SAXParseException {
+    return route(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+  }
+}
\ No newline at end of file
@@ -25,6 +25,7 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import javax.xml.parsers.SAXParser;
@@ -35,6 +36,8 @@ import org.apache.xerces.impl.Constants;
 import org.libj.net.MemoryURLStreamHandler;
 import org.libj.net.URLs;
 import org.libj.util.StringPaths;
+import org.openjax.xml.api.XmlElement;
+import org.openjax.xml.api.XmlElementSource;
 import org.xml.sax.ErrorHandler;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
@@ -268,6 +271,90 @@ public final class Validator {
     validate(cachedInputSource, preview, errorHandler);
   }
 
+  /**
+   * Validates the XML document represented by the specified {@link XmlElement}, by replaying it as SAX events, rather than
+   * serializing and parsing it.
+   *
+   * @param element The {@link XmlElement} of the XML document to validate.
+   * @throws IOException If an I/O error has occurred.
+   * @throws SAXException If the {@link ErrorHandler} throws a {@link SAXException}, if a fatal error is found and the
+   *           {@link ErrorHandler} returns normally, or if any SAX errors occur during processing.
+   * @throws NullPointerException If the specified {@link XmlElement} is null.
+   */
+  public static void validate(final XmlElement element) throws IOException, SAXException {
+    validate(new XmlElementSource(element), DEFAULT_ERROR_HANDLER);
+  }
+
+  /**
+   * Validates the XML document represented by the specified {@link XmlElement}, by replaying it as SAX events, rather than
+   * serializing and parsing it.
+   *
+   * @param element The {@link XmlElement} of the XML document to validate.
+   * @param errorHandler The {@link ErrorHandler} for validation errors.
+   * @throws IOException If an I/O error has occurred.
+   * @throws SAXException If the {@link ErrorHandler} throws a {@link SAXException}, if a fatal error is found and the
+   *           {@link ErrorHandler} returns normally, or if any SAX errors occur during processing.
+   * @throws NullPointerException If the specified {@link XmlElement} is null.
+   */
+  public static void validate(final XmlElement element, final ErrorHandler errorHandler) throws IOException, SAXException {
+    validate(new XmlElementSource(element), errorHandler);
+  }
+
+  /**
+   * Validates the XML document represented by the specified {@link XmlElementSource}. Relative schema locations are resolved
+   * against the system ID of the {@link XmlElementSource}, if it is set.
+   *
+   * @param source The {@link XmlElementSource} of the XML document to validate.
+   * @throws IOException If an I/O error has occurred.
+   * @throws SAXException If the {@link ErrorHandler} throws a {@link SAXException}, if a fatal error is found and the
+   *           {@link ErrorHandler} returns normally, or if any SAX errors occur during processing.
+   * @throws NullPointerException If the specified {@link XmlElementSource} is null.
+   */
+  public static void validate(final XmlElementSource source) throws IOException, SAXException {
+    validate(source, DEFAULT_ERROR_HANDLER);
+  }
+
+  /**
+   * Validates the XML document represented by the specified {@link XmlElementSource}. Relative schema locations are resolved
+   * against the system ID of the {@link XmlElementSource}, if it is set.
+   *
+   * @param source The {@link XmlElementSource} of the XML document to validate.
+   * @param errorHandler The {@link ErrorHandler} for validation errors.
+   * @throws IOException If an I/O error has occurred.
+   * @throws SAXException If the {@link ErrorHandler} throws a {@link SAXException}, if a fatal error is found and the
+   *           {@link ErrorHandler} returns normally, or if any SAX errors occur during processing.
+   * @throws NullPointerException If the specified {@link XmlElementSource} is null.
+   */
+  public static void validate(final XmlElementSource source, final ErrorHandler errorHandler) throws IOException, SAXException {
+    final javax.xml.validation.Validator validator = factory.newSchema().newValidator();
+    validator.setResourceResolver(new XmlCatalogResolver(null));
+
+    final ValidatorErrorHandler validatorErrorHandler = new ValidatorErrorHandler(errorHandler, source.getInputSource(), hasSchemaLocation(source.getElement()));
+    validator.setErrorHandler(validatorErrorHandler);
+
+    try {
+      validator.validate(source);
+    }
+    catch (final IOException | SAXException e) {
+      checkException(validatorErrorHandler, e);
+    }
+
+    checkException(validatorErrorHandler, null);
+  }
+
+  private static boolean hasSchemaLocation(final XmlElement element) {
+    final Map<?,?> attributes = element.getAttributes();
+    if (attributes != null && attributes.size() > 0) {
+      for (final Object key : attributes.keySet()) { // [S]
+        final String name = key.toString();
+        if (name.endsWith(":schemaLocation") || name.endsWith(":noNamespaceSchemaLocation"))
+          return true;
+      }
+    }
+
+    return false;
+  }
+
   private static XmlPreview initInputSource(final URL url, final CachedInputSource inputSource, final XmlPreviewHandler previewHandler) throws IOException, SAXParseException {
     if (previewHandler == null) {
       final XmlPreview preview = XmlPreviewParser.parse(url != null ? url : new URL(inputSource.getSystemId()), inputSource);
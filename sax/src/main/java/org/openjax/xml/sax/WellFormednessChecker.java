@@ -0,0 +1,231 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.sax;
+
+import java.util.Arrays;
+
+import org.xml.sax.SAXParseException;
+
+/**
+ * Checker of the well-formedness of the XML documents parsed by {@link FastSAXParser}, which is fed with the characters of the
+ * document as the parser scans them, and throws a {@link SAXParseException} with the position of the first violation.
+ * <p>
+ * The checks are designed to be cheap:
+ * <ul>
+ * <li>End tags are matched to start tags by comparing the hash and length of their names with a stack of those of the open
+ * elements, so that names are never materialized. The match is by hash and length only, so an end tag whose name collides with
+ * that of its start tag is accepted (e.g. {@code <Aa></BB>}, since {@code "Aa".hashCode() == "BB".hashCode()}).</li>
+ * <li>Duplicate attributes are detected with a small open-addressed set of the names of the attributes of the current element,
+ * which is cleared for every element.</li>
+ * <li>Characters that are not allowed by the {@code Char} production of XML 1.0 (including unpaired surrogates) are rejected.</li>
+ * <li>Character data other than whitespace, and CDATA sections, are rejected outside of the root element.</li>
+ * </ul>
+ */
+final class WellFormednessChecker {
+  private final String systemId;
+
+  // The hashes and lengths of the names of the open elements
+  private int[] hashes = new int[16];
+  private int[] lengths = new int[16];
+  private int depth;
+  private boolean hasRoot;
+  private boolean highSurrogate;
+
+  // The hash and length of the name being read
+  private int nameHash;
+  private int nameLen;
+
+  // The names of the attributes of the current element, and the open-addressed set of their indexes
+  private char[] attrChars = new char[64];
+  private int attrCharsLen;
+  private int[] attrHashes = new int[8];
+  private int[] attrOffsets = new int[8];
+  private int[] attrLengths = new int[8];
+  private int attrCount;
+  private int[] table = new int[16];
+  private int attrStart;
+  private int attrHash;
+
+  WellFormednessChecker(final String systemId) {
+    this.systemId = systemId;
+  }
+
+  private SAXParseException error(final String message, final int row, final int col) {
+    return new SAXParseException(message, null, systemId, row, col);
+  }
+
+  /**
+   * Checks that the specified character is allowed by the {@code Char} production of XML 1.0, given the preceding character.
+   */
+  void checkChar(final int ch0, final int ch1, final int row, final int col) throws SAXParseException {
+    if (ch0 < 0x20 ? ch0 != '\t' && ch0 != '\n' && ch0 != '\r' : ch0 >= 0xfffe)
+      throw error("Illegal character: 0x" + Integer.toHexString(ch0), row, col);
+
+    if (Character.isLowSurrogate((char)ch0) ? !Character.isHighSurrogate((char)ch1) : Character.isHighSurrogate((char)ch1))
+      throw error("Unpaired surrogate character", row, col);
+
+    highSurrogate = Character.isHighSurrogate((char)ch0);
+  }
+
+  /**
+   * Called at a character of character data that is not whitespace, or at the start of a CDATA section, outside of the root
+   * element.
+   */
+  void content(final int row, final int col) throws SAXParseException {
+    throw error(hasRoot ? "Content is not allowed after the root element" : "Content is not allowed before the root element", row, col);
+  }
+
+  /**
+   * Called at the {@code '<'} of a start tag.
+   */
+  void startTag(final int row, final int col) throws SAXParseException {
+    if (depth == 0) {
+      if (hasRoot)
+        throw error("Content is not allowed after the root element", row, col);
+
+      hasRoot = true;
+    }
+
+    nameHash = 0;
+    nameLen = 0;
+    attrCharsLen = 0;
+    if (attrCount > 0) {
+      Arrays.fill(table, 0);
+      attrCount = 0;
+    }
+  }
+
+  /**
+   * Called at the {@code '/'} of an end tag.
+   */
+  void endTag() {
+    nameHash = 0;
+    nameLen = 0;
+  }
+
+  /**
+   * Called for each character of the name of a start tag or an end tag.
+   */
+  void nameChar(final int ch) {
+    nameHash = 31 * nameHash + ch;
+    ++nameLen;
+  }
+
+  /**
+   * Called at the {@code '>'} of a start tag of an element that has content.
+   */
+  void push() {
+    if (depth == hashes.length) {
+      hashes = Arrays.copyOf(hashes, depth * 2);
+      lengths = Arrays.copyOf(lengths, depth * 2);
+    }
+
+    hashes[depth] = nameHash;
+    lengths[depth++] = nameLen;
+  }
+
+  /**
+   * Called at the {@code '>'} of an end tag.
+   */
+  void pop(final int row, final int col) throws SAXParseException {
+    if (depth == 0)
+      throw error("End tag without matching start tag", row, col);
+
+    --depth;
+    if (hashes[depth] != nameHash || lengths[depth] != nameLen)
+      throw error("End tag does not match start tag", row, col);
+  }
+
+  /**
+   * Called at the whitespace that precedes the name of an attribute.
+   */
+  void startAttribute() {
+    attrStart = attrCharsLen;
+    attrHash = 0;
+  }
+
+  /**
+   * Called for each character of the name of an attribute.
+   */
+  void attributeChar(final int ch) {
+    if (attrCharsLen == attrChars.length)
+      attrChars = Arrays.copyOf(attrChars, attrCharsLen * 2);
+
+    attrChars[attrCharsLen++] = (char)ch;
+    attrHash = 31 * attrHash + ch;
+  }
+
+  private boolean equals(final int index, final int off, final int len) {
+    if (attrHashes[index] != attrHash || attrLengths[index] != len)
+      return false;
+
+    final int other = attrOffsets[index];
+    for (int i = 0; i < len; ++i) // [A]
+      if (attrChars[other + i] != attrChars[off + i])
+        return false;
+
+    return true;
+  }
+
+  /**
+   * Called when an attribute has been read, to check that the element does not already have an attribute with the same name.
+   */
+  void endAttribute(final int row, final int col) throws SAXParseException {
+    final int len = attrCharsLen - attrStart;
+    int mask = table.length - 1;
+    int slot = attrHash & mask;
+    for (int index; (index = table[slot] - 1) != -1; slot = (slot + 1) & mask) // [X]
+      if (equals(index, attrStart, len))
+        throw error("Duplicate attribute: " + new String(attrChars, attrStart, len), row, col);
+
+    if (attrCount == attrHashes.length) {
+      attrHashes = Arrays.copyOf(attrHashes, attrCount * 2);
+      attrOffsets = Arrays.copyOf(attrOffsets, attrCount * 2);
+      attrLengths = Arrays.copyOf(attrLengths, attrCount * 2);
+    }
+
+    attrHashes[attrCount] = attrHash;
+    attrOffsets[attrCount] = attrStart;
+    attrLengths[attrCount] = len;
+    table[slot] = ++attrCount;
+    if (attrCount * 2 > table.length) {
+      table = new int[table.length * 2];
+      mask = table.length - 1;
+      for (int i = 0; i < attrCount; ++i) { // [A]
+        slot = attrHashes[i] & mask;
+        while (table[slot] != 0) // [X]
+          slot = (slot + 1) & mask;
+
+        table[slot] = i + 1;
+      }
+    }
+  }
+
+  /**
+   * Called at the end of the document.
+   */
+  void endDocument(final int row, final int col) throws SAXParseException {
+    if (highSurrogate)
+      throw error("Unpaired surrogate character", row, col);
+
+    if (!hasRoot)
+      throw error("Document has no root element", row, col);
+
+    if (depth > 0)
+      throw error("Element is not closed at the end of the document", row, col);
+  }
+}
\ No newline at end of file
@@ -19,10 +19,9 @@ package org.openjax.xml.sax;
 import java.io.IOException;
 import java.net.URL;
 
-import javax.xml.XMLConstants;
-
 import org.libj.util.StringPaths;
 import org.libj.util.function.Throwing;
+import org.openjax.xml.schema.BundledSchema;
 import org.openjax.xml.schema.SchemaResolver;
 import org.w3c.dom.ls.LSInput;
 import org.w3c.dom.ls.LSResourceResolver;
@@ -32,24 +31,10 @@ class XmlCatalogResolver implements LSResourceResolver {
     return StringPaths.isAbsolute(location) ? location : StringPaths.newPath(StringPaths.getCanonicalParent(referrer), location);
   }
 
-  enum W3C {
-    SCHEMA_XSD(XMLConstants.W3C_XML_SCHEMA_NS_URI),
-    XML_XSD(XMLConstants.XML_NS_URI);
-
-    XmlEntity getEntity() throws IOException {
-      final URL resource = SchemaResolver.resolve(namespaceURI, null);
-      if (resource == null)
-        throw new IllegalStateException("Unable to find resource for namespace=\"" + namespaceURI + "\"");
-
-      // FIXME: Why can't I cache this?
-      return new XmlEntity(resource, new CachedInputSource(null, namespaceURI, null, resource.openConnection()));
-    }
-
-    private final String namespaceURI;
-
-    W3C(final String namespaceURI) {
-      this.namespaceURI = namespaceURI;
-    }
+  private static XmlEntity getEntity(final BundledSchema schema) throws IOException {
+    final URL resource = schema.getURL();
+    // FIXME: Why can't I cache this?
+    return new XmlEntity(resource, new CachedInputSource(null, schema.getPublicId(), null, resource.openConnection()));
   }
 
   private final XmlCatalog catalog;
@@ -69,13 +54,13 @@ class XmlCatalogResolver implements LSResourceResolver {
       systemId = getPath(baseURI, systemId);
 
     try {
-      XmlEntity entity = catalog.getEntity(systemId);
+      XmlEntity entity = catalog == null ? null : catalog.getEntity(systemId);
       if (entity == null) {
-        if (XMLConstants.W3C_XML_SCHEMA_NS_URI.equals(namespaceURI)) {
-          catalog.putEntity(namespaceURI, entity = W3C.SCHEMA_XSD.getEntity());
-        }
-        else if (XMLConstants.XML_NS_URI.equals(namespaceURI)) {
-          catalog.putEntity(namespaceURI, entity = W3C.XML_XSD.getEntity());
+        final BundledSchema schema = SchemaResolver.getSchema(namespaceURI, systemId);
+        if (schema != null) {
+          entity = getEntity(schema);
+          if (catalog != null)
+            catalog.putEntity(schema.getPublicId(), entity);
         }
       }
 
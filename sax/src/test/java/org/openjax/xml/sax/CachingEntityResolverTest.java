@@ -0,0 +1,135 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.sax;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.junit.Test;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+public class CachingEntityResolverTest {
+  private static File newFile(final String content) throws IOException {
+    final File file = File.createTempFile("entity", ".dtd");
+    file.deleteOnExit();
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+
+  private static String read(final InputSource inputSource) throws IOException {
+    try (final InputStream in = inputSource.getByteStream()) {
+      final byte[] bytes = new byte[1024];
+      final int len = in.read(bytes);
+      return new String(bytes, 0, Math.max(len, 0), StandardCharsets.UTF_8);
+    }
+  }
+
+  private static void assertUnresolvable(final CachingEntityResolver resolver, final String publicId, final String systemId) {
+    try {
+      resolver.resolveEntity(publicId, systemId);
+      fail("Expected IOException");
+    }
+    catch (final IOException e) {
+    }
+  }
+
+  @Test
+  public void testCache() throws IOException {
+    final File a = newFile("<!ELEMENT a EMPTY>");
+    final File b = newFile("<!ELEMENT b EMPTY>");
+    final String systemIdA = a.toURI().toString();
+    final String systemIdB = b.toURI().toString();
+    final CachingEntityResolver resolver = new CachingEntityResolver(null, 1, false);
+    assertNull(resolver.resolveEntity(null, null));
+
+    final InputSource inputSource = resolver.resolveEntity(null, systemIdA);
+    assertEquals(systemIdA, inputSource.getSystemId());
+    assertEquals("<!ELEMENT a EMPTY>", read(inputSource));
+
+    assertTrue(a.delete());
+    assertEquals("<!ELEMENT a EMPTY>", read(resolver.resolveEntity(null, systemIdA)));
+
+    assertEquals("<!ELEMENT b EMPTY>", read(resolver.resolveEntity(null, systemIdB)));
+    assertUnresolvable(resolver, null, systemIdA);
+
+    assertTrue(b.delete());
+    assertEquals("<!ELEMENT b EMPTY>", read(resolver.resolveEntity(null, systemIdB)));
+    resolver.clear();
+    assertUnresolvable(resolver, null, systemIdB);
+  }
+
+  @Test
+  public void testCatalog() throws IOException {
+    final File file = newFile("<!ELEMENT c EMPTY>");
+    final URL location = file.toURI().toURL();
+    final XmlCatalog catalog = new XmlCatalog(new URL("http://www.example.com/catalog.xml"), new CachedInputSource(null, null, null, new StringReader("")));
+    catalog.putEntity("-//OpenJAX//DTD Test//EN", new XmlEntity(location, new CachedInputSource(null, location.toString(), null, new StringReader(""))));
+
+    final CachingEntityResolver resolver = new CachingEntityResolver(catalog, 16, true);
+    assertSame(catalog, resolver.getCatalog());
+    assertTrue(resolver.isOffline());
+    assertEquals("<!ELEMENT c EMPTY>", read(resolver.resolveEntity("-//OpenJAX//DTD Test//EN", "http://www.example.com/c.dtd")));
+    assertEquals("<!ELEMENT c EMPTY>", read(resolver.resolveEntity(null, "http://www.example.com/c.dtd")));
+
+    assertUnresolvable(resolver, null, "http://www.example.com/d.dtd");
+  }
+
+  @Test
+  public void testRelativeEntity() throws IOException, ParserConfigurationException, SAXException {
+    final File dir = Files.createTempDirectory("entity").toFile();
+    dir.deleteOnExit();
+    final File dtd = new File(dir, "a.dtd");
+    dtd.deleteOnExit();
+    Files.write(dtd.toPath(), "<!ENTITY % b SYSTEM \"b.ent\"> %b;".getBytes(StandardCharsets.UTF_8));
+    final File ent = new File(dir, "b.ent");
+    ent.deleteOnExit();
+    Files.write(ent.toPath(), "<!ENTITY x \"resolved\">".getBytes(StandardCharsets.UTF_8));
+
+    final URL location = dtd.toURI().toURL();
+    final XmlCatalog catalog = new XmlCatalog(new URL("http://www.example.com/catalog.xml"), new CachedInputSource(null, null, null, new StringReader("")));
+    catalog.putEntity("http://www.example.com/a.dtd", new XmlEntity(location, new CachedInputSource(null, location.toString(), null, new StringReader(""))));
+
+    final CachingEntityResolver resolver = new CachingEntityResolver(catalog, 16, true);
+    assertEquals(location.toString(), resolver.resolveEntity(null, "http://www.example.com/a.dtd").getSystemId());
+
+    final StringBuilder text = new StringBuilder();
+    final XMLReader reader = SAXParserFactory.newInstance().newSAXParser().getXMLReader();
+    reader.setEntityResolver(resolver);
+    reader.setContentHandler(new DefaultHandler() {
+      @Override
+      public void characters(final char[] ch, final int start, final int length) {
+        text.append(ch, start, length);
+      }
+    });
+
+    reader.parse(new InputSource(new StringReader("<!DOCTYPE a SYSTEM \"http://www.example.com/a.dtd\"><a>&x;</a>")));
+    assertEquals("resolved", text.toString());
+  }
+}
\ No newline at end of file
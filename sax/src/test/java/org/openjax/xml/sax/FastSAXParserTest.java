@@ -18,9 +18,11 @@ package org.openjax.xml.sax;
 
 import static org.junit.Assert.*;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringReader;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -355,4 +357,264 @@ public class FastSAXParserTest {
     add(events, Type.DOEN);
     test(events, ClassLoader.getSystemClassLoader().getResource("doctype.xml"));
   }
+
+  @Test
+  public void testCharacters() throws IOException, SAXParseException {
+    final StringBuilder text = new StringBuilder();
+    for (int i = 0; i < 20000; ++i) // [N]
+      text.append((char)('a' + i % 26));
+
+    final String xml = "<?xml version=\"1.0\"?>\n<a x=\"1\">one<!-- c -->two<b>x &amp; y</b><c/>" + text + "</a>\n";
+    final ArrayList<String> characters = new ArrayList<>();
+    try (final Reader in = new BufferedReader(new StringReader(xml))) {
+      FastSAXParser.parse(in, new FasterSAXHandler() {
+        @Override
+        public boolean characters(final int len) throws IOException {
+          final char[] chars = new char[len];
+          for (int off = 0; off < len;) // [N]
+            off += in.read(chars, off, len - off);
+
+          characters.add(new String(chars));
+          return true;
+        }
+      });
+    }
+
+    assertEquals(Arrays.asList("one", "two", "x &amp; y"), characters.subList(0, 3));
+    assertEquals(text.toString(), String.join("", characters.subList(3, characters.size())));
+  }
+
+  @Test
+  public void testExternalDoctype() throws IOException, SAXParseException {
+    final ArrayList<String> events = new ArrayList<>();
+    try (final Reader in = new BufferedReader(new StringReader("<!DOCTYPE a SYSTEM \"a>.dtd\"><a>x</a>"))) {
+      FastSAXParser.parse(in, new FasterSAXHandler() {
+        @Override
+        public boolean doctype(final int len) throws IOException {
+          events.add(read(in, len));
+          return true;
+        }
+
+        @Override
+        public boolean characters(final int len) throws IOException {
+          events.add(read(in, len));
+          return true;
+        }
+      });
+    }
+
+    assertEquals(Arrays.asList("DOCTYPE a SYSTEM \"a>.dtd\"", "x"), events);
+  }
+
+  @Test
+  public void testCharactersAfterDeclaration() throws IOException, SAXParseException {
+    for (final boolean checkWellFormed : new boolean[] {false, true}) { // [A]
+      final ArrayList<String> characters = new ArrayList<>();
+      try (final Reader in = new BufferedReader(new StringReader("<a>x<?pi?>y<?pi z=\"1\"?>z</a>"))) {
+        FastSAXParser.parse(in, new FasterSAXHandler() {
+          @Override
+          public boolean characters(final int len) throws IOException {
+            characters.add(read(in, len));
+            return true;
+          }
+        }, checkWellFormed);
+      }
+
+      assertEquals(Arrays.asList("x", "y", "z"), characters);
+    }
+  }
+
+  @Test
+  public void testSkipElement() throws IOException, SAXParseException {
+    final String xml = "<a><skip x=\"1\">text<b x=\"/>\" y='>'><c/></b><!-- </skip> --><![CDATA[</skip>]]><?pi </skip>?><skip>nested</skip></skip><d>kept</d><skip/></a>";
+    final ArrayList<String> events = new ArrayList<>();
+    try (final Reader in = new BufferedReader(new StringReader(xml))) {
+      FastSAXParser.parse(in, new FasterSAXHandler() {
+        private String name;
+
+        @Override
+        public boolean startElement(final int prefixLen, final int localPartLen) throws IOException {
+          events.add("<" + (name = read(in, prefixLen + localPartLen)));
+          return true;
+        }
+
+        @Override
+        public boolean skipElement() {
+          return name.equals("skip");
+        }
+
+        @Override
+        public boolean characters(final int len) throws IOException {
+          events.add(read(in, len));
+          return true;
+        }
+
+        @Override
+        public boolean endElement() {
+          events.add(">");
+          return true;
+        }
+      });
+    }
+
+    assertEquals(Arrays.asList("<a", "<skip", ">", "<d", "kept", ">", "<skip", ">", ">"), events);
+  }
+
+  private static ArrayList<String> startElements(final String xml, final String skip) throws IOException, SAXParseException {
+    final ArrayList<String> names = new ArrayList<>();
+    try (final Reader in = new BufferedReader(new StringReader(xml))) {
+      FastSAXParser.parse(in, new FasterSAXHandler() {
+        private String name;
+
+        @Override
+        public boolean startElement(final int prefixLen, final int localPartLen) throws IOException {
+          names.add(name = read(in, prefixLen + localPartLen));
+          return true;
+        }
+
+        @Override
+        public boolean skipElement() {
+          return name.equals(skip);
+        }
+      });
+    }
+
+    return names;
+  }
+
+  @Test
+  public void testSkipElementQuotes() throws IOException, SAXParseException {
+    // A skipped start tag ends where it would end if it were not skipped
+    final String xml = "<a><s><t x='/>'><c/></s><d/></a>";
+    assertEquals(Arrays.asList("a", "s", "t", "c", "d"), startElements(xml, null));
+    assertEquals(Arrays.asList("a", "s", "d"), startElements(xml, "s"));
+  }
+
+  @Test
+  public void testEmptyElementNames() throws IOException, SAXParseException {
+    final String xml = "<a><b/><c:d/><e x=\"1\"/><f /></a>";
+    final ArrayList<String> names = new ArrayList<>();
+    try (final Reader in = new BufferedReader(new StringReader(xml))) {
+      FastSAXParser.parse(in, new FasterSAXHandler() {
+        @Override
+        public boolean startElement(final int prefixLen, final int localPartLen) throws IOException {
+          names.add(read(in, prefixLen + localPartLen));
+          return true;
+        }
+      });
+    }
+
+    assertEquals(Arrays.asList("a", "b", "c:d", "e", "f"), names);
+  }
+
+  @Test
+  public void testCdata() throws IOException, SAXParseException {
+    final StringBuilder data = new StringBuilder();
+    for (int i = 0; i < 20000; ++i) // [N]
+      data.append(i % 7 == 0 ? ']' : (char)('a' + i % 26));
+
+    final String xml = "<a>x<![CDATA[<b>&amp;]]]]>y<!-- <![CDATA[ -->z<![CDATA[]]><c/><![CDATA[" + data + "]]></a>";
+    final ArrayList<String> events = new ArrayList<>();
+    final StringBuilder last = new StringBuilder();
+    try (final Reader in = new BufferedReader(new StringReader(xml))) {
+      FastSAXParser.parse(in, new FasterSAXHandler() {
+        @Override
+        public boolean startElement(final int prefixLen, final int localPartLen) throws IOException {
+          events.add("<" + read(in, prefixLen + localPartLen));
+          return true;
+        }
+
+        @Override
+        public boolean cdata(final int len) throws IOException {
+          if (events.size() < 7)
+            events.add("[" + read(in, len) + "]");
+          else
+            last.append(read(in, len));
+
+          return true;
+        }
+
+        @Override
+        public boolean characters(final int len) throws IOException {
+          events.add(read(in, len));
+          return true;
+        }
+      });
+    }
+
+    assertEquals(Arrays.asList("<a", "x", "[<b>&amp;]]]", "y", "z", "[]", "<c"), events);
+    assertEquals(data.toString(), last.toString());
+  }
+
+  private static void parseWellFormed(final String xml, final boolean skip) throws IOException, SAXParseException {
+    try (final Reader in = new BufferedReader(new StringReader(xml))) {
+      FastSAXParser.parse(in, new FasterSAXHandler() {
+        @Override
+        public boolean skipElement() {
+          return skip;
+        }
+      }, true);
+    }
+  }
+
+  private static void assertNotWellFormed(final String message, final String xml, final boolean skip) throws IOException {
+    try {
+      parseWellFormed(xml, skip);
+      fail("Expected SAXParseException: " + xml);
+    }
+    catch (final SAXParseException e) {
+      assertTrue(e.getMessage(), e.getMessage().startsWith(message));
+    }
+  }
+
+  @Test
+  public void testWellFormed() throws IOException, SAXParseException {
+    for (final String name : new String[] {"valid.xml", "doctype.xml", "test.xsd", "numerals.xsd"}) { // [A]
+      try (final Reader in = new BufferedReader(new InputStreamReader(ClassLoader.getSystemClassLoader().getResource(name).openStream()))) {
+        FastSAXParser.parse(in, new FasterSAXHandler() {}, true);
+      }
+    }
+
+    final StringBuilder attributes = new StringBuilder();
+    for (int i = 0; i < 50; ++i) // [N]
+      attributes.append(" a").append(i).append("=\"").append(i).append('"');
+
+    parseWellFormed("<?xml version=\"1.0\"?>\n<ns:a xmlns:ns=\"urn:a\" x=\"1\" ns:x=\"2\"><b" + attributes + "/><c>\ud83d\ude00</c><!-- </a> --></ns:a >\n", false);
+    parseWellFormed("<a><b x=\"1\"><c></c></b></a>", true);
+
+    assertNotWellFormed("End tag does not match", "<a><b></c></a>", false);
+    assertNotWellFormed("End tag does not match", "<ns:a></ns:b>", false);
+    assertNotWellFormed("End tag does not match", "<a><b><c></d></b></a>", true);
+    assertNotWellFormed("End tag without matching", "<a></a></b>", false);
+    assertNotWellFormed("Element is not closed", "<a><b></b>", false);
+    assertNotWellFormed("Content is not allowed", "<a/><b/>", false);
+    assertNotWellFormed("Content is not allowed before", "garbage<a/>", false);
+    assertNotWellFormed("Content is not allowed after", "<a/>tail", false);
+    assertNotWellFormed("Content is not allowed after", "<a><b/></a>\n<![CDATA[x]]>", true);
+    parseWellFormed(" \n<a><![CDATA[x]]></a>\r\n\t", false);
+    // End tags are only matched by the hash and length of their names
+    parseWellFormed("<Aa></BB>", false);
+    parseWellFormed("<!DOCTYPE a SYSTEM \"a.dtd\"><a/>", false);
+    parseWellFormed("<!DOCTYPE a>\n<!-- c -->\n<a><b/></a>", true);
+    parseWellFormed("<!DOCTYPE a PUBLIC \"-//A//>[\" 'a>.dtd'><a/>", false);
+    parseWellFormed("<!DOCTYPE a SYSTEM \"a.dtd\" [<!ENTITY x \"y\">]><a/>", false);
+    assertNotWellFormed("Content is not allowed after", "<!DOCTYPE a><a/>tail", false);
+    assertNotWellFormed("Document has no root", "<?xml version=\"1.0\"?><!-- c -->", false);
+    assertNotWellFormed("Duplicate attribute: x", "<a x=\"1\" x=\"2\"/>", false);
+    assertNotWellFormed("Duplicate attribute: ns:x", "<a ns:x=\"1\" y=\"2\" ns:x=\"3\"></a>", false);
+    assertNotWellFormed("Duplicate attribute: a7", "<b" + attributes + " a7=\"\"/>", false);
+    assertNotWellFormed("Illegal character", "<a>\u0001</a>", false);
+    assertNotWellFormed("Illegal character", "<a>\uffff</a>", true);
+    assertNotWellFormed("Unpaired surrogate", "<a>\ud83d</a>", false);
+    assertNotWellFormed("Unpaired surrogate", "<a>\ude00</a>", false);
+    assertNotWellFormed("Unpaired surrogate", "<a/><!-- \ud83d", false);
+
+    try {
+      parseWellFormed("<a>\n<b></c></a>", false);
+      fail("Expected SAXParseException");
+    }
+    catch (final SAXParseException e) {
+      assertEquals(2, e.getLineNumber());
+    }
+  }
 }
\ No newline at end of file
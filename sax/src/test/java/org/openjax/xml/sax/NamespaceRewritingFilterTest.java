@@ -0,0 +1,96 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.sax;
+
+import static org.junit.Assert.*;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.sax.SAXSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.junit.Test;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+public class NamespaceRewritingFilterTest {
+  private static final String NS = "http://www.openjax.org/xml/sax/test";
+
+  private static XMLReader newReader() throws Exception {
+    final SAXParserFactory factory = SAXParserFactory.newInstance();
+    factory.setNamespaceAware(true);
+    return factory.newSAXParser().getXMLReader();
+  }
+
+  private static Document rewrite(final String xml, final String namespaceURI, final boolean attributeFormQualified) throws Exception {
+    final DOMResult result = new DOMResult();
+    final NamespaceRewritingFilter filter = new NamespaceRewritingFilter(newReader(), namespaceURI, attributeFormQualified);
+    TransformerFactory.newInstance().newTransformer().transform(new SAXSource(filter, new InputSource(new StringReader(xml))), result);
+    return (Document)result.getNode();
+  }
+
+  @Test
+  public void testElements() throws Exception {
+    final Document document = rewrite("<a x=\"1\"><b xmlns=\"urn:other\"/><p:c xmlns:p=\"urn:other\" p:y=\"2\" xml:lang=\"en\"/></a>", NS, false);
+    final Element a = document.getDocumentElement();
+    assertEquals(NS, a.getNamespaceURI());
+    assertEquals("a", a.getLocalName());
+    assertNull(a.getAttributeNode("x").getNamespaceURI());
+
+    final Element b = (Element)a.getFirstChild();
+    assertEquals(NS, b.getNamespaceURI());
+    assertEquals("b", b.getNodeName());
+
+    final Element c = (Element)b.getNextSibling();
+    assertEquals(NS, c.getNamespaceURI());
+    assertEquals("p:c", c.getNodeName());
+    assertEquals("urn:other", c.getAttributeNodeNS("urn:other", "y").getNamespaceURI());
+  }
+
+  @Test
+  public void testAttributeFormQualified() throws Exception {
+    final Document document = rewrite("<a x=\"1\"><p:c xmlns:p=\"urn:other\" p:y=\"2\" xml:lang=\"en\"/></a>", NS, true);
+    final Element a = document.getDocumentElement();
+    final Attr x = a.getAttributeNodeNS(NS, "x");
+    assertNotNull(x);
+    assertEquals("1", x.getValue());
+
+    final Element c = (Element)a.getFirstChild();
+    assertEquals("2", c.getAttributeNodeNS(NS, "y").getValue());
+    assertEquals("en", c.getAttributeNS("http://www.w3.org/XML/1998/namespace", "lang"));
+  }
+
+  @Test
+  public void testSerialize() throws Exception {
+    final StringWriter out = new StringWriter();
+    final NamespaceRewritingFilter filter = new NamespaceRewritingFilter(newReader(), NS, false);
+    TransformerFactory.newInstance().newTransformer().transform(new SAXSource(filter, new InputSource(new StringReader("<a><p:b xmlns:p=\"urn:other\"/></a>"))), new StreamResult(out));
+
+    final Document document = rewrite(out.toString(), null, false);
+    final Element a = document.getDocumentElement();
+    assertEquals(NS, a.getNamespaceURI());
+    assertEquals(NS, a.getFirstChild().getNamespaceURI());
+    assertEquals("p:b", a.getFirstChild().getNodeName());
+  }
+}
\ No newline at end of file
@@ -0,0 +1,139 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.sax;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class PathExtractorTest {
+  private static final String XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><ns:Order xmlns:ns=\"urn:o\"><Header id=\"42\" ref=\"a &amp; b\"><Date>2020-01-01</Date></Header><Line><Amount>1.50</Amount></Line><Line><Item sku=\"x\">mixed<b>bold</b> text &lt;1&#62;</Item><Amount>2.25</Amount></Line></ns:Order>";
+
+  private static String[] extract(final String xml, final String ... paths) throws Exception {
+    return new PathExtractor(paths).extract(new StringReader(xml));
+  }
+
+  @Test
+  public void testCompile() {
+    for (final String path : new String[] {"", "Order", "/", "//", "/a/", "/a/@", "/a/@b/c", "/a/text()/b", "/a//text()", "/a[1]", "/@a"}) { // [A]
+      try {
+        Path.compile(path);
+        fail("Expected IllegalArgumentException: " + path);
+      }
+      catch (final IllegalArgumentException e) {
+      }
+    }
+
+    assertEquals("/a//b/@c", Path.compile("/a//b/@c").toString());
+    assertEquals(Path.compile("//a"), Path.compile("//a"));
+  }
+
+  @Test
+  public void testExtract() throws Exception {
+    final String[] values = extract(XML, "/Order/Header/@id", "//Amount", "/Order/Header/@ref", "//Date", "/ns:Order/Line/Item/text()", "//Item", "/Order/Line/Item/@sku", "//@sku", "/Order/*/Amount", "/Order/Header/@missing", "/Missing", "/Header");
+    assertArrayEquals(new String[] {"42", "1.50", "a & b", "2020-01-01", "mixed text <1>", "mixedbold text <1>", "x", "x", "1.50", null, null, null}, values);
+  }
+
+  @Test
+  public void testCdata() throws Exception {
+    final String xml = "<a><b>&lt;<![CDATA[&lt;]]>&#x3E;<c><![CDATA[&amp;]]></c><![CDATA[]]>&amp;</b></a>";
+    assertArrayEquals(new String[] {"<&lt;>&amp;&", "<&lt;>&", "&amp;"}, extract(xml, "/a/b", "/a/b/text()", "//c"));
+  }
+
+  @Test
+  public void testFirstInDocumentOrder() throws Exception {
+    assertArrayEquals(new String[] {"xy", "y", "1"}, extract("<a><b>x<b>y</b></b><c><b id=\"1\"/></c></a>", "//b", "/a/b/b", "//b/@id"));
+  }
+
+  @Test
+  public void testStopsWhenFound() throws Exception {
+    final String xml = "<Order><Header id=\"42\"/><Amount>1</Amount>";
+    final String doc = xml + "<Line><Amount>2</Amount></Line></Order>";
+    final Reader in = new Reader() {
+      private int pos;
+      private int mark;
+
+      @Override
+      public int read(final char[] cbuf, final int off, final int len) throws IOException {
+        if (pos >= xml.length())
+          throw new IOException("Read past the extracted values");
+
+        final int n = Math.min(len, doc.length() - pos);
+        doc.getChars(pos, pos + n, cbuf, off);
+        pos += n;
+        return n;
+      }
+
+      @Override
+      public boolean markSupported() {
+        return true;
+      }
+
+      @Override
+      public void mark(final int readAheadLimit) {
+        mark = pos;
+      }
+
+      @Override
+      public void reset() {
+        pos = mark;
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+
+    assertArrayEquals(new String[] {"42", "1"}, new PathExtractor("/Order/Header/@id", "//Amount").extract(in));
+  }
+
+  @Test
+  public void testInputStream() throws Exception {
+    final String[] values = new PathExtractor("//Date").extract(new ByteArrayInputStream(XML.getBytes(StandardCharsets.UTF_8)));
+    assertArrayEquals(new String[] {"2020-01-01"}, values);
+  }
+
+  private static int countReads(final String xml) throws Exception {
+    final int[] reads = {0};
+    final Reader in = new StringReader(xml) {
+      @Override
+      public int read(final char[] cbuf, final int off, final int len) throws IOException {
+        ++reads[0];
+        return super.read(cbuf, off, len);
+      }
+    };
+
+    assertArrayEquals(new String[] {"1"}, new PathExtractor("/a/b").extract(in));
+    return reads[0];
+  }
+
+  @Test
+  public void testSkipsUnmatchedSubtrees() throws Exception {
+    // The names and values of the events in a skipped subtree are never read by the handler
+    final StringBuilder subtree = new StringBuilder();
+    for (int i = 0; i < 100; ++i) // [N]
+      subtree.append("<x y=\"1\"><b>t</b></x>");
+
+    assertEquals(countReads("<a><skip/><b>1</b></a>"), countReads("<a><skip>" + subtree + "</skip><b>1</b></a>"));
+  }
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.sax;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class PathRouterTest {
+  private static final String XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><ns:Order xmlns:ns=\"urn:o\"><Header id=\"42\"><Date>2020-01-01</Date></Header><Line><Amount>1.50</Amount><Note/></Line></ns:Order>";
+
+  private static Set<Integer> set(final Integer ... subscribers) {
+    return new LinkedHashSet<>(Arrays.asList(subscribers));
+  }
+
+  @Test
+  public void testRoute() throws Exception {
+    final PathRouter<Integer> router = new PathRouter<Integer>()
+      .subscribe(0, "/Order/Header/@id")
+      .subscribe(1, "/Order/Header/@missing")
+      .subscribe(2, "//Amount")
+      .subscribe(3, "//Line/Note/text()")
+      .subscribe(4, "/Order/Line/Amount/text()")
+      .subscribe(5, "/ns:Order//Date")
+      .subscribe(6, "/x:Order")
+      .subscribe(7, "/Order/*/Missing")
+      .subscribe(7, "/Order/*/Note")
+      .subscribe(8, "//@id")
+      .subscribe(9, "/Header");
+
+    assertEquals(set(0, 2, 4, 5, 7, 8), router.route(new StringReader(XML)));
+    assertEquals(set(0, 2, 4, 5, 7, 8), router.route(new ByteArrayInputStream(XML.getBytes(StandardCharsets.UTF_8))));
+    assertEquals(set(8, 9), router.route(new StringReader("<Header id=\"1\"/>")));
+    assertEquals(set(2, 3, 7), router.route(new StringReader("<Order><Line><Note><![CDATA[<Amount/>]]></Note><Amount/></Line></Order>")));
+    assertEquals(set(2, 7), router.route(new StringReader("<Order><Line><Note><![CDATA[]]></Note><Amount><![CDATA[]]></Amount></Line></Order>")));
+    assertEquals(Collections.emptySet(), new PathRouter<String>().route(new StringReader(XML)));
+  }
+
+  @Test
+  public void testSharedPrefixes() {
+    final PathRouter<Integer> router = new PathRouter<>();
+    for (int i = 0; i < 1000; ++i) // [N]
+      router.subscribe(i, "/Order/Header/@a" + i);
+
+    assertEquals(3, router.getStateCount());
+    for (int i = 0; i < 1000; ++i) // [N]
+      router.subscribe(i, "/Order//Line/Item" + (i % 10));
+
+    assertEquals(15, router.getStateCount());
+  }
+
+  @Test
+  public void testManySubscribers() throws Exception {
+    final PathRouter<Integer> router = new PathRouter<>();
+    for (int i = 0; i < 5000; ++i) // [N]
+      router.subscribe(i, "/Order/Header/@id" + (i % 100 == 0 ? "" : Integer.toString(i)));
+
+    final Set<Integer> expected = new LinkedHashSet<>();
+    for (int i = 0; i < 5000; i += 100) // [N]
+      expected.add(i);
+
+    assertEquals(expected, router.route(new StringReader(XML)));
+  }
+}
\ No newline at end of file
@@ -21,10 +21,15 @@ import static org.junit.Assert.*;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.Test;
 import org.libj.net.URLs;
+import org.openjax.xml.api.XmlElement;
+import org.openjax.xml.api.XmlElementSource;
 import org.xml.sax.ErrorHandler;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
@@ -120,6 +125,30 @@ public class ValidatorTest {
     }
   }
 
+  private static XmlElementSource newSource(final String value) {
+    final Map<String,String> attributes = new LinkedHashMap<>();
+    attributes.put("xmlns", "http://www.openjax.org/xml/test.xsd");
+    attributes.put("xmlns:xsi", "http://www.w3.org/2001/XMLSchema-instance");
+    attributes.put("xsi:schemaLocation", "http://www.openjax.org/xml/test.xsd test.xsd");
+    final XmlElement child = new XmlElement("child", Collections.singletonList(value));
+    final XmlElementSource source = new XmlElementSource(new XmlElement("parent", attributes, Collections.singletonList(child)));
+    source.setSystemId(classLoader.getResource("valid.xml").toString());
+    return source;
+  }
+
+  @Test
+  public void testXmlElement() throws IOException, SAXException {
+    Validator.validate(newSource("1"));
+    try {
+      Validator.validate(newSource("a"));
+      fail("Expected SAXException");
+    }
+    catch (final SAXException e) {
+      if (!e.getMessage().startsWith("cvc-datatype-valid.1.2.1: 'a' is not a valid value for 'integer'."))
+        fail(e.getMessage());
+    }
+  }
+
   @Test
   public void testMainUrl() throws IOException, SAXException {
     final URL url = classLoader.getResource("override.xml");
@@ -0,0 +1,138 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.schema;
+
+import java.net.URL;
+import java.util.Objects;
+
+/**
+ * A schema that is bundled as a resource on the classpath, identified by a {@code publicId} (i.e. the target namespace of the
+ * schema) and an optional {@code systemId}.
+ *
+ * @see SchemaProvider
+ * @see SchemaResolver
+ */
+public final class BundledSchema {
+  private final String publicId;
+  private final String systemId;
+  private final String resourcePath;
+  private final ClassLoader classLoader;
+  private volatile URL url;
+
+  /**
+   * Creates a new {@link BundledSchema} with the specified {@code publicId}, {@code systemId}, and {@code resourcePath}, to be
+   * resolved with the context {@link ClassLoader} of the thread that first resolves it.
+   *
+   * @param publicId The Public ID (i.e. the target namespace of the schema).
+   * @param systemId The System ID (can be {@code null}).
+   * @param resourcePath The path of the schema resource on the classpath.
+   * @throws NullPointerException If {@code publicId} or {@code resourcePath} is null.
+   */
+  public BundledSchema(final String publicId, final String systemId, final String resourcePath) {
+    this(publicId, systemId, resourcePath, null);
+  }
+
+  /**
+   * Creates a new {@link BundledSchema} with the specified {@code publicId}, {@code systemId}, {@code resourcePath}, and
+   * {@link ClassLoader}.
+   *
+   * @param publicId The Public ID (i.e. the target namespace of the schema).
+   * @param systemId The System ID (can be {@code null}).
+   * @param resourcePath The path of the schema resource on the classpath.
+   * @param classLoader The {@link ClassLoader} with which to resolve the resource, or {@code null} to use the context
+   *          {@link ClassLoader} of the thread that first resolves it.
+   * @throws NullPointerException If {@code publicId} or {@code resourcePath} is null.
+   */
+  public BundledSchema(final String publicId, final String systemId, final String resourcePath, final ClassLoader classLoader) {
+    this.publicId = Objects.requireNonNull(publicId, "publicId is null");
+    this.systemId = systemId;
+    this.resourcePath = Objects.requireNonNull(resourcePath, "resourcePath is null");
+    this.classLoader = classLoader;
+  }
+
+  /**
+   * Returns the Public ID (i.e. the target namespace of the schema).
+   *
+   * @return The Public ID.
+   */
+  public String getPublicId() {
+    return publicId;
+  }
+
+  /**
+   * Returns the System ID, or {@code null} if this schema is identified by its Public ID only.
+   *
+   * @return The System ID.
+   */
+  public String getSystemId() {
+    return systemId;
+  }
+
+  /**
+   * Returns the path of the schema resource on the classpath.
+   *
+   * @return The path of the schema resource on the classpath.
+   */
+  public String getResourcePath() {
+    return resourcePath;
+  }
+
+  /**
+   * Returns the {@link URL} of the schema resource, resolving it on first invocation.
+   *
+   * @return The {@link URL} of the schema resource.
+   * @throws IllegalStateException If the schema resource cannot be found.
+   */
+  public URL getURL() {
+    URL url = this.url;
+    if (url != null)
+      return url;
+
+    final ClassLoader classLoader = this.classLoader != null ? this.classLoader : Thread.currentThread().getContextClassLoader();
+    url = classLoader != null ? classLoader.getResource(resourcePath) : null;
+    if (url == null && (url = BundledSchema.class.getClassLoader().getResource(resourcePath)) == null)
+      throw new IllegalStateException("Unable to find location of schema: " + this);
+
+    // A benign race: concurrent resolutions of the same resource path yield equal URLs
+    return this.url = url;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this)
+      return true;
+
+    if (!(obj instanceof BundledSchema))
+      return false;
+
+    final BundledSchema that = (BundledSchema)obj;
+    return publicId.equals(that.publicId) && Objects.equals(systemId, that.systemId) && resourcePath.equals(that.resourcePath);
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 31 + publicId.hashCode();
+    hashCode = 31 * hashCode + Objects.hashCode(systemId);
+    hashCode = 31 * hashCode + resourcePath.hashCode();
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    return "{" + publicId + "}" + systemId;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+/* Copyright (c) 2020 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.xml.schema;
+
+/**
+ * Service provider interface for jars that contribute {@link BundledSchema}s to the {@link SchemaResolver}.
+ * <p>
+ * Implementations are discovered with {@link java.util.ServiceLoader}, and are therefore to be declared in a
+ * {@code META-INF/services/org.openjax.xml.schema.SchemaProvider} resource, and must have a public no-arg constructor.
+ */
+public interface SchemaProvider {
+  /**
+   * Returns the schemas bundled by this provider.
+   *
+   * @return The schemas bundled by this provider.
+   */
+  BundledSchema[] getSchemas();
+}
\ No newline at end of file
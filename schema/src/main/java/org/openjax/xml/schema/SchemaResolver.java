@@ -17,44 +17,93 @@
 package org.openjax.xml.schema;
 
 import java.net.URL;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 
 import javax.xml.XMLConstants;
 
 /**
- * Utility class that resolves the schema location of schemas identified by the following {@code publicId} and {@code systemId}:
+ * Utility class that resolves the schema location of schemas bundled on the classpath. The following schemas are bundled by
+ * default, identified by their {@code publicId} and {@code systemId}:
  *
  * <pre>
  * http://www.w3.org/2001/XMLSchema
  * http://www.w3.org/XML/1998/namespace http://www.w3.org/2001/xml.xsd
  * </pre>
+ *
+ * Additional schemas can be contributed by jars on the classpath that declare a {@link SchemaProvider} service.
+ *
+ * @see SchemaProvider
  */
 public final class SchemaResolver {
-  private static final Schema[] schemas = {
-    new Schema(XMLConstants.W3C_XML_SCHEMA_NS_URI, null, "xmlschema/XMLSchema.xsd"),
-    new Schema(XMLConstants.XML_NS_URI, "http://www.w3.org/2001/xml.xsd", "xmlschema/xml.xsd")
+  private static final BundledSchema[] defaultSchemas = {
+    new BundledSchema(XMLConstants.W3C_XML_SCHEMA_NS_URI, null, "xmlschema/XMLSchema.xsd"),
+    new BundledSchema(XMLConstants.XML_NS_URI, "http://www.w3.org/2001/xml.xsd", "xmlschema/xml.xsd")
   };
 
-  private static class Schema {
-    private final String publicId;
-    private final String systemId;
-    private final String resourcePath;
-    private URL url;
+  /**
+   * Holder of the schema indexes, which are built on first access to {@link SchemaResolver#resolve(String,String)} and are
+   * thereafter immutable.
+   */
+  private static final class Registry {
+    private static final HashMap<String,BundledSchema> publicIdToSchema = new HashMap<>();
+    private static final HashMap<String,BundledSchema> systemIdToSchema = new HashMap<>();
+
+    static {
+      for (final BundledSchema schema : defaultSchemas) // [A]
+        register(schema);
+
+      final Iterator<SchemaProvider> iterator = ServiceLoader.load(SchemaProvider.class).iterator();
+      while (iterator.hasNext()) {
+        final SchemaProvider provider;
+        try {
+          provider = iterator.next();
+        }
+        catch (final ServiceConfigurationError e) {
+          continue;
+        }
 
-    private Schema(final String publicId, final String systemId, final String resourcePath) {
-      this.publicId = publicId;
-      this.systemId = systemId;
-      this.resourcePath = resourcePath;
+        final BundledSchema[] schemas = provider.getSchemas();
+        if (schemas != null)
+          for (final BundledSchema schema : schemas) // [A]
+            if (schema != null)
+              register(schema);
+      }
     }
 
-    @Override
-    public String toString() {
-      return "{" + publicId + "}" + systemId;
+    private static void register(final BundledSchema schema) {
+      // The first registration of an identifier wins, so as to not allow providers to override the default schemas
+      publicIdToSchema.putIfAbsent(schema.getPublicId(), schema);
+      final String systemId = schema.getSystemId();
+      if (systemId != null)
+        systemIdToSchema.putIfAbsent(systemId, schema);
+    }
+  }
+
+  /**
+   * Returns the {@link BundledSchema} for the specified {@code publicId} and {@code systemId}, or {@code null} if neither identifier
+   * matches a bundled schema. The {@code publicId} is matched first, and the {@code systemId} second.
+   *
+   * @param publicId The Public ID.
+   * @param systemId The System ID.
+   * @return The {@link BundledSchema} for the specified {@code publicId} and {@code systemId}, or {@code null} if neither identifier
+   *         matches a bundled schema.
+   */
+  public static BundledSchema getSchema(final String publicId, final String systemId) {
+    if (publicId != null) {
+      final BundledSchema schema = Registry.publicIdToSchema.get(publicId);
+      if (schema != null)
+        return schema;
     }
+
+    return systemId == null ? null : Registry.systemIdToSchema.get(systemId);
   }
 
   /**
-   * Returns the schema location {@link URL} for the specified {@code publicId} and {@code systemId}, or {@code null} if the provided
-   * {@code publicId} and {@code systemId} do not match one of:
+   * Returns the schema location {@link URL} for the specified {@code publicId} and {@code systemId}, or {@code null} if neither
+   * identifier matches a bundled schema. By default, the bundled schemas are:
    *
    * <pre>
    * http://www.w3.org/2001/XMLSchema
@@ -64,25 +113,12 @@ public final class SchemaResolver {
    * @param publicId The Public ID.
    * @param systemId The System ID.
    * @return The schema location {@link URL} for the specified {@code publicId} and {@code systemId}.
+   * @throws IllegalStateException If the resource of the matched schema cannot be found.
+   * @see SchemaProvider
    */
   public static URL resolve(final String publicId, final String systemId) {
-    if (publicId == null)
-      return null;
-
-    for (final Schema schema : schemas) { // [A]
-      if (publicId.equals(schema.publicId)) {
-        if (schema.url != null)
-          return schema.url;
-
-        final URL url = Thread.currentThread().getContextClassLoader().getResource(schema.resourcePath);
-        if (url == null)
-          throw new IllegalStateException("Unable to find location of schema: " + schema);
-
-        return schema.url = url;
-      }
-    }
-
-    return null;
+    final BundledSchema schema = getSchema(publicId, systemId);
+    return schema == null ? null : schema.getURL();
   }
 
   private SchemaResolver() {
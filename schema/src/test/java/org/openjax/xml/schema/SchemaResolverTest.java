@@ -18,11 +18,45 @@ package org.openjax.xml.schema;
 
 import static org.junit.Assert.*;
 
+import java.net.URL;
+
+import javax.xml.XMLConstants;
+
 import org.junit.Test;
 
 public class SchemaResolverTest {
+  public static class TestSchemaProvider implements SchemaProvider {
+    @Override
+    public BundledSchema[] getSchemas() {
+      return new BundledSchema[] {
+        new BundledSchema("http://www.w3.org/1999/xlink", "http://www.w3.org/1999/xlink.xsd", "xmlschema/xml.xsd", TestSchemaProvider.class.getClassLoader()),
+        new BundledSchema(XMLConstants.XML_NS_URI, null, "xmlschema/datatypes.xsd")
+      };
+    }
+  }
+
   @Test
   public void test() {
     assertNull(SchemaResolver.resolve(null, null));
+    assertNull(SchemaResolver.resolve("http://www.example.com/unknown", "http://www.example.com/unknown.xsd"));
+
+    final URL xmlSchema = SchemaResolver.resolve(XMLConstants.W3C_XML_SCHEMA_NS_URI, null);
+    assertTrue(xmlSchema.toString().endsWith("xmlschema/XMLSchema.xsd"));
+    assertSame(xmlSchema, SchemaResolver.resolve(XMLConstants.W3C_XML_SCHEMA_NS_URI, null));
+
+    final URL xml = SchemaResolver.resolve(XMLConstants.XML_NS_URI, null);
+    assertTrue(xml.toString().endsWith("xmlschema/xml.xsd"));
+    assertEquals(xml, SchemaResolver.resolve(null, "http://www.w3.org/2001/xml.xsd"));
+  }
+
+  @Test
+  public void testProvider() {
+    final BundledSchema xlink = SchemaResolver.getSchema("http://www.w3.org/1999/xlink", null);
+    assertNotNull(xlink);
+    assertSame(xlink, SchemaResolver.getSchema(null, "http://www.w3.org/1999/xlink.xsd"));
+    assertNotNull(SchemaResolver.resolve("http://www.w3.org/1999/xlink", null));
+
+    // Providers must not override the default schemas
+    assertEquals("xmlschema/xml.xsd", SchemaResolver.getSchema(XMLConstants.XML_NS_URI, null).getResourcePath());
   }
 }
\ No newline at end of file
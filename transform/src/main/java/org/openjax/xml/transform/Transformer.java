@@ -26,6 +26,7 @@ import java.net.URL;
 import java.net.URLConnection;
 import java.util.Map;
 
+import javax.xml.transform.Source;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.TransformerFactoryConfigurationError;
@@ -147,7 +148,34 @@ public final class Transformer {
     }
   }
 
-  private static void transform(final URL stylesheet, final StreamSource in, final StreamResult out, final Map<String,String> parameters) throws IOException, TransformerException {
+  public static String transform(final URL stylesheet, final Source in) throws IOException, TransformerException {
+    return transform(stylesheet, in, (Map<String,String>)null);
+  }
+
+  public static String transform(final URL stylesheet, final Source in, final Map<String,String> parameters) throws IOException, TransformerException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    transform(stylesheet, in, new StreamResult(out), parameters);
+    return new String(out.toByteArray());
+  }
+
+  public static void transform(final URL stylesheet, final Source in, final File out) throws IOException, TransformerException {
+    transform(stylesheet, in, out, (Map<String,String>)null);
+  }
+
+  public static void transform(final URL stylesheet, final Source in, final File out, final Map<String,String> parameters) throws IOException, TransformerException {
+    out.createNewFile();
+    transform(stylesheet, in, new StreamResult(out), parameters);
+  }
+
+  public static void transform(final URL stylesheet, final Source in, final OutputStream out) throws IOException, TransformerException {
+    transform(stylesheet, in, out, (Map<String,String>)null);
+  }
+
+  public static void transform(final URL stylesheet, final Source in, final OutputStream out, final Map<String,String> parameters) throws IOException, TransformerException {
+    transform(stylesheet, in, new StreamResult(out), parameters);
+  }
+
+  private static void transform(final URL stylesheet, final Source in, final StreamResult out, final Map<String,String> parameters) throws IOException, TransformerException {
     try (final InputStream stylesheetIn = stylesheet.openStream()) {
       final StreamSource streamSource = new StreamSource(stylesheetIn, stylesheet.toString());
       final javax.xml.transform.Transformer transformer = factory.newTransformer(streamSource);
@@ -20,11 +20,18 @@ import static org.junit.Assert.*;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.StringReader;
+import java.net.URL;
 import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
 
 import javax.xml.transform.TransformerException;
+import javax.xml.transform.stream.StreamSource;
 
 import org.junit.Test;
+import org.openjax.xml.api.XmlElement;
+import org.openjax.xml.api.XmlElementSource;
 
 public class TransformerTest {
   @Test
@@ -39,4 +46,13 @@ public class TransformerTest {
     final String string = new String(Files.readAllBytes(destFile.toPath()));
     assertEquals("<!DOCTYPE HTML>\n<HTML>\n   <HEAD>\n      <meta http-equiv=\"Content-Type\" content=\"text/html; charset=UTF-8\">\n      <TITLE></TITLE>\n   </HEAD>\n   <BODY>\n      <H1>Hello, World!</H1>\n      <DIV>from <I>An XSLT Programmer</I></DIV>\n   </BODY>\n</HTML>", string);
   }
+
+  @Test
+  public void testTransformXmlElement() throws TransformerException, IOException {
+    final XmlElement greeter = new XmlElement("greeter", Collections.singletonList("An XSLT Programmer"));
+    final XmlElement greeting = new XmlElement("greeting", Collections.singletonList("Hello, World!"));
+    final XmlElement helloWorld = new XmlElement("hello-world", Arrays.asList(greeter, greeting));
+    final URL stylesheet = ClassLoader.getSystemClassLoader().getResource("test.xsl");
+    assertEquals(Transformer.transform(stylesheet, new StreamSource(new StringReader(helloWorld.toString()))), Transformer.transform(stylesheet, new XmlElementSource(helloWorld)));
+  }
 }
\ No newline at end of file